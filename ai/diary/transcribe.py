@@ -1,4 +1,7 @@
 import os
+import shutil
+import subprocess
+import tempfile
 import requests
 from dotenv import load_dotenv
 from typing import Optional
@@ -79,6 +82,56 @@ def transcribe_audio(file_path: str, language: str = "ko") -> str:
         if 'files' in locals() and 'file' in files:
             files['file'].close()
 
+# 긴 녹음 분할 기준 (Whisper 요청 크기 제한 대비 + 구간별 부분 결과 전달)
+SEGMENT_SECONDS = int(os.getenv("TRANSCRIBE_SEGMENT_SECONDS", "120"))
+SEGMENT_MIN_BYTES = int(os.getenv("TRANSCRIBE_SEGMENT_MIN_BYTES", str(4 * 1024 * 1024)))
+
+
+def split_audio(file_path: str) -> list:
+    """
+    긴 녹음을 SEGMENT_SECONDS 단위 파일로 나눈다 (재인코딩 없이 ffmpeg segment)
+    작은 파일이거나 ffmpeg 가 없으면 원본 하나만 돌려준다.
+    """
+    if os.path.getsize(file_path) <= SEGMENT_MIN_BYTES or shutil.which("ffmpeg") is None:
+        return [file_path]
+
+    segment_dir = tempfile.mkdtemp(prefix="transcribe-segments-")
+    extension = os.path.splitext(file_path)[1] or ".webm"
+    pattern = os.path.join(segment_dir, f"segment_%03d{extension}")
+    result = subprocess.run(
+        ["ffmpeg", "-hide_banner", "-loglevel", "error", "-i", file_path,
+         "-f", "segment", "-segment_time", str(SEGMENT_SECONDS), "-c", "copy", pattern],
+        capture_output=True,
+    )
+    segments = sorted(
+        os.path.join(segment_dir, name) for name in os.listdir(segment_dir)
+    )
+    if result.returncode != 0 or not segments:
+        shutil.rmtree(segment_dir, ignore_errors=True)
+        return [file_path]
+    return segments
+
+
+def iter_transcribe_segments(file_path: str, language: str = "ko"):
+    """
+    구간별로 변환하면서 (구간 번호, 구간 수, 텍스트) 를 차례로 돌려준다
+    분할로 만든 임시 파일은 끝나면 지운다. (원본 파일은 호출한 쪽에서 정리)
+    """
+    segments = split_audio(file_path)
+    try:
+        for index, segment in enumerate(segments):
+            yield index, len(segments), transcribe_audio(segment, language)
+    finally:
+        if segments != [file_path]:
+            shutil.rmtree(os.path.dirname(segments[0]), ignore_errors=True)
+
+
+def transcribe_long_audio(file_path: str, language: str = "ko") -> str:
+    """긴 녹음도 구간별로 변환해서 이어 붙인다"""
+    texts = [text for _, _, text in iter_transcribe_segments(file_path, language)]
+    return " ".join(text.strip() for text in texts if text and text.strip())
+
+
 # 사용 예시
 if __name__ == "__main__":
     import sys
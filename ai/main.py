@@ -1,6 +1,7 @@
 from fastapi import FastAPI, File, UploadFile, HTTPException
 from fastapi.middleware.cors import CORSMiddleware
 from fastapi.middleware.gzip import GZipMiddleware
+from fastapi.responses import StreamingResponse
 from pydantic import BaseModel
 from openai import OpenAI
 import io
@@ -14,7 +15,7 @@ import httpx
 import tempfile
 import asyncio
 import threading
-from typing import Optional
+from typing import List, Optional
 
 # AI 서비스 모듈들 import
 from contract.service import ContractAIService
@@ -34,7 +35,7 @@ from store.api import app as storeai_app
 
 # transcribe.py 모듈을 import하기 위해 경로 추가
 sys.path.append(os.path.join(os.path.dirname(__file__), 'diary'))
-from transcribe import transcribe_audio
+from transcribe import transcribe_audio, iter_transcribe_segments, transcribe_long_audio
 from category_classifier import CategoryClassifier
 # from diary.diary_image_classifier import DiaryImageClassifier  # Lazy loading으로 변경
 
@@ -299,25 +300,52 @@ async def predict_breeding_endpoint(parent1: UploadFile = File(...), parent2: Up
         raise HTTPException(status_code=500, detail=f"교배 예측 중 오류 발생: {str(e)}")
 
 @app.post("/transcribe")
-async def transcribe_audio_endpoint(file: UploadFile = File(...)):
-    """음성 파일을 텍스트로 변환"""
+async def transcribe_audio_endpoint(file: UploadFile = File(...), stream: bool = False):
+    """
+    음성 파일을 텍스트로 변환
+    - 업로드는 조각 단위로 임시 파일에 써서 전체를 메모리에 올리지 않는다.
+    - 긴 녹음은 구간별로 나눠 변환하고, stream=true 면 구간이 끝날 때마다 NDJSON 한 줄씩 보낸다.
+      {"index": 0, "total": 3, "text": "..."} ... 마지막 줄 {"final": true, "transcript": "..."}
+    """
+    temp_file_path = None
     try:
         with tempfile.NamedTemporaryFile(delete=False, suffix=".webm") as temp_file:
-            content = await file.read()
-            temp_file.write(content)
             temp_file_path = temp_file.name
-        
-        try:
-            transcribed_text = transcribe_audio(temp_file_path)
-            os.unlink(temp_file_path)
-            return {"transcript": transcribed_text}
-        except Exception as e:
-            if os.path.exists(temp_file_path):
-                os.unlink(temp_file_path)
-            raise e
+            while True:
+                chunk = await file.read(1024 * 1024)
+                if not chunk:
+                    break
+                temp_file.write(chunk)
+
+        if stream:
+            # 임시 파일은 스트림이 끝날 때 ndjson 에서 지운다
+            stream_path, temp_file_path = temp_file_path, None
+
+            def ndjson():
+                texts = []
+                try:
+                    for index, total, text in iter_transcribe_segments(stream_path):
+                        texts.append(text.strip())
+                        yield json.dumps({"index": index, "total": total, "text": text}, ensure_ascii=False) + "\n"
+                    transcript = " ".join(t for t in texts if t)
+                    yield json.dumps({"final": True, "transcript": transcript}, ensure_ascii=False) + "\n"
+                except Exception as e:
+                    logger.error(f"Audio transcription stream failed: {str(e)}")
+                    yield json.dumps({"final": True, "error": str(e)}, ensure_ascii=False) + "\n"
+                finally:
+                    if os.path.exists(stream_path):
+                        os.unlink(stream_path)
+
+            return StreamingResponse(ndjson(), media_type="application/x-ndjson")
+
+        transcribed_text = await asyncio.to_thread(transcribe_long_audio, temp_file_path)
+        return {"transcript": transcribed_text}
     except Exception as e:
         logger.error(f"Audio transcription failed: {str(e)}")
         raise HTTPException(status_code=500, detail=f"음성 변환 중 오류 발생: {str(e)}")
+    finally:
+        if temp_file_path and os.path.exists(temp_file_path):
+            os.unlink(temp_file_path)
 
 @app.post("/chatbot")
 async def chatbot_endpoint(request: QueryRequest):
@@ -588,6 +616,30 @@ async def classify_image(file: UploadFile = File(...)):
         logger.error(f"Image classification endpoint failed: {str(e)}")
         raise HTTPException(status_code=500, detail=f"이미지 분류 중 오류 발생: {str(e)}")
 
+@app.post("/classify-images")
+async def classify_images(files: List[UploadFile] = File(...)):
+    """
+    일기 이미지 일괄 분류 (백엔드 분류 파이프라인용)
+    - 요청 순서대로 결과를 돌려주고, 실패한 이미지는 category 가 None
+    - 백엔드에서 쓰지 않는 LLM 설명 단계는 생략하고 이미지들을 동시에 분류
+    """
+    logger.info(f"이미지 일괄 분류 요청 수신 - {len(files)}건")
+    clip_classifier = get_classifier()
+
+    async def classify_one(upload: UploadFile):
+        try:
+            image_bytes = await upload.read()
+            if len(image_bytes) == 0:
+                return {"filename": upload.filename, "category": None, "error": "빈 파일입니다."}
+            result = await asyncio.to_thread(clip_classifier.classify_image, image_bytes)
+            return {"filename": upload.filename, "category": result["category"], "confidence": result["confidence"]}
+        except Exception as e:
+            logger.error(f"이미지 분류 실패 - 파일명: {upload.filename}, 오류: {str(e)}")
+            return {"filename": upload.filename, "category": None, "error": str(e)}
+
+    results = await asyncio.gather(*(classify_one(upload) for upload in files))
+    return {"results": results}
+
 @app.post("/update-embeddings")
 async def update_embeddings(request: EmbeddingUpdateRequest = None):
     """임베딩 업데이트 실행"""
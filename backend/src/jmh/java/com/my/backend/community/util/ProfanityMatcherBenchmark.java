@@ -0,0 +1,94 @@
+package com.my.backend.community.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비속어 검사 비용 비교: 단어별 정규식(기존 방식) vs Aho-Corasick 한 번 순회
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProfanityMatcherBenchmark {
+
+    private static final String SENTENCE = "오늘 강아지와 한강 공원에서 산책을 했어요. 날씨가 좋아서 정말 즐거웠습니다! ";
+
+    @Param({"100", "2000"})
+    public int length;
+
+    @Param({"clean", "dirty"})
+    public String kind;
+
+    private String text;
+    private ProfanityFilter profanityFilter;
+    private List<String> words;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < length) {
+            builder.append(SENTENCE);
+        }
+        builder.setLength(length);
+        if ("dirty".equals(kind)) {
+            builder.append(" 개@새#끼");
+        }
+        text = builder.toString();
+        profanityFilter = new ProfanityFilter();
+        words = List.of(
+                "ㅅㅂ", "시발", "fuck", "개새끼", "병신", "좆", "sex",
+                "씨발", "미친", "바보", "멍청이", "등신", "돌았나", "미쳤나",
+                "shit", "bitch", "asshole", "damn", "hell", "pussy", "cock", "dick",
+                "개자식", "개같은", "개새기", "병신아", "병신새끼", "병신같은", "병신새기",
+                "좆같은", "좆새끼", "좆새기", "씨발새끼", "씨발같은", "씨발새기", "씨발아",
+                "미친새끼", "미친같은", "미친새기", "미친아", "바보새끼", "바보같은", "바보새기", "바보아",
+                "멍청이새끼", "멍청이같은", "멍청이새기", "멍청이아", "등신새끼", "등신같은", "등신새기", "등신아");
+    }
+
+    /**
+     * 기존 구현: 호출마다 단어별 contains + matches(".*" + word + ".*")
+     */
+    @Benchmark
+    public boolean legacyContains() {
+        String normalizedText = text.replaceAll("\\s+", "").toLowerCase();
+        for (String word : words) {
+            String normalizedWord = word.replaceAll("\\s+", "").toLowerCase();
+            if (normalizedText.contains(normalizedWord) || normalizedText.matches(".*" + normalizedWord + ".*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 기존 구현: 단어별 replaceAll
+     */
+    @Benchmark
+    public String legacyMask() {
+        String result = text;
+        for (String word : words) {
+            result = result.replaceAll("(?i)" + word, "*".repeat(word.length()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean matcherContains() {
+        return profanityFilter.containsProfanity(text);
+    }
+
+    @Benchmark
+    public String matcherMask() {
+        return profanityFilter.maskProfanity(text);
+    }
+}
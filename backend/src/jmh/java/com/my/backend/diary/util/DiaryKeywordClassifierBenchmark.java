@@ -0,0 +1,77 @@
+package com.my.backend.diary.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일기 카테고리 분류 비용 비교: 키워드별 contains(기존 방식) vs Aho-Corasick 한 번 순회
+ * 사전은 src/main/resources/diary/category-keywords.txt 를 그대로 쓴다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiaryKeywordClassifierBenchmark {
+
+    private static final String SENTENCE = "오늘은 날씨가 좋아서 아침 일찍 일어나 창밖을 보며 커피를 마셨다. 강아지도 옆에서 꼬리를 흔들었다. ";
+
+    @Param({"200", "3000"})
+    public int length;
+
+    private String text;
+    private DiaryKeywordClassifier classifier;
+    private List<DiaryKeywordClassifier.Keyword> keywords;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/diary/category-keywords.txt"), StandardCharsets.UTF_8)) {
+            keywords = DiaryKeywordClassifier.parse(reader);
+        }
+        classifier = DiaryKeywordClassifier.of(keywords);
+
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < length) {
+            builder.append(SENTENCE);
+        }
+        builder.setLength(length);
+        // 끝부분에만 키워드가 있어 기존 방식도 조기 종료하지 못하는 경우
+        builder.append(" 저녁에는 공원 산책 후 동물병원에서 예방접종");
+        text = builder.toString();
+    }
+
+    /**
+     * 기존 구현 방식: 소문자 변환 후 키워드마다 contains (카테고리 수만큼 본문을 다시 훑음)
+     */
+    @Benchmark
+    public Map<String, Double> legacyContains() {
+        String lowerText = text.toLowerCase();
+        Map<String, Double> scores = new HashMap<>();
+        for (DiaryKeywordClassifier.Keyword keyword : keywords) {
+            if (lowerText.contains(keyword.keyword().toLowerCase())) {
+                scores.merge(keyword.category(), keyword.weight(), Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    @Benchmark
+    public List<String> automatonClassify() {
+        return classifier.classify(text, 1.5, 3);
+    }
+}
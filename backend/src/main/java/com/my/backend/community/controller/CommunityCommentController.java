@@ -2,6 +2,7 @@ package com.my.backend.community.controller;
 
 import com.my.backend.account.entity.Account;
 import com.my.backend.community.dto.CommunityCommentDto;
+import com.my.backend.community.dto.CommunityCommentPageDto;
 import com.my.backend.community.service.CommunityCommentService;
 import com.my.backend.global.security.user.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,29 @@ public class CommunityCommentController {
         return ResponseEntity.ok(commentService.getCommentsByPostId(postId));
     }
 
+    // 특정 게시글의 댓글 커서 페이지 조회
+    @GetMapping("/{postId}/page")
+    public ResponseEntity<?> getCommentPage(@PathVariable Long postId,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "20") int size) {
+        try {
+            int limit = Math.max(1, Math.min(size, 100));
+            return ResponseEntity.ok(commentService.getCommentPage(postId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 여러 게시글의 댓글 미리보기 (목록 화면용, 게시글당 앞쪽 perPost 개)
+    @GetMapping("/previews")
+    public ResponseEntity<Map<Long, CommunityCommentPageDto>> getCommentPreviews(
+            @RequestParam List<Long> postIds,
+            @RequestParam(defaultValue = "3") int perPost) {
+        List<Long> ids = postIds.stream().distinct().limit(50).toList();
+        int limit = Math.max(1, Math.min(perPost, 10));
+        return ResponseEntity.ok(commentService.getPreviews(ids, limit));
+    }
+
     // 댓글 작성
     @PostMapping("/{postId}")
     public ResponseEntity<?> createComment(
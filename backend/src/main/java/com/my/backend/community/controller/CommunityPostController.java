@@ -3,7 +3,10 @@ package com.my.backend.community.controller;
 import com.my.backend.account.entity.Account;
 import com.my.backend.community.dto.CommunityPostDto;
 import com.my.backend.community.entity.CommunityPost;
+import com.my.backend.community.service.CommunityFeedService;
 import com.my.backend.community.service.CommunityPostService;
+import com.my.backend.community.service.CommunitySearchService;
+import com.my.backend.community.service.PostLikeService;
 import com.my.backend.global.security.user.UserDetailsImpl;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -11,9 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -35,40 +35,30 @@ public class CommunityPostController {
 
     private static final Logger logger = LoggerFactory.getLogger(CommunityPostController.class);
     private final CommunityPostService postService;
+    private final PostLikeService postLikeService;
+    private final CommunityFeedService feedService;
+    private final CommunitySearchService searchService;
 
     @GetMapping
     public Page<CommunityPostDto> getAllPosts(@RequestParam(defaultValue = "0") int page,
                                              @RequestParam(defaultValue = "7") int size,
-                                             @RequestParam(required = false) String boardType) {
+                                             @RequestParam(required = false) String boardType,
+                                             @AuthenticationPrincipal UserDetailsImpl userDetails) {
         logger.info("Fetching community posts with page: {}, size: {}, boardType: {}", page, size, boardType);
-        
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<CommunityPost> postsPage;
-        
-        if (boardType != null && !boardType.trim().isEmpty()) {
-            postsPage = postService.getPostsByBoardType(boardType, pageable);
-        } else {
-            postsPage = postService.getAllPosts(pageable);
-        }
-        
+
+        Page<CommunityPostDto> postsPage = feedService.getFeed(boardType, page, size, currentAccountId(userDetails));
+
         logger.info("Retrieved {} posts from page {} of {}", postsPage.getContent().size(), page, postsPage.getTotalPages());
-        return postsPage.map(post -> CommunityPostDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .author(post.getAuthor())
-                .ownerEmail(post.getOwnerEmail())
-                .category(post.getCategory())
-                .boardType(post.getBoardType())
-                .views(post.getViews())
-                .likes(post.getLikes())
-                .comments(post.getComments())
-                .tags(post.getTags())
-                .images(post.getImages())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt())
-                .sharedFromDiaryId(post.getSharedFromDiaryId())
-                .build());
+        return postsPage;
+    }
+
+    // 인기글 (조회/좋아요/댓글 기반 감쇠 점수 순)
+    @GetMapping("/trending")
+    public List<CommunityPostDto> getTrendingPosts(@RequestParam(required = false) String boardType,
+                                                   @RequestParam(defaultValue = "10") int size,
+                                                   @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        int limit = Math.max(1, Math.min(size, 50));
+        return feedService.getTrending(boardType, limit, currentAccountId(userDetails));
     }
 
     @GetMapping("/{id}")
@@ -78,18 +68,26 @@ public class CommunityPostController {
         logger.info("Fetching post with id: {}", id);
         
         String currentUserEmail = null;
+        Long currentAccountId = null;
         if (userDetails != null && userDetails.getAccount() != null) {
             currentUserEmail = userDetails.getAccount().getEmail();
+            currentAccountId = userDetails.getAccount().getId();
         }
         
         // 클라이언트 IP 주소 가져오기
         String ipAddress = getClientIpAddress(request);
         
-        // 조회수 증가 처리
-        postService.increaseViewCount(id, currentUserEmail, ipAddress);
-        
         // 게시글 조회 (조회수 증가 없는 메서드 사용)
         CommunityPost post = postService.findPostById(id);
+
+        // 검수에서 숨긴 글은 작성자와 관리자만 볼 수 있다
+        boolean isAdmin = userDetails != null && "ADMIN".equals(userDetails.getAccount().getRole());
+        if (post.isHidden() && !isAdmin && (currentUserEmail == null || !currentUserEmail.equals(post.getOwnerEmail()))) {
+            throw new RuntimeException("Post not found");
+        }
+
+        // 조회수 증가 처리
+        postService.increaseViewCount(post, currentUserEmail, ipAddress);
         return CommunityPostDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
@@ -98,9 +96,10 @@ public class CommunityPostController {
                 .ownerEmail(post.getOwnerEmail())
                 .category(post.getCategory())
                 .boardType(post.getBoardType())
-                .views(post.getViews())
+                .views((int) postService.currentViews(post))
                 .likes(post.getLikes())
                 .comments(post.getComments())
+                .liked(postLikeService.isLiked(post.getId(), currentAccountId))
                 .tags(post.getTags())
                 .images(post.getImages())
                 .createdAt(post.getCreatedAt())
@@ -145,7 +144,7 @@ public class CommunityPostController {
 
         Account account = userDetails.getAccount();
         
-        CommunityPost existingPost = postService.getPostById(id);
+        CommunityPost existingPost = postService.findPostById(id);
 
         if (!Objects.equals(existingPost.getOwnerEmail(), account.getEmail()) &&
                 !"ADMIN".equals(account.getRole())) {
@@ -160,11 +159,13 @@ public class CommunityPostController {
     @PutMapping("/{id}/like")
     public ResponseEntity<?> likePost(@PathVariable Long id, @AuthenticationPrincipal UserDetailsImpl userDetails) {
         logger.info("Liking post with id: {}", id);
+        if (userDetails == null || userDetails.getAccount() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
         try {
-            CommunityPost post = postService.getPostById(id);
-            post.setLikes(post.getLikes() + 1);
-            postService.save(post);
-            return ResponseEntity.ok().build();
+            PostLikeService.LikeResult result = postLikeService.like(id, userDetails.getAccount().getId());
+            return ResponseEntity.ok(Map.of("liked", result.liked(), "likes", result.likes()));
         } catch (Exception e) {
             logger.error("Error liking post: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -172,6 +173,40 @@ public class CommunityPostController {
         }
     }
 
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<?> unlikePost(@PathVariable Long id, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        logger.info("Unliking post with id: {}", id);
+        if (userDetails == null || userDetails.getAccount() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+        try {
+            PostLikeService.LikeResult result = postLikeService.unlike(id, userDetails.getAccount().getId());
+            return ResponseEntity.ok(Map.of("liked", result.liked(), "likes", result.likes()));
+        } catch (Exception e) {
+            logger.error("Error unliking post: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "좋아요 취소 중 오류 발생: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{id}/like/toggle")
+    public ResponseEntity<?> toggleLike(@PathVariable Long id, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        logger.info("Toggling like on post with id: {}", id);
+        if (userDetails == null || userDetails.getAccount() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+        try {
+            PostLikeService.LikeResult result = postLikeService.toggle(id, userDetails.getAccount().getId());
+            return ResponseEntity.ok(Map.of("liked", result.liked(), "likes", result.likes()));
+        } catch (Exception e) {
+            logger.error("Error toggling like: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "좋아요 처리 중 오류 발생: " + e.getMessage()));
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deletePost(
             @PathVariable Long id,
@@ -208,30 +243,39 @@ public class CommunityPostController {
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "7") int size) {
+            @RequestParam(defaultValue = "7") int size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
         logger.info("Searching posts with keyword: {}, category: {}, page: {}, size: {}", keyword, category, page, size);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<CommunityPost> postsPage = postService.searchPosts(keyword, category, pageable);
+        Page<CommunityPostDto> postsPage = searchService.searchLatest(keyword, category, page, size, currentAccountId(userDetails));
         
         logger.info("Retrieved {} posts from search", postsPage.getContent().size());
-        return postsPage.map(post -> CommunityPostDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .author(post.getAuthor())
-                .ownerEmail(post.getOwnerEmail())
-                .category(post.getCategory())
-                .boardType(post.getBoardType())
-                .views(post.getViews())
-                .likes(post.getLikes())
-                .comments(post.getComments())
-                .tags(post.getTags())
-                .images(post.getImages())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt())
-                .sharedFromDiaryId(post.getSharedFromDiaryId())
-                .build());
+        return postsPage;
+    }
+
+    /**
+     * 관련도순 검색 (키셋 페이징, 응답의 nextCursor 를 다음 요청 cursor 로 전달)
+     */
+    @GetMapping("/search/ranked")
+    public ResponseEntity<?> searchPostsRanked(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        logger.info("Ranked search with keyword: {}, category: {}, size: {}, cursor: {}", keyword, category, size, cursor);
+        try {
+            return ResponseEntity.ok(searchService.searchRanked(keyword, category, size, cursor, currentAccountId(userDetails)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private Long currentAccountId(UserDetailsImpl userDetails) {
+        if (userDetails == null || userDetails.getAccount() == null) {
+            return null;
+        }
+        return userDetails.getAccount().getId();
     }
 
     /**
@@ -0,0 +1,19 @@
+package com.my.backend.community.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 댓글 커서 페이지
+ * nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회한다. (마지막 페이지면 null)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommunityCommentPageDto {
+    private List<CommunityCommentDto> items;
+    private String nextCursor;
+}
@@ -10,7 +10,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CommunityPostDto {
     private Long id;
     private String title;
@@ -22,6 +22,7 @@ public class CommunityPostDto {
     private int views;
     private int likes;
     private int comments;
+    private boolean liked;
     private List<String> tags;
     private List<String> images;
     private Long sharedFromDiaryId;
@@ -0,0 +1,31 @@
+package com.my.backend.community.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 관련도순 검색 결과 (키셋 페이징)
+ * nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회한다. 마지막 페이지면 null.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommunitySearchResultDto {
+    private List<Hit> items;
+    private String nextCursor;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Hit {
+        private CommunityPostDto post;
+        // 검색어 주변 본문 일부 (HTML 이스케이프 후 검색어를 <mark> 로 감쌈)
+        private String snippet;
+        private double score;
+    }
+}
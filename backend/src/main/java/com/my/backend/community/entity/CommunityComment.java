@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "community_comments")
+@Table(name = "community_comments", indexes = {
+        // 게시글별 댓글 커서 페이지 조회 (created_at, id) 순
+        @Index(name = "idx_community_comments_post_created", columnList = "post_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,6 +30,11 @@ public class CommunityComment {
 
     private String content;
 
+    // 사후 검수(비동기 모드)에서 부적절 판정된 댓글은 목록/미리보기에서 숨긴다
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean hidden = false;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
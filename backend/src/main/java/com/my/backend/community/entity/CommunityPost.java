@@ -5,6 +5,7 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 @Entity
 @Table(name = "community_posts")
@@ -30,8 +31,14 @@ public class CommunityPost {
     private String category;
     private String boardType;
 
+    // 조회수는 PostViewCounter 가 원자적 UPDATE 로만 증가시킨다 (엔티티 저장 시 덮어쓰기 방지)
+    @Column(updatable = false)
     private int views;
+    // 좋아요 수는 PostLikeService 가 원자적 UPDATE 로만 증감시킨다
+    @Column(updatable = false)
     private int likes;
+    // 댓글 수는 댓글 작성/삭제 시 원자적 UPDATE 로만 증감시킨다
+    @Column(updatable = false)
     private int comments;
 
     @ElementCollection
@@ -44,6 +51,11 @@ public class CommunityPost {
     @Column(name = "image_url")
     private List<String> images;
 
+    // 사후 검수(비동기 모드)에서 부적절 판정된 글은 목록/검색/상세에서 숨긴다
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean hidden = false;
+
     @Column(name = "shared_from_diary_id")
     private Long sharedFromDiaryId;
 
@@ -53,21 +65,43 @@ public class CommunityPost {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 검색용 문서 (제목 + 본문 + 태그, 소문자). search_vector 생성 컬럼과 trigram 인덱스의 원본
+    @Column(name = "search_document", columnDefinition = "TEXT")
+    private String searchDocument;
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        refreshSearchDocument();
     }
 
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        refreshSearchDocument();
     }
 
     /**
-     * 조회수 증가 메서드
+     * 검색용 문서 갱신 (태그만 바뀐 경우에도 호출해야 게시글 행이 갱신된다)
      */
-    public void increaseViews() {
-        this.views++;
+    public void refreshSearchDocument() {
+        StringBuilder document = new StringBuilder();
+        appendWord(document, title);
+        appendWord(document, content);
+        if (tags != null) {
+            tags.forEach(tag -> appendWord(document, tag));
+        }
+        this.searchDocument = document.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static void appendWord(StringBuilder document, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        if (document.length() > 0) {
+            document.append(' ');
+        }
+        document.append(value);
     }
 }
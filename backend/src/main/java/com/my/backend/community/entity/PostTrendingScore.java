@@ -0,0 +1,34 @@
+package com.my.backend.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기글 점수 스냅샷
+ * 순위는 메모리(TrendingService)에서 계산하고, 재기동 시 복원할 수 있도록 주기적으로 저장만 한다.
+ */
+@Entity
+@Table(name = "post_trending_scores")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTrendingScore {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "board_type", length = 64)
+    private String boardType;
+
+    // snapshot_at 기준으로 감쇠된 점수
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
@@ -0,0 +1,36 @@
+package com.my.backend.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 시간별 조회수 집계 (분석용)
+ * PostViewCounter 가 조회수를 반영할 때 같은 트랜잭션에서 (게시글, 시각) 행에 더한다.
+ */
+@Entity
+@Table(name = "post_view_hourly",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_view_hourly_post_hour", columnNames = {"post_id", "hour_start"}),
+        indexes = @Index(name = "idx_post_view_hourly_hour", columnList = "hour_start"))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostViewHourly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    // 집계 구간 시작 시각 (정시)
+    @Column(name = "hour_start", nullable = false)
+    private LocalDateTime hourStart;
+
+    @Column(nullable = false)
+    private long views;
+}
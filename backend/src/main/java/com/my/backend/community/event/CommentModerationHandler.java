@@ -0,0 +1,75 @@
+package com.my.backend.community.event;
+
+import com.my.backend.community.entity.CommunityComment;
+import com.my.backend.community.repository.CommunityCommentRepository;
+import com.my.backend.community.repository.CommunityPostRepository;
+import com.my.backend.community.service.CommunityFeedCache;
+import com.my.backend.community.service.ContentModerationService;
+import com.my.backend.global.outbox.entity.OutboxEvent;
+import com.my.backend.global.outbox.service.OutboxEventHandler;
+import com.my.backend.global.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 먼저 게시된 댓글의 사후 검수
+ * 배치 안의 모든 댓글 내용을 한 번에 판정하고, 부적절한 댓글은 숨기고 게시글 댓글 수에서 뺀다.
+ * API 호출이 실패하면 예외를 던져 아웃박스 재시도에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentModerationHandler implements OutboxEventHandler {
+
+    private final CommunityCommentRepository commentRepository;
+    private final CommunityPostRepository postRepository;
+    private final ContentModerationService moderationService;
+    private final CommunityFeedCache feedCache;
+    private final OutboxService outboxService;
+
+    @Override
+    public String eventType() {
+        return CommentModerationRequestedEvent.TYPE;
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        Set<Long> commentIds = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            commentIds.add(outboxService.readPayload(event, CommentModerationRequestedEvent.class).commentId());
+        }
+
+        // 이미 숨긴 댓글은 다시 판정하지 않는다 (댓글 수를 두 번 빼지 않도록)
+        List<CommunityComment> comments = commentRepository.findAllById(commentIds).stream()
+                .filter(comment -> !comment.isHidden())
+                .toList();
+        if (comments.isEmpty()) {
+            return;
+        }
+        List<Boolean> verdicts = moderationService.classify(comments.stream().map(CommunityComment::getContent).toList());
+
+        List<Long> flaggedIds = new ArrayList<>();
+        Map<Long, Integer> hiddenPerPost = new LinkedHashMap<>();
+        for (int i = 0; i < comments.size(); i++) {
+            if (verdicts.get(i)) {
+                CommunityComment comment = comments.get(i);
+                flaggedIds.add(comment.getId());
+                hiddenPerPost.merge(comment.getPost().getId(), 1, Integer::sum);
+            }
+        }
+        if (!flaggedIds.isEmpty()) {
+            commentRepository.hideByIds(flaggedIds);
+            hiddenPerPost.forEach((postId, count) -> postRepository.addComments(postId, -count));
+            feedCache.evictAll();
+            log.info("사후 검수로 댓글 숨김: commentIds={}", flaggedIds);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.my.backend.community.event;
+
+/**
+ * 댓글 사후 검수 요청 이벤트 (community.moderation.mode=async)
+ * 댓글 저장 트랜잭션에서 기록되고, 커밋 이후 OpenAI Moderation 판정에 사용한다.
+ */
+public record CommentModerationRequestedEvent(
+        Long commentId
+) {
+    public static final String TYPE = "COMMUNITY_COMMENT_MODERATION_REQUESTED";
+}
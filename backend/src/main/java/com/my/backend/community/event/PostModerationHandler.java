@@ -0,0 +1,69 @@
+package com.my.backend.community.event;
+
+import com.my.backend.community.entity.CommunityPost;
+import com.my.backend.community.repository.CommunityPostRepository;
+import com.my.backend.community.service.CommunityFeedCache;
+import com.my.backend.community.service.ContentModerationService;
+import com.my.backend.community.service.TrendingService;
+import com.my.backend.global.outbox.entity.OutboxEvent;
+import com.my.backend.global.outbox.service.OutboxEventHandler;
+import com.my.backend.global.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 먼저 게시된 글의 사후 검수
+ * 배치 안의 모든 게시글 제목/본문을 한 번에 판정하고, 부적절한 글은 숨긴다.
+ * API 호출이 실패하면 예외를 던져 아웃박스 재시도에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostModerationHandler implements OutboxEventHandler {
+
+    private final CommunityPostRepository postRepository;
+    private final ContentModerationService moderationService;
+    private final CommunityFeedCache feedCache;
+    private final TrendingService trendingService;
+    private final OutboxService outboxService;
+
+    @Override
+    public String eventType() {
+        return PostModerationRequestedEvent.TYPE;
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        Set<Long> postIds = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            postIds.add(outboxService.readPayload(event, PostModerationRequestedEvent.class).postId());
+        }
+
+        List<CommunityPost> posts = postRepository.findAllById(postIds);
+        List<String> texts = new ArrayList<>(posts.size() * 2);
+        for (CommunityPost post : posts) {
+            texts.add(post.getTitle());
+            texts.add(post.getContent());
+        }
+        List<Boolean> verdicts = moderationService.classify(texts);
+
+        List<Long> flaggedIds = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i++) {
+            if (verdicts.get(i * 2) || verdicts.get(i * 2 + 1)) {
+                flaggedIds.add(posts.get(i).getId());
+            }
+        }
+        if (!flaggedIds.isEmpty()) {
+            postRepository.hideByIds(flaggedIds);
+            flaggedIds.forEach(trendingService::remove);
+            feedCache.evictAll();
+            log.info("사후 검수로 게시글 숨김: postIds={}", flaggedIds);
+        }
+    }
+}
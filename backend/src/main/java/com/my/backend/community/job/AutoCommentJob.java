@@ -0,0 +1,10 @@
+package com.my.backend.community.job;
+
+/**
+ * 게시글 AI 자동 댓글 생성 작업
+ */
+public record AutoCommentJob(
+        Long postId
+) {
+    public static final String TYPE = "COMMUNITY_AUTO_COMMENT";
+}
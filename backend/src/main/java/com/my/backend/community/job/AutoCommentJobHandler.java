@@ -0,0 +1,38 @@
+package com.my.backend.community.job;
+
+import com.my.backend.community.service.AutoCommentService;
+import com.my.backend.global.job.entity.BackgroundJob;
+import com.my.backend.global.job.service.JobHandler;
+import com.my.backend.global.job.service.JobQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 작성 후 AI 자동 댓글 생성
+ * OpenAI 호출은 트랜잭션 밖에서 하고, 댓글 저장만 짧은 트랜잭션으로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AutoCommentJobHandler implements JobHandler {
+
+    private final AutoCommentService autoCommentService;
+    private final JobQueueService jobQueueService;
+
+    @Override
+    public String jobType() {
+        return AutoCommentJob.TYPE;
+    }
+
+    @Override
+    public int concurrency() {
+        // OpenAI 응답 대기가 대부분이라 기본값보다 넉넉하게
+        return 4;
+    }
+
+    @Override
+    public void handle(BackgroundJob job) {
+        AutoCommentJob payload = jobQueueService.readPayload(job, AutoCommentJob.class);
+        autoCommentService.generateComment(payload.postId())
+                .ifPresent(content -> autoCommentService.saveAutoComment(payload.postId(), content));
+    }
+}
@@ -2,13 +2,52 @@ package com.my.backend.community.repository;
 
 import com.my.backend.community.entity.CommunityComment;
 import com.my.backend.community.entity.CommunityPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommunityCommentRepository extends JpaRepository<CommunityComment, Long> {
     List<CommunityComment> findByPost(CommunityPost post);
 
-    //  postId로 바로 조회할 수 있는 메서드 추가
-    List<CommunityComment> findByPostId(Long postId);
+    //  postId로 바로 조회할 수 있는 메서드 추가 (검수에서 숨긴 댓글 제외)
+    List<CommunityComment> findByPostIdAndHiddenFalse(Long postId);
+
+    // 커서 페이지: 첫 페이지 (created_at, id) 오름차순
+    @Query("SELECT c FROM CommunityComment c WHERE c.post.id = :postId AND c.hidden = false ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommunityComment> findFirstPage(@Param("postId") Long postId, Pageable pageable);
+
+    // 커서 페이지: (createdAt, id) 다음 행부터 (인덱스 범위 스캔)
+    @Query(value = "SELECT * FROM community_comments " +
+                   "WHERE post_id = :postId AND hidden = false AND (created_at, id) > (:createdAt, :id) " +
+                   "ORDER BY created_at ASC, id ASC LIMIT :limit",
+           nativeQuery = true)
+    List<CommunityComment> findPageAfter(@Param("postId") Long postId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         @Param("limit") int limit);
+
+    // 목록 미리보기: 여러 게시글의 앞쪽 댓글 n 개씩을 한 번에 조회
+    // 게시글마다 (post_id, created_at, id) 인덱스를 앞에서 n 개만 읽는다 (전체 댓글에 번호를 매기지 않음)
+    @Query(value = "SELECT c.* FROM community_posts p " +
+                   "CROSS JOIN LATERAL (" +
+                   "SELECT cc.* FROM community_comments cc " +
+                   "WHERE cc.post_id = p.id AND cc.hidden = false " +
+                   "ORDER BY cc.created_at ASC, cc.id ASC LIMIT :perPost) c " +
+                   "WHERE p.id IN (:postIds) " +
+                   "ORDER BY c.post_id, c.created_at ASC, c.id ASC",
+           nativeQuery = true)
+    List<CommunityComment> findPreviews(@Param("postIds") Collection<Long> postIds, @Param("perPost") int perPost);
+
+    @Modifying
+    @Query("UPDATE CommunityComment c SET c.hidden = true WHERE c.id IN :ids")
+    int hideByIds(@Param("ids") Collection<Long> ids);
+
+    // 자동 댓글 중복 생성 방지용
+    boolean existsByPostIdAndOwnerEmail(Long postId, String ownerEmail);
 }
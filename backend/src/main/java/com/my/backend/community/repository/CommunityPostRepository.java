@@ -4,22 +4,105 @@ import com.my.backend.community.entity.CommunityPost;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommunityPostRepository extends JpaRepository<CommunityPost, Long> {
-    // 전체 글 최신순
-    List<CommunityPost> findAllByOrderByCreatedAtDesc();
 
-    // 게시판 타입별 최신순 (추후 확장 대비)
-    List<CommunityPost> findByBoardTypeOrderByCreatedAtDesc(String boardType);
+    // 피드 목록 (검수에서 숨긴 글 제외, 최신순): 전체 건수를 윈도 함수로 같은 쿼리에서 함께 읽는다
+    // [id, title, content, author, owner_email, category, board_type, views, likes, comments,
+    //  created_at, updated_at, shared_from_diary_id, total_count]
+    @Query(value = "SELECT p.id, p.title, p.content, p.author, p.owner_email, p.category, p.board_type, " +
+            "p.views, p.likes, p.comments, p.created_at, p.updated_at, p.shared_from_diary_id, " +
+            "COUNT(*) OVER () AS total_count " +
+            "FROM community_posts p " +
+            "WHERE p.hidden = false AND (CAST(:boardType AS text) IS NULL OR p.board_type = CAST(:boardType AS text)) " +
+            "ORDER BY p.created_at DESC, p.id DESC " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Object[]> findFeedPage(@Param("boardType") String boardType,
+                                @Param("limit") int limit,
+                                @Param("offset") long offset);
+
+    // 마지막 페이지를 넘어선 요청에서만 사용 (페이지가 비면 윈도 함수로 건수를 알 수 없음)
+    @Query(value = "SELECT COUNT(*) FROM community_posts p " +
+            "WHERE p.hidden = false AND (CAST(:boardType AS text) IS NULL OR p.board_type = CAST(:boardType AS text))",
+            nativeQuery = true)
+    long countFeed(@Param("boardType") String boardType);
 
-    // 페이징 지원 메서드들
-    Page<CommunityPost> findByBoardType(String boardType, Pageable pageable);
+    @Modifying
+    @Query("UPDATE CommunityPost p SET p.hidden = true WHERE p.id IN :ids")
+    int hideByIds(@Param("ids") Collection<Long> ids);
     
-    // 검색 기능을 위한 메서드들
-    Page<CommunityPost> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
-        String titleKeyword, String contentKeyword, Pageable pageable);
+    // 검색 (목록형): tsvector 또는 trigram 인덱스로 후보를 찾고 최신순 페이징
+    @Query(value = "SELECT p.* FROM community_posts p " +
+            "WHERE (p.search_vector @@ plainto_tsquery('simple', :keyword) OR p.search_document LIKE :pattern ESCAPE '\\') " +
+            "AND p.hidden = false AND (CAST(:boardType AS text) IS NULL OR p.board_type = CAST(:boardType AS text)) " +
+            "ORDER BY p.created_at DESC, p.id DESC",
+            countQuery = "SELECT COUNT(*) FROM community_posts p " +
+                    "WHERE (p.search_vector @@ plainto_tsquery('simple', :keyword) OR p.search_document LIKE :pattern ESCAPE '\\') " +
+                    "AND p.hidden = false AND (CAST(:boardType AS text) IS NULL OR p.board_type = CAST(:boardType AS text))",
+            nativeQuery = true)
+    Page<CommunityPost> searchLatest(@Param("keyword") String keyword,
+                                     @Param("pattern") String pattern,
+                                     @Param("boardType") String boardType,
+                                     Pageable pageable);
+
+    // 검색 (관련도순): [id, score] 를 점수 내림차순 + id 내림차순 키셋으로 조회
+    @Query(value = "WITH q AS (SELECT plainto_tsquery('simple', :keyword) AS query), " +
+            "matched AS (" +
+            "  SELECT p.id AS id, " +
+            "         CAST(ts_rank(p.search_vector, q.query) AS double precision) " +
+            "         + CAST(word_similarity(:keyword, p.search_document) AS double precision) AS score " +
+            "  FROM community_posts p, q " +
+            "  WHERE (p.search_vector @@ q.query OR p.search_document LIKE :pattern ESCAPE '\\') " +
+            "    AND p.hidden = false AND (CAST(:boardType AS text) IS NULL OR p.board_type = CAST(:boardType AS text))" +
+            ") " +
+            "SELECT id, score FROM matched " +
+            "WHERE CAST(:cursorScore AS double precision) IS NULL " +
+            "   OR score < CAST(:cursorScore AS double precision) " +
+            "   OR (score = CAST(:cursorScore AS double precision) AND id < :cursorId) " +
+            "ORDER BY score DESC, id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> searchRanked(@Param("keyword") String keyword,
+                                @Param("pattern") String pattern,
+                                @Param("boardType") String boardType,
+                                @Param("cursorScore") Double cursorScore,
+                                @Param("cursorId") Long cursorId,
+                                @Param("limit") int limit);
+
+    // 인기글 순위용: 숨기지 않은 게시글의 boardType ([postId, boardType])
+    @Query("SELECT p.id, p.boardType FROM CommunityPost p WHERE p.id IN :ids AND p.hidden = false")
+    List<Object[]> findVisibleBoardTypes(@Param("ids") Collection<Long> ids);
+
+    // 목록 조립용: 여러 게시글의 태그/이미지를 한 쿼리로 조회 ([postId, 'TAG' | 'IMAGE', value])
+    @Query(value = "SELECT t.post_id, 'TAG', t.tag FROM post_tags t WHERE t.post_id IN (:ids) " +
+            "UNION ALL " +
+            "SELECT i.post_id, 'IMAGE', i.image_url FROM post_images i WHERE i.post_id IN (:ids)",
+            nativeQuery = true)
+    List<Object[]> findTagsAndImagesByPostIds(@Param("ids") Collection<Long> ids);
+
+    // 좋아요 수 원자적 증감 (음수 방지), 변경된 행 수 반환
+    // 변경 후 값은 같은 트랜잭션에서 findLikesById 로 읽는다 (행 잠금이 커밋까지 유지되어 다른 증감이 끼어들지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query(value = "UPDATE community_posts SET likes = GREATEST(likes + :delta, 0) WHERE id = :id",
+            nativeQuery = true)
+    int addLikes(@Param("id") Long id, @Param("delta") int delta);
+
+    // 댓글 수 원자적 증감 (음수 방지)
+    @Modifying
+    @Query(value = "UPDATE community_posts SET comments = GREATEST(comments + :delta, 0) WHERE id = :id",
+            nativeQuery = true)
+    int addComments(@Param("id") Long id, @Param("delta") int delta);
 
-    Page<CommunityPost> findByBoardTypeAndTitleContainingIgnoreCaseOrBoardTypeAndContentContainingIgnoreCase(
-        String type1, String titleKeyword, String type2, String contentKeyword, Pageable pageable);
+    @Query("SELECT p.likes FROM CommunityPost p WHERE p.id = :id")
+    Optional<Integer> findLikesById(@Param("id") Long id);
 }
@@ -0,0 +1,47 @@
+package com.my.backend.community.repository;
+
+import com.my.backend.community.entity.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+
+    /**
+     * 좋아요 추가 (이미 있으면 무시)
+     * @return 새로 추가되면 1, 이미 있으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_likes (post_id, account_id, created_at) VALUES (:postId, :accountId, :now) " +
+            "ON CONFLICT (post_id, account_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId,
+                       @Param("accountId") Long accountId,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 좋아요 취소
+     * @return 삭제되면 1, 없으면 0
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId AND l.accountId = :accountId")
+    int deleteByPostIdAndAccountId(@Param("postId") Long postId, @Param("accountId") Long accountId);
+
+    boolean existsByPostIdAndAccountId(Long postId, Long accountId);
+
+    /**
+     * 목록 화면용: 주어진 게시글 중 사용자가 좋아요한 게시글 ID (한 번에 조회)
+     */
+    @Query("SELECT l.postId FROM PostLike l WHERE l.accountId = :accountId AND l.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("accountId") Long accountId, @Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,7 @@
+package com.my.backend.community.repository;
+
+import com.my.backend.community.entity.PostTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostTrendingScoreRepository extends JpaRepository<PostTrendingScore, Long> {
+}
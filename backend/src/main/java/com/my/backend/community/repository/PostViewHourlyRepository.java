@@ -0,0 +1,20 @@
+package com.my.backend.community.repository;
+
+import com.my.backend.community.entity.PostViewHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostViewHourlyRepository extends JpaRepository<PostViewHourly, Long> {
+
+    List<PostViewHourly> findByPostIdAndHourStartBetweenOrderByHourStartAsc(Long postId, LocalDateTime from, LocalDateTime to);
+
+    // 보관 기간이 지난 집계 정리
+    @Modifying
+    @Query("DELETE FROM PostViewHourly h WHERE h.hourStart < :before")
+    int deleteByHourStartBefore(@Param("before") LocalDateTime before);
+}
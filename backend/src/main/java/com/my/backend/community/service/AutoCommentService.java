@@ -7,11 +7,10 @@ import com.my.backend.community.repository.CommunityPostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Random;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -19,63 +18,55 @@ import java.util.Random;
 @Slf4j
 public class AutoCommentService {
 
+    private static final String AUTO_COMMENT_AUTHOR = "Meongtory";
+    private static final String AUTO_COMMENT_EMAIL = "meongtory@meongtory.com"; // Meongtory의 고유 식별자
+
     private final CommunityCommentRepository commentRepository;
     private final CommunityPostRepository postRepository;
     private final OpenAiService openAiService;
 
-    // 기존 랜덤 댓글 멘트 (AI 실패 시 폴백용)
-    private static final List<String> FALLBACK_COMMENT_MESSAGES = Arrays.asList(
-        "좋은 글 감사합니다 🙌",
-        "유익한 정보네요! 👍",
-        "공감합니다 😊"
-    );
-
     /**
-     * 게시글 작성 후 AI 기반 자동 댓글 생성
-     * @param postId 게시글 ID
+     * 자동 댓글 내용 생성 (백그라운드 작업용)
+     * OpenAI 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+     * @return 게시글이 삭제되었거나 이미 자동 댓글이 있으면 빈 값
      */
-    public void createAutoComment(Long postId) {
-        try {
-            log.info("=== 자동 댓글 생성 시작 - postId: {} ===", postId);
-            
-            CommunityPost post = postRepository.findById(postId)
-                    .orElseThrow(() -> new RuntimeException("Post not found"));
-
-            // AI 기반 댓글 생성 시도
-            String aiComment = openAiService.generateComment(post.getContent(), post.getCategory());
-            
-            log.info("AI 댓글 생성 완료: {}", aiComment);
-
-            // 자동 댓글 생성
-            CommunityComment autoComment = CommunityComment.builder()
-                    .post(post)
-                    .author("Meongtory")
-                    .ownerEmail("meongtory@meongtory.com") // Meongtory의 고유 식별자
-                    .content(aiComment)
-                    .build();
-
-            commentRepository.save(autoComment);
-
-            // 게시글의 댓글 수 증가
-            post.setComments(post.getComments() + 1);
-            postRepository.save(post);
-
-            log.info("자동 댓글 저장 완료 - 댓글 ID: {}", autoComment.getId());
-
-        } catch (Exception e) {
-            // 자동 댓글 생성 실패는 로그만 남기고 예외를 던지지 않음
-            // (게시글 작성 자체는 성공해야 하므로)
-            log.error("자동 댓글 생성 실패: {}", e.getMessage(), e);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> generateComment(Long postId) {
+        Optional<CommunityPost> post = postRepository.findById(postId);
+        if (post.isEmpty()) {
+            log.info("자동 댓글 생략 - 삭제된 게시글: {}", postId);
+            return Optional.empty();
+        }
+        if (commentRepository.existsByPostIdAndOwnerEmail(postId, AUTO_COMMENT_EMAIL)) {
+            return Optional.empty();
         }
+        return Optional.of(openAiService.generateComment(post.get().getContent(), post.get().getCategory()));
     }
 
     /**
-     * 폴백용 랜덤 멘트 선택 (AI 실패 시 사용)
-     * @return 선택된 멘트
+     * 생성한 자동 댓글 저장 (재실행되어도 게시글당 한 번만 저장)
      */
-    private String getRandomFallbackMessage() {
-        Random random = new Random();
-        int index = random.nextInt(FALLBACK_COMMENT_MESSAGES.size());
-        return FALLBACK_COMMENT_MESSAGES.get(index);
+    public void saveAutoComment(Long postId, String content) {
+        Optional<CommunityPost> post = postRepository.findById(postId);
+        if (post.isEmpty() || commentRepository.existsByPostIdAndOwnerEmail(postId, AUTO_COMMENT_EMAIL)) {
+            return;
+        }
+        CommunityComment autoComment = addComment(post.get(), content);
+        log.info("자동 댓글 저장 완료 - postId: {}, 댓글 ID: {}", postId, autoComment.getId());
+    }
+
+    private CommunityComment addComment(CommunityPost post, String content) {
+        CommunityComment autoComment = CommunityComment.builder()
+                .post(post)
+                .author(AUTO_COMMENT_AUTHOR)
+                .ownerEmail(AUTO_COMMENT_EMAIL)
+                .content(content)
+                .build();
+
+        commentRepository.save(autoComment);
+
+        // 게시글의 댓글 수 증가 (원자적 UPDATE)
+        postRepository.addComments(post.getId(), 1);
+        return autoComment;
     }
 }
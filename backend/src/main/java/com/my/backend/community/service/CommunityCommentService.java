@@ -2,18 +2,28 @@ package com.my.backend.community.service;
 
 import com.my.backend.account.entity.Account;
 import com.my.backend.community.dto.CommunityCommentDto;
+import com.my.backend.community.dto.CommunityCommentPageDto;
 import com.my.backend.community.entity.CommunityComment;
 import com.my.backend.community.entity.CommunityPost;
+import com.my.backend.community.event.CommentModerationRequestedEvent;
 import com.my.backend.community.repository.CommunityCommentRepository;
 import com.my.backend.community.repository.CommunityPostRepository;
-import com.my.backend.community.util.EnhancedProfanityFilter;
 import com.my.backend.global.exception.BadWordException;
+import com.my.backend.global.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,16 +33,68 @@ public class CommunityCommentService {
 
     private final CommunityCommentRepository commentRepository;
     private final CommunityPostRepository postRepository;
-    private final EnhancedProfanityFilter profanityFilter;
+    private final ContentModerationService moderationService;
+    private final TrendingService trendingService;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
 
     // 댓글 목록 조회
     public List<CommunityCommentDto> getCommentsByPostId(Long postId) {
-        return commentRepository.findByPostId(postId).stream()
+        return commentRepository.findByPostIdAndHiddenFalse(postId).stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
     }
 
-    // 댓글 생성
+    /**
+     * 댓글 커서 페이지 조회 ((작성 시각, ID) 오름차순)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CommunityCommentPageDto getCommentPage(Long postId, String cursor, int size) {
+        List<CommunityComment> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = commentRepository.findFirstPage(postId, PageRequest.of(0, size + 1));
+        } else {
+            int separator = cursor.lastIndexOf('_');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            try {
+                LocalDateTime createdAt = LocalDateTime.parse(cursor.substring(0, separator));
+                Long id = Long.parseLong(cursor.substring(separator + 1));
+                rows = commentRepository.findPageAfter(postId, createdAt, id, size + 1);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+        return toPage(rows, size);
+    }
+
+    /**
+     * 목록 화면용: 여러 게시글의 앞쪽 댓글 미리보기를 쿼리 한 번으로 조회
+     * 게시글마다 perPost 개까지 담고, 더 있으면 nextCursor 로 이어서 조회할 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, CommunityCommentPageDto> getPreviews(Collection<Long> postIds, int perPost) {
+        Map<Long, List<CommunityComment>> byPost = new LinkedHashMap<>();
+        postIds.forEach(postId -> byPost.put(postId, new ArrayList<>()));
+        if (!postIds.isEmpty()) {
+            for (CommunityComment comment : commentRepository.findPreviews(postIds, perPost + 1)) {
+                byPost.get(comment.getPost().getId()).add(comment);
+            }
+        }
+        Map<Long, CommunityCommentPageDto> previews = new LinkedHashMap<>();
+        byPost.forEach((postId, rows) -> previews.put(postId, toPage(rows, perPost)));
+        return previews;
+    }
+
+    /**
+     * 댓글 생성
+     * 검수(외부 API)는 트랜잭션 밖에서 먼저 끝내고, DB 쓰기만 짧은 트랜잭션으로 묶는다.
+     * 비동기 검수 모드면 게시 후 아웃박스 이벤트로 사후 검수한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CommunityCommentDto createComment(Long postId, CommunityCommentDto dto, Account account) {
         System.out.println("=== 댓글 생성 시작 ===");
         System.out.println("DTO: " + dto);
@@ -44,35 +106,33 @@ public class CommunityCommentService {
             throw new BadWordException("🚫 비속어를 사용하지 말아주세요.");
         }
         
-        // 비속어 필터링 체크
-        boolean containsProfanity = profanityFilter.containsProfanity(dto.getContent());
-        System.out.println("비속어 포함 여부: " + containsProfanity);
-        
-        if (containsProfanity) {
-            System.out.println("비속어 발견 - BadWordException 던짐");
-            throw new BadWordException("🚫 비속어를 사용하지 말아주세요.");
-        }
+        // 비속어 필터링 체크 (사전 + AI 검수, 판정 캐시 사용)
+        moderationService.checkBeforeWrite(dto.getContent());
 
-        CommunityPost post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("Post not found"));
+        return transactionTemplate.execute(status -> {
+            CommunityPost post = postRepository.findById(postId)
+                    .orElseThrow(() -> new RuntimeException("Post not found"));
 
-        CommunityComment comment = CommunityComment.builder()
-                .post(post)
-                .author(account.getName())        // 화면에 표시될 이름
-                .ownerEmail(account.getEmail())   // 고유 식별자
-                .content(dto.getContent())
-                .build();
+            CommunityComment comment = CommunityComment.builder()
+                    .post(post)
+                    .author(account.getName())        // 화면에 표시될 이름
+                    .ownerEmail(account.getEmail())   // 고유 식별자
+                    .content(dto.getContent())
+                    .build();
 
-        commentRepository.save(comment);
-        
-        // 게시글의 댓글 갯수 증가
-        post.setComments(post.getComments() + 1);
-        postRepository.save(post);
+            commentRepository.save(comment);
+            requestModerationIfAsync(comment.getId());
+
+            // 게시글의 댓글 갯수 증가 (원자적 UPDATE)
+            postRepository.addComments(post.getId(), 1);
+            trendingService.onComment(post.getId(), post.getBoardType());
 
-        return toDto(comment);
+            return toDto(comment);
+        });
     }
 
-    // 댓글 수정
+    // 댓글 수정 (검수는 트랜잭션 밖에서 먼저)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CommunityCommentDto updateComment(Long commentId, CommunityCommentDto dto, Account account) {
         System.out.println("=== 댓글 수정 시작 ===");
         System.out.println("DTO: " + dto);
@@ -84,26 +144,24 @@ public class CommunityCommentService {
             throw new BadWordException("🚫 비속어를 사용하지 말아주세요.");
         }
         
-        // 비속어 필터링 체크
-        boolean containsProfanity = profanityFilter.containsProfanity(dto.getContent());
-        System.out.println("비속어 포함 여부: " + containsProfanity);
-        
-        if (containsProfanity) {
-            System.out.println("비속어 발견 - BadWordException 던짐");
-            throw new BadWordException("🚫 비속어를 사용하지 말아주세요.");
-        }
-
-        CommunityComment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new RuntimeException("Comment not found"));
-
-        if (!comment.getOwnerEmail().equals(account.getEmail())
-                && !"ROLE_ADMIN".equals(account.getRole())) {
-            throw new RuntimeException("본인 댓글만 수정할 수 있습니다.");
-        }
-
-        comment.setContent(dto.getContent());
-        comment.setUpdatedAt(LocalDateTime.now());
-        return toDto(commentRepository.save(comment));
+        // 비속어 필터링 체크 (사전 + AI 검수, 판정 캐시 사용)
+        moderationService.checkBeforeWrite(dto.getContent());
+
+        return transactionTemplate.execute(status -> {
+            CommunityComment comment = commentRepository.findById(commentId)
+                    .orElseThrow(() -> new RuntimeException("Comment not found"));
+
+            if (!comment.getOwnerEmail().equals(account.getEmail())
+                    && !"ROLE_ADMIN".equals(account.getRole())) {
+                throw new RuntimeException("본인 댓글만 수정할 수 있습니다.");
+            }
+
+            comment.setContent(dto.getContent());
+            comment.setUpdatedAt(LocalDateTime.now());
+            CommunityComment updated = commentRepository.save(comment);
+            requestModerationIfAsync(updated.getId());
+            return toDto(updated);
+        });
     }
 
     // 댓글 삭제
@@ -116,14 +174,36 @@ public class CommunityCommentService {
             throw new RuntimeException("본인 댓글만 삭제할 수 있습니다.");
         }
 
-        // 게시글의 댓글 갯수 감소
-        CommunityPost post = comment.getPost();
-        post.setComments(Math.max(0, post.getComments() - 1)); // 음수가 되지 않도록
-        postRepository.save(post);
+        // 게시글의 댓글 갯수 감소 (원자적 UPDATE, 음수가 되지 않도록). 검수에서 숨긴 댓글은 이미 빠져 있다.
+        if (!comment.isHidden()) {
+            postRepository.addComments(comment.getPost().getId(), -1);
+        }
 
         commentRepository.delete(comment);
     }
 
+    private void requestModerationIfAsync(Long commentId) {
+        if (moderationService.isAsync()) {
+            outboxService.append(CommentModerationRequestedEvent.TYPE, commentId,
+                    new CommentModerationRequestedEvent(commentId));
+        }
+    }
+
+    // size + 1 개를 조회해서 다음 페이지 존재 여부를 판단
+    private CommunityCommentPageDto toPage(List<CommunityComment> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<CommunityComment> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CommunityComment last = items.get(items.size() - 1);
+            nextCursor = last.getCreatedAt() + "_" + last.getId();
+        }
+        return CommunityCommentPageDto.builder()
+                .items(items.stream().map(this::toDto).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     // Entity → DTO 변환
     private CommunityCommentDto toDto(CommunityComment comment) {
         return CommunityCommentDto.builder()
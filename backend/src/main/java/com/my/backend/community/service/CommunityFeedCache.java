@@ -0,0 +1,96 @@
+package com.my.backend.community.service;
+
+import com.my.backend.community.dto.CommunityPostDto;
+import com.my.backend.global.cache.CacheInvalidationBus;
+import com.my.backend.global.cache.LocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 커뮤니티 피드 앞쪽 페이지 캐시 (boardType + page + size 단위)
+ * 게시글 생성/수정/삭제 시 모든 노드에서 전체 무효화한다.
+ * 좋아요/댓글/조회 수는 TTL 동안 이전 값이 보일 수 있다.
+ */
+@Component
+public class CommunityFeedCache {
+
+    public static final String NAME = "communityFeed";
+    private static final String ALL_BOARDS = "*";
+
+    public record FeedPage(List<CommunityPostDto> content, long totalElements) {
+    }
+
+    private final LocalCache<String, FeedPage> cache;
+    private final CacheInvalidationBus invalidationBus;
+    private final int cachedPages;
+    private final int maxPageSize;
+
+    public CommunityFeedCache(CacheInvalidationBus invalidationBus,
+                              MeterRegistry meterRegistry,
+                              @Value("${cache.community-feed.max-entries:500}") int maxEntries,
+                              @Value("${cache.community-feed.ttl-seconds:30}") long ttlSeconds,
+                              @Value("${cache.community-feed.cached-pages:3}") int cachedPages,
+                              @Value("${cache.community-feed.max-page-size:50}") int maxPageSize) {
+        this.invalidationBus = invalidationBus;
+        this.cachedPages = cachedPages;
+        this.maxPageSize = maxPageSize;
+        this.cache = new LocalCache<String, FeedPage>(NAME, maxEntries, Duration.ofSeconds(ttlSeconds),
+                Function.identity(), CommunityFeedCache::estimateBytes)
+                .bindTo(meterRegistry);
+        invalidationBus.register(cache);
+    }
+
+    /**
+     * 앞쪽 N 페이지만 캐시하고 나머지는 바로 로딩
+     */
+    public FeedPage getOrLoad(String boardType, int page, int size, Supplier<FeedPage> loader) {
+        if (page >= cachedPages || size > maxPageSize) {
+            return loader.get();
+        }
+        String key = (boardType == null ? ALL_BOARDS : boardType) + ":" + page + ":" + size;
+        return cache.getOrLoad(key, loader);
+    }
+
+    /**
+     * 인기글 카드 목록 (순위는 메모리에서 정해지고, 카드 조립 결과만 TTL 동안 재사용)
+     */
+    public FeedPage getOrLoadTrending(String boardType, int size, Supplier<FeedPage> loader) {
+        if (size > maxPageSize) {
+            return loader.get();
+        }
+        return cache.getOrLoad("hot:" + (boardType == null ? ALL_BOARDS : boardType) + ":" + size, loader);
+    }
+
+    public void evictAll() {
+        invalidationBus.invalidateAll(NAME);
+    }
+
+    private static long estimateBytes(FeedPage feedPage) {
+        long bytes = 64;
+        for (CommunityPostDto post : feedPage.content()) {
+            bytes += 200 + chars(post.getTitle()) + chars(post.getContent()) + chars(post.getAuthor())
+                    + chars(post.getOwnerEmail()) + chars(post.getCategory()) + chars(post.getBoardType());
+            if (post.getTags() != null) {
+                for (String tag : post.getTags()) {
+                    bytes += chars(tag);
+                }
+            }
+            if (post.getImages() != null) {
+                for (String image : post.getImages()) {
+                    bytes += chars(image);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static long chars(String value) {
+        return value == null ? 0 : 40L + value.length() * 2L;
+    }
+}
@@ -0,0 +1,178 @@
+package com.my.backend.community.service;
+
+import com.my.backend.community.dto.CommunityPostDto;
+import com.my.backend.community.entity.CommunityPost;
+import com.my.backend.community.repository.CommunityPostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 커뮤니티 목록(피드) 조회
+ * 게시글 페이지를 읽은 뒤 태그/이미지를 게시글 ID IN 쿼리 한 번으로 읽어 카드 DTO 로 조립한다.
+ * (게시글마다 @ElementCollection 을 지연 로딩하던 N+1 제거)
+ * 피드는 페이지+전체 건수, 태그/이미지, 좋아요 여부까지 최대 3 쿼리로 끝난다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommunityFeedService {
+
+    private final CommunityPostRepository postRepository;
+    private final CommunityFeedCache feedCache;
+    private final PostLikeService postLikeService;
+    private final TrendingService trendingService;
+
+    /**
+     * 최신순 피드 (boardType 이 없으면 전체)
+     */
+    public Page<CommunityPostDto> getFeed(String boardType, int page, int size, Long accountId) {
+        String board = boardType != null && !boardType.trim().isEmpty() ? boardType : null;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        CommunityFeedCache.FeedPage feedPage = feedCache.getOrLoad(board, page, size, () -> {
+            List<Object[]> rows = postRepository.findFeedPage(board, size, pageable.getOffset());
+            // 페이지가 비었을 때만 건수를 따로 센다 (첫 페이지가 비면 전체 0건)
+            long total = !rows.isEmpty() ? ((Number) rows.get(0)[13]).longValue()
+                    : page == 0 ? 0L : postRepository.countFeed(board);
+            List<CommunityPost> posts = rows.stream().map(CommunityFeedService::toPost).toList();
+            return new CommunityFeedCache.FeedPage(List.copyOf(toCards(posts)), total);
+        });
+        return withLiked(new PageImpl<>(feedPage.content(), pageable, feedPage.totalElements()), accountId);
+    }
+
+    /**
+     * 인기글 목록 (순위는 TrendingService 메모리 순위, 카드는 캐시)
+     */
+    public List<CommunityPostDto> getTrending(String boardType, int size, Long accountId) {
+        String board = boardType != null && !boardType.trim().isEmpty() ? boardType : null;
+        CommunityFeedCache.FeedPage feedPage = feedCache.getOrLoadTrending(board, size, () -> {
+            List<CommunityPostDto> cards = getCards(trendingService.topPostIds(board, size), null);
+            return new CommunityFeedCache.FeedPage(List.copyOf(cards), cards.size());
+        });
+        return withLiked(feedPage.content(), accountId);
+    }
+
+    /**
+     * 이미 조회한 게시글 페이지를 카드 DTO 로 변환 (검색 등 캐시하지 않는 목록용)
+     */
+    public Page<CommunityPostDto> toCardPage(Page<CommunityPost> posts, Long accountId) {
+        return withLiked(new PageImpl<>(toCards(posts.getContent()), posts.getPageable(), posts.getTotalElements()),
+                accountId);
+    }
+
+    /**
+     * 게시글 ID 순서대로 카드 DTO 조회 (검색 결과 등 ID 를 먼저 정한 목록용)
+     */
+    public List<CommunityPostDto> getCards(List<Long> orderedIds, Long accountId) {
+        if (orderedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CommunityPost> posts = new HashMap<>();
+        postRepository.findAllById(orderedIds).forEach(post -> posts.put(post.getId(), post));
+        List<CommunityPost> ordered = orderedIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return withLiked(toCards(ordered), accountId);
+    }
+
+    private List<CommunityPostDto> toCards(List<CommunityPost> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = posts.stream().map(CommunityPost::getId).toList();
+        Map<Long, List<String>> tags = new HashMap<>();
+        Map<Long, List<String>> images = new HashMap<>();
+        for (Object[] row : postRepository.findTagsAndImagesByPostIds(ids)) {
+            Map<Long, List<String>> target = "TAG".equals(row[1]) ? tags : images;
+            target.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>()).add((String) row[2]);
+        }
+
+        List<CommunityPostDto> cards = new ArrayList<>(posts.size());
+        for (CommunityPost post : posts) {
+            cards.add(CommunityPostDto.builder()
+                    .id(post.getId())
+                    .title(post.getTitle())
+                    .content(post.getContent())
+                    .author(post.getAuthor())
+                    .ownerEmail(post.getOwnerEmail())
+                    .category(post.getCategory())
+                    .boardType(post.getBoardType())
+                    .views(post.getViews())
+                    .likes(post.getLikes())
+                    .comments(post.getComments())
+                    .tags(tags.getOrDefault(post.getId(), List.of()))
+                    .images(images.getOrDefault(post.getId(), List.of()))
+                    .createdAt(post.getCreatedAt())
+                    .updatedAt(post.getUpdatedAt())
+                    .sharedFromDiaryId(post.getSharedFromDiaryId())
+                    .build());
+        }
+        return cards;
+    }
+
+    /**
+     * 캐시된 카드는 공유되므로 사용자별 좋아요 여부는 복사본에만 채운다
+     */
+    private Page<CommunityPostDto> withLiked(Page<CommunityPostDto> cards, Long accountId) {
+        if (accountId == null) {
+            return cards;
+        }
+        return new PageImpl<>(withLiked(cards.getContent(), accountId), cards.getPageable(), cards.getTotalElements());
+    }
+
+    private List<CommunityPostDto> withLiked(List<CommunityPostDto> cards, Long accountId) {
+        if (accountId == null || cards.isEmpty()) {
+            return cards;
+        }
+        Collection<Long> ids = cards.stream().map(CommunityPostDto::getId).toList();
+        Set<Long> likedPostIds = postLikeService.findLikedPostIds(accountId, ids);
+        return cards.stream()
+                .map(card -> card.toBuilder().liked(likedPostIds.contains(card.getId())).build())
+                .toList();
+    }
+
+    /**
+     * findFeedPage 행을 카드 조립용 게시글로 변환 (영속 상태 아님)
+     */
+    private static CommunityPost toPost(Object[] row) {
+        return CommunityPost.builder()
+                .id(((Number) row[0]).longValue())
+                .title((String) row[1])
+                .content((String) row[2])
+                .author((String) row[3])
+                .ownerEmail((String) row[4])
+                .category((String) row[5])
+                .boardType((String) row[6])
+                .views(((Number) row[7]).intValue())
+                .likes(((Number) row[8]).intValue())
+                .comments(((Number) row[9]).intValue())
+                .createdAt(toLocalDateTime(row[10]))
+                .updatedAt(toLocalDateTime(row[11]))
+                .sharedFromDiaryId(row[12] != null ? ((Number) row[12]).longValue() : null)
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -3,61 +3,43 @@ package com.my.backend.community.service;
 import com.my.backend.account.entity.Account;
 import com.my.backend.community.dto.CommunityPostDto;
 import com.my.backend.community.entity.CommunityPost;
-import com.my.backend.community.entity.PostView;
+import com.my.backend.community.event.PostModerationRequestedEvent;
+import com.my.backend.community.job.AutoCommentJob;
 import com.my.backend.community.repository.CommunityPostRepository;
-import com.my.backend.community.repository.PostViewRepository;
-import com.my.backend.community.util.EnhancedProfanityFilter;
-import com.my.backend.global.exception.BadWordException;
+import com.my.backend.community.repository.PostLikeRepository;
+import com.my.backend.global.job.service.JobQueueService;
+import com.my.backend.global.outbox.service.OutboxService;
+import com.my.backend.s3.S3ParallelUploadService;
 import com.my.backend.s3.S3Service;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CommunityPostService {
 
     private final CommunityPostRepository postRepository;
-    private final PostViewRepository postViewRepository;
+    private final PostViewCounter postViewCounter;
+    private final TrendingService trendingService;
+    private final PostLikeRepository postLikeRepository;
+    private final CommunityFeedCache feedCache;
     private final S3Service s3Service;
-    private final EnhancedProfanityFilter profanityFilter;
-    private final AutoCommentService autoCommentService;
-
-    // 게시글 전체 조회 (최신순) - 페이징 지원
-    public Page<CommunityPost> getAllPosts(Pageable pageable) {
-        return postRepository.findAll(pageable);
-    }
-
-    // 게시글 boardType별 조회 (최신순) - 페이징 지원
-    public Page<CommunityPost> getPostsByBoardType(String boardType, Pageable pageable) {
-        return postRepository.findByBoardType(boardType, pageable);
-    }
-
-    // 기존 메서드들 (하위 호환성 유지)
-    public List<CommunityPost> getAllPosts() {
-        return postRepository.findAllByOrderByCreatedAtDesc();
-    }
-
-    public List<CommunityPost> getPostsByBoardType(String boardType) {
-        return postRepository.findByBoardTypeOrderByCreatedAtDesc(boardType);
-    }
-
-    // 게시글 상세 조회 (조회 수 증가 포함)
-    public CommunityPost getPostById(Long id) {
-        CommunityPost post = postRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Post not found"));
-        post.setViews(post.getViews() + 1);
-        return postRepository.save(post);
-    }
+    private final S3ParallelUploadService parallelUploadService;
+    private final ContentModerationService moderationService;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final JobQueueService jobQueueService;
 
     // 조회수 증가 없는 게시글 단순 조회
     public CommunityPost findPostById(Long id) {
@@ -66,77 +48,45 @@ public class CommunityPostService {
     }
 
     /**
-     * 조회수 증가 메서드
-     * @param postId 게시글 ID
+     * 조회수 증가 메서드 (중복 제거와 DB 반영은 PostViewCounter 가 메모리에서 처리)
+     * @param post 조회한 게시글
      * @param currentUserEmail 현재 사용자 이메일
      * @param ipAddress 클라이언트 IP 주소
      */
-    public void increaseViewCount(Long postId, String currentUserEmail, String ipAddress) {
-        CommunityPost post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-
-        // 1분 전 시간 계산
-        LocalDateTime oneMinuteAgo = LocalDateTime.now().minusMinutes(1);
-
+    public void increaseViewCount(CommunityPost post, String currentUserEmail, String ipAddress) {
         // 작성자인 경우: 최초 1회만 증가 (조회수가 0일 때만)
-        if (currentUserEmail != null && post.getOwnerEmail().equals(currentUserEmail)) {
-            if (post.getViews() == 0) {
-                post.increaseViews();
-                postRepository.save(post);
-                
-                // 조회 기록 저장
-                PostView postView = PostView.builder()
-                        .postId(postId)
-                        .userEmail(currentUserEmail)
-                        .ipAddress(ipAddress)
-                        .build();
-                postViewRepository.save(postView);
+        if (currentUserEmail != null && currentUserEmail.equals(post.getOwnerEmail())) {
+            if (currentViews(post) == 0 && postViewCounter.record(post.getId(), currentUserEmail, ipAddress)) {
+                trendingService.onView(post.getId(), post.getBoardType());
             }
             return;
         }
 
-        // 로그인한 사용자의 경우: 이메일로 중복 체크
-        if (currentUserEmail != null) {
-            // 최근 1분 내에 같은 사용자가 같은 게시글을 조회했는지 확인
-            if (postViewRepository.findRecentViewByUser(postId, currentUserEmail, oneMinuteAgo).isPresent()) {
-                return; // 중복 조회이므로 조회수 증가하지 않음
-            }
-        } else {
-            // 비로그인 사용자의 경우: IP 주소로 중복 체크
-            if (postViewRepository.findRecentViewByIp(postId, ipAddress, oneMinuteAgo).isPresent()) {
-                return; // 중복 조회이므로 조회수 증가하지 않음
-            }
+        // 로그인 사용자는 이메일, 비로그인 사용자는 IP 기준으로 1분 내 중복 조회 무시
+        if (postViewCounter.record(post.getId(), currentUserEmail, ipAddress)) {
+            trendingService.onView(post.getId(), post.getBoardType());
         }
-
-        // 조회수 증가
-        post.increaseViews();
-        postRepository.save(post);
-
-        // 조회 기록 저장
-        PostView postView = PostView.builder()
-                .postId(postId)
-                .userEmail(currentUserEmail)
-                .ipAddress(ipAddress)
-                .build();
-        postViewRepository.save(postView);
     }
 
+    /**
+     * DB 값 + 아직 반영되지 않은 조회수
+     */
+    public long currentViews(CommunityPost post) {
+        return post.getViews() + postViewCounter.pendingViews(post.getId());
+    }
 
-
-    // 게시글 생성
+    /**
+     * 게시글 생성
+     * 검수(외부 API)와 이미지 업로드는 트랜잭션 밖에서 먼저 끝내고, DB 쓰기만 짧은 트랜잭션으로 묶는다.
+     * 이미지는 동시에 올리므로 전체 시간은 가장 느린 업로드 하나 정도다.
+     * 비동기 검수 모드면 게시 후 아웃박스 이벤트로 사후 검수한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CommunityPostDto createPost(CommunityPostDto dto, List<MultipartFile> imgs, Account account) throws IOException {
-        // 비속어 필터링 체크
-        if (profanityFilter.containsProfanity(dto.getTitle()) || profanityFilter.containsProfanity(dto.getContent())) {
-            throw new BadWordException("🚫 비속어를 사용하지 말아주세요.");
-        }
+        // 비속어 필터링 체크 (사전 검수)
+        moderationService.checkBeforeWrite(dto.getTitle(), dto.getContent());
 
-        List<String> imageUrls = new ArrayList<>();
-        if (imgs != null && !imgs.isEmpty()) {
-            for (MultipartFile file : imgs) {
-                String uploadedUrl = s3Service.uploadFile(file);
-                imageUrls.add(uploadedUrl);
-            }
-        }
+        List<String> imageUrls = parallelUploadService.uploadFiles(imgs);
         dto.setImages(imageUrls);
 
         CommunityPost post = CommunityPost.builder()
@@ -154,15 +104,21 @@ public class CommunityPostService {
                 .comments(0)
                 .build();
 
-        CommunityPost savedPost = postRepository.save(post);
-
-        // 자동 댓글 생성 (비동기로 처리하여 게시글 작성 속도에 영향 없도록)
+        CommunityPost savedPost;
         try {
-            autoCommentService.createAutoComment(savedPost.getId());
-        } catch (Exception e) {
-            // 자동 댓글 생성 실패는 로그만 남기고 게시글 작성은 계속 진행
-            System.err.println("자동 댓글 생성 실패: " + e.getMessage());
+            savedPost = transactionTemplate.execute(status -> {
+                CommunityPost saved = postRepository.save(post);
+                requestModerationIfAsync(saved.getId());
+                // 자동 댓글은 게시글과 같은 트랜잭션에 작업으로만 등록하고 워커가 처리한다
+                jobQueueService.enqueue(AutoCommentJob.TYPE, new AutoCommentJob(saved.getId()));
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            // 게시글 저장이 실패하면 미리 올린 이미지를 지운다
+            deleteImagesQuietly(imageUrls);
+            throw e;
         }
+        feedCache.evictAll();
 
         return CommunityPostDto.builder()
                 .id(savedPost.getId())
@@ -183,33 +139,41 @@ public class CommunityPostService {
                 .build();
     }
 
-    // 게시글 수정
+    // 게시글 수정 (검수와 새 이미지 업로드는 트랜잭션 밖에서 먼저, 지운 이미지는 커밋 후 일괄 삭제)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CommunityPost updatePost(Long id, CommunityPostDto dto, List<MultipartFile> imgs) throws IOException {
-        // 비속어 필터링 체크
-        if (profanityFilter.containsProfanity(dto.getTitle()) || profanityFilter.containsProfanity(dto.getContent())) {
-            throw new BadWordException("🚫 비속어를 사용하지 말아주세요.");
+        // 비속어 필터링 체크 (사전 검수)
+        moderationService.checkBeforeWrite(dto.getTitle(), dto.getContent());
+
+        // 새 이미지 업로드 (동시에)
+        List<String> uploadedUrls = parallelUploadService.uploadFiles(imgs);
+
+        CommunityPost updated;
+        try {
+            updated = transactionTemplate.execute(status -> applyUpdate(id, dto, uploadedUrls));
+        } catch (RuntimeException e) {
+            deleteImagesQuietly(uploadedUrls);
+            throw e;
         }
+        feedCache.evictAll();
+        deleteImagesQuietly(dto.getImagesToDelete());
+        return updated;
+    }
 
+    private CommunityPost applyUpdate(Long id, CommunityPostDto dto, List<String> uploadedUrls) {
         CommunityPost post = findPostById(id);
 
         // 기존 이미지 리스트 불러오기
         List<String> imageUrls = post.getImages() != null ? new ArrayList<>(post.getImages()) : new ArrayList<>();
 
-        // 삭제할 이미지 처리
+        // 삭제할 이미지 처리 (S3 객체는 커밋 후 updatePost 에서 지운다)
         if (dto.getImagesToDelete() != null && !dto.getImagesToDelete().isEmpty()) {
             for (String fileName : dto.getImagesToDelete()) {
-                s3Service.deleteFile(fileName);
                 imageUrls.removeIf(url -> url.contains(fileName));
             }
         }
 
-        // 새 이미지 업로드
-        if (imgs != null && !imgs.isEmpty()) {
-            for (MultipartFile file : imgs) {
-                String uploadedUrl = s3Service.uploadFile(file);
-                imageUrls.add(uploadedUrl);
-            }
-        }
+        imageUrls.addAll(uploadedUrls);
 
         // 게시글 기본 필드 수정
         post.setTitle(dto.getTitle());
@@ -217,44 +181,44 @@ public class CommunityPostService {
         post.setCategory(dto.getCategory());
         post.setTags(dto.getTags());
         post.setImages(imageUrls);
+        post.refreshSearchDocument();
 
-        return postRepository.save(post);
+        CommunityPost updated = postRepository.save(post);
+        requestModerationIfAsync(updated.getId());
+        return updated;
     }
 
-    // 게시글 삭제
+    private void requestModerationIfAsync(Long postId) {
+        if (moderationService.isAsync()) {
+            outboxService.append(PostModerationRequestedEvent.TYPE, postId, new PostModerationRequestedEvent(postId));
+        }
+    }
+
+    // 게시글 삭제 (DB 삭제를 커밋한 뒤 이미지는 DeleteObjects 한 번으로 지운다)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deletePost(Long id) {
-        CommunityPost post = findPostById(id);
+        List<String> images = transactionTemplate.execute(status -> {
+            CommunityPost post = findPostById(id);
+            List<String> postImages = post.getImages() != null ? new ArrayList<>(post.getImages()) : new ArrayList<>();
+            postLikeRepository.deleteByPostId(id);
+            postRepository.delete(post);
+            return postImages;
+        });
+        trendingService.remove(id);
+        feedCache.evictAll();
+        deleteImagesQuietly(images);
+    }
 
-        if (post.getImages() != null && !post.getImages().isEmpty()) {
-            for (String imageUrl : post.getImages()) {
-                s3Service.deleteFile(imageUrl);
-            }
+    // 게시글 처리는 이미 끝났으므로 이미지 삭제 실패는 기록만 한다
+    private void deleteImagesQuietly(List<String> imageUrls) {
+        try {
+            s3Service.deleteFiles(imageUrls);
+        } catch (RuntimeException e) {
+            log.warn("게시글 이미지 삭제 실패: {}", e.getMessage());
         }
-
-        postRepository.delete(post);
     }
 
     public CommunityPost save(CommunityPost post) {
         return postRepository.save(post);
     }
-    
-    // 검색 기능
-    public Page<CommunityPost> searchPosts(String keyword, String category, Pageable pageable) {
-        if (keyword == null || keyword.isBlank()) {
-            if (category == null || category.isBlank()) {
-                return postRepository.findAll(pageable);
-            } else {
-                return postRepository.findByBoardType(category, pageable);
-            }
-        } else {
-            if (category == null || category.isBlank()) {
-                return postRepository
-                    .findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword, pageable);
-            } else {
-                return postRepository
-                    .findByBoardTypeAndTitleContainingIgnoreCaseOrBoardTypeAndContentContainingIgnoreCase(
-                        category, keyword, category, keyword, pageable);
-            }
-        }
-    }
 }
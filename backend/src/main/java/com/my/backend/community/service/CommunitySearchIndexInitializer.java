@@ -0,0 +1,55 @@
+package com.my.backend.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 커뮤니티 검색용 DB 객체 준비 (JPA ddl-auto 로 만들 수 없는 것들, 모두 재실행 가능)
+ * - pg_trgm 확장
+ * - search_vector: search_document 기반 tsvector 생성 컬럼 (제목 가중치 A, 나머지 B)
+ * - GIN 인덱스 2개 (tsvector, trigram)
+ * - 기존 게시글의 search_document 채우기
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommunitySearchIndexInitializer implements CommandLineRunner {
+
+    private static final List<String> DDL = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "ALTER TABLE community_posts ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+                    "GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('simple', coalesce(lower(title), '')), 'A') || " +
+                    "setweight(to_tsvector('simple', coalesce(search_document, '')), 'B')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_community_posts_search_vector " +
+                    "ON community_posts USING GIN (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_community_posts_search_trgm " +
+                    "ON community_posts USING GIN (search_document gin_trgm_ops)"
+    );
+
+    private static final String BACKFILL =
+            "UPDATE community_posts p SET search_document = lower(concat_ws(' ', p.title, p.content, " +
+                    "(SELECT string_agg(t.tag, ' ') FROM post_tags t WHERE t.post_id = p.id))) " +
+                    "WHERE p.search_document IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            DDL.forEach(jdbcTemplate::execute);
+            int backfilled = jdbcTemplate.update(BACKFILL);
+            if (backfilled > 0) {
+                log.info("커뮤니티 검색 문서 백필: {}건", backfilled);
+            }
+        } catch (Exception e) {
+            // 검색 인덱스 준비 실패가 서버 기동을 막지는 않도록 로그만 남긴다
+            log.error("커뮤니티 검색 인덱스 준비 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.my.backend.community.service;
+
+import com.my.backend.community.dto.CommunityPostDto;
+import com.my.backend.community.dto.CommunitySearchResultDto;
+import com.my.backend.community.entity.CommunityPost;
+import com.my.backend.community.repository.CommunityPostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커뮤니티 게시글 검색
+ * - 후보는 search_vector(tsvector, 단어 단위) 또는 search_document trigram 인덱스(부분 문자열)로 찾는다.
+ * - 관련도 = ts_rank + word_similarity, 관련도순 결과는 (점수, id) 키셋으로 페이징한다.
+ * 'simple' 사전은 형태소 분석을 하지 않으므로 한국어 조사 붙은 단어는 trigram 쪽에서 잡힌다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommunitySearchService {
+
+    private static final int MAX_SIZE = 50;
+    private static final int SNIPPET_RADIUS = 60;
+
+    private final CommunityPostRepository postRepository;
+    private final CommunityFeedService feedService;
+
+    /**
+     * 최신순 검색 (기존 페이지 번호 방식 API 유지)
+     */
+    public Page<CommunityPostDto> searchLatest(String keyword, String category, int page, int size, Long accountId) {
+        String normalized = normalizeKeyword(keyword);
+        String boardType = normalize(category);
+        if (normalized == null) {
+            return feedService.getFeed(boardType, page, size, accountId);
+        }
+        Page<CommunityPost> posts = postRepository.searchLatest(normalized, likePattern(normalized), boardType,
+                PageRequest.of(page, size));
+        return feedService.toCardPage(posts, accountId);
+    }
+
+    /**
+     * 관련도순 검색 (키셋 페이징)
+     */
+    public CommunitySearchResultDto searchRanked(String keyword, String category, int size, String cursor, Long accountId) {
+        String normalized = normalizeKeyword(keyword);
+        if (normalized == null) {
+            return CommunitySearchResultDto.builder().items(List.of()).build();
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        Double cursorScore = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_", 2);
+            try {
+                cursorScore = Double.valueOf(parts[0]);
+                cursorId = Long.valueOf(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 검색 커서입니다: " + cursor);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<Object[]> rows = postRepository.searchRanked(normalized, likePattern(normalized), normalize(category),
+                cursorScore, cursorId, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) {
+            rows = rows.subList(0, limit);
+        }
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        Map<Long, Double> scores = new HashMap<>();
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            ids.add(id);
+            scores.put(id, ((Number) row[1]).doubleValue());
+        }
+        Map<Long, CommunityPostDto> cards = feedService.getCards(ids, accountId).stream()
+                .collect(Collectors.toMap(CommunityPostDto::getId, Function.identity()));
+
+        List<CommunitySearchResultDto.Hit> hits = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            CommunityPostDto card = cards.get(id);
+            if (card == null) {
+                continue;
+            }
+            hits.add(CommunitySearchResultDto.Hit.builder()
+                    .post(card)
+                    .snippet(snippet(card.getContent(), normalized))
+                    .score(scores.get(id))
+                    .build());
+        }
+
+        String nextCursor = null;
+        if (hasNext && !ids.isEmpty()) {
+            Long lastId = ids.get(ids.size() - 1);
+            nextCursor = scores.get(lastId) + "_" + lastId;
+        }
+        return CommunitySearchResultDto.builder().items(hits).nextCursor(nextCursor).build();
+    }
+
+    /**
+     * 검색어 주변 본문을 잘라 검색어를 강조 (본문에 없으면 앞부분)
+     */
+    private static String snippet(String content, String keyword) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+        int index = indexOfIgnoreCase(content, keyword);
+        if (index < 0) {
+            String head = content.length() > SNIPPET_RADIUS * 2 ? content.substring(0, SNIPPET_RADIUS * 2) + "…" : content;
+            return HtmlUtils.htmlEscape(head);
+        }
+        int start = Math.max(0, index - SNIPPET_RADIUS);
+        int end = Math.min(content.length(), index + keyword.length() + SNIPPET_RADIUS);
+        return (start > 0 ? "…" : "")
+                + HtmlUtils.htmlEscape(content.substring(start, index))
+                + "<mark>" + HtmlUtils.htmlEscape(content.substring(index, index + keyword.length())) + "</mark>"
+                + HtmlUtils.htmlEscape(content.substring(index + keyword.length(), end))
+                + (end < content.length() ? "…" : "");
+    }
+
+    /**
+     * 원본 문자열 기준 위치로 대소문자 무시 검색
+     * (toLowerCase 결과로 찾으면 'İ' 처럼 길이가 바뀌는 문자 때문에 원본과 위치가 어긋난다)
+     */
+    private static int indexOfIgnoreCase(String content, String keyword) {
+        for (int i = 0; i + keyword.length() <= content.length(); i++) {
+            if (content.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    // search_document 가 소문자로 저장되므로 검색어도 소문자로 맞춘다
+    private static String normalizeKeyword(String keyword) {
+        String normalized = normalize(keyword);
+        return normalized == null ? null : normalized.toLowerCase(Locale.ROOT);
+    }
+
+    private static String likePattern(String keyword) {
+        String escaped = keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,155 @@
+package com.my.backend.community.service;
+
+import com.my.backend.community.util.EnhancedProfanityFilter;
+import com.my.backend.global.cache.LocalCache;
+import com.my.backend.global.exception.BadWordException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 커뮤니티 글/댓글 검수
+ * - 1단계 사전 검사는 항상 동기로 처리한다. (비용이 입력 길이에 선형)
+ * - 2단계 OpenAI Moderation 은 제목/본문을 배열 한 번으로 요청하고, 판정은 내용 해시(SHA-256)로 캐시한다.
+ * - mode=sync: 쓰기 전에 판정 (API 실패 시 통과, 기존 동작 유지)
+ *   mode=async: 먼저 게시하고 아웃박스로 나중에 판정해서 부적절하면 게시글/댓글을 숨긴다.
+ * 외부 호출은 DB 트랜잭션 밖에서 하도록 호출하는 쪽에서 보장한다.
+ */
+@Slf4j
+@Service
+public class ContentModerationService {
+
+    public static final String BAD_WORD_MESSAGE = "🚫 비속어를 사용하지 말아주세요.";
+    public static final String CACHE_NAME = "moderationVerdict";
+
+    public enum Mode {
+        SYNC, ASYNC
+    }
+
+    private final EnhancedProfanityFilter profanityFilter;
+    private final OpenAiModerationClient moderationClient;
+    private final LocalCache<String, Boolean> verdictCache;
+    private final Mode mode;
+    private final int maxBatchSize;
+
+    public ContentModerationService(EnhancedProfanityFilter profanityFilter,
+                                    OpenAiModerationClient moderationClient,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${community.moderation.mode:sync}") String mode,
+                                    @Value("${community.moderation.max-batch-size:32}") int maxBatchSize,
+                                    @Value("${cache.moderation.max-entries:50000}") int cacheMaxEntries,
+                                    @Value("${cache.moderation.ttl-seconds:86400}") long cacheTtlSeconds) {
+        this.profanityFilter = profanityFilter;
+        this.moderationClient = moderationClient;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.maxBatchSize = maxBatchSize;
+        this.verdictCache = new LocalCache<String, Boolean>(CACHE_NAME, cacheMaxEntries,
+                Duration.ofSeconds(cacheTtlSeconds), Function.identity(), verdict -> 120L)
+                .bindTo(meterRegistry);
+    }
+
+    public boolean isAsync() {
+        return mode == Mode.ASYNC;
+    }
+
+    /**
+     * 쓰기 전 검수: 사전 검사 + (동기 모드면) AI 판정
+     * @throws BadWordException 부적절한 내용이 있으면
+     */
+    public void checkBeforeWrite(String... texts) {
+        for (String text : texts) {
+            if (profanityFilter.containsProfanity(text)) {
+                log.info("사전 필터에서 비속어 감지");
+                throw new BadWordException(BAD_WORD_MESSAGE);
+            }
+        }
+        if (mode == Mode.SYNC && isFlaggedOrPass(Arrays.asList(texts))) {
+            log.info("OpenAI Moderation 에서 부적절한 내용 감지");
+            throw new BadWordException(BAD_WORD_MESSAGE);
+        }
+    }
+
+    /**
+     * AI 판정 (입력 순서대로). 캐시에 없는 내용만 모아서 요청한다.
+     * API 키가 없으면 모두 false, 호출 실패 시 예외.
+     */
+    public List<Boolean> classify(List<String> texts) {
+        List<Boolean> verdicts = new ArrayList<>(texts.size());
+        Map<String, String> missing = new LinkedHashMap<>();
+        List<String> hashes = new ArrayList<>(texts.size());
+
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                hashes.add(null);
+                verdicts.add(false);
+                continue;
+            }
+            String hash = hash(text);
+            hashes.add(hash);
+            Boolean cached = verdictCache.get(hash);
+            verdicts.add(cached);
+            if (cached == null) {
+                missing.putIfAbsent(hash, text);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            if (!moderationClient.isEnabled()) {
+                log.warn("OpenAI API 키가 설정되지 않아 사전 필터만 사용");
+                return verdicts.stream().map(v -> v != null && v).toList();
+            }
+            List<String> missingHashes = new ArrayList<>(missing.keySet());
+            List<String> missingTexts = new ArrayList<>(missing.values());
+            Map<String, Boolean> fresh = new HashMap<>();
+            for (int from = 0; from < missingTexts.size(); from += maxBatchSize) {
+                int to = Math.min(missingTexts.size(), from + maxBatchSize);
+                List<Boolean> result = moderationClient.classify(missingTexts.subList(from, to));
+                for (int i = 0; i < result.size(); i++) {
+                    String hash = missingHashes.get(from + i);
+                    fresh.put(hash, result.get(i));
+                    verdictCache.put(hash, result.get(i));
+                }
+            }
+            for (int i = 0; i < verdicts.size(); i++) {
+                if (verdicts.get(i) == null) {
+                    verdicts.set(i, fresh.get(hashes.get(i)));
+                }
+            }
+        }
+        return verdicts;
+    }
+
+    private boolean isFlaggedOrPass(List<String> texts) {
+        try {
+            return classify(texts).contains(Boolean.TRUE);
+        } catch (Exception e) {
+            // 외부 API 장애가 글쓰기를 막지 않도록 사전 필터 결과만으로 통과
+            log.warn("OpenAI Moderation API 호출 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.my.backend.community.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAI Moderation API 호출 (여러 텍스트를 배열 한 번으로 요청)
+ * 공용 moderationRestTemplate(짧은 타임아웃, 커넥션 재사용)을 사용한다.
+ */
+@Slf4j
+@Component
+public class OpenAiModerationClient {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${openai.api.key:}")
+    private String openaiApiKey;
+
+    @Value("${openai.moderation.url:https://api.openai.com/v1/moderations}")
+    private String moderationUrl;
+
+    @Value("${openai.moderation.model:text-moderation-latest}")
+    private String moderationModel;
+
+    // harassment / hate 점수가 이 값을 넘으면 flagged 가 아니어도 부적절로 본다
+    @Value("${openai.moderation.score-threshold:0.3}")
+    private double scoreThreshold;
+
+    public OpenAiModerationClient(@Qualifier("moderationRestTemplate") RestTemplate restTemplate,
+                                  ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean isEnabled() {
+        return openaiApiKey != null && !openaiApiKey.trim().isEmpty();
+    }
+
+    /**
+     * 입력 순서대로 부적절 여부 반환
+     * 호출 실패 시 예외를 던진다. (폴백 여부는 호출하는 쪽에서 결정)
+     */
+    public List<Boolean> classify(List<String> inputs) {
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(openaiApiKey);
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(
+                Map.of("input", inputs, "model", moderationModel), headers);
+
+        try {
+            String response = restTemplate.postForObject(moderationUrl, request, String.class);
+            JsonNode results = objectMapper.readTree(response).path("results");
+            if (!results.isArray() || results.size() != inputs.size()) {
+                throw new IllegalStateException("Moderation 응답 개수 불일치: expected=" + inputs.size()
+                        + ", actual=" + results.size());
+            }
+
+            List<Boolean> verdicts = new ArrayList<>(inputs.size());
+            for (JsonNode result : results) {
+                boolean flagged = result.path("flagged").asBoolean();
+                JsonNode scores = result.path("category_scores");
+                double harassment = scores.path("harassment").asDouble(0.0);
+                double hate = scores.path("hate").asDouble(0.0);
+                verdicts.add(flagged || harassment > scoreThreshold || hate > scoreThreshold);
+            }
+            log.debug("Moderation 판정: inputs={}, flagged={}", inputs.size(), verdicts.stream().filter(v -> v).count());
+            return verdicts;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Moderation 응답 처리 실패: " + e.getMessage(), e);
+        }
+    }
+}
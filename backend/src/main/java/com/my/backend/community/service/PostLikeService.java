@@ -0,0 +1,93 @@
+package com.my.backend.community.service;
+
+import com.my.backend.community.repository.CommunityPostRepository;
+import com.my.backend.community.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 게시글 좋아요
+ * - 사용자별 좋아요 행(post_likes)으로 중복/토글을 판단하고, 실제로 상태가 바뀐 경우에만 카운트를 원자적으로 증감한다.
+ * - 게시글 엔티티를 읽거나 저장하지 않으므로 동시 요청에도 카운트가 유실되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final CommunityPostRepository postRepository;
+    private final TrendingService trendingService;
+
+    public record LikeResult(boolean liked, int likes) {
+    }
+
+    /**
+     * 좋아요 (이미 좋아요한 상태면 변화 없음)
+     */
+    @Transactional
+    public LikeResult like(Long postId, Long accountId) {
+        if (postLikeRepository.insertIfAbsent(postId, accountId, LocalDateTime.now()) == 0) {
+            return new LikeResult(true, currentLikes(postId));
+        }
+        if (postRepository.addLikes(postId, 1) == 0) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+        trendingService.onLike(postId, true);
+        return new LikeResult(true, currentLikes(postId));
+    }
+
+    /**
+     * 좋아요 취소 (좋아요하지 않은 상태면 변화 없음)
+     */
+    @Transactional
+    public LikeResult unlike(Long postId, Long accountId) {
+        if (postLikeRepository.deleteByPostIdAndAccountId(postId, accountId) == 0) {
+            return new LikeResult(false, currentLikes(postId));
+        }
+        if (postRepository.addLikes(postId, -1) == 0) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+        trendingService.onLike(postId, false);
+        return new LikeResult(false, currentLikes(postId));
+    }
+
+    /**
+     * 좋아요 토글
+     */
+    @Transactional
+    public LikeResult toggle(Long postId, Long accountId) {
+        if (postLikeRepository.existsByPostIdAndAccountId(postId, accountId)) {
+            return unlike(postId, accountId);
+        }
+        return like(postId, accountId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isLiked(Long postId, Long accountId) {
+        return accountId != null && postLikeRepository.existsByPostIdAndAccountId(postId, accountId);
+    }
+
+    /**
+     * 목록 화면용: 한 페이지 게시글의 좋아요 여부를 쿼리 한 번으로 조회
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedPostIds(Long accountId, Collection<Long> postIds) {
+        if (accountId == null || postIds == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(postLikeRepository.findLikedPostIds(accountId, postIds));
+    }
+
+    private int currentLikes(Long postId) {
+        return postRepository.findLikesById(postId)
+                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,188 @@
+package com.my.backend.community.service;
+
+import com.my.backend.community.util.ViewDedupeWindow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 집계
+ * - (게시글, 이메일 또는 IP) 중복 제거는 메모리의 시간 버킷에서 처리한다. (DB 조회 없음)
+ * - 인정된 조회는 게시글별 LongAdder 에 쌓고, 주기적으로 views = views + ? 배치 UPDATE 로 반영한다.
+ *   같은 트랜잭션에서 post_view_hourly 시간별 집계에도 더한다. (반영 시각의 정시 기준)
+ * - post_views 감사 로그는 샘플링 비율만큼만 모아서 배치 INSERT 한다. (0 이면 기록 안 함)
+ * 인스턴스별 메모리 상태라 노드가 여러 대면 노드마다 중복 제거가 따로 동작한다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE community_posts SET views = views + ? WHERE id = ?";
+    private static final String HOURLY_SQL =
+            "INSERT INTO post_view_hourly (post_id, hour_start, views) VALUES (?, ?, ?) " +
+                    "ON CONFLICT (post_id, hour_start) DO UPDATE SET views = post_view_hourly.views + EXCLUDED.views";
+    private static final String AUDIT_SQL =
+            "INSERT INTO post_views (post_id, user_email, ip_address, viewed_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ViewDedupeWindow dedupeWindow;
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<AuditRow> auditQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger auditQueueSize = new AtomicInteger();
+    private final double auditSampleRate;
+    private final int auditMaxQueue;
+
+    private final Counter countedViews;
+    private final Counter dedupedViews;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${community.views.dedupe-seconds:60}") long dedupeSeconds,
+                           @Value("${community.views.dedupe-max-keys:200000}") int dedupeMaxKeys,
+                           @Value("${community.views.audit-sample-rate:0.01}") double auditSampleRate,
+                           @Value("${community.views.audit-max-queue:10000}") int auditMaxQueue) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.dedupeWindow = new ViewDedupeWindow(dedupeSeconds * 1000L, dedupeMaxKeys);
+        this.auditSampleRate = auditSampleRate;
+        this.auditMaxQueue = auditMaxQueue;
+
+        this.countedViews = Counter.builder("community.views").tag("result", "counted").register(meterRegistry);
+        this.dedupedViews = Counter.builder("community.views").tag("result", "deduped").register(meterRegistry);
+        Gauge.builder("community.views.pending.posts", pending, Map::size).register(meterRegistry);
+        Gauge.builder("community.views.dedupe.keys", dedupeWindow, ViewDedupeWindow::size).register(meterRegistry);
+    }
+
+    /**
+     * 조회 기록 시도
+     * @return 중복이 아니어서 조회수에 반영될 예정이면 true
+     */
+    public boolean record(Long postId, String userEmail, String ipAddress) {
+        String viewer = userEmail != null ? "u:" + userEmail : "ip:" + ipAddress;
+        if (!dedupeWindow.firstSeen(postId + "|" + viewer)) {
+            dedupedViews.increment();
+            return false;
+        }
+        increment(postId);
+        sampleAudit(postId, userEmail, ipAddress);
+        return true;
+    }
+
+    private void increment(Long postId) {
+        add(postId, 1);
+        countedViews.increment();
+    }
+
+    /**
+     * 가산은 compute 안에서 해서 flush 가 꺼낸(remove) 카운터에는 더 이상 더해지지 않게 한다
+     */
+    private void add(Long postId, long delta) {
+        pending.compute(postId, (id, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 (상세 화면 표시용)
+     */
+    public long pendingViews(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 조회수를 배치 UPDATE 로 반영하고 시간별 집계에 더한다
+     * 실패하면 차감분을 다시 쌓아서 다음 주기에 재시도한다.
+     */
+    @Scheduled(fixedDelayString = "${community.views.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long postId : pending.keySet()) {
+            // 카운터를 통째로 꺼낸 뒤 합산 (이후 조회는 새 카운터에 쌓이므로 유실 없음)
+            LongAdder adder = pending.remove(postId);
+            long delta = adder != null ? adder.sum() : 0L;
+            if (delta > 0) {
+                batch.add(new Object[]{delta, postId});
+            }
+        }
+        if (!batch.isEmpty()) {
+            try {
+                Timestamp hourStart = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+                List<Object[]> hourly = batch.stream()
+                        .map(row -> new Object[]{row[1], hourStart, row[0]})
+                        .toList();
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                    jdbcTemplate.batchUpdate(HOURLY_SQL, hourly);
+                });
+                log.debug("조회수 반영: posts={}", batch.size());
+            } catch (Exception e) {
+                log.warn("조회수 반영 실패, 다음 주기에 재시도: posts={}, error={}", batch.size(), e.getMessage());
+                for (Object[] row : batch) {
+                    add((Long) row[1], (Long) row[0]);
+                }
+            }
+        }
+        flushAudit();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void sampleAudit(Long postId, String userEmail, String ipAddress) {
+        if (auditSampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= auditSampleRate) {
+            return;
+        }
+        if (auditQueueSize.incrementAndGet() > auditMaxQueue) {
+            auditQueueSize.decrementAndGet();
+            return;
+        }
+        auditQueue.add(new AuditRow(postId, userEmail, ipAddress, LocalDateTime.now()));
+    }
+
+    private void flushAudit() {
+        List<Object[]> rows = new ArrayList<>();
+        AuditRow row;
+        while ((row = auditQueue.poll()) != null) {
+            auditQueueSize.decrementAndGet();
+            rows.add(new Object[]{row.postId(), row.userEmail(), row.ipAddress(), Timestamp.valueOf(row.viewedAt())});
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(AUDIT_SQL, rows);
+        } catch (Exception e) {
+            // 감사 로그는 샘플이므로 실패 시 버린다
+            log.warn("조회 감사 로그 저장 실패: rows={}, error={}", rows.size(), e.getMessage());
+        }
+    }
+
+    private record AuditRow(Long postId, String userEmail, String ipAddress, LocalDateTime viewedAt) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.my.backend.community.service;
+
+import com.my.backend.community.repository.PostViewHourlyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * post_views 조회 감사 로그의 일 단위 파티션 관리 (JPA ddl-auto 로 만들 수 없으므로 직접 관리, 모두 재실행 가능)
+ * - post_views 는 viewed_at 기준 RANGE 파티션 테이블이고, 하루에 파티션 하나 (post_views_pYYYYMMDD)
+ * - 오늘부터 며칠 앞까지 파티션을 미리 만들어 둔다.
+ * - 보관 기간이 지난 파티션은 DROP 한다. (DELETE 없이 즉시 정리되어 vacuum 부담이 없다)
+ * - 예전 일반 테이블이 남아 있으면 보관 기간 안의 행만 옮기고 교체한다.
+ * - post_view_hourly 집계도 보관 기간이 지나면 정리한다.
+ */
+@Service
+@Slf4j
+public class PostViewPartitionManager implements CommandLineRunner {
+
+    private static final String TABLE = "post_views";
+    private static final String PARTITION_PREFIX = "post_views_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final List<String> DDL = List.of(
+            "CREATE SEQUENCE IF NOT EXISTS post_views_log_seq",
+            "CREATE TABLE IF NOT EXISTS post_views (" +
+                    "id BIGINT NOT NULL DEFAULT nextval('post_views_log_seq'), " +
+                    "post_id BIGINT NOT NULL, " +
+                    "user_email VARCHAR(255), " +
+                    "ip_address VARCHAR(255), " +
+                    "viewed_at TIMESTAMP NOT NULL, " +
+                    "CONSTRAINT pk_post_views_log PRIMARY KEY (id, viewed_at)" +
+                    ") PARTITION BY RANGE (viewed_at)",
+            // 게시글별 최근 조회자 확인이 인덱스만으로 끝나도록 조회자 컬럼을 포함
+            "CREATE INDEX IF NOT EXISTS idx_post_views_post_viewed " +
+                    "ON post_views (post_id, viewed_at) INCLUDE (user_email, ip_address)"
+    );
+
+    private static final String RELKIND_SQL =
+            "SELECT c.relkind FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                    "WHERE c.relname = ? AND n.nspname = current_schema()";
+
+    private static final String PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i " +
+                    "JOIN pg_class c ON c.oid = i.inhrelid " +
+                    "JOIN pg_class p ON p.oid = i.inhparent " +
+                    "WHERE p.relname = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostViewHourlyRepository hourlyRepository;
+
+    private final int retentionDays;
+    private final int precreateDays;
+    private final int hourlyRetentionDays;
+
+    public PostViewPartitionManager(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    PostViewHourlyRepository hourlyRepository,
+                                    @Value("${community.views.log-retention-days:30}") int retentionDays,
+                                    @Value("${community.views.log-precreate-days:3}") int precreateDays,
+                                    @Value("${community.views.hourly-retention-days:180}") int hourlyRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.hourlyRepository = hourlyRepository;
+        this.retentionDays = retentionDays;
+        this.precreateDays = precreateDays;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+    }
+
+    @Override
+    public void run(String... args) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                String legacy = migrateLegacyTable();
+                DDL.forEach(jdbcTemplate::execute);
+                if (legacy != null) {
+                    copyLegacyRows(legacy);
+                }
+            });
+            maintain();
+        } catch (Exception e) {
+            // 감사 로그 준비 실패가 서버 기동을 막지는 않도록 로그만 남긴다 (감사 로그 INSERT 는 실패해도 무시됨)
+            log.error("post_views 파티션 준비 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파티션 미리 만들기 + 보관 기간 지난 파티션/집계 정리 (매일 00:10)
+     */
+    @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul")
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i <= precreateDays; i++) {
+            createPartition(today.plusDays(i));
+        }
+        dropExpiredPartitions(today.minusDays(retentionDays));
+
+        Integer deleted = transactionTemplate.execute(status ->
+                hourlyRepository.deleteByHourStartBefore(today.minusDays(hourlyRetentionDays).atStartOfDay()));
+        if (deleted != null && deleted > 0) {
+            log.info("시간별 조회수 집계 정리: {}건", deleted);
+        }
+    }
+
+    private void createPartition(LocalDate day) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day) + " PARTITION OF " + TABLE +
+                " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+    }
+
+    private void dropExpiredPartitions(LocalDate cutoff) {
+        for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, TABLE)) {
+            LocalDate day = partitionDay(partition);
+            if (day != null && day.isBefore(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("보관 기간 지난 조회 로그 파티션 삭제: {}", partition);
+            }
+        }
+    }
+
+    /**
+     * 파티션 테이블이 아닌 예전 post_views 가 있으면 이름을 바꿔 두고 그 이름을 반환
+     */
+    private String migrateLegacyTable() {
+        List<String> relkind = jdbcTemplate.queryForList(RELKIND_SQL, String.class, TABLE);
+        if (relkind.isEmpty() || !"r".equals(relkind.get(0))) {
+            return null;
+        }
+        String legacy = TABLE + "_legacy";
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + legacy);
+        log.info("기존 post_views 테이블을 파티션 테이블로 교체합니다.");
+        return legacy;
+    }
+
+    private void copyLegacyRows(String legacy) {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        List<Date> days = jdbcTemplate.queryForList(
+                "SELECT DISTINCT CAST(viewed_at AS date) FROM " + legacy + " WHERE viewed_at >= ? AND post_id IS NOT NULL",
+                Date.class, Timestamp.valueOf(cutoff.atStartOfDay()));
+        days.forEach(day -> createPartition(day.toLocalDate()));
+        int copied = jdbcTemplate.update(
+                "INSERT INTO " + TABLE + " (post_id, user_email, ip_address, viewed_at) " +
+                        "SELECT post_id, user_email, ip_address, viewed_at FROM " + legacy +
+                        " WHERE viewed_at >= ? AND post_id IS NOT NULL",
+                Timestamp.valueOf(cutoff.atStartOfDay()));
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+        log.info("기존 조회 로그 이전 완료: {}건 (보관 기간 {}일 이전 행은 삭제)", copied, retentionDays);
+    }
+
+    private static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+    }
+
+    private static LocalDate partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.my.backend.community.service;
+
+import com.my.backend.community.entity.PostTrendingScore;
+import com.my.backend.community.repository.CommunityPostRepository;
+import com.my.backend.community.repository.PostTrendingScoreRepository;
+import com.my.backend.community.util.DecayingScoreBoard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기글(hot) 순위 엔진
+ * - 조회/좋아요/댓글 이벤트마다 게시글 점수를 지수 감쇠 점수판에 더한다. (DB 조회 없음)
+ * - 주기적으로 boardType 별 상위 K 개를 힙으로 뽑아 불변 목록으로 교체하고, 조회는 이 목록만 읽는다.
+ * - 점수는 트랜잭션이 커밋된 뒤에만 더한다. (롤백된 좋아요/댓글이 순위에 남지 않게)
+ * - 스냅샷은 지난 스냅샷 이후 이 노드가 더한 증분만 게시글별로 upsert 한다. 저장된 점수를 감쇠시킨 뒤 더하므로
+ *   여러 노드가 동시에 저장해도 서로 덮어쓰지 않고 합쳐진다. 기동 시에는 이 합계를 복원한다.
+ * 순위 자체는 노드별 메모리 상태라 다른 노드가 받은 이벤트는 재기동 때 복원한 만큼만 반영된다.
+ */
+@Slf4j
+@Service
+public class TrendingService implements CommandLineRunner {
+
+    private static final String ALL_BOARDS = "*";
+    // 기존 점수를 snapshot_at 기준으로 감쇠시킨 뒤 증분을 더한다 (0 아래로는 내려가지 않음)
+    private static final String SNAPSHOT_UPSERT_SQL =
+            "INSERT INTO post_trending_scores (post_id, board_type, score, snapshot_at) VALUES (?, ?, GREATEST(?, 0), ?) " +
+            "ON CONFLICT (post_id) DO UPDATE SET " +
+            "score = GREATEST(post_trending_scores.score * power(0.5, EXTRACT(EPOCH FROM (EXCLUDED.snapshot_at - post_trending_scores.snapshot_at)) * 1000 / ?) + ?, 0), " +
+            "board_type = COALESCE(EXCLUDED.board_type, post_trending_scores.board_type), " +
+            "snapshot_at = EXCLUDED.snapshot_at";
+    private static final String SNAPSHOT_PRUNE_SQL =
+            "DELETE FROM post_trending_scores " +
+            "WHERE score * power(0.5, EXTRACT(EPOCH FROM (CAST(? AS timestamp) - snapshot_at)) * 1000 / ?) < ?";
+
+    private final CommunityPostRepository postRepository;
+    private final PostTrendingScoreRepository snapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DecayingScoreBoard scoreBoard;
+    // 마지막 스냅샷 이후 이 노드에서 더한 점수 (스냅샷 때 비움)
+    private final DecayingScoreBoard unsaved;
+    private final long halfLifeMillis;
+    // 점수판에 있는 게시글의 boardType (모르는 글은 순위 갱신 때 한 번에 조회)
+    private final ConcurrentHashMap<Long, String> boardTypes = new ConcurrentHashMap<>();
+    private volatile Map<String, List<DecayingScoreBoard.Ranked>> rankings = Map.of();
+
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double minScore;
+    private final int topK;
+
+    public TrendingService(CommunityPostRepository postRepository,
+                           PostTrendingScoreRepository snapshotRepository,
+                           JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${community.trending.half-life-hours:12}") double halfLifeHours,
+                           @Value("${community.trending.weight.view:1}") double viewWeight,
+                           @Value("${community.trending.weight.like:3}") double likeWeight,
+                           @Value("${community.trending.weight.comment:5}") double commentWeight,
+                           @Value("${community.trending.min-score:0.05}") double minScore,
+                           @Value("${community.trending.top-k:100}") int topK) {
+        this.postRepository = postRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.halfLifeMillis = (long) (halfLifeHours * 3_600_000L);
+        this.scoreBoard = new DecayingScoreBoard(halfLifeMillis);
+        this.unsaved = new DecayingScoreBoard(halfLifeMillis);
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.minScore = minScore;
+        this.topK = topK;
+        Gauge.builder("community.trending.posts", scoreBoard, DecayingScoreBoard::size).register(meterRegistry);
+    }
+
+    public void onView(Long postId, String boardType) {
+        record(postId, boardType, viewWeight);
+    }
+
+    public void onLike(Long postId, boolean liked) {
+        record(postId, null, liked ? likeWeight : -likeWeight);
+    }
+
+    public void onComment(Long postId, String boardType) {
+        record(postId, boardType, commentWeight);
+    }
+
+    /**
+     * 삭제/숨김 게시글을 순위에서 제외 (현재 목록에서는 다음 갱신 때 빠진다)
+     */
+    public void remove(Long postId) {
+        scoreBoard.remove(postId);
+        unsaved.remove(postId);
+        boardTypes.remove(postId);
+    }
+
+    /**
+     * 인기글 ID 목록 (메모리 순위에서 바로 반환)
+     * @param boardType 없으면 전체 게시판
+     */
+    public List<Long> topPostIds(String boardType, int limit) {
+        String board = boardType != null && !boardType.trim().isEmpty() ? boardType : ALL_BOARDS;
+        List<DecayingScoreBoard.Ranked> ranked = rankings.getOrDefault(board, List.of());
+        return ranked.stream()
+                .limit(limit)
+                .map(DecayingScoreBoard.Ranked::postId)
+                .toList();
+    }
+
+    private void record(Long postId, String boardType, double weight) {
+        if (postId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(postId, boardType, weight);
+                }
+            });
+        } else {
+            apply(postId, boardType, weight);
+        }
+    }
+
+    private void apply(Long postId, String boardType, double weight) {
+        scoreBoard.add(postId, weight);
+        unsaved.add(postId, weight);
+        if (boardType != null) {
+            boardTypes.putIfAbsent(postId, boardType);
+        }
+    }
+
+    /**
+     * boardType 별 상위 K 개 다시 계산
+     */
+    @Scheduled(fixedDelayString = "${community.trending.refresh-interval-ms:5000}")
+    public void refresh() {
+        Map<Long, Double> scores = scoreBoard.snapshot(minScore);
+        boardTypes.keySet().retainAll(scores.keySet());
+        resolveBoardTypes(scores);
+
+        Map<String, List<DecayingScoreBoard.Ranked>> byBoard = new HashMap<>();
+        List<DecayingScoreBoard.Ranked> all = new ArrayList<>(scores.size());
+        scores.forEach((postId, score) -> {
+            String board = boardTypes.get(postId);
+            if (board == null) {
+                return;
+            }
+            DecayingScoreBoard.Ranked ranked = new DecayingScoreBoard.Ranked(postId, score);
+            all.add(ranked);
+            byBoard.computeIfAbsent(board, b -> new ArrayList<>()).add(ranked);
+        });
+
+        Map<String, List<DecayingScoreBoard.Ranked>> next = new HashMap<>();
+        next.put(ALL_BOARDS, List.copyOf(DecayingScoreBoard.topK(all, topK)));
+        byBoard.forEach((board, candidates) -> next.put(board, List.copyOf(DecayingScoreBoard.topK(candidates, topK))));
+        rankings = Map.copyOf(next);
+    }
+
+    /**
+     * boardType 을 모르는 게시글은 한 번에 조회하고, 삭제되었거나 숨긴 글은 점수판에서 뺀다
+     */
+    private void resolveBoardTypes(Map<Long, Double> scores) {
+        List<Long> unknown = scores.keySet().stream()
+                .filter(postId -> !boardTypes.containsKey(postId))
+                .toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+        try {
+            for (Object[] row : postRepository.findVisibleBoardTypes(unknown)) {
+                boardTypes.put((Long) row[0], row[1] != null ? (String) row[1] : "");
+            }
+            for (Long postId : unknown) {
+                if (!boardTypes.containsKey(postId)) {
+                    scoreBoard.remove(postId);
+                    scores.remove(postId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("인기글 게시판 정보 조회 실패, 다음 주기에 재시도: posts={}, error={}", unknown.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 스냅샷 이후 증분을 게시글별로 upsert 하고 최소 점수 아래로 감쇠한 행은 지운다
+     */
+    @Scheduled(fixedDelayString = "${community.trending.snapshot-interval-ms:60000}",
+               initialDelayString = "${community.trending.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        Map<Long, Double> deltas = unsaved.drain();
+        long nowMillis = System.currentTimeMillis();
+        Timestamp now = new Timestamp(nowMillis);
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> {
+            if (delta != 0) {
+                rows.add(new Object[]{postId, boardTypes.get(postId), delta, now, halfLifeMillis, delta});
+            }
+        });
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(SNAPSHOT_UPSERT_SQL, rows);
+                }
+                jdbcTemplate.update(SNAPSHOT_PRUNE_SQL, now, halfLifeMillis, minScore);
+            });
+            log.debug("인기글 점수 스냅샷 저장: {}건", rows.size());
+        } catch (Exception e) {
+            // 저장하지 못한 증분은 다음 스냅샷에 다시 시도
+            deltas.forEach((postId, delta) -> unsaved.restore(postId, delta, nowMillis));
+            log.warn("인기글 점수 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 시 마지막 스냅샷 복원
+     */
+    @Override
+    public void run(String... args) {
+        try {
+            List<PostTrendingScore> saved = snapshotRepository.findAll();
+            for (PostTrendingScore row : saved) {
+                long recordedAt = row.getSnapshotAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                scoreBoard.restore(row.getPostId(), row.getScore(), recordedAt);
+                if (row.getBoardType() != null) {
+                    boardTypes.put(row.getPostId(), row.getBoardType());
+                }
+            }
+            refresh();
+            log.info("인기글 점수 복원: {}건", saved.size());
+        } catch (Exception e) {
+            log.warn("인기글 점수 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshot();
+    }
+}
@@ -0,0 +1,169 @@
+package com.my.backend.community.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 지수 감쇠 점수판 (인기글 순위용)
+ * - 점수는 반감기마다 절반이 된다. 매번 전체를 감쇠시키지 않고, 기준 시각(epoch) 이후 경과 시간만큼
+ *   가중치를 키워서 더한다. (weight * 2^((t - epoch) / halfLife)) → 순위는 그대로 유지된다.
+ * - 가산은 게시글별 DoubleAdder 라 잠금 경쟁이 없다. 배율이 너무 커지면 rescale 때 기준 시각을 옮긴다.
+ * - 조회 결과는 모두 "지금" 기준으로 감쇠된 값이다.
+ */
+public class DecayingScoreBoard {
+
+    // 배율이 2^40 을 넘으면 기준 시각을 옮긴다 (double 정밀도 여유)
+    private static final double RESCALE_EXPONENT = 40;
+
+    private final double halfLifeMillis;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<Long, DoubleAdder> scores = new ConcurrentHashMap<>();
+    // add 는 읽기 잠금(동시 진행), rescale 만 쓰기 잠금
+    private final ReadWriteLock rescaleLock = new ReentrantReadWriteLock();
+    private volatile long epochMillis;
+
+    public record Ranked(long postId, double score) {
+    }
+
+    public DecayingScoreBoard(long halfLifeMillis) {
+        this(halfLifeMillis, System::currentTimeMillis);
+    }
+
+    public DecayingScoreBoard(long halfLifeMillis, LongSupplier clock) {
+        if (halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("halfLifeMillis must be positive");
+        }
+        this.halfLifeMillis = halfLifeMillis;
+        this.clock = clock;
+        this.epochMillis = clock.getAsLong();
+    }
+
+    /**
+     * 현재 시각 기준 weight 만큼 점수 추가 (음수면 차감, 0 아래로는 내려가지 않게 조회 시 보정)
+     */
+    public void add(long postId, double weight) {
+        rescaleLock.readLock().lock();
+        try {
+            scores.computeIfAbsent(postId, id -> new DoubleAdder()).add(weight * growth(clock.getAsLong()));
+        } finally {
+            rescaleLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 복원용: 특정 시각에 기록된 (그 시각 기준) 점수를 더한다
+     */
+    public void restore(long postId, double score, long recordedAtMillis) {
+        rescaleLock.readLock().lock();
+        try {
+            scores.computeIfAbsent(postId, id -> new DoubleAdder()).add(score * growth(recordedAtMillis));
+        } finally {
+            rescaleLock.readLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        scores.remove(postId);
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * 현재 기준 점수 (없으면 0)
+     */
+    public double score(long postId) {
+        DoubleAdder adder = scores.get(postId);
+        return adder == null ? 0 : Math.max(0, adder.sum() / growth(clock.getAsLong()));
+    }
+
+    /**
+     * 모든 점수를 현재 기준으로 복사 (minScore 미만은 점수판에서 제거)
+     */
+    public Map<Long, Double> snapshot(double minScore) {
+        rescaleIfNeeded();
+        double divisor = growth(clock.getAsLong());
+        Map<Long, Double> snapshot = new HashMap<>(scores.size() * 2);
+        scores.forEach((postId, adder) -> {
+            double score = adder.sum() / divisor;
+            if (score < minScore) {
+                scores.remove(postId, adder);
+            } else {
+                snapshot.put(postId, score);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * 모든 점수를 현재 기준으로 꺼내고 점수판을 비운다 (음수 포함, 증분 저장용)
+     * add 와 겹쳐도 더한 값이 사라지지 않도록 쓰기 잠금으로 막는다.
+     */
+    public Map<Long, Double> drain() {
+        rescaleLock.writeLock().lock();
+        try {
+            double divisor = growth(clock.getAsLong());
+            Map<Long, Double> drained = new HashMap<>(scores.size() * 2);
+            scores.forEach((postId, adder) -> drained.put(postId, adder.sum() / divisor));
+            scores.clear();
+            return drained;
+        } finally {
+            rescaleLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 k 개 (점수 내림차순, 같으면 최신 글 우선) - 크기 k 최소 힙
+     */
+    public static List<Ranked> topK(Iterable<Ranked> candidates, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        Comparator<Ranked> order = Comparator.comparingDouble(Ranked::score).thenComparingLong(Ranked::postId);
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(k + 1, order);
+        for (Ranked candidate : candidates) {
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (order.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+        List<Ranked> top = new ArrayList<>(heap);
+        top.sort(Collections.reverseOrder(order));
+        return top;
+    }
+
+    private double growth(long nowMillis) {
+        return Math.pow(2, (nowMillis - epochMillis) / halfLifeMillis);
+    }
+
+    private void rescaleIfNeeded() {
+        long now = clock.getAsLong();
+        if ((now - epochMillis) / halfLifeMillis < RESCALE_EXPONENT) {
+            return;
+        }
+        rescaleLock.writeLock().lock();
+        try {
+            double factor = growth(now);
+            scores.forEach((postId, adder) -> {
+                double rescaled = adder.sumThenReset() / factor;
+                adder.add(rescaled);
+            });
+            epochMillis = now;
+        } finally {
+            rescaleLock.writeLock().unlock();
+        }
+    }
+}
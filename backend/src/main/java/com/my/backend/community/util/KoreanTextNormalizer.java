@@ -0,0 +1,165 @@
+package com.my.backend.community.util;
+
+/**
+ * 비속어 검사용 텍스트 정규화 (한 번의 선형 순회)
+ * - 한글 음절은 호환 자모(초성/중성/종성)로 분해한다. (씨바ㄹ → ㅆㅣㅂㅏㄹ)
+ * - 공백, 숫자, 기호는 제거한다. (개@새#끼, 개123새끼 → 개새끼)
+ * - 영문자 옆의 숫자/기호는 leetspeak 로 보고 영문자로 바꾼다. (sh1t → shit, $hit → shit)
+ * - 영문은 소문자로 맞춘다.
+ * 정규화된 각 문자마다 원문 위치, 자모 역할, 어절 번호(공백으로 나뉜 단어)를 함께 기록해서
+ * 마스킹, 음절 경계 검사, 어절 경계 검사에 쓴다.
+ */
+public final class KoreanTextNormalizer {
+
+    /** 음절에서 나오지 않은 문자 (영문, 직접 입력한 자모 등) */
+    public static final byte ROLE_NONE = 0;
+    public static final byte ROLE_CHOSEONG = 1;
+    public static final byte ROLE_JUNGSEONG = 2;
+    public static final byte ROLE_JONGSEONG = 3;
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private KoreanTextNormalizer() {
+    }
+
+    /**
+     * 정규화 결과
+     * chars[i] 는 원문 sourceIndex[i] 위치 문자에서 나왔고, 자모 역할은 roles[i], 어절 번호는 wordIndex[i]
+     */
+    public record Normalized(char[] chars, byte[] roles, int[] sourceIndex, int[] wordIndex, int length) {
+
+        /**
+         * i 가 어절의 첫 문자인지
+         */
+        public boolean isWordStart(int i) {
+            return i == 0 || wordIndex[i - 1] != wordIndex[i];
+        }
+
+        /**
+         * i 가 어절의 마지막 문자인지
+         */
+        public boolean isWordEnd(int i) {
+            return i == length - 1 || wordIndex[i + 1] != wordIndex[i];
+        }
+    }
+
+    public static Normalized normalize(String text) {
+        int capacity = text.length() * 3;
+        char[] chars = new char[capacity];
+        byte[] roles = new byte[capacity];
+        int[] sourceIndex = new int[capacity];
+        int[] wordIndex = new int[capacity];
+        int length = 0;
+        int word = 0;
+        boolean afterSpace = false;
+        // 연속된 숫자/기호 구간 뒤에 영문자가 오는지 (구간마다 한 번만 계산)
+        int leetRunEnd = -1;
+        boolean leetRunBeforeLatin = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                afterSpace = true;
+                continue;
+            }
+            if (afterSpace && length > 0) {
+                word++;
+            }
+            afterSpace = false;
+
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                int jong = offset % 28;
+                int jung = (offset / 28) % 21;
+                int cho = offset / (28 * 21);
+                chars[length] = CHOSEONG.charAt(cho);
+                roles[length] = ROLE_CHOSEONG;
+                wordIndex[length] = word;
+                sourceIndex[length++] = i;
+                chars[length] = JUNGSEONG.charAt(jung);
+                roles[length] = ROLE_JUNGSEONG;
+                wordIndex[length] = word;
+                sourceIndex[length++] = i;
+                if (jong != 0) {
+                    chars[length] = JONGSEONG.charAt(jong);
+                    roles[length] = ROLE_JONGSEONG;
+                    wordIndex[length] = word;
+                    sourceIndex[length++] = i;
+                }
+                continue;
+            }
+
+            char folded = foldLatin(c);
+            if (folded == 0) {
+                char leet = leet(c);
+                if (leet != 0) {
+                    if (i >= leetRunEnd) {
+                        leetRunEnd = i;
+                        while (leetRunEnd < text.length() && leet(text.charAt(leetRunEnd)) != 0) {
+                            leetRunEnd++;
+                        }
+                        leetRunBeforeLatin = leetRunEnd < text.length() && foldLatin(text.charAt(leetRunEnd)) != 0;
+                    }
+                    if (leetRunBeforeLatin || previousIsLatin(chars, roles, length)) {
+                        folded = leet;
+                    }
+                }
+            }
+            if (folded == 0 && isKeptLetter(c)) {
+                folded = c;
+            }
+            if (folded != 0) {
+                chars[length] = folded;
+                roles[length] = ROLE_NONE;
+                wordIndex[length] = word;
+                sourceIndex[length++] = i;
+            }
+        }
+        return new Normalized(chars, roles, sourceIndex, wordIndex, length);
+    }
+
+    private static char foldLatin(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c >= 'Ａ' && c <= 'Ｚ') {
+            return (char) (c - 'Ａ' + 'a');
+        }
+        if (c >= 'ａ' && c <= 'ｚ') {
+            return (char) (c - 'ａ' + 'a');
+        }
+        return 0;
+    }
+
+    private static char leet(char c) {
+        return switch (c) {
+            case '0' -> 'o';
+            case '1', '!', '|' -> 'i';
+            case '3' -> 'e';
+            case '4', '@' -> 'a';
+            case '5', '$' -> 's';
+            case '7', '+' -> 't';
+            case '8' -> 'b';
+            case '9' -> 'g';
+            default -> '\0';
+        };
+    }
+
+    /**
+     * 숫자/기호/공백이 아닌 문자 (자모, 한자, 기타 문자)는 그대로 둔다
+     */
+    private static boolean isKeptLetter(char c) {
+        return Character.isLetter(c);
+    }
+
+    private static boolean previousIsLatin(char[] chars, byte[] roles, int length) {
+        return length > 0 && roles[length - 1] == ROLE_NONE && chars[length - 1] >= 'a' && chars[length - 1] <= 'z';
+    }
+}
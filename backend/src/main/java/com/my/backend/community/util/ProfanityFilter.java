@@ -23,8 +23,12 @@ public class ProfanityFilter {
         "등신", "등신새끼", "등신같은", "등신새기", "등신아"
     );
     
+    // 단어 목록을 한 번만 컴파일한 오토마톤 (검사/마스킹 모두 입력 길이에 선형)
+    private static final ProfanityMatcher MATCHER = ProfanityMatcher.of(PROFANITY_LIST);
+
     /**
      * 텍스트에 비속어가 포함되어 있는지 확인
+     * 공백/숫자/기호를 끼워 넣거나 자모로 풀어 쓴 변형도 잡는다.
      * @param text 검사할 텍스트
      * @return 비속어 포함 여부
      */
@@ -32,22 +36,7 @@ public class ProfanityFilter {
         if (text == null || text.trim().isEmpty()) {
             return false;
         }
-        
-        // 공백 제거 및 소문자 변환
-        String normalizedText = text.replaceAll("\\s+", "").toLowerCase();
-        
-        for (String profanity : PROFANITY_LIST) {
-            // 비속어도 공백 제거 및 소문자 변환
-            String normalizedProfanity = profanity.replaceAll("\\s+", "").toLowerCase();
-            
-            // 정확한 단어 매칭과 부분 문자열 매칭 모두 검사
-            if (normalizedText.contains(normalizedProfanity) || 
-                normalizedText.matches(".*" + normalizedProfanity + ".*")) {
-                return true;
-            }
-        }
-        
-        return false;
+        return MATCHER.matches(text);
     }
     
     /**
@@ -59,15 +48,6 @@ public class ProfanityFilter {
         if (text == null || text.trim().isEmpty()) {
             return text;
         }
-        
-        String result = text;
-        
-        for (String profanity : PROFANITY_LIST) {
-            // 대소문자 구분 없이 마스킹 처리
-            String mask = "*".repeat(profanity.length());
-            result = result.replaceAll("(?i)" + profanity, mask);
-        }
-        
-        return result;
+        return MATCHER.mask(text);
     }
 }
@@ -0,0 +1,310 @@
+package com.my.backend.community.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * 비속어 단어 목록을 미리 컴파일한 Aho-Corasick 오토마톤
+ * - 입력은 KoreanTextNormalizer 로 정규화(자모 분해, 공백/숫자/기호 제거, leetspeak)한 뒤 한 번만 훑는다.
+ * - 음절에서 분해된 자모는 역할(초성/중성/종성)이 단어와 같아야 매칭된다. (미치니 의 ㄴ 이 미친 의 ㄴ 으로 잡히지 않도록)
+ *   사용자가 직접 입력한 자모(ㅅㅂ, 씨바ㄹ)는 어느 역할에도 매칭된다.
+ * - 공백을 건너뛴 매칭은 어절 처음에서 시작해 어절 끝에서 끝나야 한다. (개 새 끼 는 잡고, 이미 친구 / this hit 는 잡지 않음)
+ * 생성 후에는 불변이라 여러 스레드에서 공유해도 된다.
+ * 비속어 외의 키워드 사전(일기 카테고리 분류 등)도 forEachMatch 로 같은 방식으로 찾을 수 있다.
+ */
+public final class ProfanityMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final String[] words;
+    private final char[][] wordChars;
+    private final byte[][] wordRoles;
+
+    // 노드별 자식 (키 오름차순, 이진 탐색)
+    private final char[][] childKeys;
+    private final int[][] childNodes;
+    private final int[] fail;
+    // 이 노드에서 끝나는 단어 (없으면 NONE)
+    private final int[] terminalWord;
+    // 실패 링크를 따라가며 만나는 가장 가까운 단어 노드 (없으면 NONE)
+    private final int[] outputLink;
+
+    private ProfanityMatcher(String[] words, char[][] wordChars, byte[][] wordRoles,
+                             char[][] childKeys, int[][] childNodes, int[] fail,
+                             int[] terminalWord, int[] outputLink) {
+        this.words = words;
+        this.wordChars = wordChars;
+        this.wordRoles = wordRoles;
+        this.childKeys = childKeys;
+        this.childNodes = childNodes;
+        this.fail = fail;
+        this.terminalWord = terminalWord;
+        this.outputLink = outputLink;
+    }
+
+    /**
+     * 단어 목록으로 오토마톤 생성 (정규화 후 같은 단어는 하나로 합친다)
+     */
+    public static ProfanityMatcher of(Collection<String> words) {
+        Map<String, String> unique = new LinkedHashMap<>();
+        Map<String, byte[]> uniqueRoles = new HashMap<>();
+        for (String word : words) {
+            if (word == null || word.isBlank()) {
+                continue;
+            }
+            KoreanTextNormalizer.Normalized normalized = KoreanTextNormalizer.normalize(word);
+            if (normalized.length() == 0) {
+                continue;
+            }
+            String key = new String(normalized.chars(), 0, normalized.length());
+            if (unique.putIfAbsent(key, word) == null) {
+                uniqueRoles.put(key, Arrays.copyOf(normalized.roles(), normalized.length()));
+            }
+        }
+
+        int wordCount = unique.size();
+        String[] originals = new String[wordCount];
+        char[][] wordChars = new char[wordCount][];
+        byte[][] wordRoles = new byte[wordCount][];
+
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminals.add(NONE);
+
+        int index = 0;
+        for (Map.Entry<String, String> entry : unique.entrySet()) {
+            String key = entry.getKey();
+            originals[index] = entry.getValue();
+            wordChars[index] = key.toCharArray();
+            wordRoles[index] = uniqueRoles.get(key);
+
+            int node = ROOT;
+            for (char c : wordChars[index]) {
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminals.add(NONE);
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            terminals.set(node, index);
+            index++;
+        }
+
+        int nodeCount = children.size();
+        char[][] childKeys = new char[nodeCount][];
+        int[][] childNodes = new int[nodeCount][];
+        int[] terminalWord = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> map = children.get(node);
+            childKeys[node] = new char[map.size()];
+            childNodes[node] = new int[map.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> child : map.entrySet()) {
+                childKeys[node][i] = child.getKey();
+                childNodes[node][i] = child.getValue();
+                i++;
+            }
+            terminalWord[node] = terminals.get(node);
+        }
+
+        // 실패 링크 / 출력 링크 (BFS)
+        int[] fail = new int[nodeCount];
+        int[] outputLink = new int[nodeCount];
+        Arrays.fill(outputLink, NONE);
+        int[] queue = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+        for (int child : childNodes[ROOT]) {
+            fail[child] = ROOT;
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            int node = queue[head++];
+            for (int i = 0; i < childKeys[node].length; i++) {
+                char c = childKeys[node][i];
+                int child = childNodes[node][i];
+                int f = fail[node];
+                int target = step(childKeys, childNodes, f, c);
+                while (target == NONE && f != ROOT) {
+                    f = fail[f];
+                    target = step(childKeys, childNodes, f, c);
+                }
+                fail[child] = target == NONE ? ROOT : target;
+                int failNode = fail[child];
+                outputLink[child] = terminalWord[failNode] != NONE ? failNode : outputLink[failNode];
+                queue[tail++] = child;
+            }
+        }
+
+        return new ProfanityMatcher(originals, wordChars, wordRoles, childKeys, childNodes, fail,
+                terminalWord, outputLink);
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * 단어 번호의 원래 표기 (of 에 넘긴 목록에서 정규화 후 중복을 뺀 순서)
+     */
+    public String word(int index) {
+        return words[index];
+    }
+
+    /**
+     * 매칭될 때마다 단어 번호를 전달 (같은 단어가 여러 번 나오면 여러 번)
+     */
+    public void forEachMatch(String text, IntConsumer consumer) {
+        if (text == null || text.isEmpty() || words.length == 0) {
+            return;
+        }
+        scan(KoreanTextNormalizer.normalize(text), (word, start, end) -> {
+            consumer.accept(word);
+            return true;
+        });
+    }
+
+    /**
+     * 비속어 포함 여부 (첫 매칭에서 종료)
+     */
+    public boolean matches(String text) {
+        if (text == null || text.isEmpty() || words.length == 0) {
+            return false;
+        }
+        boolean[] found = new boolean[1];
+        scan(KoreanTextNormalizer.normalize(text), (word, start, end) -> {
+            found[0] = true;
+            return false;
+        });
+        return found[0];
+    }
+
+    /**
+     * 포함된 비속어 목록 (단어 목록에 등록된 원래 표기, 중복 제거)
+     */
+    public Set<String> findWords(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        if (text == null || text.isEmpty() || words.length == 0) {
+            return found;
+        }
+        scan(KoreanTextNormalizer.normalize(text), (word, start, end) -> {
+            found.add(words[word]);
+            return true;
+        });
+        return found;
+    }
+
+    /**
+     * 비속어가 걸친 원문 구간의 공백 외 문자를 '*' 로 바꾼다
+     */
+    public String mask(String text) {
+        if (text == null || text.isEmpty() || words.length == 0) {
+            return text;
+        }
+        KoreanTextNormalizer.Normalized normalized = KoreanTextNormalizer.normalize(text);
+        int[] sourceIndex = normalized.sourceIndex();
+        // 원문 기준 구간 합 (시작 +1, 끝 다음 -1)
+        int[] coverage = new int[text.length() + 1];
+        boolean[] any = new boolean[1];
+        scan(normalized, (word, start, end) -> {
+            coverage[sourceIndex[start]]++;
+            coverage[sourceIndex[end] + 1]--;
+            any[0] = true;
+            return true;
+        });
+        if (!any[0]) {
+            return text;
+        }
+
+        StringBuilder masked = new StringBuilder(text.length());
+        int depth = 0;
+        for (int i = 0; i < text.length(); i++) {
+            depth += coverage[i];
+            char c = text.charAt(i);
+            masked.append(depth > 0 && !Character.isWhitespace(c) ? '*' : c);
+        }
+        return masked.toString();
+    }
+
+    @FunctionalInterface
+    private interface MatchSink {
+        /**
+         * @param word  단어 번호
+         * @param start 정규화 텍스트 기준 시작 위치 (포함)
+         * @param end   정규화 텍스트 기준 끝 위치 (포함)
+         * @return 계속 찾으려면 true
+         */
+        boolean accept(int word, int start, int end);
+    }
+
+    private void scan(KoreanTextNormalizer.Normalized normalized, MatchSink sink) {
+        char[] chars = normalized.chars();
+        byte[] roles = normalized.roles();
+        int state = ROOT;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = chars[i];
+            int next = step(childKeys, childNodes, state, c);
+            while (next == NONE && state != ROOT) {
+                state = fail[state];
+                next = step(childKeys, childNodes, state, c);
+            }
+            state = next == NONE ? ROOT : next;
+
+            int output = terminalWord[state] != NONE ? state : outputLink[state];
+            while (output != NONE) {
+                int word = terminalWord[output];
+                int start = i - wordChars[word].length + 1;
+                if (rolesMatch(wordRoles[word], roles, start) && withinWords(normalized, start, i)
+                        && !sink.accept(word, start, i)) {
+                    return;
+                }
+                output = outputLink[output];
+            }
+        }
+    }
+
+    /**
+     * 한 어절 안의 매칭이면 그대로 인정하고, 여러 어절에 걸치면 어절 경계에서 시작하고 끝나야 인정
+     */
+    private static boolean withinWords(KoreanTextNormalizer.Normalized normalized, int start, int end) {
+        int[] wordIndex = normalized.wordIndex();
+        if (wordIndex[start] == wordIndex[end]) {
+            return true;
+        }
+        return normalized.isWordStart(start) && normalized.isWordEnd(end);
+    }
+
+    private static boolean rolesMatch(byte[] expected, byte[] actual, int start) {
+        for (int i = 0; i < expected.length; i++) {
+            byte want = expected[i];
+            byte got = actual[start + i];
+            if (want == KoreanTextNormalizer.ROLE_NONE) {
+                if (got != KoreanTextNormalizer.ROLE_NONE) {
+                    return false;
+                }
+            } else if (got != want && got != KoreanTextNormalizer.ROLE_NONE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int step(char[][] childKeys, int[][] childNodes, int node, char c) {
+        int found = Arrays.binarySearch(childKeys[node], c);
+        return found >= 0 ? childNodes[node][found] : NONE;
+    }
+}
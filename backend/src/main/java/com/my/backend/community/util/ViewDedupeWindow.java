@@ -0,0 +1,92 @@
+package com.my.backend.community.util;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 조회수 중복 제거용 시간 버킷 집합
+ * - 현재 버킷과 직전 버킷 두 개만 유지하고, 버킷이 바뀌면 오래된 쪽을 통째로 버린다.
+ * - 같은 키는 최소 1 버킷, 최대 2 버킷 동안 중복으로 취급된다. (버킷 1분 → 1~2분 내 재조회 무시)
+ * - 버킷당 키 수가 상한을 넘으면 더 이상 기록하지 않고 조회를 그대로 인정한다. (메모리 보호)
+ */
+public class ViewDedupeWindow {
+
+    private final long bucketMillis;
+    private final int maxKeysPerBucket;
+    private final LongSupplier clock;
+
+    private volatile Bucket current;
+    private volatile Bucket previous;
+
+    public ViewDedupeWindow(long bucketMillis, int maxKeysPerBucket) {
+        this(bucketMillis, maxKeysPerBucket, System::currentTimeMillis);
+    }
+
+    public ViewDedupeWindow(long bucketMillis, int maxKeysPerBucket, LongSupplier clock) {
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("bucketMillis must be positive");
+        }
+        this.bucketMillis = bucketMillis;
+        this.maxKeysPerBucket = maxKeysPerBucket;
+        this.clock = clock;
+        long bucket = clock.getAsLong() / bucketMillis;
+        this.current = new Bucket(bucket);
+        this.previous = new Bucket(bucket - 1);
+    }
+
+    /**
+     * 처음 보는 키면 기록하고 true, 최근 버킷에 이미 있으면 false
+     */
+    public boolean firstSeen(String key) {
+        Bucket bucket = currentBucket();
+        if (previous.keys.contains(key)) {
+            return false;
+        }
+        if (bucket.keys.size() >= maxKeysPerBucket) {
+            return !bucket.keys.contains(key);
+        }
+        return bucket.keys.add(key);
+    }
+
+    /**
+     * 기록한 키를 지운다 (기록 후 처리에 실패해서 같은 키를 바로 다시 받아야 할 때)
+     */
+    public void forget(String key) {
+        current.keys.remove(key);
+        previous.keys.remove(key);
+    }
+
+    /**
+     * 현재 기록된 키 수 (두 버킷 합)
+     */
+    public int size() {
+        return current.keys.size() + previous.keys.size();
+    }
+
+    private Bucket currentBucket() {
+        long now = clock.getAsLong() / bucketMillis;
+        Bucket bucket = current;
+        if (bucket.index == now) {
+            return bucket;
+        }
+        synchronized (this) {
+            bucket = current;
+            if (bucket.index != now) {
+                previous = bucket.index == now - 1 ? bucket : new Bucket(now - 1);
+                bucket = new Bucket(now);
+                current = bucket;
+            }
+            return bucket;
+        }
+    }
+
+    private static final class Bucket {
+        private final long index;
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.my.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * actuator 기본 설정 (management.properties)
+ * application.yml 보다 우선순위가 낮아서, 환경별 application.yml 에 값이 있으면 그 값을 따른다.
+ * 헬스 체크를 뺀 actuator 엔드포인트는 WebSecurityConfig 에서 관리자만 접근하도록 막는다.
+ */
+@Configuration
+@PropertySource("classpath:management.properties")
+public class ManagementConfig {
+}
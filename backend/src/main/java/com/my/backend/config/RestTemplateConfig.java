@@ -1,9 +1,11 @@
 package com.my.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -11,6 +13,7 @@ import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.ResourceHttpMessageConverter;
 import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
+import java.net.http.HttpClient;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
@@ -45,4 +48,37 @@ public class RestTemplateConfig {
         return restTemplate;
     }
 
-}
\ No newline at end of file
+    /**
+     * 콘텐츠 검수(OpenAI Moderation) 전용 클라이언트
+     * 쓰기 요청 경로에서 호출되므로 커넥션을 재사용하는 공용 HttpClient 에 짧은 타임아웃을 건다.
+     */
+    @Bean
+    public RestTemplate moderationRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${openai.moderation.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${openai.moderation.read-timeout-ms:2000}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return builder.requestFactory(() -> factory).build();
+    }
+
+    /**
+     * 음성 변환 전용 클라이언트
+     * 요청 본문(오디오 파일)을 메모리에 모으지 않고 스트리밍으로 보내고, 긴 녹음 변환을 기다릴 수 있게 읽기 타임아웃을 길게 둔다.
+     */
+    @Bean
+    public RestTemplate transcriptionRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${ai.transcribe.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${ai.transcribe.read-timeout-ms:600000}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return builder.requestFactory(() -> factory).build();
+    }
+}
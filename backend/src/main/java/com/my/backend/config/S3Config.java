@@ -4,10 +4,15 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.net.URI;
+
 @Configuration
 public class S3Config {
 
@@ -23,6 +28,10 @@ public class S3Config {
     @Value("${aws.s3.bucket.name}")
     private String bucketName;
 
+    // S3 호환 저장소(MinIO 등 로컬 대체 서버)를 쓸 때만 지정 (예: http://localhost:9000)
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public S3Client s3Client() {
         // 환경 변수가 설정되지 않은 경우 null 반환
@@ -33,10 +42,33 @@ public class S3Config {
         }
 
         AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKeyId, secretAccessKey);
-        S3Client s3Client = S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials));
+        if (endpoint != null && !endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    // 클라이언트가 S3 로 직접 올릴 수 있도록 미리 서명된 URL 발급용 (자격 증명이 없으면 null)
+    @Bean
+    public S3Presigner s3Presigner() {
+        if (accessKeyId == null || accessKeyId.isEmpty() ||
+            secretAccessKey == null || secretAccessKey.isEmpty() ||
+            bucketName == null || bucketName.isEmpty()) {
+            return null;
+        }
+
+        AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKeyId, secretAccessKey);
+        S3Presigner.Builder builder = S3Presigner.builder()
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
-                .build();
-        return s3Client;
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials));
+        if (endpoint != null && !endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
     }
-}
\ No newline at end of file
+}
@@ -3,7 +3,10 @@ package com.my.backend.diary.controller;
 import com.my.backend.diary.dto.DiaryRequestDto;
 import com.my.backend.diary.dto.DiaryResponseDto;
 import com.my.backend.diary.dto.DiaryUpdateDto;
+import com.my.backend.diary.dto.DiaryVoiceDto;
+import com.my.backend.diary.service.DiaryCategoryClassifier;
 import com.my.backend.diary.service.DiaryService;
+import com.my.backend.diary.service.DiaryVoiceService;
 import com.my.backend.global.security.user.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,10 +19,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/diary")
@@ -28,12 +33,49 @@ import java.util.List;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiaryCategoryClassifier categoryClassifier;
+    private final DiaryVoiceService voiceService;
 
     @PostMapping
     public ResponseEntity<DiaryResponseDto> createDiary(@RequestBody DiaryRequestDto dto) {
         return ResponseEntity.ok(diaryService.createDiary(dto));
     }
 
+    // 카테고리별 일기 커서 페이지 (최신순)
+    @GetMapping("/category/{category}")
+    public ResponseEntity<?> getDiariesByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "7") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Long userId = userDetails.getAccount().getId();
+        String userRole = userDetails.getAccount().getRole();
+
+        try {
+            int limit = Math.max(1, Math.min(size, 100));
+            return ResponseEntity.ok(diaryService.getDiariesByCategoryCursor(category, userId, userRole, cursor, limit, includeTotal));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 달력 화면용 월간 집계 (일별 일기 수 + 카테고리), month=yyyy-MM
+    @GetMapping("/calendar")
+    public ResponseEntity<?> getDiaryCalendar(@RequestParam String month) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Long userId = userDetails.getAccount().getId();
+        String userRole = userDetails.getAccount().getRole();
+
+        try {
+            return ResponseEntity.ok(diaryService.getDiaryCalendar(month, userId, userRole));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<DiaryResponseDto> getDiary(@PathVariable Long id) {
         return ResponseEntity.ok(diaryService.getDiary(id));
@@ -126,20 +168,54 @@ public class DiaryController {
         return ResponseEntity.noContent().build();
     }
 
+    // 카테고리 키워드 사전 다시 읽기 (관리자)
+    @PostMapping("/admin/classifier/reload")
+    public ResponseEntity<?> reloadCategoryClassifier() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        if (!"ADMIN".equals(userDetails.getAccount().getRole())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자만 사용할 수 있습니다.");
+        }
+
+        boolean reloaded = categoryClassifier.reload();
+        return ResponseEntity.ok(Map.of(
+                "reloaded", reloaded,
+                "categories", categoryClassifier.categories(),
+                "keywords", categoryClassifier.keywordCount()));
+    }
+
     @PostMapping("/voice")
     public ResponseEntity<String> transcribeVoice(@RequestParam("audio") MultipartFile audioFile) {
         try {
-            String transcribedText = diaryService.transcribeAudio(audioFile);
+            String transcribedText = voiceService.transcribe(audioFile);
             return ResponseEntity.ok(transcribedText);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("음성 변환에 실패했습니다: " + e.getMessage());
         }
     }
 
+    // 업로드 + 음성 변환을 한 번에 (반환된 audioUrl 로 일기를 등록하면 다시 올리지 않음)
+    @PostMapping("/voice/process")
+    public ResponseEntity<?> processVoice(@RequestParam("audio") MultipartFile audioFile) {
+        try {
+            DiaryVoiceDto result = voiceService.process(audioFile);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("음성 처리에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    // 긴 녹음용: 구간별 변환 결과를 SSE(partial) 로 보내고 마지막에 done 이벤트
+    @PostMapping("/voice/stream")
+    public SseEmitter streamVoice(@RequestParam("audio") MultipartFile audioFile,
+                                  @RequestParam(value = "upload", defaultValue = "false") boolean upload) {
+        return voiceService.transcribeStream(audioFile, upload);
+    }
+
     @PostMapping("/audio")
     public ResponseEntity<String> uploadAudio(@RequestParam("file") MultipartFile audioFile) {
         try {
-            String audioUrl = diaryService.uploadAudio(audioFile);
+            String audioUrl = voiceService.storeAudio(audioFile);
             return ResponseEntity.ok(audioUrl);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("오디오 업로드에 실패했습니다: " + e.getMessage());
@@ -161,15 +237,16 @@ public class DiaryController {
         dto.setText(text);
 
         if (audioFile != null && !audioFile.isEmpty()) {
-            String audioUrl = diaryService.uploadAudio(audioFile);
+            String audioUrl = voiceService.storeAudio(audioFile);
             dto.setAudioUrl(audioUrl);
         }
 
-        if (file != null && !file.isEmpty()) {
-            String imageUrl = diaryService.uploadImage(file);
-            dto.setImageUrl(imageUrl);
+        // 이미지는 요청 스트림 그대로 S3 로 보내고, 분류 파이프라인은 같은 파일을 임시 파일로 넘겨받는다 (힙에 바이트 배열을 만들지 않음)
+        MultipartFile imageFile = file != null && !file.isEmpty() ? file : null;
+        if (imageFile != null) {
+            dto.setImageUrl(diaryService.uploadImage(imageFile));
         }
 
-        return ResponseEntity.ok(diaryService.createDiary(dto));
+        return ResponseEntity.ok(diaryService.createDiary(dto, imageFile));
     }
 }
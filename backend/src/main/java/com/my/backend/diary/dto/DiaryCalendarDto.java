@@ -0,0 +1,35 @@
+package com.my.backend.diary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 월간 일기 달력 (일기가 있는 날만, 날짜 오름차순)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryCalendarDto {
+    // yyyy-MM
+    private String month;
+    private List<Day> days;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private long count;
+        private List<String> categories;
+    }
+}
@@ -0,0 +1,21 @@
+package com.my.backend.diary.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 일기 커서 페이지
+ * nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회한다. (마지막 페이지면 null)
+ * totalElements 는 요청한 경우에만 채운다.
+ */
+@Getter
+@Setter
+@Builder
+public class DiaryPageDto {
+    private List<DiaryResponseDto> items;
+    private String nextCursor;
+    private Long totalElements;
+}
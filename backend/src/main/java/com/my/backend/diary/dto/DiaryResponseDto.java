@@ -21,6 +21,7 @@ public class DiaryResponseDto {
     private String audioUrl;
     private String imageUrl;
     private String[] categories;
+    private String classificationStatus;
     private String createdAt;
     private String updatedAt;
 
@@ -50,7 +51,8 @@ public class DiaryResponseDto {
                 .text(diary.getText())
                 .audioUrl(diary.getAudioUrl())
                 .imageUrl(diary.getImageUrl())
-                .categories(diary.getCategories())
+                .categories(diary.getCategories() != null ? diary.getCategories() : new String[0])
+                .classificationStatus(diary.getClassificationStatus() != null ? diary.getClassificationStatus().name() : null)
                 .createdAt(diary.getCreatedAt() != null ? diary.getCreatedAt().format(formatter) : null)
                 .updatedAt(diary.getUpdatedAt() != null ? diary.getUpdatedAt().format(formatter) : null)
                 .build();
@@ -0,0 +1,20 @@
+package com.my.backend.diary.dto;
+
+import lombok.*;
+
+/**
+ * 음성 처리 결과 (변환 텍스트 + 업로드된 오디오 주소)
+ * audioUrl 을 일기 등록 요청에 넘기면 오디오를 다시 올리지 않는다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiaryVoiceDto {
+    private String transcript;
+    private String audioUrl;
+    private String contentHash;
+    // 변환 결과를 캐시에서 가져왔는지
+    private boolean cached;
+}
@@ -6,12 +6,17 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Diary")
+@Table(name = "Diary", indexes = {
+        // 중복 등록 검사 (같은 사용자 + 같은 내용 해시 + 최근 작성)
+        @Index(name = "idx_diary_user_content_hash", columnList = "user_id, content_hash, created_at")
+})
 @Getter
 @Setter
 public class Diary {
@@ -34,12 +39,22 @@ public class Diary {
     @Column(columnDefinition = "TEXT")
     private String text;
 
-    @Column(name = "categories", columnDefinition = "TEXT")
-    @Convert(converter = StringArrayConverter.class)
-    private String[] categories;
+    // PostgreSQL text[] (GIN 인덱스로 categories @> ARRAY[...] 조회, DiaryCategoryIndexInitializer 참고)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "categories", columnDefinition = "text[] default '{}'")
+    private String[] categories = new String[0];
+
+    // 제목+본문 SHA-256 (중복 등록 검사용, DiaryContentHash)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
     private String audioUrl;
     private String imageUrl;
+
+    // 이미지 카테고리 분류 상태 (분류는 DiaryImageClassificationPipeline 이 백그라운드에서 처리)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "classification_status", length = 16, nullable = false, columnDefinition = "varchar(16) default 'NONE'")
+    private ImageClassificationStatus classificationStatus = ImageClassificationStatus.NONE;
     
     @Column(name = "pet_id", insertable = false, updatable = false)
     private Long petId;
@@ -0,0 +1,42 @@
+package com.my.backend.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 음성 일기 오디오 (내용 해시 단위)
+ * 같은 녹음을 다시 보내면 변환 결과와 S3 주소를 재사용한다. (변환 후 일기 등록 시 재업로드/재변환 방지)
+ */
+@Entity
+@Table(name = "diary_audio")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryAudio {
+
+    // 오디오 바이트 SHA-256 (16진수)
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    // 아직 변환하지 않았으면 null
+    @Column(columnDefinition = "TEXT")
+    private String transcript;
+
+    // 아직 업로드하지 않았으면 null
+    @Column(name = "audio_url")
+    private String audioUrl;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
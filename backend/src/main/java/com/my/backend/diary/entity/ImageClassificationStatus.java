@@ -0,0 +1,8 @@
+package com.my.backend.diary.entity;
+
+public enum ImageClassificationStatus {
+    NONE,     // 이미지 없음
+    PENDING,  // 백그라운드 분류 대기/진행 중
+    DONE,     // 이미지 카테고리 병합 완료
+    FAILED    // 재시도 초과 (텍스트 카테고리만 유지)
+}
@@ -0,0 +1,33 @@
+package com.my.backend.diary.repository;
+
+import com.my.backend.diary.entity.DiaryAudio;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface DiaryAudioRepository extends JpaRepository<DiaryAudio, String> {
+
+    // 업로드 주소 기록 (행이 없으면 생성, 있으면 audio_url 만 갱신 - 동시에 변환 결과를 쓰는 요청과 서로 덮어쓰지 않음)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO diary_audio (content_hash, size_bytes, audio_url, created_at, updated_at) " +
+                   "VALUES (:contentHash, :sizeBytes, :audioUrl, :now, :now) " +
+                   "ON CONFLICT (content_hash) DO UPDATE SET audio_url = EXCLUDED.audio_url, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int upsertAudioUrl(@Param("contentHash") String contentHash, @Param("sizeBytes") long sizeBytes,
+                       @Param("audioUrl") String audioUrl, @Param("now") LocalDateTime now);
+
+    // 변환 결과 기록 (행이 없으면 생성, 있으면 transcript 만 갱신)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO diary_audio (content_hash, size_bytes, transcript, created_at, updated_at) " +
+                   "VALUES (:contentHash, :sizeBytes, :transcript, :now, :now) " +
+                   "ON CONFLICT (content_hash) DO UPDATE SET transcript = EXCLUDED.transcript, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int upsertTranscript(@Param("contentHash") String contentHash, @Param("sizeBytes") long sizeBytes,
+                         @Param("transcript") String transcript, @Param("now") LocalDateTime now);
+}
@@ -2,18 +2,33 @@ package com.my.backend.diary.repository;
 
 import com.my.backend.account.entity.Account;
 import com.my.backend.diary.entity.Diary;
+import com.my.backend.diary.entity.ImageClassificationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
+    // 이미지 분류가 오래 끝나지 않은 일기 (재기동 등으로 유실된 작업 복구용)
+    List<Diary> findTop100ByClassificationStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+            ImageClassificationStatus status, LocalDateTime before);
+
+    // 복구 대상 선점: updated_at 을 지금으로 옮겨서 한 노드만 가져가게 한다 (1 이면 선점 성공)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Diary d SET d.updatedAt = :now " +
+           "WHERE d.diaryId = :diaryId AND d.classificationStatus = :status AND d.updatedAt < :before")
+    int claimForRecovery(@Param("diaryId") Long diaryId,
+                         @Param("status") ImageClassificationStatus status,
+                         @Param("before") LocalDateTime before,
+                         @Param("now") LocalDateTime now);
+
     List<Diary> findByUser(Account user);
     List<Diary> findByUserAndIsDeletedFalseOrderByCreatedAtDesc(Account user);
     List<Diary> findByIsDeletedFalseOrderByCreatedAtDesc();
@@ -22,25 +37,55 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
     Page<Diary> findByUserAndIsDeletedFalse(Account user, Pageable pageable);
     Page<Diary> findByIsDeletedFalse(Pageable pageable);
     
-                                    // 카테고리별 조회 메서드들
-    @Query(value = "SELECT DISTINCT d.* FROM diary d CROSS JOIN unnest(d.categories) AS cat WHERE cat = :category AND d.is_deleted = false ORDER BY d.created_at DESC LIMIT :limit OFFSET :offset",
+    // 카테고리별 조회 메서드들 (categories @> ARRAY[...] → GIN 인덱스 사용)
+    @Query(value = "SELECT d.* FROM diary d WHERE d.categories @> ARRAY[CAST(:category AS text)] AND d.is_deleted = false " +
+                   "ORDER BY d.created_at DESC, d.diary_id DESC LIMIT :limit OFFSET :offset",
            nativeQuery = true)
     List<Diary> findByCategoryWithPaging(@Param("category") String category, @Param("limit") int limit, @Param("offset") int offset);
 
-    @Query(value = "SELECT COUNT(DISTINCT d.diary_id) FROM diary d CROSS JOIN unnest(d.categories) AS cat WHERE cat = :category AND d.is_deleted = false",
+    @Query(value = "SELECT COUNT(*) FROM diary d WHERE d.categories @> ARRAY[CAST(:category AS text)] AND d.is_deleted = false",
            nativeQuery = true)
     long countByCategory(@Param("category") String category);
 
-    @Query(value = "SELECT DISTINCT d.* FROM diary d CROSS JOIN unnest(d.categories) AS cat WHERE cat = :category AND d.user_id = :userId AND d.is_deleted = false ORDER BY d.created_at DESC LIMIT :limit OFFSET :offset",
+    @Query(value = "SELECT d.* FROM diary d WHERE d.categories @> ARRAY[CAST(:category AS text)] AND d.user_id = :userId AND d.is_deleted = false " +
+                   "ORDER BY d.created_at DESC, d.diary_id DESC LIMIT :limit OFFSET :offset",
            nativeQuery = true)
     List<Diary> findByCategoryAndUserWithPaging(@Param("category") String category, @Param("userId") Long userId, @Param("limit") int limit, @Param("offset") int offset);
 
-    @Query(value = "SELECT COUNT(DISTINCT d.diary_id) FROM diary d CROSS JOIN unnest(d.categories) AS cat WHERE cat = :category AND d.user_id = :userId AND d.is_deleted = false",
+    @Query(value = "SELECT COUNT(*) FROM diary d WHERE d.categories @> ARRAY[CAST(:category AS text)] AND d.user_id = :userId AND d.is_deleted = false",
            nativeQuery = true)
     long countByCategoryAndUser(@Param("category") String category, @Param("userId") Long userId);
-    
 
-    
+    // 카테고리별 키셋 페이지 (created_at, diary_id 내림차순, 커서 이전 행부터)
+    @Query(value = "SELECT d.* FROM diary d WHERE d.categories @> ARRAY[CAST(:category AS text)] AND d.is_deleted = false " +
+                   "ORDER BY d.created_at DESC, d.diary_id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Diary> findCategoryFirstPage(@Param("category") String category, @Param("limit") int limit);
+
+    @Query(value = "SELECT d.* FROM diary d WHERE d.categories @> ARRAY[CAST(:category AS text)] AND d.is_deleted = false " +
+                   "AND (d.created_at, d.diary_id) < (:createdAt, :id) " +
+                   "ORDER BY d.created_at DESC, d.diary_id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Diary> findCategoryPageBefore(@Param("category") String category,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       @Param("limit") int limit);
+
+    @Query(value = "SELECT d.* FROM diary d WHERE d.categories @> ARRAY[CAST(:category AS text)] AND d.user_id = :userId AND d.is_deleted = false " +
+                   "ORDER BY d.created_at DESC, d.diary_id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Diary> findUserCategoryFirstPage(@Param("category") String category, @Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query(value = "SELECT d.* FROM diary d WHERE d.categories @> ARRAY[CAST(:category AS text)] AND d.user_id = :userId AND d.is_deleted = false " +
+                   "AND (d.created_at, d.diary_id) < (:createdAt, :id) " +
+                   "ORDER BY d.created_at DESC, d.diary_id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Diary> findUserCategoryPageBefore(@Param("category") String category,
+                                           @Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           @Param("limit") int limit);
+
     // 날짜별 조회 메서드들 추가
     @Query("SELECT d FROM Diary d WHERE d.createdAt >= :startOfDay AND d.createdAt < :endOfDay AND d.isDeleted = false")
     Page<Diary> findByCreatedAtBetween(Pageable pageable, @Param("startOfDay") LocalDateTime startOfDay, @Param("endOfDay") LocalDateTime endOfDay);
@@ -48,17 +93,33 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
     @Query("SELECT d FROM Diary d WHERE d.user = :user AND d.createdAt >= :startOfDay AND d.createdAt < :endOfDay AND d.isDeleted = false")
     Page<Diary> findByUserAndCreatedAtBetween(Pageable pageable, @Param("user") Account user, @Param("startOfDay") LocalDateTime startOfDay, @Param("endOfDay") LocalDateTime endOfDay);
     
+    // 달력용 일별 집계 [day(date), 일기 수, 카테고리('|' 구분)] - 한 달을 쿼리 한 번으로
+    // (user_id, created_at) 인덱스 범위 스캔 후 일 단위로 묶는다. 카테고리는 일기마다 펼쳐서 중복 제거
+    @Query(value = "SELECT CAST(date_trunc('day', d.created_at) AS date) AS day, COUNT(DISTINCT d.diary_id) AS diary_count, " +
+                   "string_agg(DISTINCT c.category, '|') AS categories " +
+                   "FROM diary d LEFT JOIN LATERAL unnest(d.categories) AS c(category) ON true " +
+                   "WHERE d.user_id = :userId AND d.is_deleted = false AND d.created_at >= :from AND d.created_at < :to " +
+                   "GROUP BY 1 ORDER BY 1",
+           nativeQuery = true)
+    List<Object[]> aggregateDailyByUser(@Param("userId") Long userId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    @Query(value = "SELECT CAST(date_trunc('day', d.created_at) AS date) AS day, COUNT(DISTINCT d.diary_id) AS diary_count, " +
+                   "string_agg(DISTINCT c.category, '|') AS categories " +
+                   "FROM diary d LEFT JOIN LATERAL unnest(d.categories) AS c(category) ON true " +
+                   "WHERE d.is_deleted = false AND d.created_at >= :from AND d.created_at < :to " +
+                   "GROUP BY 1 ORDER BY 1",
+           nativeQuery = true)
+    List<Object[]> aggregateDaily(@Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
     // MyPet과 연관된 다이어리 삭제
     @Modifying
     @Query("DELETE FROM Diary d WHERE d.pet.myPetId = :myPetId")
     int deleteByMyPetId(@Param("myPetId") Long myPetId);
     
-    // 최근 5초 이내에 동일한 사용자가 동일한 제목과 내용으로 작성한 일기가 있는지 확인
-    @Query("SELECT COUNT(d) > 0 FROM Diary d WHERE d.user.id = :userId AND d.title = :title AND d.text = :text AND d.createdAt >= :fiveSecondsAgo")
-    boolean existsByUserIdAndTitleAndTextAndCreatedAtAfter(@Param("userId") Long userId, @Param("title") String title, @Param("text") String text, @Param("fiveSecondsAgo") LocalDateTime fiveSecondsAgo);
-    
-    // 같은 userId가 최근에 동일한 title+text로 작성한 일기를 찾는 메서드
-    Optional<Diary> findTopByUserIdAndTitleAndTextOrderByCreatedAtDesc(
-        Long userId, String title, String text
-    );
+    // 같은 사용자가 since 이후 같은 내용(제목+본문 해시)으로 작성한 일기가 있는지 확인 (중복 등록 방지)
+    @Query("SELECT COUNT(d) > 0 FROM Diary d WHERE d.user.id = :userId AND d.contentHash = :contentHash AND d.createdAt >= :since")
+    boolean existsRecentByContentHash(@Param("userId") Long userId, @Param("contentHash") String contentHash, @Param("since") LocalDateTime since);
 }
@@ -0,0 +1,69 @@
+package com.my.backend.diary.service;
+
+import com.my.backend.diary.dto.DiaryCalendarDto;
+import com.my.backend.global.cache.CacheInvalidationBus;
+import com.my.backend.global.cache.LocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 월간 달력 집계 캐시 (사용자 + 월 단위, 관리자 전체 조회는 "*")
+ * 일기가 바뀌면 그 일기가 속한 달의 작성자 항목과 전체 항목만 모든 노드에서 무효화한다.
+ */
+@Component
+public class DiaryCalendarCache {
+
+    public static final String NAME = "diaryCalendar";
+    private static final String ALL_USERS = "*";
+
+    private final LocalCache<String, DiaryCalendarDto> cache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public DiaryCalendarCache(CacheInvalidationBus invalidationBus,
+                              MeterRegistry meterRegistry,
+                              @Value("${cache.diary-calendar.max-entries:5000}") int maxEntries,
+                              @Value("${cache.diary-calendar.ttl-seconds:600}") long ttlSeconds) {
+        this.invalidationBus = invalidationBus;
+        this.cache = new LocalCache<String, DiaryCalendarDto>(NAME, maxEntries, Duration.ofSeconds(ttlSeconds),
+                Function.identity(), calendar -> 128L + 96L * calendar.getDays().size())
+                .bindTo(meterRegistry);
+        invalidationBus.register(cache);
+    }
+
+    /**
+     * @param userId 없으면 전체 사용자 (관리자 조회)
+     */
+    public DiaryCalendarDto getOrLoad(Long userId, YearMonth month, Supplier<DiaryCalendarDto> loader) {
+        return cache.getOrLoad(key(userId, month), loader);
+    }
+
+    /**
+     * 일기 작성/수정/삭제 후 호출 (작성 시각이 속한 달만)
+     */
+    public void evict(Long userId, LocalDateTime createdAt) {
+        if (createdAt == null) {
+            evictAll();
+            return;
+        }
+        YearMonth month = YearMonth.from(createdAt);
+        if (userId != null) {
+            invalidationBus.invalidate(NAME, key(userId, month));
+        }
+        invalidationBus.invalidate(NAME, key(null, month));
+    }
+
+    public void evictAll() {
+        invalidationBus.invalidateAll(NAME);
+    }
+
+    private static String key(Long userId, YearMonth month) {
+        return (userId == null ? ALL_USERS : userId.toString()) + ":" + month;
+    }
+}
@@ -0,0 +1,126 @@
+package com.my.backend.diary.service;
+
+import com.my.backend.diary.util.DiaryKeywordClassifier;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 일기 본문 카테고리 분류 (키워드 사전 + Aho-Corasick, 외부 호출 없음)
+ * - 사전은 diary.classifier.dictionary 위치에서 읽고, 파일이 바뀌면 주기적으로 다시 컴파일해서 교체한다.
+ *   (jar 안의 classpath 리소스는 변경 시각을 알 수 없어 reload() 로만 다시 읽는다)
+ * - 새 사전에 오류가 있으면 기존 사전을 그대로 쓴다.
+ * - 기준 점수 이상인 카테고리가 없으면 기본 카테고리(일상)로 분류한다.
+ */
+@Slf4j
+@Component
+public class DiaryCategoryClassifier {
+
+    private final ResourceLoader resourceLoader;
+    private final String dictionaryLocation;
+    private final double minScore;
+    private final int maxCategories;
+    private final String defaultCategory;
+    private final Timer classifyTimer;
+
+    private volatile DiaryKeywordClassifier classifier = DiaryKeywordClassifier.of(List.of());
+    private volatile long loadedModified = -1;
+
+    public DiaryCategoryClassifier(ResourceLoader resourceLoader,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${diary.classifier.dictionary:classpath:diary/category-keywords.txt}") String dictionaryLocation,
+                                   @Value("${diary.classifier.min-score:1.5}") double minScore,
+                                   @Value("${diary.classifier.max-categories:3}") int maxCategories,
+                                   @Value("${diary.classifier.default-category:일상}") String defaultCategory) {
+        this.resourceLoader = resourceLoader;
+        this.dictionaryLocation = dictionaryLocation;
+        this.minScore = minScore;
+        this.maxCategories = maxCategories;
+        this.defaultCategory = defaultCategory;
+        this.classifyTimer = Timer.builder("diary.classifier.duration").register(meterRegistry);
+        Gauge.builder("diary.classifier.keywords", this, c -> c.classifier.keywordCount()).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!reload()) {
+            log.error("일기 카테고리 사전을 읽지 못했습니다. 모든 일기가 '{}' 로 분류됩니다: {}", defaultCategory, dictionaryLocation);
+        }
+    }
+
+    /**
+     * 본문 카테고리 (점수 높은 순)
+     */
+    public String[] classify(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return new String[0];
+        }
+        List<String> categories = classifyTimer.record(() -> classifier.classify(text, minScore, maxCategories));
+        if (categories.isEmpty()) {
+            return new String[]{defaultCategory};
+        }
+        return categories.toArray(String[]::new);
+    }
+
+    /**
+     * 사전 파일이 바뀌었으면 다시 읽는다
+     */
+    @Scheduled(fixedDelayString = "${diary.classifier.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        long modified = lastModified(resourceLoader.getResource(dictionaryLocation));
+        if (modified > 0 && modified != loadedModified) {
+            reload();
+        }
+    }
+
+    /**
+     * 사전을 다시 읽어 교체 (실패하면 기존 사전 유지)
+     * @return 교체 성공 여부
+     */
+    public synchronized boolean reload() {
+        Resource resource = resourceLoader.getResource(dictionaryLocation);
+        long modified = lastModified(resource);
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            DiaryKeywordClassifier next = DiaryKeywordClassifier.of(DiaryKeywordClassifier.parse(reader));
+            classifier = next;
+            loadedModified = modified;
+            log.info("일기 카테고리 사전 로드: 카테고리 {}개, 키워드 {}개 ({})",
+                    next.categories().size(), next.keywordCount(), dictionaryLocation);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // 같은 파일로 계속 재시도하지 않도록 변경 시각은 기록해 둔다
+            loadedModified = modified;
+            log.warn("일기 카테고리 사전 로드 실패, 기존 사전 유지: location={}, error={}", dictionaryLocation, e.getMessage());
+            return false;
+        }
+    }
+
+    public List<String> categories() {
+        return classifier.categories();
+    }
+
+    public int keywordCount() {
+        return classifier.keywordCount();
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.isFile() ? resource.lastModified() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.my.backend.diary.service;
+
+import com.my.backend.global.cache.CacheInvalidationBus;
+import com.my.backend.global.cache.LocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 카테고리별 일기 수 캐시 (category + 사용자 단위, 관리자 전체 조회는 "*")
+ * 일기 생성/수정/삭제와 이미지 카테고리 병합 시 모든 노드에서 전체 무효화한다.
+ */
+@Component
+public class DiaryCategoryCountCache {
+
+    public static final String NAME = "diaryCategoryCount";
+    private static final String ALL_USERS = "*";
+
+    private final LocalCache<String, Long> cache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public DiaryCategoryCountCache(CacheInvalidationBus invalidationBus,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${cache.diary-category-count.max-entries:2000}") int maxEntries,
+                                   @Value("${cache.diary-category-count.ttl-seconds:300}") long ttlSeconds) {
+        this.invalidationBus = invalidationBus;
+        this.cache = new LocalCache<String, Long>(NAME, maxEntries, Duration.ofSeconds(ttlSeconds),
+                Function.identity(), count -> 64L)
+                .bindTo(meterRegistry);
+        invalidationBus.register(cache);
+    }
+
+    /**
+     * @param userId 없으면 전체 사용자 (관리자 조회)
+     */
+    public long getOrLoad(String category, Long userId, Supplier<Long> loader) {
+        return cache.getOrLoad(category + ":" + (userId == null ? ALL_USERS : userId), loader);
+    }
+
+    public void evictAll() {
+        invalidationBus.invalidateAll(NAME);
+    }
+}
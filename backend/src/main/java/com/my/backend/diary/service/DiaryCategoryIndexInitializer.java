@@ -0,0 +1,63 @@
+package com.my.backend.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 일기 카테고리 조회용 스키마 준비 (JPA ddl-auto 로 만들 수 없으므로 직접 관리, 모두 재실행 가능)
+ * - 예전 TEXT 컬럼('{"건강"}' 문자열)은 text[] 로 변환한다.
+ * - categories @> ARRAY[...] 조회용 GIN 인덱스
+ * - (created_at, diary_id) 키셋 페이지용 인덱스 (전체 / 사용자별)
+ *   흔한 카테고리는 GIN 보다 최신순 인덱스를 따라가며 거르는 쪽이 빨라서 둘 다 둔다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DiaryCategoryIndexInitializer implements CommandLineRunner {
+
+    private static final String COLUMN_TYPE_SQL =
+            "SELECT data_type FROM information_schema.columns " +
+                    "WHERE table_schema = current_schema() AND table_name = 'diary' AND column_name = 'categories'";
+
+    private static final String CONVERT_SQL =
+            "ALTER TABLE diary ALTER COLUMN categories TYPE text[] USING " +
+                    "CASE WHEN categories IS NULL OR categories = '' THEN CAST('{}' AS text[]) " +
+                    "ELSE CAST(categories AS text[]) END";
+
+    private static final List<String> DDL = List.of(
+            "UPDATE diary SET categories = CAST('{}' AS text[]) WHERE categories IS NULL",
+            "ALTER TABLE diary ALTER COLUMN categories SET DEFAULT CAST('{}' AS text[])",
+            "CREATE INDEX IF NOT EXISTS idx_diary_categories_gin ON diary USING GIN (categories) WHERE is_deleted = false",
+            "CREATE INDEX IF NOT EXISTS idx_diary_created_id ON diary (created_at DESC, diary_id DESC) WHERE is_deleted = false",
+            "CREATE INDEX IF NOT EXISTS idx_diary_user_created_id ON diary (user_id, created_at DESC, diary_id DESC) WHERE is_deleted = false"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<String> type = jdbcTemplate.queryForList(COLUMN_TYPE_SQL, String.class);
+                if (type.isEmpty()) {
+                    return;
+                }
+                if (!"ARRAY".equals(type.get(0))) {
+                    jdbcTemplate.execute(CONVERT_SQL);
+                    log.info("diary.categories 컬럼을 text[] 로 변환했습니다. (기존 타입: {})", type.get(0));
+                }
+                DDL.forEach(jdbcTemplate::execute);
+            });
+        } catch (Exception e) {
+            // 인덱스가 없어도 조회는 동작하므로 서버 기동을 막지 않는다
+            log.error("일기 카테고리 인덱스 준비 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.my.backend.diary.service;
+
+import com.my.backend.diary.entity.Diary;
+import com.my.backend.diary.entity.ImageClassificationStatus;
+import com.my.backend.diary.repository.DiaryRepository;
+import com.my.backend.s3.S3Service;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 일기 이미지 카테고리 분류 파이프라인
+ * - 일기는 텍스트 카테고리와 PENDING 상태로 먼저 저장되고, 이미지 분류는 여기서 백그라운드로 처리한다.
+ * - 업로드 요청에서 이미 받은 바이트는 로컬 임시 파일로 넘겨받아 S3 에서 다시 내려받지 않는다.
+ *   (임시 파일이 없을 때만 S3 에서 내려받는다: JSON 으로 imageUrl 만 넘어온 경우, 재기동 후 복구 등)
+ * - 대기열에서 최대 batch-size 개를 모아 AI 서비스 /classify-images 에 한 번에 보낸다.
+ * - 결과 카테고리는 기존(텍스트) 카테고리와 병합하고 DONE 으로 바꾼다.
+ *   실패하면 retry-delay-ms 부터 두 배씩 늘려 가며 다시 대기열에 넣고, max-attempts 를 넘으면 FAILED.
+ *   (AI 서비스가 잠깐 멈춘 동안 들어온 일기가 몇 초 만에 모두 FAILED 되지 않도록)
+ * - 재기동 등으로 유실된 PENDING 일기는 주기적으로 다시 대기열에 넣는다.
+ *   inFlight 는 이 노드의 작업만 알기 때문에, 복구할 때는 updated_at 을 옮기는 조건부 UPDATE 로 먼저 선점한다.
+ *   그래서 노드가 여러 대여도 같은 일기를 한 노드만 다시 분류한다.
+ */
+@Slf4j
+@Component
+public class DiaryImageClassificationPipeline {
+
+    // AI 서비스 영어 카테고리 → 한국어 태그
+    private static final Map<String, String> CATEGORY_TO_TAG = Map.of(
+            "dog medicine", "약",
+            "dog food", "사료",
+            "dog toy", "장난감",
+            "dog clothing", "옷",
+            "dog accessory", "용품",
+            "dog treat", "간식"
+    );
+
+    private final DiaryRepository diaryRepository;
+    private final S3Service s3Service;
+    private final RestTemplate restTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DiaryCategoryCountCache categoryCountCache;
+    private final DiaryCalendarCache calendarCache;
+
+    private final BlockingQueue<Item> queue;
+    // 대기열에 있거나 처리 중인 일기 (복구 시 중복 등록 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final List<Thread> workers = new ArrayList<>();
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running = true;
+
+    private final String aiServiceUrl;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private final long recoverAfterMinutes;
+
+    private final Counter classified;
+    private final Counter failed;
+
+    public DiaryImageClassificationPipeline(DiaryRepository diaryRepository,
+                                            S3Service s3Service,
+                                            RestTemplate restTemplate,
+                                            TransactionTemplate transactionTemplate,
+                                            DiaryCategoryCountCache categoryCountCache,
+                                            DiaryCalendarCache calendarCache,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${ai.service.url}") String aiServiceUrl,
+                                            @Value("${diary.image-classification.queue-capacity:500}") int queueCapacity,
+                                            @Value("${diary.image-classification.batch-size:8}") int batchSize,
+                                            @Value("${diary.image-classification.linger-ms:200}") long lingerMillis,
+                                            @Value("${diary.image-classification.workers:2}") int workerCount,
+                                            @Value("${diary.image-classification.max-attempts:3}") int maxAttempts,
+                                            @Value("${diary.image-classification.retry-delay-ms:30000}") long retryDelayMillis,
+                                            @Value("${diary.image-classification.recover-after-minutes:5}") long recoverAfterMinutes) {
+        this.diaryRepository = diaryRepository;
+        this.s3Service = s3Service;
+        this.restTemplate = restTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.categoryCountCache = categoryCountCache;
+        this.calendarCache = calendarCache;
+        this.aiServiceUrl = aiServiceUrl;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerMillis = lingerMillis;
+        this.workerCount = Math.max(1, workerCount);
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = Math.max(0, retryDelayMillis);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "diary-image-classifier-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.recoverAfterMinutes = recoverAfterMinutes;
+
+        this.classified = Counter.builder("diary.image.classification").tag("result", "done").register(meterRegistry);
+        this.failed = Counter.builder("diary.image.classification").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("diary.image.classification.queue", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "diary-image-classifier-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * 분류 요청 등록 (일기 저장 이후 호출)
+     * @param imageFile 요청에서 받은 이미지 (없으면 S3 에서 내려받음). 요청이 끝나면 사라지므로 임시 파일로 복사해 둔다.
+     */
+    public void submit(Long diaryId, String imageUrl, MultipartFile imageFile) {
+        if (!inFlight.add(diaryId)) {
+            return;
+        }
+        Path localFile = null;
+        if (imageFile != null && !imageFile.isEmpty()) {
+            try (InputStream in = imageFile.getInputStream()) {
+                localFile = Files.createTempFile("diary-image-" + diaryId + "-", ".img");
+                Files.copy(in, localFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.warn("일기 이미지 임시 파일 저장 실패, S3 에서 다시 받습니다: diaryId={}, error={}", diaryId, e.getMessage());
+                deleteQuietly(localFile);
+                localFile = null;
+            }
+        }
+        if (!queue.offer(new Item(diaryId, imageUrl, localFile, 0))) {
+            // 대기열이 가득 차면 PENDING 으로 남겨 두고 복구 주기에 처리
+            inFlight.remove(diaryId);
+            deleteQuietly(localFile);
+            log.warn("일기 이미지 분류 대기열 가득 참, 나중에 처리: diaryId={}", diaryId);
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                Item first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Item> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + lingerMillis;
+                while (batch.size() < batchSize) {
+                    long wait = deadline - System.currentTimeMillis();
+                    Item next = wait > 0 ? queue.poll(wait, TimeUnit.MILLISECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("일기 이미지 분류 워커 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void process(List<Item> batch) {
+        List<Item> loaded = new ArrayList<>(batch.size());
+        List<byte[]> images = new ArrayList<>(batch.size());
+        for (Item item : batch) {
+            try {
+                images.add(load(item));
+                loaded.add(item);
+            } catch (Exception e) {
+                retryOrFail(item, "이미지 읽기 실패: " + e.getMessage());
+            }
+        }
+        if (loaded.isEmpty()) {
+            return;
+        }
+
+        List<String> categories;
+        try {
+            categories = classifyBatch(loaded, images);
+        } catch (Exception e) {
+            log.warn("일기 이미지 일괄 분류 실패: count={}, error={}", loaded.size(), e.getMessage());
+            loaded.forEach(item -> retryOrFail(item, e.getMessage()));
+            return;
+        }
+
+        for (int i = 0; i < loaded.size(); i++) {
+            Item item = loaded.get(i);
+            String category = categories.get(i);
+            if (category == null) {
+                // 일괄 요청 안에서 이 이미지만 실패한 경우
+                retryOrFail(item, "AI 서비스 이미지 분류 실패");
+                continue;
+            }
+            String[] tags = {CATEGORY_TO_TAG.getOrDefault(category, "기타")};
+            try {
+                complete(item, tags, ImageClassificationStatus.DONE);
+                categoryCountCache.evictAll();
+                classified.increment();
+                finish(item);
+            } catch (Exception e) {
+                retryOrFail(item, "카테고리 병합 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private byte[] load(Item item) throws IOException {
+        if (item.localFile() != null && Files.exists(item.localFile())) {
+            return Files.readAllBytes(item.localFile());
+        }
+        return s3Service.downloadFile(item.imageUrl());
+    }
+
+    /**
+     * 여러 이미지를 multipart 요청 하나로 분류 (응답 순서 = 요청 순서, 실패한 이미지는 null)
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> classifyBatch(List<Item> items, List<byte[]> images) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            String imageUrl = items.get(i).imageUrl();
+            String filename = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+            Resource resource = new ByteArrayResource(images.get(i)) {
+                @Override
+                public String getFilename() {
+                    return filename;
+                }
+            };
+            body.add("files", resource);
+        }
+
+        ResponseEntity<Map> response = restTemplate.postForEntity(
+                aiServiceUrl + "/classify-images", new HttpEntity<>(body, headers), Map.class);
+        Map<String, Object> responseBody = response.getBody();
+        if (!response.getStatusCode().is2xxSuccessful() || responseBody == null
+                || !(responseBody.get("results") instanceof List<?> results) || results.size() != items.size()) {
+            throw new IllegalStateException("AI 서비스 이미지 일괄 분류 응답 오류: " + response.getStatusCode());
+        }
+
+        List<String> categories = new ArrayList<>(results.size());
+        for (Object result : results) {
+            Object category = result instanceof Map<?, ?> map ? map.get("category") : null;
+            categories.add(category instanceof String value ? value : null);
+        }
+        log.info("일기 이미지 일괄 분류 완료: count={}, categories={}", items.size(), categories);
+        return categories;
+    }
+
+    /**
+     * 이미지 카테고리를 기존 카테고리와 병합하고 상태 변경
+     * 분류 중 일기가 삭제되었거나 이미지가 바뀌었으면 반영하지 않는다.
+     */
+    private void complete(Item item, String[] imageCategories, ImageClassificationStatus status) {
+        transactionTemplate.executeWithoutResult(tx -> diaryRepository.findById(item.diaryId()).ifPresent(diary -> {
+            if (diary.getClassificationStatus() != ImageClassificationStatus.PENDING
+                    || !item.imageUrl().equals(diary.getImageUrl())) {
+                return;
+            }
+            String[] current = diary.getCategories() != null ? diary.getCategories() : new String[0];
+            diary.setCategories(Stream.concat(Arrays.stream(current), Arrays.stream(imageCategories))
+                    .distinct()
+                    .toArray(String[]::new));
+            diary.setClassificationStatus(status);
+            calendarCache.evict(diary.getUser().getId(), diary.getCreatedAt());
+        }));
+    }
+
+    private void retryOrFail(Item item, String error) {
+        if (running && item.attempts() + 1 < maxAttempts) {
+            // retry-delay-ms(기본 30초)부터 두 배씩 늘려 다시 대기열에 넣는다
+            long delay = retryDelayMillis << Math.min(item.attempts(), 10);
+            try {
+                retryScheduler.schedule(() -> requeue(item.retry()), delay, TimeUnit.MILLISECONDS);
+                log.warn("일기 이미지 분류 재시도 예정: diaryId={}, attempts={}, delayMs={}, error={}",
+                        item.diaryId(), item.attempts() + 1, delay, error);
+                return;
+            } catch (RejectedExecutionException e) {
+                log.debug("종료 중이라 재시도 예약 안 함: diaryId={}", item.diaryId());
+            }
+        }
+        if (item.attempts() + 1 >= maxAttempts) {
+            try {
+                complete(item, new String[0], ImageClassificationStatus.FAILED);
+            } catch (Exception e) {
+                log.warn("일기 이미지 분류 실패 상태 기록 실패: diaryId={}, error={}", item.diaryId(), e.getMessage());
+            }
+            failed.increment();
+            log.error("일기 이미지 분류 실패: diaryId={}, error={}", item.diaryId(), error);
+        }
+        // 재시도 대기열이 가득 찼거나 종료 중이면 PENDING 으로 남겨 복구 주기에 다시 처리
+        finish(item);
+    }
+
+    private void requeue(Item item) {
+        if (!running || !queue.offer(item)) {
+            // 대기열이 가득 찼거나 종료 중이면 PENDING 으로 남겨 복구 주기에 다시 처리
+            finish(item);
+        }
+    }
+
+    private void finish(Item item) {
+        inFlight.remove(item.diaryId());
+        deleteQuietly(item.localFile());
+    }
+
+    /**
+     * 오래 PENDING 인 일기 복구 (재기동으로 대기열이 사라진 경우 등, S3 에서 이미지를 받는다)
+     */
+    @Scheduled(fixedDelayString = "${diary.image-classification.recover-interval-ms:300000}")
+    public void recoverPending() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minusMinutes(recoverAfterMinutes);
+        List<Diary> stale = diaryRepository.findTop100ByClassificationStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+                ImageClassificationStatus.PENDING, before);
+        int claimed = 0;
+        for (Diary diary : stale) {
+            if (diary.getImageUrl() == null || diary.getImageUrl().isBlank() || inFlight.contains(diary.getDiaryId())) {
+                continue;
+            }
+            // 다른 노드가 먼저 선점했으면 건너뛴다
+            if (diaryRepository.claimForRecovery(diary.getDiaryId(), ImageClassificationStatus.PENDING, before, now) == 0) {
+                continue;
+            }
+            submit(diary.getDiaryId(), diary.getImageUrl(), null);
+            claimed++;
+        }
+        if (claimed > 0) {
+            log.info("일기 이미지 분류 복구 등록: {}건", claimed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        // 예약된 재시도는 바로 실행해서(running=false 이므로 대기열에 넣지 않음) 임시 파일만 정리
+        retryScheduler.shutdownNow().forEach(Runnable::run);
+        // 남은 항목은 PENDING 으로 남아 재기동 후 복구된다
+        Item item;
+        while ((item = queue.poll()) != null) {
+            deleteQuietly(item.localFile());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("임시 파일 삭제 실패: {}", file);
+        }
+    }
+
+    private record Item(Long diaryId, String imageUrl, Path localFile, int attempts) {
+        Item retry() {
+            return new Item(diaryId, imageUrl, localFile, attempts + 1);
+        }
+    }
+}
@@ -2,38 +2,35 @@ package com.my.backend.diary.service;
 
 import com.my.backend.account.entity.Account;
 import com.my.backend.account.repository.AccountRepository;
+import com.my.backend.diary.dto.DiaryCalendarDto;
+import com.my.backend.diary.dto.DiaryPageDto;
 import com.my.backend.diary.dto.DiaryRequestDto;
 import com.my.backend.diary.dto.DiaryResponseDto;
 import com.my.backend.diary.dto.DiaryUpdateDto;
 import com.my.backend.diary.entity.Diary;
+import com.my.backend.diary.entity.ImageClassificationStatus;
 import com.my.backend.diary.repository.DiaryRepository;
+import com.my.backend.diary.util.DiaryContentHash;
 import com.my.backend.pet.entity.MyPet;
 import com.my.backend.pet.repository.MyPetRepository;
 import com.my.backend.s3.S3Service;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
-import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.Arrays;
 
 @Service
@@ -44,64 +41,75 @@ public class DiaryService {
     private final DiaryRepository diaryRepository;
     private final AccountRepository accountRepository;
     private final MyPetRepository myPetRepository;
-    private final RestTemplate restTemplate;
     private final S3Service s3Service;
-    private final ObjectMapper objectMapper;
-    
-    @Value("${ai.service.url}")
-    private String aiServiceUrl;
+    private final DiaryImageClassificationPipeline imageClassificationPipeline;
+    private final DiaryCategoryCountCache categoryCountCache;
+    private final DiaryCalendarCache calendarCache;
+    private final DiaryCategoryClassifier categoryClassifier;
+    private final DiarySubmissionGuard submissionGuard;
 
     public DiaryResponseDto createDiary(DiaryRequestDto dto) {
+        return createDiary(dto, null);
+    }
+
+    /**
+     * 일기 생성 (이미지 카테고리는 저장 후 비동기로 분류해서 병합)
+     * @param imageFile 요청에서 받은 이미지 (있으면 분류 시 S3 에서 다시 받지 않음)
+     */
+    public DiaryResponseDto createDiary(DiaryRequestDto dto, MultipartFile imageFile) {
         Account user = accountRepository.findById(dto.getUserId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         
-        // 같은 userId가 최근 5초 이내에 동일한 title+text로 저장하려는 경우 중복 등록 차단
-        Optional<Diary> existingDiary = diaryRepository.findTopByUserIdAndTitleAndTextOrderByCreatedAtDesc(
-            dto.getUserId(), dto.getTitle(), dto.getText());
-        
-        if (existingDiary.isPresent()) {
-            LocalDateTime fiveSecondsAgo = LocalDateTime.now().minusSeconds(5);
-            if (existingDiary.get().getCreatedAt().isAfter(fiveSecondsAgo)) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "동일한 내용의 일기가 최근에 등록되었습니다.");
-            }
-        }
-        
         // MyPet 정보 가져오기 (petId가 제공된 경우)
         MyPet pet = null;
         if (dto.getPetId() != null) {
             pet = myPetRepository.findByMyPetIdAndOwnerId(dto.getPetId(), dto.getUserId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Pet not found or not owned by user"));
         }
-        
+
+        // 같은 userId가 최근 5초 이내에 동일한 title+text로 저장하려는 경우 중복 등록 차단 (내용 해시로 비교)
+        String contentHash = DiaryContentHash.of(dto.getTitle(), dto.getText());
+        if (submissionGuard.isDuplicate(dto.getUserId(), contentHash)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "동일한 내용의 일기가 최근에 등록되었습니다.");
+        }
+
         Diary diary = new Diary();
         diary.setUser(user);
         diary.setPet(pet);
         diary.setTitle(dto.getTitle());
         diary.setText(dto.getText());
+        diary.setContentHash(contentHash);
         diary.setAudioUrl(dto.getAudioUrl());
         diary.setImageUrl(dto.getImageUrl());
 
-        // 텍스트 및 이미지 기반 카테고리 분류
-        String[] textCategories = classifyDiaryContent(dto.getText());
-        String[] imageCategories = classifyDiaryImage(dto.getImageUrl());
-        // 카테고리 병합 (중복 제거)
-        String[] categories = Stream.concat(
-                Arrays.stream(textCategories),
-                Arrays.stream(imageCategories)
-        ).distinct().toArray(String[]::new);
-        
-        log.info("일기 생성 - 텍스트 카테고리: {}, 이미지 카테고리: {}, 최종 카테고리: {}", 
-                Arrays.toString(textCategories), Arrays.toString(imageCategories), Arrays.toString(categories));
-        
-        diary.setCategories(categories);
+        // 텍스트 기반 카테고리만 바로 저장하고, 이미지 카테고리는 분류가 끝나면 병합된다
+        String[] categories;
+        boolean hasImage = hasText(dto.getImageUrl());
+        Diary saved;
+        try {
+            categories = classifyDiaryContent(dto.getText());
+            diary.setCategories(categories);
+            diary.setClassificationStatus(hasImage ? ImageClassificationStatus.PENDING : ImageClassificationStatus.NONE);
+            saved = diaryRepository.save(diary);
+        } catch (RuntimeException e) {
+            // 저장하지 못했으면 중복 기록을 지워서 재시도가 중복으로 막히지 않게 한다
+            submissionGuard.release(dto.getUserId(), contentHash);
+            throw e;
+        }
+        categoryCountCache.evictAll();
+        calendarCache.evict(user.getId(), saved.getCreatedAt());
+        log.info("일기 생성 - 텍스트 카테고리: {}, 이미지 분류 대기: {}", Arrays.toString(categories), hasImage);
 
-        return DiaryResponseDto.from(diaryRepository.save(diary));
+        if (hasImage) {
+            imageClassificationPipeline.submit(saved.getDiaryId(), saved.getImageUrl(), imageFile);
+        }
+        return DiaryResponseDto.from(saved);
     }
 
     public String uploadImage(MultipartFile imageFile) {
         try {
-            // S3에 이미지 업로드 (/diary/images/ 폴더에 저장)
-            String imageUrl = s3Service.uploadDiaryImage(imageFile.getOriginalFilename(), imageFile.getBytes());
+            // 요청 스트림을 그대로 S3 로 전송 (바이트 배열로 올리지 않음)
+            String imageUrl = s3Service.uploadDiaryImage(imageFile);
             log.info("이미지 업로드 성공: {}", imageUrl);
             return imageUrl;
         } catch (Exception e) {
@@ -110,97 +118,6 @@ public class DiaryService {
         }
     }
 
-    // [수정] 이미지 기반 카테고리 분류: S3에서 다운로드 후 FastAPI 호출
-    private String[] classifyDiaryImage(String imageUrl) {
-        try {
-            if (imageUrl == null || imageUrl.trim().isEmpty()) {
-                return new String[0];
-            }
-
-            // S3에서 이미지 다운로드
-            byte[] imageBytes = s3Service.downloadFile(imageUrl);
-            log.info("File downloaded successfully from S3: {} ({} bytes)", imageUrl, imageBytes.length);
-
-            String classifyUrl = aiServiceUrl + "/classify-image";
-            log.info("이미지 분류 시작 - AI 서비스 URL: {}", classifyUrl);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            String filename = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
-            log.info("파일명 추출: {}", filename);
-            
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            
-            // Custom ByteArrayResource with proper filename
-            Resource fileResource = new ByteArrayResource(imageBytes) {
-                @Override
-                public String getFilename() {
-                    return filename;
-                }
-            };
-            
-            body.add("file", fileResource);
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-            log.info("AI 서비스로 multipart 요청 전송 시작...");
-            log.info("요청 헤더: {}", headers);
-            log.info("파일 리소스 타입: {}", fileResource.getClass().getName());
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                    classifyUrl,
-                    requestEntity,
-                    Map.class
-            );
-            
-            log.info("AI 서비스 요청 완료");
-
-            log.info("AI 서비스 응답 - 상태 코드: {}, 응답 본문: {}", response.getStatusCode(), response.getBody());
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                // AI 응답에서 category 추출 및 한국어 태그로 매핑
-                Map<String, Object> responseBody = response.getBody();
-                String category = null;
-                
-                // 여러 방법으로 카테고리 추출 시도
-                if (responseBody.containsKey("category")) {
-                    category = (String) responseBody.get("category");
-                } else if (responseBody.containsKey("clip_result")) {
-                    Map<String, Object> clipResult = (Map<String, Object>) responseBody.get("clip_result");
-                    if (clipResult != null && clipResult.containsKey("category")) {
-                        category = (String) clipResult.get("category");
-                    }
-                }
-                
-                if (category != null) {
-                    // 영어 카테고리를 한국어 태그로 변환
-                    Map<String, String> categoryToTag = new HashMap<>();
-                    categoryToTag.put("dog medicine", "약");
-                    categoryToTag.put("dog food", "사료");
-                    categoryToTag.put("dog toy", "장난감");
-                    categoryToTag.put("dog clothing", "옷");
-                    categoryToTag.put("dog accessory", "용품");
-                    categoryToTag.put("dog treat", "간식");
-
-                    String koreanTag = categoryToTag.getOrDefault(category, "기타");
-                    log.info("이미지 분류 성공 - 영어 카테고리: {}, 한국어 태그: {}", category, koreanTag);
-                    return new String[]{koreanTag};
-                } else {
-                    log.error("AI 서비스 응답에서 카테고리를 찾을 수 없음: {}", responseBody);
-                    return new String[0];
-                }
-            } else {
-                log.error("AI 서비스에서 이미지 분류 실패 - 상태 코드: {}", response.getStatusCode());
-                return new String[0];
-            }
-        } catch (Exception e) {
-            log.error("이미지 분류 중 오류 발생: {}", e.getMessage(), e);
-            return new String[0];
-        }
-    }
-
-
     public DiaryResponseDto getDiary(Long id) {
         Diary diary = diaryRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Diary not found"));
@@ -260,6 +177,43 @@ public class DiaryService {
         }
     }
 
+    /**
+     * 월간 달력 집계 (일별 일기 수 + 카테고리)
+     * 날짜마다 getDiariesByDateWithPaging 을 부르는 대신 한 달을 GROUP BY 쿼리 한 번으로 가져오고 캐시한다.
+     * @param month yyyy-MM
+     * @throws IllegalArgumentException 월 형식이 잘못된 경우
+     */
+    public DiaryCalendarDto getDiaryCalendar(String month, Long userId, String userRole) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 월 형식입니다 (yyyy-MM): " + month);
+        }
+        boolean admin = "ADMIN".equals(userRole);
+        LocalDateTime from = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime to = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+        return calendarCache.getOrLoad(admin ? null : userId, yearMonth, () -> {
+            List<Object[]> rows = admin
+                    ? diaryRepository.aggregateDaily(from, to)
+                    : diaryRepository.aggregateDailyByUser(userId, from, to);
+            List<DiaryCalendarDto.Day> days = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                LocalDate date = row[0] instanceof java.sql.Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) row[0];
+                List<String> categories = row[2] != null ? List.of(((String) row[2]).split("\\|")) : List.of();
+                days.add(DiaryCalendarDto.Day.builder()
+                        .date(date)
+                        .count(((Number) row[1]).longValue())
+                        .categories(categories)
+                        .build());
+            }
+            return DiaryCalendarDto.builder()
+                    .month(yearMonth.toString())
+                    .days(days)
+                    .build();
+        });
+    }
+
     public DiaryResponseDto updateDiary(Long id, DiaryUpdateDto dto, Long currentUserId, String userRole) {
         Diary diary = diaryRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Diary not found"));
@@ -273,18 +227,71 @@ public class DiaryService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You can only update your own diary");
         }
 
+        boolean imageChanged = !Objects.equals(diary.getImageUrl(), dto.getImageUrl());
+
         diary.setTitle(dto.getTitle());
         diary.setText(dto.getText());
+        diary.setContentHash(DiaryContentHash.of(dto.getTitle(), dto.getText()));
         diary.setAudioUrl(dto.getAudioUrl());
         diary.setImageUrl(dto.getImageUrl());
 
-        // 내용이 변경된 경우 카테고리 재분류
+        // 내용이 변경된 경우 카테고리 재분류 (이미지가 바뀌면 이미지 카테고리도 다시 분류해서 병합)
         String[] categories = classifyDiaryContent(dto.getText());
         diary.setCategories(categories);
+        if (imageChanged) {
+            diary.setClassificationStatus(hasText(dto.getImageUrl()) ? ImageClassificationStatus.PENDING : ImageClassificationStatus.NONE);
+        }
+
+        Diary saved = diaryRepository.save(diary);
+        categoryCountCache.evictAll();
+        calendarCache.evict(saved.getUser().getId(), saved.getCreatedAt());
+        if (imageChanged && hasText(saved.getImageUrl())) {
+            imageClassificationPipeline.submit(saved.getDiaryId(), saved.getImageUrl(), null);
+        }
+        return DiaryResponseDto.from(saved);
+    }
 
+    /**
+     * 직접 업로드(미리 서명된 URL)한 이미지를 일기에 연결하고 이미지 카테고리를 다시 분류
+     */
+    public DiaryResponseDto attachImage(Long id, String imageUrl, Long currentUserId, String userRole) {
+        Diary diary = findEditableDiary(id, currentUserId, userRole);
+        String previousImageUrl = diary.getImageUrl();
+        diary.setImageUrl(imageUrl);
+        diary.setClassificationStatus(ImageClassificationStatus.PENDING);
+
+        Diary saved = diaryRepository.save(diary);
+        if (!imageUrl.equals(previousImageUrl)) {
+            // 교체된 이전 이미지는 더 이상 참조되지 않으므로 삭제
+            s3Service.deleteReplacedFile(previousImageUrl);
+        }
+        categoryCountCache.evictAll();
+        calendarCache.evict(saved.getUser().getId(), saved.getCreatedAt());
+        imageClassificationPipeline.submit(saved.getDiaryId(), saved.getImageUrl(), null);
+        return DiaryResponseDto.from(saved);
+    }
+
+    /**
+     * 직접 업로드(미리 서명된 URL)한 오디오를 일기에 연결
+     */
+    public DiaryResponseDto attachAudio(Long id, String audioUrl, Long currentUserId, String userRole) {
+        Diary diary = findEditableDiary(id, currentUserId, userRole);
+        diary.setAudioUrl(audioUrl);
         return DiaryResponseDto.from(diaryRepository.save(diary));
     }
 
+    private Diary findEditableDiary(Long id, Long currentUserId, String userRole) {
+        Diary diary = diaryRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Diary not found"));
+        if (diary.getIsDeleted()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Diary not found");
+        }
+        if (!"ADMIN".equals(userRole) && !diary.getUser().getId().equals(currentUserId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You can only update your own diary");
+        }
+        return diary;
+    }
+
     public void deleteDiary(Long id, Long currentUserId, String userRole) {
         Diary diary = diaryRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "다이어리를 찾을 수 없습니다."));
@@ -299,96 +306,20 @@ public class DiaryService {
         }
 
         diaryRepository.delete(diary);
+        categoryCountCache.evictAll();
+        calendarCache.evict(diary.getUser().getId(), diary.getCreatedAt());
     }
 
-    public String transcribeAudio(MultipartFile audioFile) {
-        try {
-            // AI 서비스 URL 구성
-            String transcribeUrl = aiServiceUrl + "/transcribe";
-            log.info("음성 변환 시작 - AI 서비스 URL: {}", transcribeUrl);
-            log.info("음성 파일 정보 - 이름: {}, 크기: {} bytes", audioFile.getOriginalFilename(), audioFile.getSize());
-
-            // 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            // 파일 데이터 설정
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", new org.springframework.core.io.ByteArrayResource(audioFile.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return audioFile.getOriginalFilename();
-                }
-            });
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-            log.info("AI 서비스로 요청 전송 중...");
-
-            // AI 서비스 호출
-            ResponseEntity<TranscribeResponse> response = restTemplate.postForEntity(
-                transcribeUrl,
-                requestEntity,
-                TranscribeResponse.class
-            );
-
-            log.info("AI 서비스 응답 - 상태 코드: {}, 응답 본문: {}", response.getStatusCode(), response.getBody());
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                String transcribedText = response.getBody().getTranscript();
-                log.info("음성 변환 성공 - 변환된 텍스트: {}", transcribedText);
-                return transcribedText;
-            } else {
-                log.error("AI 서비스에서 음성 변환 실패 - 상태 코드: {}", response.getStatusCode());
-                throw new RuntimeException("AI 서비스에서 음성 변환 실패");
-            }
-
-        } catch (Exception e) {
-            log.error("음성 변환 중 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("음성 변환 중 오류 발생: " + e.getMessage());
-        }
-    }
-
-    public String uploadAudio(MultipartFile audioFile) {
-        try {
-            // 오디오 파일을 S3에 업로드 (/diary/audio/ 폴더에 저장)
-            String audioUrl = s3Service.uploadDiaryAudio(audioFile.getOriginalFilename(), audioFile.getBytes());
-            return audioUrl;
-        } catch (Exception e) {
-            throw new RuntimeException("오디오 업로드 중 오류 발생: " + e.getMessage());
-        }
+    private boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
     }
 
-    // 카테고리 분류 메서드 (키워드 기반)
+    // 카테고리 분류 메서드 (키워드 사전 기반, DiaryCategoryClassifier)
     private String[] classifyDiaryContent(String content) {
         try {
-            if (content == null || content.trim().isEmpty()) {
-                return new String[0];
-            }
-
-            String lowerContent = content.toLowerCase();
-
-            // 건강 관련 키워드 체크
-            String[] healthKeywords = {
-                "병원", "약", "검진", "진료", "치료", "수술", "주사", "투약", "복용", "처방",
-                "의사", "수의사", "진찰", "상담", "예방접종", "백신", "혈액검사", "엑스레이",
-                "초음파", "MRI", "CT", "내시경", "생검", "화학요법", "방사선치료",
-                "재활", "물리치료", "한방", "침", "뜸", "마사지", "운동", "다이어트",
-                "영양", "비타민", "영양제", "보조식품", "건강식품", "건강검진", "체크업"
-            };
-
-            // 건강 관련 키워드가 있으면 건강 카테고리만 반환
-            for (String keyword : healthKeywords) {
-                if (lowerContent.contains(keyword)) {
-                    log.info("건강 카테고리 분류: 건강 관련 키워드 '{}' 발견", keyword);
-                    return new String[]{"건강"};
-                }
-            }
-
-            // 건강 관련 키워드가 없으면 일상 카테고리 반환
-            log.info("일상 카테고리 분류: 건강 관련 키워드 없음");
-            return new String[]{"일상"};
-
+            String[] categories = categoryClassifier.classify(content);
+            log.info("카테고리 분류: {}", Arrays.toString(categories));
+            return categories;
         } catch (Exception e) {
             log.error("카테고리 분류 중 오류 발생: {}", e.getMessage(), e);
             return new String[0];
@@ -414,11 +345,11 @@ public class DiaryService {
             if ("ADMIN".equals(userRole)) {
                 log.info("관리자 권한으로 전체 '{}' 카테고리 일기 조회", category);
                 diaries = diaryRepository.findByCategoryWithPaging(category, size, offset);
-                totalElements = diaryRepository.countByCategory(category);
+                totalElements = categoryCountCache.getOrLoad(category, null, () -> diaryRepository.countByCategory(category));
             } else {
                 log.info("일반 사용자 권한으로 '{}' 카테고리 일기 조회 (userId: {})", category, userId);
                 diaries = diaryRepository.findByCategoryAndUserWithPaging(category, userId, size, offset);
-                totalElements = diaryRepository.countByCategoryAndUser(category, userId);
+                totalElements = categoryCountCache.getOrLoad(category, userId, () -> diaryRepository.countByCategoryAndUser(category, userId));
             }
 
             List<DiaryResponseDto> content = diaries.stream()
@@ -436,6 +367,58 @@ public class DiaryService {
         }
     }
 
+    /**
+     * 카테고리별 일기 커서 페이지 (최신순, OFFSET 없이 이전 페이지 마지막 행 다음부터 조회)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param includeTotal true 면 전체 건수도 채운다 (캐시된 값)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public DiaryPageDto getDiariesByCategoryCursor(String category, Long userId, String userRole,
+                                                   String cursor, int size, boolean includeTotal) {
+        boolean admin = "ADMIN".equals(userRole);
+        List<Diary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = admin
+                    ? diaryRepository.findCategoryFirstPage(category, size + 1)
+                    : diaryRepository.findUserCategoryFirstPage(category, userId, size + 1);
+        } else {
+            int separator = cursor.lastIndexOf('_');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            try {
+                LocalDateTime createdAt = LocalDateTime.parse(cursor.substring(0, separator));
+                Long id = Long.parseLong(cursor.substring(separator + 1));
+                rows = admin
+                        ? diaryRepository.findCategoryPageBefore(category, createdAt, id, size + 1)
+                        : diaryRepository.findUserCategoryPageBefore(category, userId, createdAt, id, size + 1);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<Diary> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Diary last = items.get(items.size() - 1);
+            nextCursor = last.getCreatedAt() + "_" + last.getDiaryId();
+        }
+
+        Long totalElements = null;
+        if (includeTotal) {
+            totalElements = admin
+                    ? categoryCountCache.getOrLoad(category, null, () -> diaryRepository.countByCategory(category))
+                    : categoryCountCache.getOrLoad(category, userId, () -> diaryRepository.countByCategoryAndUser(category, userId));
+        }
+
+        return DiaryPageDto.builder()
+                .items(items.stream().map(DiaryResponseDto::from).toList())
+                .nextCursor(nextCursor)
+                .totalElements(totalElements)
+                .build();
+    }
+
     // 카테고리 분류 요청 DTO
     public static class CategoryClassificationRequest {
         private String content;
@@ -461,17 +444,4 @@ public class DiaryService {
             this.categories = categories;
         }
     }
-
-    // 음성 변환 응답 DTO
-    public static class TranscribeResponse {
-        private String transcript;
-
-        public String getTranscript() {
-            return transcript;
-        }
-
-        public void setTranscript(String transcript) {
-            this.transcript = transcript;
-        }
-    }
 }
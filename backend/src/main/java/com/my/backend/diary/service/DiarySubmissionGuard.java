@@ -0,0 +1,68 @@
+package com.my.backend.diary.service;
+
+import com.my.backend.community.util.ViewDedupeWindow;
+import com.my.backend.diary.repository.DiaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일기 중복 등록(더블 클릭 등) 감지
+ * 1) 이 노드에서 최근 제출된 (사용자, 내용 해시) 는 메모리 집합에서 바로 걸러낸다.
+ * 2) 메모리에 없으면 (user_id, content_hash, created_at) 인덱스로 최근 window 안의 같은 일기를 한 번 조회한다.
+ *    (다른 노드로 들어온 중복, 메모리 버킷이 넘어간 경우)
+ * 저장 중인 제출도 막기 위해 검사 시점에 기록하고, 저장이 실패하면 release 로 기록을 지운다.
+ */
+@Component
+public class DiarySubmissionGuard {
+
+    private final DiaryRepository diaryRepository;
+    private final ViewDedupeWindow recentSubmissions;
+    private final long windowSeconds;
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+
+    public DiarySubmissionGuard(DiaryRepository diaryRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${diary.duplicate.window-seconds:5}") long windowSeconds,
+                                @Value("${diary.duplicate.max-keys:50000}") int maxKeys) {
+        this.diaryRepository = diaryRepository;
+        this.windowSeconds = windowSeconds;
+        // 버킷 두 개(현재 + 직전)를 유지하므로 버킷 크기를 window 의 절반으로 잡아 최대 window 동안만 기억한다
+        this.recentSubmissions = new ViewDedupeWindow(Math.max(1, windowSeconds * 500L), maxKeys);
+        this.memoryHits = Counter.builder("diary.duplicate").tag("source", "memory").register(meterRegistry);
+        this.databaseHits = Counter.builder("diary.duplicate").tag("source", "database").register(meterRegistry);
+        Gauge.builder("diary.duplicate.recent.keys", recentSubmissions, ViewDedupeWindow::size).register(meterRegistry);
+    }
+
+    /**
+     * 최근 window 안에 같은 사용자가 같은 내용으로 제출했으면 true (아니면 이번 제출을 기록)
+     */
+    public boolean isDuplicate(Long userId, String contentHash) {
+        if (!recentSubmissions.firstSeen(key(userId, contentHash))) {
+            memoryHits.increment();
+            return true;
+        }
+        LocalDateTime since = LocalDateTime.now().minusSeconds(windowSeconds);
+        if (diaryRepository.existsRecentByContentHash(userId, contentHash, since)) {
+            databaseHits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 등록에 실패한 제출 기록을 지워서 바로 다시 제출할 수 있게 한다
+     */
+    public void release(Long userId, String contentHash) {
+        recentSubmissions.forget(key(userId, contentHash));
+    }
+
+    private static String key(Long userId, String contentHash) {
+        return userId + ":" + contentHash;
+    }
+}
@@ -0,0 +1,32 @@
+package com.my.backend.diary.service;
+
+import com.my.backend.s3.S3UploadAttachHandler;
+import com.my.backend.s3.entity.S3UploadPurpose;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 직접 업로드한 일기 이미지/오디오를 일기에 연결
+ */
+@Component
+@RequiredArgsConstructor
+public class DiaryUploadAttachHandler implements S3UploadAttachHandler {
+
+    private final DiaryService diaryService;
+
+    @Override
+    public Set<S3UploadPurpose> purposes() {
+        return Set.of(S3UploadPurpose.DIARY_IMAGE, S3UploadPurpose.DIARY_AUDIO);
+    }
+
+    @Override
+    public void attach(S3UploadPurpose purpose, Long targetId, String fileUrl, Long accountId, String role) {
+        if (purpose == S3UploadPurpose.DIARY_AUDIO) {
+            diaryService.attachAudio(targetId, fileUrl, accountId, role);
+        } else {
+            diaryService.attachImage(targetId, fileUrl, accountId, role);
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.my.backend.diary.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.diary.dto.DiaryVoiceDto;
+import com.my.backend.diary.entity.DiaryAudio;
+import com.my.backend.diary.repository.DiaryAudioRepository;
+import com.my.backend.s3.S3Service;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * 음성 일기 파이프라인
+ * - 요청 오디오는 한 번만 읽으면서 임시 파일에 쓰고 동시에 SHA-256 을 계산한다. (힙에 바이트 배열을 만들지 않음)
+ * - S3 업로드와 음성 변환은 같은 임시 파일에서 각각 스트리밍으로 보내고, 둘 다 필요하면 동시에 진행한다.
+ * - 변환 결과와 S3 주소는 내용 해시 단위로 diary_audio 에 저장해 같은 녹음은 다시 변환/업로드하지 않는다.
+ * - 긴 녹음은 AI 서비스가 구간별로 나눠 변환하고, 스트리밍 요청이면 구간 결과를 SSE 로 바로 전달한다.
+ */
+@Slf4j
+@Service
+public class DiaryVoiceService {
+
+    private final RestTemplate restTemplate;
+    private final S3Service s3Service;
+    private final DiaryAudioRepository audioRepository;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    // 업로드는 별도 풀에서 (변환 워커가 업로드 완료를 기다리므로 같은 풀을 쓰면 워커가 모두 막힐 수 있다)
+    private final ExecutorService uploadExecutor;
+    private final String aiServiceUrl;
+    private final long streamTimeoutMillis;
+
+    private final Counter transcriptCacheHits;
+    private final Counter transcriptCacheMisses;
+    private final Counter uploadReuses;
+
+    public DiaryVoiceService(@Qualifier("transcriptionRestTemplate") RestTemplate restTemplate,
+                             S3Service s3Service,
+                             DiaryAudioRepository audioRepository,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${ai.service.url}") String aiServiceUrl,
+                             @Value("${diary.voice.workers:4}") int workers,
+                             @Value("${diary.voice.upload-workers:4}") int uploadWorkers,
+                             @Value("${diary.voice.stream-timeout-ms:600000}") long streamTimeoutMillis) {
+        this.restTemplate = restTemplate;
+        this.s3Service = s3Service;
+        this.audioRepository = audioRepository;
+        this.objectMapper = objectMapper;
+        this.aiServiceUrl = aiServiceUrl;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable, "diary-voice-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger uploadThreadIndex = new AtomicInteger();
+        this.uploadExecutor = Executors.newFixedThreadPool(Math.max(1, uploadWorkers), runnable -> {
+            Thread thread = new Thread(runnable, "diary-voice-upload-" + uploadThreadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.transcriptCacheHits = Counter.builder("diary.voice.transcript.cache").tag("result", "hit").register(meterRegistry);
+        this.transcriptCacheMisses = Counter.builder("diary.voice.transcript.cache").tag("result", "miss").register(meterRegistry);
+        this.uploadReuses = Counter.builder("diary.voice.upload.reused").register(meterRegistry);
+    }
+
+    /**
+     * 음성 변환만 (같은 녹음이면 저장된 결과 반환)
+     */
+    public String transcribe(MultipartFile audioFile) {
+        try (SpooledAudio audio = spool(audioFile)) {
+            return transcribe(audio).transcript();
+        } catch (IOException e) {
+            throw new RuntimeException("음성 파일 읽기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 오디오 업로드만 (같은 녹음이 이미 올라가 있으면 그 주소 반환)
+     */
+    public String storeAudio(MultipartFile audioFile) {
+        try (SpooledAudio audio = spool(audioFile)) {
+            return upload(audio);
+        } catch (IOException e) {
+            throw new RuntimeException("오디오 업로드 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 업로드 + 음성 변환을 동시에 (일기 등록 시 audioUrl 을 넘기면 다시 올리지 않는다)
+     */
+    public DiaryVoiceDto process(MultipartFile audioFile) {
+        try (SpooledAudio audio = spool(audioFile)) {
+            CompletableFuture<String> uploaded = CompletableFuture.supplyAsync(() -> upload(audio), uploadExecutor);
+            Transcript transcript;
+            try {
+                transcript = transcribe(audio);
+            } catch (RuntimeException e) {
+                awaitQuietly(uploaded);
+                throw e;
+            }
+            return DiaryVoiceDto.builder()
+                    .transcript(transcript.transcript())
+                    .audioUrl(uploaded.join())
+                    .contentHash(audio.contentHash())
+                    .cached(transcript.cached())
+                    .build();
+        } catch (CompletionException e) {
+            throw new RuntimeException("오디오 업로드 중 오류 발생: " + e.getCause().getMessage(), e.getCause());
+        } catch (IOException e) {
+            throw new RuntimeException("음성 파일 읽기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 음성 변환 스트리밍 (SSE)
+     * - partial: {"index", "total", "text"} 구간 변환이 끝날 때마다
+     * - done: DiaryVoiceDto (전체 텍스트, upload=true 면 audioUrl 포함)
+     * 요청 파일은 응답을 돌려주기 전에 임시 파일로 옮겨 두고, 변환은 워커 스레드에서 진행한다.
+     */
+    public SseEmitter transcribeStream(MultipartFile audioFile, boolean upload) {
+        SpooledAudio audio;
+        try {
+            audio = spool(audioFile);
+        } catch (IOException e) {
+            throw new RuntimeException("음성 파일 읽기 실패: " + e.getMessage(), e);
+        }
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        try {
+            executor.execute(() -> {
+                try (audio) {
+                    CompletableFuture<String> uploaded = upload
+                            ? CompletableFuture.supplyAsync(() -> upload(audio), uploadExecutor)
+                            : CompletableFuture.completedFuture(null);
+                    Transcript transcript;
+                    try {
+                        transcript = cachedTranscript(audio.contentHash())
+                                .orElseGet(() -> requestTranscriptStream(audio, (index, partial) -> send(emitter, "partial", partial)));
+                    } catch (RuntimeException e) {
+                        awaitQuietly(uploaded);
+                        throw e;
+                    }
+                    emitter.send(SseEmitter.event().name("done").data(DiaryVoiceDto.builder()
+                            .transcript(transcript.transcript())
+                            .audioUrl(uploaded.join())
+                            .contentHash(audio.contentHash())
+                            .cached(transcript.cached())
+                            .build()));
+                    emitter.complete();
+                } catch (Exception e) {
+                    log.error("음성 변환 스트리밍 실패: {}", e.getMessage(), e);
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            audio.close();
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * 변환이 실패해도 업로드가 임시 파일을 다 읽을 때까지 기다린다 (그 전에 파일을 지우지 않도록)
+     */
+    private static void awaitQuietly(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (RuntimeException e) {
+            log.debug("변환 실패 후 업로드도 실패: {}", e.getMessage());
+        }
+    }
+
+    private Transcript transcribe(SpooledAudio audio) {
+        return cachedTranscript(audio.contentHash()).orElseGet(() -> requestTranscript(audio));
+    }
+
+    private Optional<Transcript> cachedTranscript(String contentHash) {
+        Optional<Transcript> cached = audioRepository.findById(contentHash)
+                .filter(row -> row.getTranscript() != null)
+                .map(row -> new Transcript(row.getTranscript(), true));
+        (cached.isPresent() ? transcriptCacheHits : transcriptCacheMisses).increment();
+        return cached;
+    }
+
+    /**
+     * AI 서비스에 파일을 스트리밍으로 보내 한 번에 변환
+     */
+    @SuppressWarnings("unchecked")
+    private Transcript requestTranscript(SpooledAudio audio) {
+        log.info("음성 변환 요청 - 파일: {}, 크기: {} bytes", audio.filename(), audio.size());
+        ResponseEntity<Map> response = restTemplate.postForEntity(
+                aiServiceUrl + "/transcribe", multipart(audio), Map.class);
+        Map<String, Object> body = response.getBody();
+        if (!response.getStatusCode().is2xxSuccessful() || body == null || !(body.get("transcript") instanceof String text)) {
+            throw new RuntimeException("AI 서비스에서 음성 변환 실패: " + response.getStatusCode());
+        }
+        saveTranscript(audio, text);
+        return new Transcript(text, false);
+    }
+
+    /**
+     * AI 서비스 NDJSON 스트림을 읽으며 구간 결과를 전달하고, 마지막 줄의 전체 텍스트를 반환
+     */
+    private Transcript requestTranscriptStream(SpooledAudio audio, BiConsumer<Integer, Map<String, Object>> onPartial) {
+        log.info("음성 변환 스트리밍 요청 - 파일: {}, 크기: {} bytes", audio.filename(), audio.size());
+        String text = restTemplate.execute(aiServiceUrl + "/transcribe?stream=true", HttpMethod.POST,
+                restTemplate.httpEntityCallback(multipart(audio)),
+                response -> {
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        JsonNode node = objectMapper.readTree(line);
+                        if (node.path("final").asBoolean(false)) {
+                            if (node.hasNonNull("error")) {
+                                throw new IOException("AI 서비스에서 음성 변환 실패: " + node.get("error").asText());
+                            }
+                            return node.path("transcript").asText("");
+                        }
+                        int index = node.path("index").asInt();
+                        onPartial.accept(index, Map.of(
+                                "index", index,
+                                "total", node.path("total").asInt(),
+                                "text", node.path("text").asText("")));
+                    }
+                    throw new IOException("AI 서비스 음성 변환 스트림이 완료되지 않았습니다.");
+                });
+        saveTranscript(audio, text);
+        return new Transcript(text, false);
+    }
+
+    private HttpEntity<MultiValueMap<String, Object>> multipart(SpooledAudio audio) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new FileSystemResource(audio.file()) {
+            @Override
+            public String getFilename() {
+                return audio.filename();
+            }
+        });
+        return new HttpEntity<>(body, headers);
+    }
+
+    private String upload(SpooledAudio audio) {
+        Optional<String> existing = audioRepository.findById(audio.contentHash()).map(DiaryAudio::getAudioUrl);
+        if (existing.isPresent()) {
+            uploadReuses.increment();
+            return existing.get();
+        }
+        String audioUrl = s3Service.uploadDiaryAudio(audio.filename(), audio.file());
+        audioRepository.upsertAudioUrl(audio.contentHash(), audio.size(), audioUrl, LocalDateTime.now());
+        return audioUrl;
+    }
+
+    /**
+     * 변환 결과 저장 (업로드와 동시에 끝나도 각자 자기 컬럼만 upsert 하므로 서로 덮어쓰지 않는다)
+     */
+    private void saveTranscript(SpooledAudio audio, String transcript) {
+        audioRepository.upsertTranscript(audio.contentHash(), audio.size(), transcript, LocalDateTime.now());
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException e) {
+            // 클라이언트가 끊겨도 변환은 끝까지 진행해서 결과를 저장해 둔다
+            log.debug("음성 변환 부분 결과 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 본문을 한 번 읽으면서 임시 파일 저장 + SHA-256 계산
+     */
+    private SpooledAudio spool(MultipartFile audioFile) throws IOException {
+        Path file = Files.createTempFile("diary-audio-", ".webm");
+        MessageDigest digest = sha256();
+        long size;
+        try (InputStream in = new DigestInputStream(audioFile.getInputStream(), digest)) {
+            size = Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        String filename = audioFile.getOriginalFilename() != null ? audioFile.getOriginalFilename() : "audio.webm";
+        return new SpooledAudio(file, HexFormat.of().formatHex(digest.digest()), size, filename);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        uploadExecutor.shutdownNow();
+    }
+
+    private record Transcript(String transcript, boolean cached) {
+    }
+
+    private record SpooledAudio(Path file, String contentHash, long size, String filename) implements AutoCloseable {
+        @Override
+        public void close() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.debug("음성 임시 파일 삭제 실패: {}", file);
+            }
+        }
+    }
+}
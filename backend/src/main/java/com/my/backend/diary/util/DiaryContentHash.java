@@ -0,0 +1,33 @@
+package com.my.backend.diary.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 일기 제목+본문 해시 (SHA-256, 16진수 64자)
+ * 중복 등록 검사에서 긴 TEXT 컬럼을 직접 비교하지 않고 해시 동등 비교로 대신한다.
+ */
+public final class DiaryContentHash {
+
+    private DiaryContentHash() {
+    }
+
+    public static String of(String title, String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(nullToEmpty(title).getBytes(StandardCharsets.UTF_8));
+            // 제목/본문 경계 구분 ("ab"+"c" 와 "a"+"bc" 가 같은 해시가 되지 않도록)
+            digest.update((byte) 0);
+            digest.update(nullToEmpty(text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
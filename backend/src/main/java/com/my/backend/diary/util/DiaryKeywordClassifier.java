@@ -0,0 +1,184 @@
+package com.my.backend.diary.util;
+
+import com.my.backend.community.util.KoreanTextNormalizer;
+import com.my.backend.community.util.ProfanityMatcher;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키워드 사전 기반 일기 카테고리 분류기
+ * - 모든 카테고리의 키워드를 Aho-Corasick 오토마톤 하나(ProfanityMatcher)로 컴파일하고,
+ *   본문을 한 번만 훑으면서 키워드가 나올 때마다 카테고리별 가중치를 더한다.
+ * - 키워드는 KoreanTextNormalizer 로 정규화하므로 공백/기호 변형(산 책, 병.원)도 잡힌다.
+ * - 정규화 결과가 같은 키워드가 여러 카테고리에 있으면 모두에 점수를 준다.
+ * 생성 후에는 불변이라 여러 스레드에서 공유해도 된다. (사전 교체는 새 인스턴스로)
+ */
+public final class DiaryKeywordClassifier {
+
+    public record Keyword(String category, String keyword, double weight) {
+    }
+
+    private final String[] categories;
+    private final ProfanityMatcher matcher;
+    // 단어 번호별 (카테고리 번호, 가중치) 목록
+    private final int[][] wordCategories;
+    private final double[][] wordWeights;
+
+    private DiaryKeywordClassifier(String[] categories, ProfanityMatcher matcher,
+                                   int[][] wordCategories, double[][] wordWeights) {
+        this.categories = categories;
+        this.matcher = matcher;
+        this.wordCategories = wordCategories;
+        this.wordWeights = wordWeights;
+    }
+
+    public static DiaryKeywordClassifier of(Collection<Keyword> keywords) {
+        Map<String, Integer> categoryIndex = new LinkedHashMap<>();
+        // 정규화된 키워드 → (처음 등록된 표기, 카테고리별 가중치)
+        Map<String, String> originals = new LinkedHashMap<>();
+        Map<String, Map<Integer, Double>> weights = new LinkedHashMap<>();
+        for (Keyword keyword : keywords) {
+            if (keyword.keyword() == null || keyword.keyword().isBlank() || keyword.category() == null) {
+                continue;
+            }
+            KoreanTextNormalizer.Normalized normalized = KoreanTextNormalizer.normalize(keyword.keyword());
+            if (normalized.length() == 0) {
+                continue;
+            }
+            String key = new String(normalized.chars(), 0, normalized.length());
+            int category = categoryIndex.computeIfAbsent(keyword.category(), c -> categoryIndex.size());
+            originals.putIfAbsent(key, keyword.keyword());
+            weights.computeIfAbsent(key, k -> new LinkedHashMap<>()).merge(category, keyword.weight(), Double::sum);
+        }
+
+        // 정규화 결과가 모두 다르므로 단어 번호는 등록 순서와 같다
+        ProfanityMatcher matcher = ProfanityMatcher.of(originals.values());
+        if (matcher.size() != originals.size()) {
+            throw new IllegalStateException("키워드 번호 불일치: " + matcher.size() + " != " + originals.size());
+        }
+
+        int[][] wordCategories = new int[originals.size()][];
+        double[][] wordWeights = new double[originals.size()][];
+        int word = 0;
+        for (Map<Integer, Double> byCategory : weights.values()) {
+            wordCategories[word] = new int[byCategory.size()];
+            wordWeights[word] = new double[byCategory.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Double> entry : byCategory.entrySet()) {
+                wordCategories[word][i] = entry.getKey();
+                wordWeights[word][i] = entry.getValue();
+                i++;
+            }
+            word++;
+        }
+        return new DiaryKeywordClassifier(categoryIndex.keySet().toArray(String[]::new), matcher,
+                wordCategories, wordWeights);
+    }
+
+    /**
+     * 사전 파일 파싱
+     * <pre>
+     * # 주석
+     * [건강]
+     * 병원=2
+     * 산책
+     * </pre>
+     * 가중치를 생략하면 1.0
+     * @throws IllegalArgumentException 형식이 잘못된 줄이 있는 경우
+     */
+    public static List<Keyword> parse(Reader reader) throws IOException {
+        List<Keyword> keywords = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String category = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("[") && line.endsWith("]")) {
+                category = line.substring(1, line.length() - 1).strip();
+                if (category.isEmpty()) {
+                    throw new IllegalArgumentException(lineNumber + "번째 줄: 카테고리 이름이 비어 있습니다.");
+                }
+                continue;
+            }
+            if (category == null) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 카테고리([이름]) 앞에 키워드가 있습니다.");
+            }
+            int separator = line.lastIndexOf('=');
+            String keyword = separator < 0 ? line : line.substring(0, separator).strip();
+            double weight = 1.0;
+            if (separator >= 0) {
+                try {
+                    weight = Double.parseDouble(line.substring(separator + 1).strip());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(lineNumber + "번째 줄: 가중치가 숫자가 아닙니다: " + line);
+                }
+            }
+            keywords.add(new Keyword(category, keyword, weight));
+        }
+        return keywords;
+    }
+
+    public int keywordCount() {
+        return matcher.size();
+    }
+
+    public List<String> categories() {
+        return List.of(categories);
+    }
+
+    /**
+     * 카테고리별 점수 (한 번 순회, 점수가 있는 카테고리만)
+     */
+    public Map<String, Double> score(String text) {
+        double[] scores = scores(text);
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] > 0) {
+                result.put(categories[i], scores[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * minScore 이상인 카테고리를 점수 높은 순으로 최대 maxCategories 개 (같으면 사전 순서)
+     */
+    public List<String> classify(String text, double minScore, int maxCategories) {
+        double[] scores = scores(text);
+        List<Integer> selected = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] > 0 && scores[i] >= minScore) {
+                selected.add(i);
+            }
+        }
+        selected.sort((a, b) -> Double.compare(scores[b], scores[a]));
+        return selected.stream()
+                .limit(maxCategories)
+                .map(i -> categories[i])
+                .toList();
+    }
+
+    private double[] scores(String text) {
+        double[] scores = new double[categories.length];
+        matcher.forEachMatch(text, word -> {
+            int[] wordCategory = wordCategories[word];
+            double[] weight = wordWeights[word];
+            for (int i = 0; i < wordCategory.length; i++) {
+                scores[wordCategory[i]] += weight[i];
+            }
+        });
+        return scores;
+    }
+}
@@ -0,0 +1,176 @@
+package com.my.backend.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 간 캐시 무효화 전파 (PostgreSQL LISTEN/NOTIFY)
+ * - invalidate() 는 로컬 캐시를 즉시 비우고, 트랜잭션이 있으면 커밋 직후 한 번 더 비운다.
+ * - pg_notify 는 트랜잭션 커밋 시점에 전달되므로 롤백된 변경은 다른 노드에 전파되지 않는다.
+ * - 각 노드는 전용 커넥션으로 LISTEN 하며, 재연결 시 놓친 알림이 있을 수 있으므로 등록된 캐시를 모두 비운다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final String CHANNEL = "cache_invalidation";
+    private static final String ALL_KEYS = "*";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, LocalCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${cache.invalidation.listen-enabled:true}")
+    private boolean listenEnabled;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void register(LocalCache<?, ?> cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    /**
+     * 특정 키 무효화 (모든 노드)
+     */
+    public void invalidate(String cacheName, Object key) {
+        evictLocal(cacheName, key.toString(), key);
+        afterCommit(() -> evictLocal(cacheName, key.toString(), key));
+        notifyNodes(cacheName + "|" + key);
+    }
+
+    /**
+     * 캐시 전체 무효화 (모든 노드)
+     */
+    public void invalidateAll(String cacheName) {
+        evictLocal(cacheName, ALL_KEYS, null);
+        afterCommit(() -> evictLocal(cacheName, ALL_KEYS, null));
+        notifyNodes(cacheName + "|" + ALL_KEYS);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!listenEnabled) {
+            log.info("캐시 무효화 LISTEN 비활성화");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // 연결이 끊겨 있던 동안의 알림은 유실되었을 수 있으므로 전체 비움
+                caches.values().forEach(LocalCache::invalidateAll);
+                log.info("캐시 무효화 채널 LISTEN 시작: {}", CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(5000);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handleNotification(notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("캐시 무효화 LISTEN 연결 오류, 5초 후 재시도: {}", e.getMessage());
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void handleNotification(String payload) {
+        int separator = payload.indexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        String cacheName = payload.substring(0, separator);
+        String key = payload.substring(separator + 1);
+        evictLocal(cacheName, key, null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void evictLocal(String cacheName, String keyText, Object key) {
+        LocalCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (ALL_KEYS.equals(keyText)) {
+            cache.invalidateAll();
+        } else if (key != null) {
+            cache.invalidate(key);
+        } else {
+            cache.invalidate(cache.parseKey(keyText));
+        }
+    }
+
+    private void notifyNodes(String payload) {
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 TTL 만료로 갱신됨
+            log.warn("캐시 무효화 알림 실패: payload={}, error={}", payload, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
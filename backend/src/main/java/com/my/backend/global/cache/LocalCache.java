@@ -0,0 +1,179 @@
+package com.my.backend.global.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 노드 로컬 LRU 캐시 (최대 항목 수 + TTL 제한)
+ * - 무효화가 일어나면 세대(generation)가 바뀌어, 무효화 이전에 시작된 로딩 결과는 캐시에 넣지 않는다.
+ *   (무효화 직후 오래된 값이 다시 채워지는 경쟁 상태 방지)
+ * - weigher 로 추정 메모리 사용량을 집계한다.
+ * 다른 노드와의 무효화 전파는 CacheInvalidationBus 가 담당한다.
+ */
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Function<String, K> keyParser;
+    private final ToLongFunction<V> weigher;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private long estimatedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public LocalCache(String name, int maxEntries, Duration ttl,
+                      Function<String, K> keyParser, ToLongFunction<V> weigher) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.keyParser = keyParser;
+        this.weigher = weigher;
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 다른 노드에서 문자열로 전달된 무효화 키를 캐시 키 타입으로 변환
+     */
+    public K parseKey(String keyText) {
+        return keyParser.apply(keyText);
+    }
+
+    public V get(K key) {
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(System.nanoTime())) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                removeEntry(key);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 읽어서 채운다. 로딩 중 무효화가 발생하면 결과는 반환만 하고 캐시에 넣지 않는다.
+     */
+    public V getOrLoad(K key, Supplier<V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long startGeneration = generation.get();
+        V loaded = loader.get();
+        if (loaded != null) {
+            synchronized (this) {
+                if (generation.get() == startGeneration) {
+                    putEntry(key, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void put(K key, V value) {
+        generation.incrementAndGet();
+        putEntry(key, value);
+    }
+
+    public synchronized void invalidate(K key) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        removeEntry(key);
+    }
+
+    public synchronized void invalidateAll() {
+        generation.incrementAndGet();
+        invalidations.increment();
+        entries.clear();
+        estimatedBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * 캐시 지표 등록 (cache.gets{result=hit|miss}, cache.hit.ratio, cache.size, cache.estimated.bytes ...)
+     */
+    public LocalCache<K, V> bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", name).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("cache.invalidations", invalidations, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        Gauge.builder("cache.hit.ratio", this, LocalCache::hitRatio)
+                .tag("cache", name).register(registry);
+        Gauge.builder("cache.size", this, LocalCache::size)
+                .tag("cache", name).register(registry);
+        Gauge.builder("cache.estimated.bytes", this, LocalCache::estimatedBytes)
+                .tag("cache", name).baseUnit("bytes").register(registry);
+        return this;
+    }
+
+    private void putEntry(K key, V value) {
+        long weight = weigher.applyAsLong(value);
+        Entry<V> previous = entries.put(key, new Entry<>(value, weight, System.nanoTime() + ttlNanos));
+        if (previous != null) {
+            estimatedBytes -= previous.weight;
+        }
+        estimatedBytes += weight;
+
+        // 가장 오래 사용되지 않은 항목부터 제거
+        var iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = iterator.next();
+            estimatedBytes -= eldest.getValue().weight;
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private void removeEntry(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            estimatedBytes -= removed.weight;
+        }
+    }
+
+    private record Entry<V>(V value, long weight, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
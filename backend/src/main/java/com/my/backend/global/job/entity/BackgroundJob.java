@@ -0,0 +1,73 @@
+package com.my.backend.global.job.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 작업 (AI 호출 등 오래 걸리는 부수 작업)
+ * 요청 처리 중에는 행만 기록하고, JobWorker 가 작업 타입별 스레드 풀에서 실행한다.
+ */
+@Entity
+@Table(name = "background_jobs", indexes = {
+        @Index(name = "idx_background_jobs_type_status_available", columnList = "job_type, status, available_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackgroundJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 작업 타입 (핸들러 라우팅 키)
+    @Column(name = "job_type", nullable = false, length = 64)
+    private String jobType;
+
+    // 작업 인자 (JSON)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private JobStatus status;
+
+    // 실행 시도 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // PENDING: 다음 실행 가능 시각 / RUNNING: 점유 만료 시각
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    // 같은 키로 대기 중인(PENDING) 작업은 하나만 (enqueueIfAbsent 용, 부분 유니크 인덱스는 JobIndexInitializer)
+    @Column(name = "dedupe_key", length = 64)
+    private String dedupeKey;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        if (availableAt == null) {
+            availableAt = now;
+        }
+        if (status == null) {
+            status = JobStatus.PENDING;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.my.backend.global.job.entity;
+
+public enum JobStatus {
+    PENDING,  // 실행 대기 (재시도 대기 포함)
+    RUNNING,  // 워커가 점유 중 (lease 만료 시 다시 가져감)
+    DONE,     // 완료
+    DEAD      // 최대 재시도 초과
+}
@@ -0,0 +1,87 @@
+package com.my.backend.global.job.repository;
+
+import com.my.backend.global.job.entity.BackgroundJob;
+import com.my.backend.global.job.entity.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, Long> {
+
+    // 실행 가능한 작업을 잠그며 조회 (다른 노드가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM background_jobs " +
+                   "WHERE job_type = :jobType AND status IN ('PENDING', 'RUNNING') AND available_at <= :now " +
+                   "ORDER BY available_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<BackgroundJob> lockAvailable(@Param("jobType") String jobType,
+                                      @Param("now") LocalDateTime now,
+                                      @Param("limit") int limit);
+
+    // 점유 표시: RUNNING + lease 만료 시각 + 시도 횟수 증가
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = :status, j.availableAt = :leaseUntil, j.attempts = j.attempts + 1 WHERE j.id IN :ids")
+    int markClaimed(@Param("ids") Collection<Long> ids,
+                    @Param("status") JobStatus status,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 실행 중 lease 연장 (점유한 시도가 아직 lease 를 가지고 있을 때만)
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.availableAt = :leaseUntil " +
+           "WHERE j.id = :id AND j.status = com.my.backend.global.job.entity.JobStatus.RUNNING AND j.attempts = :attempts")
+    int extendLease(@Param("id") Long id,
+                    @Param("attempts") int attempts,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 완료 기록: lease 가 만료되어 다른 노드가 다시 점유했으면(시도 횟수가 다르면) 아무것도 바꾸지 않는다
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = :status, j.finishedAt = :finishedAt, j.lastError = null " +
+           "WHERE j.id = :id AND j.status = com.my.backend.global.job.entity.JobStatus.RUNNING AND j.attempts = :attempts")
+    int markDone(@Param("id") Long id,
+                 @Param("attempts") int attempts,
+                 @Param("status") JobStatus status,
+                 @Param("finishedAt") LocalDateTime finishedAt);
+
+    // 실패 기록 (완료 기록과 같은 조건)
+    // 재시도로 돌릴 때 같은 dedupe_key 의 대기 작업이 이미 있으면 그 작업이 대신하므로 DONE 으로 끝낸다 (부분 유니크 인덱스 충돌 방지)
+    @Modifying
+    @Query(value = "UPDATE background_jobs j SET " +
+                   "status = CASE WHEN :status = 'PENDING' AND j.dedupe_key IS NOT NULL AND EXISTS (" +
+                   "  SELECT 1 FROM background_jobs p WHERE p.dedupe_key = j.dedupe_key AND p.status = 'PENDING' AND p.id <> j.id" +
+                   ") THEN 'DONE' ELSE :status END, " +
+                   "finished_at = CASE WHEN :status = 'PENDING' THEN j.finished_at ELSE :now END, " +
+                   "available_at = :availableAt, last_error = :lastError " +
+                   "WHERE j.id = :id AND j.status = 'RUNNING' AND j.attempts = :attempts",
+           nativeQuery = true)
+    int markFailed(@Param("id") Long id,
+                   @Param("attempts") int attempts,
+                   @Param("status") String status,
+                   @Param("now") LocalDateTime now,
+                   @Param("availableAt") LocalDateTime availableAt,
+                   @Param("lastError") String lastError);
+
+    // 같은 dedupe_key 로 대기 중인 작업이 없을 때만 등록 (동시에 불러도 부분 유니크 인덱스로 하나만 들어간다)
+    @Modifying
+    @Query(value = "INSERT INTO background_jobs (job_type, payload, status, attempts, available_at, created_at, dedupe_key) " +
+                   "VALUES (:jobType, :payload, 'PENDING', 0, :now, :now, :dedupeKey) " +
+                   "ON CONFLICT (dedupe_key) WHERE status = 'PENDING' DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("jobType") String jobType,
+                       @Param("payload") String payload,
+                       @Param("dedupeKey") String dedupeKey,
+                       @Param("now") LocalDateTime now);
+
+    // 완료된 오래된 작업 정리
+    @Modifying
+    @Query("DELETE FROM BackgroundJob j WHERE j.status = :status AND j.finishedAt < :before")
+    int deleteByStatusAndFinishedAtBefore(@Param("status") JobStatus status,
+                                          @Param("before") LocalDateTime before);
+
+    boolean existsByJobTypeAndStatusIn(String jobType, Collection<JobStatus> statuses);
+
+    long countByJobTypeAndStatus(String jobType, JobStatus status);
+}
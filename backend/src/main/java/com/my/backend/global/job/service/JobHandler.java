@@ -0,0 +1,30 @@
+package com.my.backend.global.job.service;
+
+import com.my.backend.global.job.entity.BackgroundJob;
+
+/**
+ * 백그라운드 작업 핸들러
+ * 작업 타입마다 하나씩 등록하며, 타입별 전용 스레드 풀에서 트랜잭션 없이 호출된다.
+ * (DB 쓰기가 필요하면 핸들러가 짧은 트랜잭션을 직접 연다)
+ * 실행은 at-least-once 이므로 멱등하게 구현해야 한다. 예외를 던지면 백오프 후 재시도한다.
+ */
+public interface JobHandler {
+
+    String jobType();
+
+    void handle(BackgroundJob job) throws Exception;
+
+    /**
+     * 노드당 동시 실행 수 (jobs.types.{타입}.concurrency 로 덮어쓸 수 있음)
+     */
+    default int concurrency() {
+        return 2;
+    }
+
+    /**
+     * 최대 시도 횟수 (jobs.types.{타입}.max-attempts 로 덮어쓸 수 있음)
+     */
+    default int maxAttempts() {
+        return 5;
+    }
+}
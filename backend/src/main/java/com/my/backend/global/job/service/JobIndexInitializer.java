@@ -0,0 +1,33 @@
+package com.my.backend.global.job.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 백그라운드 작업 테이블 인덱스 준비 (부분 유니크 인덱스는 JPA ddl-auto 로 만들 수 없으므로 직접 관리, 재실행 가능)
+ * - dedupe_key 가 같은 대기(PENDING) 작업은 하나만 둔다. (JobQueueService.enqueueIfAbsent 의 ON CONFLICT 대상)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class JobIndexInitializer implements CommandLineRunner {
+
+    private static final String DDL =
+            "CREATE UNIQUE INDEX IF NOT EXISTS uq_background_jobs_pending_dedupe " +
+                    "ON background_jobs (dedupe_key) WHERE status = 'PENDING'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            jdbcTemplate.execute(DDL);
+        } catch (Exception e) {
+            // 인덱스가 없으면 enqueueIfAbsent 의 ON CONFLICT 가 실패하므로 크게 기록한다
+            log.error("백그라운드 작업 인덱스 준비 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.my.backend.global.job.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.global.job.entity.BackgroundJob;
+import com.my.backend.global.job.entity.JobStatus;
+import com.my.backend.global.job.repository.BackgroundJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 백그라운드 작업 등록
+ * 호출한 쪽에 트랜잭션이 있으면 함께 커밋되므로, 비즈니스 쓰기가 롤백되면 작업도 등록되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobQueueService {
+
+    private final BackgroundJobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public BackgroundJob enqueue(String jobType, Object payload) {
+        BackgroundJob job = BackgroundJob.builder()
+                .jobType(jobType)
+                .payload(writePayload(payload))
+                .status(JobStatus.PENDING)
+                .attempts(0)
+                .build();
+        return jobRepository.save(job);
+    }
+
+    /**
+     * 같은 타입의 대기 중인 작업이 없을 때만 등록 (전체 재계산 같은 작업용)
+     * 확인과 등록을 INSERT ... ON CONFLICT DO NOTHING 한 번으로 처리해서 여러 노드가 동시에 불러도 하나만 등록된다.
+     * 실행 중(RUNNING)인 작업은 막지 않으므로 실행 도중 바뀐 내용은 다음 작업이 반영한다.
+     * @return 새로 등록했으면 true
+     */
+    @Transactional
+    public boolean enqueueIfAbsent(String jobType, Object payload) {
+        return jobRepository.insertIfAbsent(jobType, writePayload(payload), jobType, LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 작업이 있는지
+     */
+    @Transactional(readOnly = true)
+    public boolean hasActive(String jobType) {
+        return jobRepository.existsByJobTypeAndStatusIn(jobType, List.of(JobStatus.PENDING, JobStatus.RUNNING));
+    }
+
+    public <T> T readPayload(BackgroundJob job, Class<T> type) {
+        try {
+            return objectMapper.readValue(job.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("작업 본문 파싱 실패: id=" + job.getId(), e);
+        }
+    }
+
+    private String writePayload(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("작업 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
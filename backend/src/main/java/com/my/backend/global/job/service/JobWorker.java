@@ -0,0 +1,289 @@
+package com.my.backend.global.job.service;
+
+import com.my.backend.global.job.entity.BackgroundJob;
+import com.my.backend.global.job.entity.JobStatus;
+import com.my.backend.global.job.repository.BackgroundJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 백그라운드 작업 워커
+ * 1) 작업 타입마다 전용 스레드 풀과 동시 실행 한도(세마포어)를 둔다.
+ * 2) 폴링 시 남은 슬롯 수만큼만 FOR UPDATE SKIP LOCKED 로 점유(RUNNING + lease)하고 바로 커밋한다.
+ * 3) 작업은 트랜잭션 밖에서 실행되고, 성공 시 DONE, 실패 시 지수 백오프로 재시도, 최대 횟수를 넘으면 DEAD로 남긴다.
+ * 점유 후 노드가 죽으면 lease 만료 뒤 다른 노드가 다시 가져간다.
+ * 4) 실행 중인 작업은 heartbeat 로 lease 를 계속 연장해서, 오래 걸리는 작업을 다른 노드가 중복 실행하지 않게 한다.
+ *    완료/실패 기록은 점유한 시도(attempts)가 아직 RUNNING 일 때만 반영한다. (lease 를 잃은 뒤 늦게 끝난 실행이 덮어쓰지 않음)
+ */
+@Slf4j
+@Component
+public class JobWorker {
+
+    private final BackgroundJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Pool> pools = new LinkedHashMap<>();
+    // 이 노드에서 실행 중인 작업 ID → 점유한 시도 횟수 (heartbeat 대상)
+    private final Map<Long, Integer> leases = new ConcurrentHashMap<>();
+    private volatile boolean stopping;
+
+    @Value("${jobs.worker.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${jobs.worker.retention-days:7}")
+    private long retentionDays;
+
+    public JobWorker(BackgroundJobRepository jobRepository,
+                     TransactionTemplate transactionTemplate,
+                     List<JobHandler> handlers,
+                     Environment environment,
+                     MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = transactionTemplate;
+        for (JobHandler handler : handlers) {
+            String type = handler.jobType();
+            if (pools.containsKey(type)) {
+                throw new IllegalStateException("작업 핸들러 중복 등록: " + type);
+            }
+            int concurrency = environment.getProperty("jobs.types." + type + ".concurrency", Integer.class, handler.concurrency());
+            int maxAttempts = environment.getProperty("jobs.types." + type + ".max-attempts", Integer.class, handler.maxAttempts());
+            pools.put(type, new Pool(handler, Math.max(1, concurrency), maxAttempts, meterRegistry));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.worker.poll-interval-ms:500}")
+    public void poll() {
+        if (stopping) {
+            return;
+        }
+        for (Pool pool : pools.values()) {
+            dispatch(pool);
+        }
+    }
+
+    /**
+     * 남은 슬롯만큼 작업을 점유해서 풀에 넘기고 넘긴 건수를 반환
+     */
+    private int dispatch(Pool pool) {
+        int free = pool.slots.drainPermits();
+        if (free == 0) {
+            return 0;
+        }
+        List<BackgroundJob> jobs;
+        try {
+            jobs = claim(pool.handler.jobType(), free);
+        } catch (Exception e) {
+            pool.slots.release(free);
+            log.warn("작업 점유 실패: jobType={}, error={}", pool.handler.jobType(), e.getMessage());
+            return 0;
+        }
+        if (jobs.size() < free) {
+            pool.slots.release(free - jobs.size());
+        }
+        for (BackgroundJob job : jobs) {
+            pool.executor.execute(() -> run(pool, job));
+        }
+        return jobs.size();
+    }
+
+    private List<BackgroundJob> claim(String jobType, int limit) {
+        List<BackgroundJob> jobs = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<BackgroundJob> locked = jobRepository.lockAvailable(jobType, now, limit);
+            if (!locked.isEmpty()) {
+                List<Long> ids = locked.stream().map(BackgroundJob::getId).toList();
+                jobRepository.markClaimed(ids, JobStatus.RUNNING, now.plusSeconds(leaseSeconds));
+            }
+            return locked;
+        });
+        if (jobs == null) {
+            return List.of();
+        }
+        // 벌크 업데이트로 증가된 시도 횟수를 (커밋 후 분리된) 엔티티에 반영
+        jobs.forEach(job -> job.setAttempts(job.getAttempts() + 1));
+        return jobs;
+    }
+
+    private void run(Pool pool, BackgroundJob job) {
+        pool.running.incrementAndGet();
+        leases.put(job.getId(), job.getAttempts());
+        long started = System.nanoTime();
+        try {
+            try {
+                pool.handler.handle(job);
+            } finally {
+                // 핸들러가 끝나면 더 이상 lease 를 연장하지 않는다
+                leases.remove(job.getId());
+            }
+            Integer updated = transactionTemplate.execute(status ->
+                    jobRepository.markDone(job.getId(), job.getAttempts(), JobStatus.DONE, LocalDateTime.now()));
+            if (updated == null || updated == 0) {
+                log.warn("작업 완료 기록 생략 (lease 만료로 다른 실행이 점유): jobType={}, id={}, attempts={}",
+                        job.getJobType(), job.getId(), job.getAttempts());
+            }
+            pool.succeeded.increment();
+            log.debug("작업 완료: jobType={}, id={}", job.getJobType(), job.getId());
+        } catch (Exception e) {
+            markFailed(pool, job, e);
+        } finally {
+            pool.duration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            pool.running.decrementAndGet();
+            pool.slots.release();
+        }
+    }
+
+    private void markFailed(Pool pool, BackgroundJob job, Exception cause) {
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage(), 1000);
+        LocalDateTime now = LocalDateTime.now();
+        boolean dead = job.getAttempts() >= pool.maxAttempts;
+        try {
+            Integer updated = transactionTemplate.execute(status -> dead
+                    ? jobRepository.markFailed(job.getId(), job.getAttempts(), JobStatus.DEAD.name(), now, now, error)
+                    : jobRepository.markFailed(job.getId(), job.getAttempts(), JobStatus.PENDING.name(), now,
+                            now.plusSeconds(backoffSeconds(job.getAttempts())), error));
+            if (updated == null || updated == 0) {
+                log.warn("작업 실패 기록 생략 (lease 만료로 다른 실행이 점유): jobType={}, id={}, attempts={}",
+                        job.getJobType(), job.getId(), job.getAttempts());
+                return;
+            }
+        } catch (Exception e) {
+            // 상태 기록에 실패하면 lease 만료 후 다시 실행된다
+            log.warn("작업 실패 상태 기록 실패: jobType={}, id={}, error={}", job.getJobType(), job.getId(), e.getMessage());
+        }
+        if (dead) {
+            pool.dead.increment();
+            log.error("작업 DEAD 처리: jobType={}, id={}, attempts={}, error={}", job.getJobType(), job.getId(), job.getAttempts(), error);
+        } else {
+            pool.retried.increment();
+            log.warn("작업 실패, 재시도 예정: jobType={}, id={}, attempts={}, error={}", job.getJobType(), job.getId(), job.getAttempts(), error);
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 lease 연장 (lease 보다 충분히 짧은 주기로 실행)
+     */
+    @Scheduled(fixedDelayString = "${jobs.worker.heartbeat-ms:60000}")
+    public void renewLeases() {
+        if (leases.isEmpty()) {
+            return;
+        }
+        LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(leaseSeconds);
+        try {
+            transactionTemplate.executeWithoutResult(status -> leases.forEach((id, attempts) -> {
+                if (jobRepository.extendLease(id, attempts, leaseUntil) == 0) {
+                    log.warn("작업 lease 연장 실패 (이미 다른 실행이 점유): id={}, attempts={}", id, attempts);
+                }
+            }));
+        } catch (Exception e) {
+            log.warn("작업 lease 연장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 간격: 4, 8, 16, ... 초 (최대 10분)
+     */
+    private long backoffSeconds(int attempts) {
+        return Math.min(600L, 1L << Math.min(attempts + 1, 10));
+    }
+
+    /**
+     * 대기 작업 수 갱신 (모니터링용 게이지)
+     */
+    @Scheduled(fixedDelayString = "${jobs.worker.backlog-refresh-ms:30000}")
+    public void refreshBacklog() {
+        for (Pool pool : pools.values()) {
+            try {
+                pool.backlog.set(jobRepository.countByJobTypeAndStatus(pool.handler.jobType(), JobStatus.PENDING));
+            } catch (Exception e) {
+                log.debug("대기 작업 수 조회 실패: jobType={}, error={}", pool.handler.jobType(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 완료된 작업 정리 (매일 새벽 4시 30분)
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void purgeFinished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                jobRepository.deleteByStatusAndFinishedAtBefore(JobStatus.DONE, LocalDateTime.now().minusDays(retentionDays)));
+        log.info("완료된 백그라운드 작업 정리: {}건", deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        for (Pool pool : pools.values()) {
+            pool.executor.shutdown();
+        }
+        for (Pool pool : pools.values()) {
+            try {
+                // 끝나지 않은 작업은 lease 만료 후 다른 노드(또는 재기동 후)에서 다시 실행된다
+                pool.executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    private static final class Pool {
+        private final JobHandler handler;
+        private final int maxAttempts;
+        private final ExecutorService executor;
+        private final Semaphore slots;
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicLong backlog = new AtomicLong();
+        private final Counter succeeded;
+        private final Counter retried;
+        private final Counter dead;
+        private final Timer duration;
+
+        private Pool(JobHandler handler, int concurrency, int maxAttempts, MeterRegistry meterRegistry) {
+            String type = handler.jobType();
+            this.handler = handler;
+            this.maxAttempts = maxAttempts;
+            this.slots = new Semaphore(concurrency);
+            AtomicInteger threadIndex = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+                Thread thread = new Thread(runnable, "job-" + type + "-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            this.succeeded = Counter.builder("jobs.completed").tag("type", type).tag("result", "success").register(meterRegistry);
+            this.retried = Counter.builder("jobs.completed").tag("type", type).tag("result", "retry").register(meterRegistry);
+            this.dead = Counter.builder("jobs.completed").tag("type", type).tag("result", "dead").register(meterRegistry);
+            this.duration = Timer.builder("jobs.duration").tag("type", type).register(meterRegistry);
+            Gauge.builder("jobs.running", running, AtomicInteger::get).tag("type", type).register(meterRegistry);
+            Gauge.builder("jobs.pending", backlog, AtomicLong::get).tag("type", type).register(meterRegistry);
+        }
+    }
+}
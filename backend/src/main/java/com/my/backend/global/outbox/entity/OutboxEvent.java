@@ -0,0 +1,73 @@
+package com.my.backend.global.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트
+ * 비즈니스 쓰기와 같은 트랜잭션에서 저장되고, OutboxDispatcher가 커밋 이후 핸들러로 전달한다.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_available", columnList = "status, available_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 타입 (핸들러 라우팅 키)
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    // 집계 ID (주문 ID, 상품 ID 등)
+    @Column(name = "aggregate_id", length = 64)
+    private String aggregateId;
+
+    // 이벤트 본문 (JSON)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status;
+
+    // 전달 시도 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // PENDING: 다음 시도 가능 시각 / PROCESSING: 점유 만료 시각
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        if (availableAt == null) {
+            availableAt = now;
+        }
+        if (status == null) {
+            status = OutboxStatus.PENDING;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.my.backend.global.outbox.entity;
+
+public enum OutboxStatus {
+    PENDING,     // 전달 대기 (재시도 대기 포함)
+    PROCESSING,  // 디스패처가 점유 중 (lease 만료 시 다시 가져감)
+    DONE,        // 전달 완료
+    DEAD         // 최대 재시도 초과
+}
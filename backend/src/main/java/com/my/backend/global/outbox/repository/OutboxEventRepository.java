@@ -0,0 +1,50 @@
+package com.my.backend.global.outbox.repository;
+
+import com.my.backend.global.outbox.entity.OutboxEvent;
+import com.my.backend.global.outbox.entity.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 전달 가능한 이벤트를 잠그며 조회 (다른 노드가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM outbox_events " +
+                   "WHERE status IN ('PENDING', 'PROCESSING') AND available_at <= :now " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockAvailable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 점유 표시: PROCESSING + lease 만료 시각 + 시도 횟수 증가
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.availableAt = :leaseUntil, e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int markClaimed(@Param("ids") Collection<Long> ids,
+                    @Param("status") OutboxStatus status,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.processedAt = :processedAt, e.lastError = null WHERE e.id IN :ids")
+    int markDone(@Param("ids") Collection<Long> ids,
+                 @Param("status") OutboxStatus status,
+                 @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.availableAt = :availableAt, e.lastError = :lastError WHERE e.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids,
+                   @Param("status") OutboxStatus status,
+                   @Param("availableAt") LocalDateTime availableAt,
+                   @Param("lastError") String lastError);
+
+    // 처리 완료된 오래된 이벤트 정리
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.processedAt < :before")
+    int deleteByStatusAndProcessedAtBefore(@Param("status") OutboxStatus status,
+                                           @Param("before") LocalDateTime before);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -0,0 +1,183 @@
+package com.my.backend.global.outbox.service;
+
+import com.my.backend.global.outbox.entity.OutboxEvent;
+import com.my.backend.global.outbox.entity.OutboxStatus;
+import com.my.backend.global.outbox.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 폴링 디스패처
+ * 1) FOR UPDATE SKIP LOCKED 로 배치를 점유(PROCESSING + lease)하고 바로 커밋한다.
+ * 2) 이벤트 타입별로 묶어 핸들러에 배치 전달한다. 타입별로 별도 트랜잭션에서 실행된다.
+ * 3) 성공 시 DONE. 배치가 실패하면 건별로 다시 전달해서 실패한 이벤트만 지수 백오프로 재시도하고,
+ *    최대 횟수를 넘으면 DEAD로 남긴다. (정상 이벤트가 같은 배치의 실패 이벤트 때문에 DEAD 되지 않도록)
+ * 점유 후 노드가 죽으면 lease 만료 뒤 다른 노드가 다시 가져간다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, List<OutboxEventHandler>> handlers;
+
+    @Value("${outbox.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.dispatcher.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Value("${outbox.dispatcher.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${outbox.dispatcher.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${outbox.dispatcher.retention-days:7}")
+    private long retentionDays;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            TransactionTemplate transactionTemplate,
+                            List<OutboxEventHandler> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.handlers = handlers.stream()
+                .collect(Collectors.groupingBy(OutboxEventHandler::eventType));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatcher.poll-interval-ms:1000}")
+    public void poll() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            int claimed = dispatchBatch();
+            if (claimed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 배치를 점유해서 전달하고 점유한 건수를 반환
+     */
+    public int dispatchBatch() {
+        List<OutboxEvent> events = claim();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<OutboxEvent>> byType = events.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getEventType, LinkedHashMap::new, Collectors.toList()));
+
+        for (Map.Entry<String, List<OutboxEvent>> entry : byType.entrySet()) {
+            deliver(entry.getKey(), entry.getValue());
+        }
+        return events.size();
+    }
+
+    private List<OutboxEvent> claim() {
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> locked = outboxEventRepository.lockAvailable(now, batchSize);
+            if (!locked.isEmpty()) {
+                List<Long> ids = locked.stream().map(OutboxEvent::getId).toList();
+                outboxEventRepository.markClaimed(ids, OutboxStatus.PROCESSING, now.plusSeconds(leaseSeconds));
+            }
+            return locked;
+        });
+        if (events == null) {
+            return List.of();
+        }
+        // 벌크 업데이트로 증가된 시도 횟수를 (커밋 후 분리된) 엔티티에 반영
+        events.forEach(event -> event.setAttempts(event.getAttempts() + 1));
+        return events;
+    }
+
+    private void deliver(String eventType, List<OutboxEvent> events) {
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        List<OutboxEventHandler> typeHandlers = handlers.getOrDefault(eventType, List.of());
+
+        if (typeHandlers.isEmpty()) {
+            // 구독자가 없는 이벤트는 완료 처리 (이후 추가되는 핸들러는 새 이벤트부터 받음)
+            log.debug("아웃박스 핸들러 없음: eventType={}, count={}", eventType, events.size());
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markDone(ids, OutboxStatus.DONE, LocalDateTime.now()));
+            return;
+        }
+
+        try {
+            // 같은 타입의 핸들러들은 한 트랜잭션에서 실행되고, 하나라도 실패하면 배치 전체가 롤백된다
+            transactionTemplate.executeWithoutResult(status -> typeHandlers.forEach(handler -> handler.handle(events)));
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markDone(ids, OutboxStatus.DONE, LocalDateTime.now()));
+            log.debug("아웃박스 전달 완료: eventType={}, count={}", eventType, events.size());
+        } catch (Exception e) {
+            if (events.size() > 1) {
+                // 어떤 이벤트가 실패했는지 모르므로 한 건씩 다시 전달 (시도 횟수는 점유 때 한 번만 증가)
+                log.warn("아웃박스 배치 전달 실패, 건별 재전달: eventType={}, count={}, error={}", eventType, events.size(), e.getMessage());
+                events.forEach(event -> deliver(eventType, List.of(event)));
+                return;
+            }
+            log.warn("아웃박스 전달 실패: eventType={}, id={}, error={}", eventType, ids.get(0), e.getMessage());
+            markFailed(events, e);
+        }
+    }
+
+    private void markFailed(List<OutboxEvent> events, Exception cause) {
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage(), 1000);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 시도 횟수별로 다음 시도 시각이 다르므로 묶어서 갱신
+        Map<Integer, List<Long>> retryByAttempts = new LinkedHashMap<>();
+        List<Long> deadIds = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            if (event.getAttempts() >= maxAttempts) {
+                deadIds.add(event.getId());
+            } else {
+                retryByAttempts.computeIfAbsent(event.getAttempts(), k -> new ArrayList<>()).add(event.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            retryByAttempts.forEach((attempts, ids) ->
+                    outboxEventRepository.markFailed(ids, OutboxStatus.PENDING, now.plusSeconds(backoffSeconds(attempts)), error));
+            if (!deadIds.isEmpty()) {
+                outboxEventRepository.markFailed(deadIds, OutboxStatus.DEAD, now, error);
+                log.error("아웃박스 이벤트 DEAD 처리: ids={}, error={}", deadIds, error);
+            }
+        });
+    }
+
+    /**
+     * 재시도 간격: 2, 4, 8, ... 초 (최대 10분)
+     */
+    private long backoffSeconds(int attempts) {
+        return Math.min(600L, 1L << Math.min(attempts, 10));
+    }
+
+    /**
+     * 처리 완료된 이벤트 정리 (매일 새벽 4시)
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void purgeProcessed() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteByStatusAndProcessedAtBefore(OutboxStatus.DONE, LocalDateTime.now().minusDays(retentionDays)));
+        log.info("아웃박스 완료 이벤트 정리: {}건", deleted);
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
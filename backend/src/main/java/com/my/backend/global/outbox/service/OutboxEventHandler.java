@@ -0,0 +1,18 @@
+package com.my.backend.global.outbox.service;
+
+import com.my.backend.global.outbox.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 핸들러
+ * 같은 타입의 이벤트를 배치로 전달받는다. 전달은 at-least-once 이므로 멱등하게 구현해야 한다.
+ * 같은 타입에 여러 핸들러를 등록할 수 있다.
+ * 예외를 던지면 배치 전체가 재시도되고, 최대 시도 횟수를 넘으면 DEAD로 남는다.
+ */
+public interface OutboxEventHandler {
+
+    String eventType();
+
+    void handle(List<OutboxEvent> events);
+}
@@ -0,0 +1,51 @@
+package com.my.backend.global.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.global.outbox.entity.OutboxEvent;
+import com.my.backend.global.outbox.entity.OutboxStatus;
+import com.my.backend.global.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 이벤트 기록
+ * 호출한 쪽의 트랜잭션 안에서만 기록되므로, 비즈니스 쓰기가 롤백되면 이벤트도 함께 사라진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent append(String eventType, Object aggregateId, Object payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId != null ? aggregateId.toString() : null)
+                .payload(writePayload(payload))
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .build();
+        return outboxEventRepository.save(event);
+    }
+
+    public <T> T readPayload(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 본문 파싱 실패: id=" + event.getId(), e);
+        }
+    }
+
+    private String writePayload(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -49,8 +49,7 @@ public class WebSecurityConfig {
         log.info("Configuring ignored paths for WebSecurity");
         return (web) -> web.ignoring().requestMatchers(
                 "/h2-console/**",
-                "/api/health",
-                "/actuator/**"
+                "/api/health"
                 // OAuth2 경로는 제거 - Spring Security가 처리하도록 함
         );
     }
@@ -115,7 +114,8 @@ public class WebSecurityConfig {
                                 "/api/chatbot/**",
                                 "/api/mypet/internal/**",
                                 "/error",
-                                "/actuator/**",
+                                "/actuator/health",
+                                "/actuator/health/**",
                                 "/api/naver-shopping/**",
                                 "/api/search/**",
                                 "/api/embedding/**",
@@ -123,6 +123,8 @@ public class WebSecurityConfig {
                                 "/login/oauth2/code/**"
                         ).permitAll()
                         .requestMatchers("/api/orders/admin/**").hasRole("ADMIN")
+                        // 헬스 체크 외 actuator(지표 등)는 관리자만
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/travel-plans/**", "/chat").authenticated()
                         .anyRequest().authenticated())
                 .exceptionHandling(exception -> exception
@@ -30,7 +30,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
         boolean shouldNotFilter = path.equals("/api/health") || // 추가: ELB HealthChecker용
-                path.startsWith("/actuator/") || // 추가: Actuator 엔드포인트
+                path.startsWith("/actuator/health") || // 추가: Actuator 헬스 체크 (지표 등 나머지는 관리자 인증 필요)
                 path.equals("/api/accounts/register") ||
                 path.equals("/api/accounts/login") ||
                 path.equals("/api/accounts/refresh") ||
@@ -10,11 +10,14 @@ import com.my.backend.pet.entity.MyPet;
 import com.my.backend.pet.repository.MyPetRepository;
 import com.my.backend.s3.S3Service;
 import com.my.backend.diary.repository.DiaryRepository;
+import com.my.backend.diary.service.DiaryCalendarCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +32,7 @@ public class MyPetService {
     private final AccountRepository accountRepository;
     private final S3Service s3Service;
     private final DiaryRepository diaryRepository;
+    private final DiaryCalendarCache diaryCalendarCache;
 
     // 펫 등록
     public MyPetResponseDto registerMyPet(Long ownerId, MyPetRequestDto requestDto) {
@@ -90,6 +94,7 @@ public class MyPetService {
             // 1. 연관된 다이어리들 먼저 삭제
             try {
                 int deletedDiaries = diaryRepository.deleteByMyPetId(myPetId);
+                diaryCalendarCache.evictAll();
                 log.info("MyPet {}에 대한 {}개의 다이어리가 삭제되었습니다.", myPet.getName(), deletedDiaries);
             } catch (Exception e) {
                 log.error("다이어리 삭제 중 오류: {}", e.getMessage());
@@ -149,6 +154,20 @@ public class MyPetService {
         return convertToResponseDto(myPet);
     }
 
+    // 직접 업로드(미리 서명된 URL)한 이미지를 펫에 연결
+    public MyPetResponseDto attachPetImage(Long myPetId, Long ownerId, String imageUrl) {
+        MyPet myPet = myPetRepository.findByMyPetIdAndOwnerId(myPetId, ownerId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "펫을 찾을 수 없습니다."));
+        String previousImageUrl = myPet.getImageUrl();
+        myPet.setImageUrl(imageUrl);
+        MyPetResponseDto response = convertToResponseDto(myPetRepository.save(myPet));
+        if (!imageUrl.equals(previousImageUrl)) {
+            // 교체된 이전 이미지는 커밋 후 삭제
+            s3Service.deleteReplacedFile(previousImageUrl);
+        }
+        return response;
+    }
+
     // 이미지 업로드
     public String uploadPetImage(MultipartFile file) {
         return s3Service.uploadMyPetImage(file);
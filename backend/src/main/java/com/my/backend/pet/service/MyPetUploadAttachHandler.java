@@ -0,0 +1,28 @@
+package com.my.backend.pet.service;
+
+import com.my.backend.s3.S3UploadAttachHandler;
+import com.my.backend.s3.entity.S3UploadPurpose;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 직접 업로드한 펫 이미지를 내 펫에 연결 (본인 펫만)
+ */
+@Component
+@RequiredArgsConstructor
+public class MyPetUploadAttachHandler implements S3UploadAttachHandler {
+
+    private final MyPetService myPetService;
+
+    @Override
+    public Set<S3UploadPurpose> purposes() {
+        return Set.of(S3UploadPurpose.MYPET_IMAGE);
+    }
+
+    @Override
+    public void attach(S3UploadPurpose purpose, Long targetId, String fileUrl, Long accountId, String role) {
+        myPetService.attachPetImage(targetId, accountId, fileUrl);
+    }
+}
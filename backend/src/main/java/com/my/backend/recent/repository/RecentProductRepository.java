@@ -2,6 +2,7 @@ package com.my.backend.recent.repository;
 
 import com.my.backend.recent.entity.RecentProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,4 +17,9 @@ public interface RecentProductRepository extends JpaRepository<RecentProduct, Lo
     RecentProduct findByAccountIdAndProductTypeAndProductId(@Param("accountId") Long accountId, @Param("productType") String productType, @Param("productId") Long productId);
     
     void deleteByAccountIdAndProductType(Long accountId, String productType);
+
+    // 상품 삭제 시 모든 계정의 최근 본 상품에서 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM RecentProduct rp WHERE rp.storeProduct.id = :productId")
+    int deleteByStoreProductId(@Param("productId") Long productId);
 } 
\ No newline at end of file
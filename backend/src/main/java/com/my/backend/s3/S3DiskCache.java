@@ -0,0 +1,336 @@
+package com.my.backend.s3;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * S3 다운로드용 로컬 디스크 LRU 캐시 (S3 키 + ETag 단위)
+ * - 적중하면 파일을 메모리 매핑해서 읽고 S3 는 호출하지 않는다.
+ * - revalidateAfter 가 지난 항목은 If-None-Match(ETag) 조건부 GET 으로 확인한다. 304 면 본문 전송 없이 디스크 내용을 쓴다.
+ * - 전체 크기가 maxBytes 를 넘으면 가장 오래 사용하지 않은 파일부터 지운다. maxBytes/8 보다 큰 객체는 캐시하지 않는다.
+ * - 같은 키를 동시에 요청하면 S3 요청은 한 번만 보내고 결과를 나눠 쓴다.
+ * 색인은 메모리에만 있으므로 시작할 때 디렉터리를 비운다. (다운로드 중 종료되어 남은 임시 파일 포함)
+ */
+@Slf4j
+public class S3DiskCache {
+
+    /**
+     * S3 조회 (ifNoneMatch 가 현재 ETag 와 같으면 null 반환)
+     */
+    @FunctionalInterface
+    public interface Fetcher {
+        Fetched fetch(String key, String ifNoneMatch) throws IOException;
+    }
+
+    /**
+     * 조회 결과 (본문 스트림은 캐시가 읽고 닫는다)
+     */
+    public record Fetched(String eTag, InputStream body) {
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final long revalidateAfterMillis;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    // 다운로드 중인 키의 무효화 횟수 (무효화 전에 시작된 다운로드 결과는 캐시에 넣지 않는다)
+    // 다른 키의 무효화는 영향을 주지 않고, 다운로드가 끝나면 항목을 지운다.
+    private final Map<String, Long> generations = new HashMap<>();
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    public S3DiskCache(Path directory, long maxBytes, Duration revalidateAfter) {
+        this(directory, maxBytes, revalidateAfter, System::currentTimeMillis);
+    }
+
+    S3DiskCache(Path directory, long maxBytes, Duration revalidateAfter, LongSupplier clock) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxBytes / 8;
+        this.revalidateAfterMillis = revalidateAfter.toMillis();
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{bin,tmp}")) {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("S3 디스크 캐시 디렉터리 준비 실패: " + directory, e);
+        }
+    }
+
+    public byte[] get(String key, Fetcher fetcher) throws IOException {
+        CompletableFuture<byte[]> own = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            // 같은 키를 이미 읽는 중이면 그 결과를 기다린다
+            try {
+                return existing.join().clone();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+            }
+        }
+        try {
+            byte[] data = load(key, fetcher);
+            own.complete(data);
+            return data;
+        } catch (IOException | RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            // inFlight 에서 빠지기 전에 지워야 다음 다운로드가 이전 값을 읽지 않는다
+            synchronized (this) {
+                generations.remove(key);
+            }
+            inFlight.remove(key, own);
+        }
+    }
+
+    public void invalidate(String key) {
+        Entry removed;
+        synchronized (this) {
+            if (inFlight.containsKey(key)) {
+                generations.merge(key, 1L, Long::sum);
+            }
+            removed = entries.remove(key);
+            if (removed != null) {
+                totalBytes -= removed.size();
+            }
+        }
+        if (removed != null) {
+            deleteQuietly(removed.file());
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public long bytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * 캐시 지표 등록 (cache.gets{result=hit|miss}, cache.revalidations, cache.bytes.saved, cache.hit.ratio ...)
+     */
+    public S3DiskCache bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", name).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.revalidations", revalidated, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("cache.bytes.saved", bytesSaved, LongAdder::sum)
+                .tag("cache", name).baseUnit("bytes").register(registry);
+        Gauge.builder("cache.hit.ratio", this, S3DiskCache::hitRatio)
+                .tag("cache", name).register(registry);
+        Gauge.builder("cache.size", this, S3DiskCache::size)
+                .tag("cache", name).register(registry);
+        Gauge.builder("cache.estimated.bytes", this, S3DiskCache::totalBytes)
+                .tag("cache", name).baseUnit("bytes").register(registry);
+        return this;
+    }
+
+    private byte[] load(String key, Fetcher fetcher) throws IOException {
+        Entry entry;
+        long startGeneration;
+        synchronized (this) {
+            entry = entries.get(key);
+            startGeneration = generations.getOrDefault(key, 0L);
+        }
+        long now = clock.getAsLong();
+
+        if (entry != null && now - entry.validatedAt() < revalidateAfterMillis) {
+            byte[] data = readCached(key, entry);
+            if (data != null) {
+                hits.increment();
+                bytesSaved.add(data.length);
+                return data;
+            }
+            entry = null;
+        }
+
+        Fetched fetched = fetcher.fetch(key, entry != null ? entry.eTag() : null);
+        if (fetched == null && entry != null) {
+            // 304: 내용이 그대로이므로 확인 시각만 갱신
+            byte[] data = readCached(key, entry);
+            if (data != null) {
+                hits.increment();
+                revalidated.increment();
+                bytesSaved.add(data.length);
+                replace(key, new Entry(entry.file(), entry.eTag(), entry.size(), now), startGeneration);
+                return data;
+            }
+            fetched = fetcher.fetch(key, null);
+        }
+        if (fetched == null) {
+            throw new IOException("S3 객체 조회 결과가 없습니다: " + key);
+        }
+
+        misses.increment();
+        return store(key, fetched, now, startGeneration);
+    }
+
+    /**
+     * 본문을 임시 파일로 스트리밍한 뒤 캐시 파일로 옮긴다 (너무 큰 객체는 읽기만 하고 버린다)
+     */
+    private byte[] store(String key, Fetched fetched, long now, long startGeneration) throws IOException {
+        Path temp = Files.createTempFile(directory, "download-", ".tmp");
+        try {
+            long size;
+            try (InputStream body = fetched.body()) {
+                size = Files.copy(body, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            byte[] data = map(temp);
+            if (size > maxEntryBytes || fetched.eTag() == null) {
+                return data;
+            }
+            Path file = directory.resolve(fileName(key, fetched.eTag()));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (!replace(key, new Entry(file, fetched.eTag(), size, now), startGeneration)) {
+                deleteQuietly(file);
+            }
+            return data;
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private boolean replace(String key, Entry entry, long startGeneration) {
+        List<Path> toDelete = new ArrayList<>();
+        synchronized (this) {
+            if (generations.getOrDefault(key, 0L) != startGeneration) {
+                return false;
+            }
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                totalBytes -= previous.size();
+                if (!previous.file().equals(entry.file())) {
+                    toDelete.add(previous.file());
+                }
+            }
+            totalBytes += entry.size();
+
+            // 가장 오래 사용되지 않은 파일부터 제거
+            var iterator = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Entry> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                totalBytes -= eldest.getValue().size();
+                toDelete.add(eldest.getValue().file());
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+        toDelete.forEach(S3DiskCache::deleteQuietly);
+        return true;
+    }
+
+    /**
+     * 캐시 파일 읽기 (그사이 제거된 경우 null)
+     */
+    private byte[] readCached(String key, Entry entry) throws IOException {
+        try {
+            return map(entry.file());
+        } catch (NoSuchFileException e) {
+            synchronized (this) {
+                if (entries.get(key) == entry) {
+                    entries.remove(key);
+                    totalBytes -= entry.size();
+                }
+            }
+            return null;
+        }
+    }
+
+    private static byte[] map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IOException("파일이 너무 큽니다: " + file);
+            }
+            byte[] data = new byte[(int) size];
+            if (size > 0) {
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                mapped.get(data);
+            }
+            return data;
+        }
+    }
+
+    private static String fileName(String key, String eTag) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(eTag.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest()) + ".bin";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("S3 디스크 캐시 파일 삭제 실패: {}", file);
+        }
+    }
+
+    private record Entry(Path file, String eTag, long size, long validatedAt) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.my.backend.s3;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 여러 파일을 동시에 S3 로 올리는 업로드 (게시글 다중 이미지 등)
+ * - 전용 스레드 풀 크기(aws.s3.parallel.threads)만큼만 동시에 올린다. 파트 버퍼는 S3Service 의 공용 풀을 쓴다.
+ * - 파트 버퍼가 필요한 큰 파일은 공용 버퍼의 절반까지만 동시에 올려서 다른 업로드가 버퍼를 기다리다 실패하지 않게 한다.
+ *   (파트보다 작은 파일은 버퍼를 쓰지 않으므로 제한 없음)
+ * - 결과 URL 은 입력 순서 그대로 돌려준다.
+ * - 하나라도 실패하면 이미 올라간 파일을 일괄 삭제하고 예외를 던진다. (트랜잭션 전에 호출해서 DB 와 어긋나지 않게)
+ */
+@Slf4j
+@Service
+public class S3ParallelUploadService {
+
+    private final S3Service s3Service;
+    private final ExecutorService executor;
+    private final Semaphore bufferedUploads;
+
+    public S3ParallelUploadService(S3Service s3Service,
+                                   @Value("${aws.s3.parallel.threads:8}") int threads) {
+        this.s3Service = s3Service;
+        this.bufferedUploads = new Semaphore(Math.max(1, s3Service.uploadBufferCount() / 2));
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 게시글 이미지 등 일반 업로드 (S3Service.uploadFile 과 같은 폴더)
+     */
+    public List<String> uploadFiles(List<MultipartFile> files) {
+        return uploadAll(files, s3Service::uploadFile);
+    }
+
+    /**
+     * 모든 파일을 동시에 올리고 모두 끝날 때까지 기다린다
+     */
+    public List<String> uploadAll(List<MultipartFile> files, Function<MultipartFile, String> uploader) {
+        if (files == null || files.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (files.size() == 1) {
+            return new ArrayList<>(List.of(uploader.apply(files.get(0))));
+        }
+
+        long start = System.currentTimeMillis();
+        List<CompletableFuture<String>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> upload(file, uploader), executor))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            // 성공한 업로드는 지워서 고아 객체를 남기지 않는다
+            List<String> uploaded = futures.stream()
+                    .filter(future -> !future.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .toList();
+            try {
+                s3Service.deleteFiles(uploaded);
+            } catch (RuntimeException deleteError) {
+                log.warn("실패한 다중 업로드 정리 실패: {}", deleteError.getMessage());
+            }
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException runtime ? runtime : new RuntimeException("S3 upload failed", cause);
+        }
+
+        List<String> urls = new ArrayList<>(futures.size());
+        futures.forEach(future -> urls.add(future.join()));
+        log.info("S3 다중 업로드 완료: {}개, {}ms", urls.size(), System.currentTimeMillis() - start);
+        return urls;
+    }
+
+    private String upload(MultipartFile file, Function<MultipartFile, String> uploader) {
+        if (!s3Service.needsUploadBuffer(file.getSize())) {
+            return uploader.apply(file);
+        }
+        try {
+            bufferedUploads.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("S3 upload interrupted", e);
+        }
+        try {
+            return uploader.apply(file);
+        } finally {
+            bufferedUploads.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,233 @@
+package com.my.backend.s3;
+
+import com.my.backend.s3.dto.CompleteUploadRequestDto;
+import com.my.backend.s3.dto.CompleteUploadResponseDto;
+import com.my.backend.s3.dto.PresignedUploadRequestDto;
+import com.my.backend.s3.dto.PresignedUploadResponseDto;
+import com.my.backend.s3.entity.S3PendingUpload;
+import com.my.backend.s3.entity.S3UploadPurpose;
+import com.my.backend.s3.repository.S3PendingUploadRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 미리 서명된 URL 로 클라이언트가 S3 에 직접 올리는 업로드 흐름 (업로드 바이트가 서버를 거치지 않음)
+ * 1. presign: 용도별 폴더/Content-Type/최대 크기를 검사하고, Content-Type 과 크기를 서명에 넣은 PUT URL 발급
+ * 2. 클라이언트가 S3 로 직접 PUT
+ * 3. complete: HEAD 로 실제 객체의 크기/Content-Type 을 확인한 뒤 대상 엔티티에 붙인다 (S3UploadAttachHandler)
+ * 확인 없이 만료된 업로드는 주기적으로 객체까지 지운다.
+ */
+@Slf4j
+@Service
+public class S3PresignedUploadService {
+
+    private final S3Presigner presigner;
+    private final S3Client s3Client;
+    private final S3Service s3Service;
+    private final S3PendingUploadRepository pendingUploadRepository;
+    private final Map<S3UploadPurpose, S3UploadAttachHandler> attachHandlers = new EnumMap<>(S3UploadPurpose.class);
+
+    private final String bucketName;
+    private final Duration urlTtl;
+    private final Duration cleanupGrace;
+
+    public S3PresignedUploadService(S3Presigner presigner,
+                                    S3Client s3Client,
+                                    S3Service s3Service,
+                                    S3PendingUploadRepository pendingUploadRepository,
+                                    List<S3UploadAttachHandler> handlers,
+                                    @Value("${aws.s3.bucket.name:}") String bucketName,
+                                    @Value("${aws.s3.presign.ttl-seconds:300}") long urlTtlSeconds,
+                                    @Value("${aws.s3.presign.cleanup-grace-minutes:60}") long cleanupGraceMinutes) {
+        this.presigner = presigner;
+        this.s3Client = s3Client;
+        this.s3Service = s3Service;
+        this.pendingUploadRepository = pendingUploadRepository;
+        this.bucketName = bucketName;
+        this.urlTtl = Duration.ofSeconds(urlTtlSeconds);
+        this.cleanupGrace = Duration.ofMinutes(cleanupGraceMinutes);
+        for (S3UploadAttachHandler handler : handlers) {
+            for (S3UploadPurpose purpose : handler.purposes()) {
+                if (attachHandlers.putIfAbsent(purpose, handler) != null) {
+                    throw new IllegalStateException("업로드 처리기가 중복 등록되었습니다: " + purpose);
+                }
+            }
+        }
+    }
+
+    /**
+     * 업로드 URL 발급
+     * @throws IllegalArgumentException 용도/형식/크기가 허용되지 않는 경우
+     */
+    public PresignedUploadResponseDto presign(Long accountId, PresignedUploadRequestDto dto) {
+        if (presigner == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "S3 가 설정되지 않아 직접 업로드를 사용할 수 없습니다.");
+        }
+        S3UploadPurpose purpose = dto.getPurpose();
+        if (purpose == null) {
+            throw new IllegalArgumentException("purpose 가 필요합니다.");
+        }
+        if (!purpose.allows(dto.getContentType())) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + dto.getContentType());
+        }
+        Long contentLength = dto.getContentLength();
+        if (contentLength == null || contentLength <= 0 || contentLength > purpose.maxBytes()) {
+            throw new IllegalArgumentException("파일 크기는 1 ~ " + purpose.maxBytes() + " bytes 여야 합니다.");
+        }
+
+        String key = purpose.keyPrefix() + UUID.randomUUID() + purpose.extension(dto.getContentType());
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(urlTtl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(dto.getContentType())
+                        .contentLength(contentLength)
+                        .build())
+                .build());
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault());
+
+        pendingUploadRepository.save(S3PendingUpload.builder()
+                .objectKey(key)
+                .accountId(accountId)
+                .purpose(purpose)
+                .contentType(dto.getContentType())
+                .contentLength(contentLength)
+                .expiresAt(expiresAt)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        // Host 는 클라이언트가 URL 에서 자동으로 붙인다
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name) && !values.isEmpty()) {
+                headers.put(name, values.get(0));
+            }
+        });
+
+        log.info("직접 업로드 URL 발급: accountId={}, purpose={}, key={}, size={}", accountId, purpose, key, contentLength);
+        return PresignedUploadResponseDto.builder()
+                .key(key)
+                .uploadUrl(presigned.url().toString())
+                .method("PUT")
+                .headers(headers)
+                .fileUrl(s3Service.objectUrl(key))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 업로드 완료 확인 (+ targetId 가 있으면 엔티티에 연결)
+     * 같은 키로 다시 호출하면 확인은 건너뛰고 연결만 다시 한다.
+     * @throws IllegalArgumentException 객체가 없거나 발급 조건과 다른 경우
+     */
+    public CompleteUploadResponseDto complete(Long accountId, String role, CompleteUploadRequestDto dto) {
+        if (dto.getKey() == null || dto.getKey().isBlank()) {
+            throw new IllegalArgumentException("key 가 필요합니다.");
+        }
+        S3PendingUpload pending = pendingUploadRepository.findById(dto.getKey())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "발급되지 않은 업로드입니다."));
+        if (!pending.getAccountId().equals(accountId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인이 발급받은 업로드만 완료할 수 있습니다.");
+        }
+
+        S3UploadAttachHandler handler = null;
+        if (dto.getTargetId() != null) {
+            handler = attachHandlers.get(pending.getPurpose());
+            if (handler == null) {
+                throw new IllegalArgumentException(pending.getPurpose() + " 업로드는 대상에 바로 연결할 수 없습니다. fileUrl 을 등록 요청에 넣어 주세요.");
+            }
+        }
+
+        if (pending.getCompletedAt() == null) {
+            verify(pending);
+            pending.setCompletedAt(LocalDateTime.now());
+            pendingUploadRepository.save(pending);
+        }
+
+        String fileUrl = s3Service.objectUrl(pending.getObjectKey());
+        if (handler != null) {
+            handler.attach(pending.getPurpose(), dto.getTargetId(), fileUrl, accountId, role);
+        }
+        log.info("직접 업로드 완료: accountId={}, purpose={}, key={}, targetId={}",
+                accountId, pending.getPurpose(), pending.getObjectKey(), dto.getTargetId());
+        return CompleteUploadResponseDto.builder()
+                .key(pending.getObjectKey())
+                .fileUrl(fileUrl)
+                .contentLength(pending.getContentLength())
+                .attached(handler != null)
+                .build();
+    }
+
+    /**
+     * HEAD 로 실제 올라간 객체가 발급 조건과 같은지 확인 (다르면 객체와 발급 기록을 지운다)
+     */
+    private void verify(S3PendingUpload pending) {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(pending.getObjectKey())
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new IllegalArgumentException("아직 업로드되지 않았습니다: " + pending.getObjectKey());
+            }
+            throw e;
+        }
+
+        boolean sizeMatches = head.contentLength() != null && head.contentLength() == pending.getContentLength();
+        if (!sizeMatches || !Objects.equals(head.contentType(), pending.getContentType())) {
+            log.warn("직접 업로드 검증 실패, 객체 삭제: key={}, size={}/{}, type={}/{}", pending.getObjectKey(),
+                    head.contentLength(), pending.getContentLength(), head.contentType(), pending.getContentType());
+            s3Service.deleteFile(pending.getObjectKey());
+            pendingUploadRepository.delete(pending);
+            throw new IllegalArgumentException("업로드된 파일이 발급 조건과 다릅니다.");
+        }
+    }
+
+    /**
+     * 완료 확인 없이 만료된 업로드 정리 (올라간 객체가 있으면 같이 삭제)
+     */
+    @Scheduled(fixedDelayString = "${aws.s3.presign.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        if (s3Client == null) {
+            return;
+        }
+        List<S3PendingUpload> expired = pendingUploadRepository
+                .findTop100ByCompletedAtIsNullAndExpiresAtBeforeOrderByExpiresAtAsc(LocalDateTime.now().minus(cleanupGrace));
+        for (S3PendingUpload pending : expired) {
+            try {
+                s3Service.deleteFile(pending.getObjectKey());
+                pendingUploadRepository.delete(pending);
+            } catch (Exception e) {
+                log.warn("만료된 직접 업로드 정리 실패: key={}, error={}", pending.getObjectKey(), e.getMessage());
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("만료된 직접 업로드 {}건 정리", expired.size());
+        }
+    }
+}
@@ -7,12 +7,25 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
 import com.my.backend.contract.service.ContractFileService;
 
 @Service
@@ -21,6 +34,11 @@ public class S3Service {
 
     private final S3Client s3Client;
     private final ContractFileService contractFileService;
+    private final S3StreamingUploader uploader;
+    private final S3DiskCache downloadCache;
+
+    private static final int MIN_PART_SIZE_MB = 5;
+    private static final int MAX_DELETE_BATCH = 1000;
 
     @Value("${aws.s3.bucket.name:}")
     private String bucketName;
@@ -28,9 +46,29 @@ public class S3Service {
     @Value("${aws.s3.region:}")
     private String region;
 
-    public S3Service(S3Client s3Client, ContractFileService contractFileService) {
+    // S3 호환 저장소(MinIO 등)를 쓸 때만 지정 (S3Config 와 같은 값, path-style 주소를 쓴다)
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    public S3Service(S3Client s3Client, ContractFileService contractFileService,
+                     @Value("${aws.s3.upload.part-size-mb:8}") int partSizeMb,
+                     @Value("${aws.s3.upload.max-buffers:16}") int maxBuffers,
+                     @Value("${aws.s3.upload.buffer-wait-ms:30000}") long bufferWaitMillis,
+                     @Value("${aws.s3.download-cache.enabled:true}") boolean downloadCacheEnabled,
+                     @Value("${aws.s3.download-cache.dir:${java.io.tmpdir}/s3-download-cache}") String downloadCacheDir,
+                     @Value("${aws.s3.download-cache.max-mb:1024}") long downloadCacheMaxMb,
+                     @Value("${aws.s3.download-cache.revalidate-after-seconds:300}") long revalidateAfterSeconds,
+                     MeterRegistry meterRegistry) {
         this.s3Client = s3Client;
         this.contractFileService = contractFileService;
+        // S3 멀티파트는 마지막 파트를 빼고 5MB 이상이어야 한다
+        this.uploader = s3Client == null ? null
+                : new S3StreamingUploader(s3Client, Math.max(MIN_PART_SIZE_MB, partSizeMb) * 1024 * 1024, maxBuffers, bufferWaitMillis);
+        // 같은 키를 반복해서 읽는 경로(이미지 재분류 등)는 로컬 디스크에서 읽는다
+        this.downloadCache = s3Client == null || !downloadCacheEnabled ? null
+                : new S3DiskCache(Path.of(downloadCacheDir), downloadCacheMaxMb * 1024 * 1024,
+                        Duration.ofSeconds(revalidateAfterSeconds))
+                        .bindTo(meterRegistry, "s3Download");
         if (s3Client == null) {
             log.warn("S3Client is null - S3 functionality will be disabled");
             log.warn("AWS credentials not configured - using mock URLs");
@@ -60,7 +98,7 @@ public class S3Service {
 
             s3Client.putObject(putObjectRequest, RequestBody.fromBytes(fileData));
 
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + uuidFileName;
+            String s3Url = objectUrl(uuidFileName);
             log.info("S3 업로드 성공: {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -69,7 +107,7 @@ public class S3Service {
         }
     }
 
-    // MultipartFile 업로드 메서드
+    // MultipartFile 업로드 메서드 (요청 스트림을 그대로 S3 로 전송)
     public String uploadFile(MultipartFile file) {
         try {
             if (s3Client == null) {
@@ -79,20 +117,10 @@ public class S3Service {
             }
 
             String originalFileName = file.getOriginalFilename();
-            byte[] fileData = file.getBytes();
-
             String uuidFileName = generateFileName(originalFileName);
             log.info("Uploading file: {} (UUID: {}) to S3 bucket: {}", originalFileName, uuidFileName, bucketName);
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(uuidFileName)
-                    .contentType(file.getContentType())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(fileData));
-
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + uuidFileName;
+            String s3Url = streamUpload(uuidFileName, file.getContentType(), file);
             log.info("S3 업로드 성공: {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -101,7 +129,7 @@ public class S3Service {
         }
     }
 
-    // S3 파일 업로드 메서드 (일기용)
+    // S3 파일 업로드 메서드 (일기용, 이미 메모리에 있는 바이트)
     public String uploadDiaryImage(String originalFileName, byte[] fileData) {
         try {
             if (s3Client == null) {
@@ -121,7 +149,7 @@ public class S3Service {
 
             s3Client.putObject(putObjectRequest, RequestBody.fromBytes(fileData));
 
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + fileName;
+            String s3Url = objectUrl(fileName);
             log.info("Diary image uploaded successfully: {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -130,7 +158,28 @@ public class S3Service {
         }
     }
 
-    // Base64 이미지 업로드 메서드 (일기용)
+    // S3 파일 업로드 메서드 (일기용, 요청 스트림을 그대로 S3 로 전송)
+    public String uploadDiaryImage(MultipartFile file) {
+        try {
+            if (s3Client == null) {
+                log.warn("S3Client is null - returning mock URL");
+                String mockFileName = generateDiaryFileName(file.getOriginalFilename());
+                return "https://mock-s3-bucket.s3.amazonaws.com/" + mockFileName;
+            }
+
+            String fileName = generateDiaryFileName(file.getOriginalFilename());
+            log.info("Uploading diary image: {} to S3 bucket: {}", fileName, bucketName);
+
+            String s3Url = streamUpload(fileName, "image/jpeg", file);
+            log.info("Diary image uploaded successfully: {}", s3Url);
+            return s3Url;
+        } catch (Exception e) {
+            log.error("Failed to upload diary image to S3: {}", e.getMessage());
+            throw new RuntimeException("S3 upload failed", e);
+        }
+    }
+
+    // Base64 이미지 업로드 메서드 (일기용, 디코딩하면서 바로 업로드)
     public String uploadDiaryBase64Image(String base64Image, String originalFileName) {
         try {
             log.info("=== S3 Diary Base64 이미지 업로드 시작 ===");
@@ -142,28 +191,10 @@ public class S3Service {
                 return "https://mock-s3-bucket.s3.amazonaws.com/" + mockFileName;
             }
 
-            String[] parts = base64Image.split(",");
-            if (parts.length != 2) {
-                log.error("Base64 형식 오류: {}", base64Image.substring(0, Math.min(100, base64Image.length())));
-                throw new IllegalArgumentException("Invalid Base64 image format");
-            }
-
-            String imageData = parts[1];
-            byte[] imageBytes = java.util.Base64.getDecoder().decode(imageData);
-            log.info("이미지 크기: {} bytes", imageBytes.length);
-
             String fileName = generateDiaryFileName(originalFileName);
             log.info("생성된 일기 이미지 파일명: {}", fileName);
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileName)
-                    .contentType("image/jpeg")
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageBytes));
-
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + fileName;
+            String s3Url = streamBase64Upload(fileName, base64Image);
             log.info("일기 이미지 S3 업로드 성공: {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -174,6 +205,36 @@ public class S3Service {
 
     // 일기 오디오 업로드 메서드
     public String uploadDiaryAudio(String originalFileName, byte[] fileData) {
+        return putDiaryAudio(originalFileName, RequestBody.fromBytes(fileData));
+    }
+
+    // 일기 오디오 업로드 메서드 (로컬 파일에서 바로 스트리밍, 힙에 올리지 않음)
+    public String uploadDiaryAudio(String originalFileName, Path file) {
+        return putDiaryAudio(originalFileName, RequestBody.fromFile(file));
+    }
+
+    // 일기 오디오 업로드 메서드 (요청 스트림을 그대로 S3 로 전송)
+    public String uploadDiaryAudio(MultipartFile file) {
+        try {
+            if (s3Client == null) {
+                log.warn("S3Client is null - returning mock URL");
+                String mockFileName = generateDiaryAudioFileName(file.getOriginalFilename());
+                return "https://mock-s3-bucket.s3.amazonaws.com/" + mockFileName;
+            }
+
+            String fileName = generateDiaryAudioFileName(file.getOriginalFilename());
+            log.info("Uploading diary audio: {} to S3 bucket: {}", fileName, bucketName);
+
+            String s3Url = streamUpload(fileName, "audio/webm", file);
+            log.info("Diary audio uploaded successfully: {}", s3Url);
+            return s3Url;
+        } catch (Exception e) {
+            log.error("Failed to upload diary audio to S3: {}", e.getMessage());
+            throw new RuntimeException("S3 upload failed", e);
+        }
+    }
+
+    private String putDiaryAudio(String originalFileName, RequestBody requestBody) {
         try {
             if (s3Client == null) {
                 log.warn("S3Client is null - returning mock URL");
@@ -190,9 +251,9 @@ public class S3Service {
                     .contentType("audio/webm")
                     .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(fileData));
+            s3Client.putObject(putObjectRequest, requestBody);
 
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + fileName;
+            String s3Url = objectUrl(fileName);
             log.info("Diary audio uploaded successfully: {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -201,7 +262,7 @@ public class S3Service {
         }
     }
 
-    // Base64 이미지 업로드 메서드 (입양 펫용)
+    // Base64 이미지 업로드 메서드 (입양 펫용, 디코딩하면서 바로 업로드)
     public String uploadBase64Image(String base64Image) {
         try {
             log.info("=== S3 Base64 이미지 업로드 시작 (입양 펫용) ===");
@@ -212,29 +273,11 @@ public class S3Service {
                 return "https://mock-s3-bucket.s3.amazonaws.com/adoption/image.jpg";
             }
 
-            String[] parts = base64Image.split(",");
-            if (parts.length != 2) {
-                log.error("Base64 형식 오류: {}", base64Image.substring(0, Math.min(100, base64Image.length())));
-                throw new IllegalArgumentException("Invalid Base64 image format");
-            }
-
-            String imageData = parts[1];
-            byte[] imageBytes = java.util.Base64.getDecoder().decode(imageData);
-            log.info("이미지 크기: {} bytes", imageBytes.length);
-
             String fileName = generateFileName("image.jpg");
             String adoptionKey = "adoption/" + fileName;
             log.info("생성된 파일명: {}", adoptionKey);
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(adoptionKey)
-                    .contentType("image/jpeg")
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageBytes));
-
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + adoptionKey;
+            String s3Url = streamBase64Upload(adoptionKey, base64Image);
             log.info("S3 Base64 업로드 성공 (입양 펫): {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -243,7 +286,7 @@ public class S3Service {
         }
     }
 
-    // 스토어 상품용 Base64 이미지 업로드 메서드 (/products 폴더에 저장)
+    // 스토어 상품용 Base64 이미지 업로드 메서드 (/products 폴더에 저장, 디코딩하면서 바로 업로드)
     public String uploadProductBase64Image(String base64Image) {
         try {
             log.info("=== S3 Base64 이미지 업로드 시작 (스토어 상품용) ===");
@@ -254,29 +297,11 @@ public class S3Service {
                 return "https://mock-s3-bucket.s3.amazonaws.com/products/image.jpg";
             }
 
-            String[] parts = base64Image.split(",");
-            if (parts.length != 2) {
-                log.error("Base64 형식 오류: {}", base64Image.substring(0, Math.min(100, base64Image.length())));
-                throw new IllegalArgumentException("Invalid Base64 image format");
-            }
-
-            String imageData = parts[1];
-            byte[] imageBytes = java.util.Base64.getDecoder().decode(imageData);
-            log.info("이미지 크기: {} bytes", imageBytes.length);
-
             String fileName = generateFileName("image.jpg");
             String productKey = "products/" + fileName;
             log.info("생성된 파일명: {}", productKey);
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(productKey)
-                    .contentType("image/jpeg")
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageBytes));
-
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + productKey;
+            String s3Url = streamBase64Upload(productKey, base64Image);
             log.info("S3 Base64 업로드 성공 (스토어 상품): {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -295,21 +320,11 @@ public class S3Service {
             }
 
             String originalFileName = file.getOriginalFilename();
-            byte[] fileData = file.getBytes();
-
             String uuidFileName = generateFileName(originalFileName);
             String mypetKey = "mypet/" + uuidFileName;
             log.info("Uploading MyPet image: {} (UUID: {}) to S3 bucket: {} in mypet folder", originalFileName, uuidFileName, bucketName);
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(mypetKey)
-                    .contentType(file.getContentType())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(fileData));
-
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + mypetKey;
+            String s3Url = streamUpload(mypetKey, file.getContentType(), file);
             log.info("MyPet S3 업로드 성공: {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -328,21 +343,11 @@ public class S3Service {
             }
 
             String originalFileName = file.getOriginalFilename();
-            byte[] fileData = file.getBytes();
-
             String uuidFileName = generateFileName(originalFileName);
             String adoptionKey = "adoption/" + uuidFileName;
             log.info("Uploading Adoption Pet image: {} (UUID: {}) to S3 bucket: {} in adoption folder", originalFileName, uuidFileName, bucketName);
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(adoptionKey)
-                    .contentType(file.getContentType())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(fileData));
-
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + adoptionKey;
+            String s3Url = streamUpload(adoptionKey, file.getContentType(), file);
             log.info("Adoption Pet S3 업로드 성공: {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -361,21 +366,11 @@ public class S3Service {
             }
 
             String originalFileName = file.getOriginalFilename();
-            byte[] fileData = file.getBytes();
-
             String uuidFileName = generateEmotionFileName(originalFileName);
             String emotionKey = "emotion/" + uuidFileName;
             log.info("Uploading Emotion Feedback image: {} (UUID: {}) to S3 bucket: {} in emotion folder", originalFileName, uuidFileName, bucketName);
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(emotionKey)
-                    .contentType(file.getContentType())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(fileData));
-
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + emotionKey;
+            String s3Url = streamUpload(emotionKey, file.getContentType(), file);
             log.info("Emotion Feedback S3 업로드 성공: {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -384,6 +379,39 @@ public class S3Service {
         }
     }
 
+    // MultipartFile 을 파트 단위로 읽어 업로드 (getBytes() 로 전체를 올리지 않음, 파트보다 작으면 버퍼 없이 바로)
+    private String streamUpload(String key, String contentType, MultipartFile file) throws IOException {
+        uploader.upload(bucketName, key, contentType != null ? contentType : "application/octet-stream",
+                file.getSize(), file::getInputStream);
+        return objectUrl(key);
+    }
+
+    // 이 크기의 업로드가 파트 버퍼를 쓰는지 (S3 를 쓰지 않으면 false)
+    public boolean needsUploadBuffer(long size) {
+        return uploader != null && uploader.needsBuffer(size);
+    }
+
+    // 동시 업로드가 나눠 쓰는 파트 버퍼 개수
+    public int uploadBufferCount() {
+        return uploader != null ? uploader.maxBuffers() : 0;
+    }
+
+    // data URL 을 디코딩하면서 업로드 (디코딩된 배열을 따로 만들지 않음)
+    private String streamBase64Upload(String key, String base64Image) throws IOException {
+        uploader.uploadBase64(bucketName, key, "image/jpeg", base64Image);
+        return objectUrl(key);
+    }
+
+    // 객체 키 → 공개 URL (서버 경유 업로드와 미리 서명된 업로드가 같은 형식을 쓴다)
+    public String objectUrl(String key) {
+        if (endpoint != null && !endpoint.isEmpty()) {
+            // endpoint 를 지정하면 클라이언트가 path-style 로 접근하므로 URL 도 <endpoint>/<bucket>/<key>
+            String base = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+            return base + "/" + bucketName + "/" + key;
+        }
+        return "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + key;
+    }
+
     // 일기용 UUID 기반 파일명 생성 메서드
     private String generateDiaryFileName(String originalFileName) {
         String extension = "";
@@ -434,10 +462,9 @@ public class S3Service {
                 throw new RuntimeException("S3 client not available");
             }
 
-            // 전체 URL이면 key 부분만 추출
-            String key = filePathOrUrl;
-            if (filePathOrUrl.startsWith("http")) {
-                key = filePathOrUrl.substring(filePathOrUrl.indexOf(".com/") + 5);
+            String key = toKey(filePathOrUrl);
+            if (downloadCache != null) {
+                return downloadCache.get(key, this::fetchObject);
             }
 
             log.info("Downloading file from S3: bucket={}, key={}", bucketName, key);
@@ -458,6 +485,26 @@ public class S3Service {
         }
     }
 
+    // 디스크 캐시용 조회 (ifNoneMatch 가 현재 ETag 와 같으면 304 → null)
+    private S3DiskCache.Fetched fetchObject(String key, String ifNoneMatch) {
+        log.info("Downloading file from S3: bucket={}, key={}, ifNoneMatch={}", bucketName, key, ifNoneMatch);
+        GetObjectRequest.Builder request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key);
+        if (ifNoneMatch != null) {
+            request.ifNoneMatch(ifNoneMatch);
+        }
+        try {
+            ResponseInputStream<GetObjectResponse> response = s3Client.getObject(request.build());
+            return new S3DiskCache.Fetched(response.response().eTag(), response);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 304) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
     // S3 파일 삭제 메서드 (URL이든 Key든 모두 지원)
     public void deleteFile(String filePathOrUrl) {
         try {
@@ -466,11 +513,7 @@ public class S3Service {
                 return;
             }
 
-            // 전체 URL이면 key 부분만 추출
-            String key = filePathOrUrl;
-            if (filePathOrUrl.startsWith("http")) {
-                key = filePathOrUrl.substring(filePathOrUrl.indexOf(".com/") + 5);
-            }
+            String key = toKey(filePathOrUrl);
 
             log.info("Deleting file from S3: bucket={}, key={}", bucketName, key);
 
@@ -480,6 +523,7 @@ public class S3Service {
                     .build();
 
             s3Client.deleteObject(deleteObjectRequest);
+            invalidateDownloadCache(key);
             log.info("File deleted successfully from S3: {}", key);
         } catch (Exception e) {
             log.error("Failed to delete file from S3: {}", e.getMessage());
@@ -488,6 +532,86 @@ public class S3Service {
     }
 
 
+    /**
+     * 다른 파일로 교체되어 더 이상 참조되지 않는 객체 삭제
+     * 트랜잭션 중이면 커밋된 뒤에 지우고(롤백되면 그대로 둠), 이 버킷의 URL 이 아니거나 삭제에 실패해도 예외를 던지지 않는다.
+     */
+    public void deleteReplacedFile(String fileUrl) {
+        if (fileUrl == null || fileUrl.isBlank() || !fileUrl.startsWith(objectUrl(""))) {
+            return;
+        }
+        Runnable delete = () -> {
+            try {
+                deleteFile(fileUrl);
+            } catch (RuntimeException e) {
+                log.warn("교체된 S3 파일 삭제 실패: {}", fileUrl);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete.run();
+                }
+            });
+        } else {
+            delete.run();
+        }
+    }
+
+    // 여러 파일 일괄 삭제 (DeleteObjects 한 번에 최대 1000개, URL이든 Key든 모두 지원)
+    public void deleteFiles(Collection<String> filePathsOrUrls) {
+        if (filePathsOrUrls == null || filePathsOrUrls.isEmpty()) {
+            return;
+        }
+        if (s3Client == null) {
+            log.warn("S3Client is null - delete operation skipped");
+            return;
+        }
+
+        List<String> keys = filePathsOrUrls.stream()
+                .map(this::toKey)
+                .distinct()
+                .toList();
+        keys.forEach(this::invalidateDownloadCache);
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        for (int from = 0; from < objects.size(); from += MAX_DELETE_BATCH) {
+            List<ObjectIdentifier> batch = objects.subList(from, Math.min(from + MAX_DELETE_BATCH, objects.size()));
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(batch).quiet(true).build())
+                        .build());
+                response.errors().forEach(error ->
+                        log.error("Failed to delete file from S3: key={}, code={}, message={}", error.key(), error.code(), error.message()));
+                log.info("Files deleted from S3: {} requested, {} failed", batch.size(), response.errors().size());
+            } catch (Exception e) {
+                log.error("Failed to delete files from S3: {}", e.getMessage());
+                throw new RuntimeException("S3 delete failed", e);
+            }
+        }
+    }
+
+    private void invalidateDownloadCache(String key) {
+        if (downloadCache != null) {
+            downloadCache.invalidate(key);
+        }
+    }
+
+    // 전체 URL이면 key 부분만 추출
+    private String toKey(String filePathOrUrl) {
+        String prefix = objectUrl("");
+        if (filePathOrUrl.startsWith(prefix)) {
+            return filePathOrUrl.substring(prefix.length());
+        }
+        if (filePathOrUrl.startsWith("http")) {
+            return filePathOrUrl.substring(filePathOrUrl.indexOf(".com/") + 5);
+        }
+        return filePathOrUrl;
+    }
+
     // 입양 펫 이미지 삭제 메서드 (/adoption 폴더에서 삭제)
     public void deleteAdoptionPetImage(String fileName) {
         try {
@@ -505,6 +629,7 @@ public class S3Service {
                     .build();
 
             s3Client.deleteObject(deleteObjectRequest);
+            invalidateDownloadCache(adoptionKey);
             log.info("Adoption pet image deleted successfully from S3: {}", adoptionKey);
         } catch (Exception e) {
             log.error("Failed to delete adoption pet image from S3: {}", e.getMessage());
@@ -526,6 +651,7 @@ public class S3Service {
                     .key(mypetKey)
                     .build();
             s3Client.deleteObject(deleteObjectRequest);
+            invalidateDownloadCache(mypetKey);
             log.info("MyPet image deleted successfully from S3: {}", mypetKey);
         } catch (Exception e) {
             log.error("Failed to delete MyPet image from S3: {}", e.getMessage());
@@ -564,8 +690,10 @@ public class S3Service {
                     .build();
 
             s3Client.putObject(putObjectRequest, RequestBody.fromBytes(pdfData));
+            // 같은 키로 덮어쓰므로 캐시된 이전 PDF 는 버린다
+            invalidateDownloadCache(contractKey);
 
-            String s3Url = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + contractKey;
+            String s3Url = objectUrl(contractKey);
             log.info("Contract PDF S3 업로드 성공: {}", s3Url);
             return s3Url;
         } catch (Exception e) {
@@ -594,6 +722,7 @@ public class S3Service {
                     .build();
             
             s3Client.deleteObject(deleteObjectRequest);
+            invalidateDownloadCache(contractKey);
             log.info("Contract PDF deleted successfully from S3: {}", contractKey);
         } catch (Exception e) {
             log.error("Failed to delete contract PDF from S3: {}", e.getMessage());
@@ -0,0 +1,283 @@
+package com.my.backend.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스트림을 S3 에 올리는 업로더 (파일 전체를 힙에 올리지 않음)
+ * - 입력을 partSize 버퍼 하나로 읽어 가며 멀티파트 업로드로 보낸다. 첫 버퍼를 다 채우지 못하면 PutObject 한 번으로 끝낸다.
+ * - 크기를 미리 알고 partSize 보다 작으면 버퍼 없이 스트림을 그대로 PutObject 로 보낸다. (작은 업로드가 버퍼를 기다리지 않음)
+ * - 버퍼는 최대 maxBuffers 개까지만 만들고 재사용한다. 동시 업로드가 많아도 업로드 버퍼 메모리는
+ *   partSize * maxBuffers 를 넘지 않고, 버퍼가 모두 사용 중이면 bufferWaitMillis 만큼 기다린다.
+ * - 실패하면 진행 중인 멀티파트 업로드를 취소(abort)해서 조각이 버킷에 남지 않게 한다.
+ * S3 최소 파트 크기(마지막 파트 제외 5MB)는 호출하는 쪽에서 맞춘다.
+ */
+@Slf4j
+public class S3StreamingUploader {
+
+    private final S3Client s3Client;
+    private final int partSize;
+    private final int maxBuffers;
+    private final long bufferWaitMillis;
+
+    private final BlockingQueue<byte[]> buffers;
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    public S3StreamingUploader(S3Client s3Client, int partSize, int maxBuffers, long bufferWaitMillis) {
+        if (partSize <= 0 || maxBuffers <= 0) {
+            throw new IllegalArgumentException("partSize 와 maxBuffers 는 1 이상이어야 합니다.");
+        }
+        this.s3Client = s3Client;
+        this.partSize = partSize;
+        this.maxBuffers = maxBuffers;
+        this.bufferWaitMillis = bufferWaitMillis;
+        this.buffers = new ArrayBlockingQueue<>(maxBuffers);
+    }
+
+    /**
+     * 업로드할 내용을 처음부터 다시 여는 함수 (SDK 재시도 때도 같은 내용을 다시 읽는다)
+     */
+    @FunctionalInterface
+    public interface StreamSource {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * 크기를 아는 입력 업로드 (MultipartFile 등)
+     * partSize 보다 작으면 공용 버퍼 없이 PutObject 한 번, 크거나 크기를 모르면(음수) 버퍼로 멀티파트 업로드
+     * @return 업로드한 바이트 수
+     */
+    public long upload(String bucket, String key, String contentType, long size, StreamSource source) throws IOException {
+        if (size >= 0 && size < partSize) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .build(),
+                    RequestBody.fromContentProvider(() -> open(source), size, contentType));
+            return size;
+        }
+        try (InputStream in = source.open()) {
+            return upload(bucket, key, contentType, in);
+        }
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 업로드 (스트림은 닫지 않음)
+     * @return 업로드한 바이트 수
+     */
+    public long upload(String bucket, String key, String contentType, InputStream in) throws IOException {
+        byte[] buffer = acquire();
+        try {
+            int filled = fill(in, buffer);
+            if (filled < buffer.length) {
+                // 파트 하나에 다 들어가면 멀티파트 없이 바로 올린다
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .contentType(contentType)
+                                .build(),
+                        body(buffer, filled));
+                return filled;
+            }
+            return uploadMultipart(bucket, key, contentType, in, buffer, filled);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * data URL(data:image/png;base64,....) 을 디코딩하면서 업로드 (디코딩된 전체 배열을 만들지 않음)
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public long uploadBase64(String bucket, String key, String contentType, String dataUrl) throws IOException {
+        return upload(bucket, key, contentType, base64Stream(dataUrl));
+    }
+
+    /**
+     * "헤더,데이터" 형식의 data URL 에서 데이터 부분을 디코딩하는 스트림 (문자열을 복사하지 않음)
+     */
+    public static InputStream base64Stream(String dataUrl) {
+        int comma = dataUrl == null ? -1 : dataUrl.indexOf(',');
+        if (comma < 0 || dataUrl.indexOf(',', comma + 1) >= 0 || comma == dataUrl.length() - 1) {
+            throw new IllegalArgumentException("Invalid Base64 image format");
+        }
+        return Base64.getDecoder().wrap(new AsciiInputStream(dataUrl, comma + 1));
+    }
+
+    private long uploadMultipart(String bucket, String key, String contentType,
+                                 InputStream in, byte[] buffer, int filled) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+        List<CompletedPart> parts = new ArrayList<>();
+        long total = 0;
+        try {
+            int partNumber = 1;
+            while (filled > 0) {
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) filled)
+                                .build(),
+                        body(buffer, filled))
+                        .eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                total += filled;
+                partNumber++;
+                filled = fill(in, buffer);
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.info("S3 멀티파트 업로드 완료: key={}, parts={}, size={} bytes", key, parts.size(), total);
+            return total;
+        } catch (IOException | RuntimeException e) {
+            abort(bucket, key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abort(String bucket, String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("S3 멀티파트 업로드 취소 실패: key={}, uploadId={}, error={}", key, uploadId, e.getMessage());
+        }
+    }
+
+    // 재시도 시에도 같은 구간을 다시 읽을 수 있도록 버퍼를 복사하지 않고 스트림으로 감싼다
+    private static RequestBody body(byte[] buffer, int length) {
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length,
+                "application/octet-stream");
+    }
+
+    private static InputStream open(StreamSource source) {
+        try {
+            return source.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 버퍼가 가득 차거나 스트림이 끝날 때까지 읽는다
+     */
+    private static int fill(InputStream in, byte[] buffer) throws IOException {
+        int filled = 0;
+        while (filled < buffer.length) {
+            int read = in.read(buffer, filled, buffer.length - filled);
+            if (read < 0) {
+                break;
+            }
+            filled += read;
+        }
+        return filled;
+    }
+
+    private byte[] acquire() throws IOException {
+        byte[] buffer = buffers.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        if (allocated.incrementAndGet() <= maxBuffers) {
+            return new byte[partSize];
+        }
+        allocated.decrementAndGet();
+        try {
+            buffer = buffers.poll(bufferWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 업로드 버퍼 대기 중 인터럽트", e);
+        }
+        if (buffer == null) {
+            throw new IOException("S3 업로드 버퍼가 부족합니다. (동시 업로드 과다)");
+        }
+        return buffer;
+    }
+
+    private void release(byte[] buffer) {
+        buffers.offer(buffer);
+    }
+
+    /**
+     * 이 크기의 업로드가 공용 버퍼를 쓰는지 (크기를 모르면 음수)
+     */
+    public boolean needsBuffer(long size) {
+        return size < 0 || size >= partSize;
+    }
+
+    public int maxBuffers() {
+        return maxBuffers;
+    }
+
+    int allocatedBuffers() {
+        return allocated.get();
+    }
+
+    /**
+     * 문자열의 offset 이후를 ASCII 바이트로 읽는 스트림 (base64 문자는 모두 ASCII)
+     */
+    private static final class AsciiInputStream extends InputStream {
+        private final String text;
+        private int position;
+
+        private AsciiInputStream(String text, int offset) {
+            this.text = text;
+            this.position = offset;
+        }
+
+        @Override
+        public int read() {
+            return position < text.length() ? text.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int remaining = text.length() - position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = Math.min(len, remaining);
+            for (int i = 0; i < count; i++) {
+                b[off + i] = (byte) text.charAt(position++);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.my.backend.s3;
+
+import com.my.backend.s3.entity.S3UploadPurpose;
+
+import java.util.Set;
+
+/**
+ * 미리 서명된 업로드가 완료되면 파일을 도메인 엔티티에 붙이는 처리
+ * 도메인마다 빈으로 등록하면 S3PresignedUploadService 가 purpose 로 찾아 호출한다.
+ */
+public interface S3UploadAttachHandler {
+
+    Set<S3UploadPurpose> purposes();
+
+    /**
+     * @throws org.springframework.web.server.ResponseStatusException 대상이 없거나 권한이 없는 경우
+     */
+    void attach(S3UploadPurpose purpose, Long targetId, String fileUrl, Long accountId, String role);
+}
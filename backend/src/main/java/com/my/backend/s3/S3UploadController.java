@@ -1,27 +1,54 @@
 package com.my.backend.s3;
 
+import com.my.backend.global.security.user.UserDetailsImpl;
+import com.my.backend.s3.dto.CompleteUploadRequestDto;
+import com.my.backend.s3.dto.PresignedUploadRequestDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/s3")
 @RequiredArgsConstructor
 public class S3UploadController {
 
     private final S3Service s3Service;
+    private final S3PresignedUploadService presignedUploadService;
+
+    // 직접 업로드 URL 발급 (클라이언트가 S3 로 바로 PUT, 파일이 서버를 거치지 않음)
+    @PostMapping("/presign")
+    public ResponseEntity<?> presignUpload(@RequestBody PresignedUploadRequestDto dto,
+                                           @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        try {
+            return ResponseEntity.ok(presignedUploadService.presign(userDetails.getAccount().getId(), dto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 직접 업로드 완료 확인 (+ targetId 가 있으면 일기/펫 등에 연결)
+    @PostMapping("/complete")
+    public ResponseEntity<?> completeUpload(@RequestBody CompleteUploadRequestDto dto,
+                                            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        try {
+            return ResponseEntity.ok(presignedUploadService.complete(
+                    userDetails.getAccount().getId(), userDetails.getAccount().getRole(), dto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
 
     @PostMapping("/upload")
     public ResponseEntity<String> uploadFile(@RequestParam("file") MultipartFile file) {
         try {
-            String originalFileName = file.getOriginalFilename();
-            byte[] fileData = file.getBytes();
-            
-            String fileUrl = s3Service.uploadFile(originalFileName, fileData);
+            String fileUrl = s3Service.uploadFile(file);
 
             return ResponseEntity.ok(fileUrl);
         } catch (Exception e) {
@@ -32,11 +59,8 @@ public class S3UploadController {
     @PostMapping("/upload/audio")
     public ResponseEntity<String> uploadAudioFile(@RequestParam("file") MultipartFile file) {
         try {
-            String originalFileName = file.getOriginalFilename();
-            byte[] fileData = file.getBytes();
-            
             // 오디오 파일을 /diary 폴더에 저장
-            String fileUrl = s3Service.uploadDiaryImage(originalFileName, fileData);
+            String fileUrl = s3Service.uploadDiaryImage(file);
 
             return ResponseEntity.ok(fileUrl);
         } catch (Exception e) {
@@ -47,9 +71,6 @@ public class S3UploadController {
     @PostMapping("/upload/adoption")
     public ResponseEntity<String> uploadAdoptionFile(@RequestParam("file") MultipartFile file) {
         try {
-            String originalFileName = file.getOriginalFilename();
-            byte[] fileData = file.getBytes();
-            
             // 입양 펫 이미지를 /adoption 폴더에 저장
             String fileUrl = s3Service.uploadAdoptionPetImage(file);
 
@@ -62,11 +83,8 @@ public class S3UploadController {
     @PostMapping("/upload/diary")
     public ResponseEntity<String> uploadDiaryFile(@RequestParam("file") MultipartFile file) {
         try {
-            String originalFileName = file.getOriginalFilename();
-            byte[] fileData = file.getBytes();
-            
             // 일기 이미지를 /diary 폴더에 저장
-            String fileUrl = s3Service.uploadDiaryImage(originalFileName, fileData);
+            String fileUrl = s3Service.uploadDiaryImage(file);
 
             return ResponseEntity.ok(fileUrl);
         } catch (Exception e) {
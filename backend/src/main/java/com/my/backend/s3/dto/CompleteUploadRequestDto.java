@@ -0,0 +1,14 @@
+package com.my.backend.s3.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CompleteUploadRequestDto {
+    private String key;
+    // 파일을 붙일 대상 (일기 ID, 펫 ID 등). 없으면 확인만 하고 fileUrl 을 돌려준다
+    private Long targetId;
+}
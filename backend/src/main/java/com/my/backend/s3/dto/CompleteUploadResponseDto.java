@@ -0,0 +1,20 @@
+package com.my.backend.s3.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompleteUploadResponseDto {
+    private String key;
+    private String fileUrl;
+    private long contentLength;
+    // targetId 에 붙였는지
+    private boolean attached;
+}
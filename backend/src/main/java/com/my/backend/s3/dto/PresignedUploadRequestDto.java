@@ -0,0 +1,16 @@
+package com.my.backend.s3.dto;
+
+import com.my.backend.s3.entity.S3UploadPurpose;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PresignedUploadRequestDto {
+    private S3UploadPurpose purpose;
+    private String contentType;
+    // 올릴 파일 크기 (서명에 포함되므로 정확히 이 크기로 올려야 한다)
+    private Long contentLength;
+}
@@ -0,0 +1,29 @@
+package com.my.backend.s3.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 미리 서명된 업로드 URL
+ * 클라이언트는 uploadUrl 로 headers 를 그대로 붙여 PUT 한 뒤, key 로 완료 요청을 보낸다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadResponseDto {
+    private String key;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;
+    // 완료 후 사용할 파일 주소
+    private String fileUrl;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,53 @@
+package com.my.backend.s3.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미리 서명된 URL 로 발급한 업로드 (완료 확인 전까지는 누가 어떤 조건으로 올리기로 했는지 기록)
+ * 완료되지 않은 채 만료된 항목은 S3PresignedUploadService 가 객체와 함께 정리한다.
+ */
+@Entity
+@Table(name = "s3_pending_upload", indexes = {
+        @Index(name = "idx_s3_pending_upload_expires", columnList = "completed_at, expires_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class S3PendingUpload {
+
+    @Id
+    @Column(name = "object_key", length = 255)
+    private String objectKey;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private S3UploadPurpose purpose;
+
+    @Column(name = "content_type", nullable = false, length = 64)
+    private String contentType;
+
+    @Column(name = "content_length", nullable = false)
+    private long contentLength;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 업로드 확인이 끝난 시각 (확인 전이면 null)
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
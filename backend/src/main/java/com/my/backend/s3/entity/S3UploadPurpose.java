@@ -0,0 +1,68 @@
+package com.my.backend.s3.entity;
+
+import java.util.Map;
+
+/**
+ * 미리 서명된 URL 로 직접 올릴 수 있는 업로드 종류
+ * 키 접두사는 서버 경유 업로드(S3Service)와 같은 폴더를 쓴다.
+ */
+public enum S3UploadPurpose {
+
+    COMMUNITY_IMAGE("products/", Kind.IMAGE, 10L * 1024 * 1024),
+    PRODUCT_IMAGE("products/", Kind.IMAGE, 10L * 1024 * 1024),
+    MYPET_IMAGE("mypet/", Kind.IMAGE, 10L * 1024 * 1024),
+    ADOPTION_IMAGE("adoption/", Kind.IMAGE, 10L * 1024 * 1024),
+    DIARY_IMAGE("diary/", Kind.IMAGE, 10L * 1024 * 1024),
+    DIARY_AUDIO("diary/audio/", Kind.AUDIO, 50L * 1024 * 1024),
+    EMOTION_IMAGE("emotion/", Kind.IMAGE, 10L * 1024 * 1024);
+
+    private enum Kind {
+        IMAGE(Map.of(
+                "image/jpeg", ".jpg",
+                "image/png", ".png",
+                "image/gif", ".gif",
+                "image/webp", ".webp")),
+        AUDIO(Map.of(
+                "audio/webm", ".webm",
+                "audio/mpeg", ".mp3",
+                "audio/mp4", ".m4a",
+                "audio/wav", ".wav",
+                "audio/ogg", ".ogg"));
+
+        // 허용 Content-Type → 확장자
+        private final Map<String, String> extensions;
+
+        Kind(Map<String, String> extensions) {
+            this.extensions = extensions;
+        }
+    }
+
+    private final String keyPrefix;
+    private final Kind kind;
+    private final long maxBytes;
+
+    S3UploadPurpose(String keyPrefix, Kind kind, long maxBytes) {
+        this.keyPrefix = keyPrefix;
+        this.kind = kind;
+        this.maxBytes = maxBytes;
+    }
+
+    public String keyPrefix() {
+        return keyPrefix;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public boolean allows(String contentType) {
+        return contentType != null && kind.extensions.containsKey(contentType);
+    }
+
+    /**
+     * 허용된 Content-Type 의 확장자 (파일명은 믿지 않고 Content-Type 으로 정한다)
+     */
+    public String extension(String contentType) {
+        return kind.extensions.get(contentType);
+    }
+}
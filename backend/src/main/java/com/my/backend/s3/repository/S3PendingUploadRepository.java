@@ -0,0 +1,12 @@
+package com.my.backend.s3.repository;
+
+import com.my.backend.s3.entity.S3PendingUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface S3PendingUploadRepository extends JpaRepository<S3PendingUpload, String> {
+    // 완료 확인 없이 만료된 업로드 (정리용)
+    List<S3PendingUpload> findTop100ByCompletedAtIsNullAndExpiresAtBeforeOrderByExpiresAtAsc(LocalDateTime before);
+}
@@ -15,7 +15,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.my.backend.global.security.user.UserDetailsImpl;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/naver-shopping")
@@ -359,13 +358,14 @@ public class NaverShoppingController {
             EmbeddingService embeddingService = naverShoppingService.getEmbeddingService();
             log.info("EmbeddingService 가져오기 성공: {}", embeddingService != null);
             
-            // 비동기로 임베딩 업데이트 실행
-            CompletableFuture<String> future = embeddingService.updateEmbeddingsAsync();
-            log.info("임베딩 업데이트 비동기 작업 시작됨");
-            
+            // 백그라운드 작업으로 등록 (이미 대기 중이면 중복 등록하지 않음)
+            boolean queued = embeddingService.requestEmbeddingUpdate();
+
             // 즉시 응답 (백그라운드에서 실행)
             log.info("=== 임베딩 업데이트 요청 완료 ===");
-            return ResponseEntity.ok(ResponseDto.success("임베딩 업데이트가 백그라운드에서 시작되었습니다."));
+            return ResponseEntity.ok(ResponseDto.success(queued
+                    ? "임베딩 업데이트가 백그라운드에서 시작되었습니다."
+                    : "이미 대기 중인 임베딩 업데이트가 있습니다."));
             
         } catch (Exception e) {
             log.error("=== 임베딩 업데이트 요청 실패 ===");
@@ -0,0 +1,76 @@
+package com.my.backend.store.controller;
+
+import com.my.backend.global.security.user.UserDetailsImpl;
+import com.my.backend.store.service.PaymentExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * 정산용 결제/주문 내보내기 API (관리자 전용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/orders/admin/export")
+@RequiredArgsConstructor
+public class PaymentExportController {
+
+    private final PaymentExportService paymentExportService;
+
+    /**
+     * 결제 + 주문 내보내기 (CSV / NDJSON)
+     * 예: /api/orders/admin/export/payments?from=2025-08-01&to=2025-08-31&format=csv
+     * to 는 해당 날짜를 포함한다.
+     */
+    @GetMapping("/payments")
+    public void exportPayments(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                               @RequestParam(required = false) Long minAmount,
+                               @RequestParam(required = false) Long maxAmount,
+                               @RequestParam(defaultValue = "csv") String format,
+                               HttpServletResponse response) throws IOException {
+        if (userDetails == null) {
+            response.sendError(HttpStatus.UNAUTHORIZED.value(), "로그인이 필요합니다.");
+            return;
+        }
+        if (!"ADMIN".equals(userDetails.getAccount().getRole())) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "관리자 권한이 필요합니다.");
+            return;
+        }
+        if (to.isBefore(from)) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "조회 기간이 올바르지 않습니다.");
+            return;
+        }
+
+        PaymentExportService.Format exportFormat;
+        try {
+            exportFormat = PaymentExportService.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
+
+        String extension = exportFormat == PaymentExportService.Format.CSV ? "csv" : "ndjson";
+        response.setContentType(exportFormat == PaymentExportService.Format.CSV
+                ? "text/csv; charset=UTF-8"
+                : "application/x-ndjson; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"payments-" + from + "_" + to + "." + extension + "\"");
+
+        log.info("정산 내보내기 요청: {} ~ {}, format={}, user={}", from, to, extension, userDetails.getAccount().getEmail());
+        paymentExportService.export(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), minAmount, maxAmount,
+                exportFormat, response.getOutputStream());
+    }
+}
@@ -0,0 +1,59 @@
+package com.my.backend.store.controller;
+
+import com.my.backend.global.dto.ResponseDto;
+import com.my.backend.global.security.user.UserDetailsImpl;
+import com.my.backend.store.dto.SalesDashboardDto;
+import com.my.backend.store.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 매출 대시보드 API (일별 집계 테이블만 조회)
+ */
+@RestController
+@RequestMapping("/api/orders/admin/sales")
+@RequiredArgsConstructor
+public class SalesDashboardController {
+
+    private final SalesRollupService salesRollupService;
+
+    // 기간별 매출 통계 (from, to 모두 포함)
+    @GetMapping
+    public ResponseEntity<ResponseDto<SalesDashboardDto>> getDashboard(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!isAdmin(userDetails)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ResponseDto.fail("권한 없음", "관리자 권한이 필요합니다."));
+        }
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().body(ResponseDto.fail("잘못된 요청", "조회 기간이 올바르지 않습니다."));
+        }
+        return ResponseEntity.ok(ResponseDto.success(salesRollupService.getDashboard(from, to)));
+    }
+
+    // 집계 재계산 (배포 직후 백필 또는 수동 보정용, from, to 모두 포함)
+    @PostMapping("/rebuild")
+    public ResponseEntity<ResponseDto<Integer>> rebuild(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!isAdmin(userDetails)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ResponseDto.fail("권한 없음", "관리자 권한이 필요합니다."));
+        }
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().body(ResponseDto.fail("잘못된 요청", "조회 기간이 올바르지 않습니다."));
+        }
+        return ResponseEntity.ok(ResponseDto.success(salesRollupService.rebuild(from, to.plusDays(1))));
+    }
+
+    private boolean isAdmin(UserDetailsImpl userDetails) {
+        return userDetails != null && "ADMIN".equals(userDetails.getAccount().getRole());
+    }
+}
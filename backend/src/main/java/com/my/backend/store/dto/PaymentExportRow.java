@@ -0,0 +1,35 @@
+package com.my.backend.store.dto;
+
+import com.my.backend.store.entity.OrderStatus;
+import com.my.backend.store.entity.TossPaymentMethod;
+import com.my.backend.store.entity.TossPaymentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정산용 결제/주문 내보내기 행 (결제 + 주문 + 상품 조인 결과를 엔티티 로딩 없이 담는 프로젝션)
+ */
+public record PaymentExportRow(
+        Long paymentId,
+        String paymentKey,
+        String tossOrderId,
+        Long totalAmount,
+        TossPaymentMethod paymentMethod,
+        TossPaymentStatus paymentStatus,
+        LocalDateTime requestedAt,
+        LocalDateTime approvedAt,
+        LocalDateTime paymentCreatedAt,
+        Long orderId,
+        String merchantOrderId,
+        OrderStatus orderStatus,
+        Long orderAmount,
+        int quantity,
+        LocalDateTime orderCreatedAt,
+        LocalDateTime paidAt,
+        Long accountId,
+        Long productId,
+        String productName,
+        Long naverProductId,
+        String naverProductTitle
+) {
+}
@@ -0,0 +1,67 @@
+package com.my.backend.store.dto;
+
+import com.my.backend.store.entity.DailySalesRollup;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 관리자 매출 대시보드 응답 (일별 집계 테이블만으로 구성)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesDashboardDto {
+    private LocalDate from;
+    private LocalDate to;
+    private long paidOrderCount;     // 기간 내 결제 완료 주문 수
+    private long paidAmount;         // 기간 내 결제 완료 금액
+    private long canceledOrderCount; // 기간 내 취소 주문 수
+    private long canceledAmount;     // 기간 내 취소 금액
+    private List<DaySummary> days;   // 일별 요약
+    private List<Row> rows;          // (날짜, 결제 수단, 상태, 상품 출처) 단위 상세
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DaySummary {
+        private LocalDate date;
+        private long paidOrderCount;
+        private long paidAmount;
+        private long canceledOrderCount;
+        private long canceledAmount;
+        private long createdOrderCount; // 결제 대기 주문 수
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Row {
+        private LocalDate date;
+        private String paymentMethod;
+        private String orderStatus;
+        private String productSource;
+        private long orderCount;
+        private long totalQuantity;
+        private long totalAmount;
+
+        public static Row from(DailySalesRollup rollup) {
+            return Row.builder()
+                    .date(rollup.getSalesDate())
+                    .paymentMethod(rollup.getPaymentMethod())
+                    .orderStatus(rollup.getOrderStatus())
+                    .productSource(rollup.getProductSource())
+                    .orderCount(rollup.getOrderCount())
+                    .totalQuantity(rollup.getTotalQuantity())
+                    .totalAmount(rollup.getTotalAmount())
+                    .build();
+        }
+    }
+}
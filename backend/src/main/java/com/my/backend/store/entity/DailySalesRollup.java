@@ -0,0 +1,55 @@
+package com.my.backend.store.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 매출 집계 (관리자 대시보드 전용)
+ * (날짜, 결제 수단, 주문 상태, 상품 출처) 단위로 주문 수/수량/금액을 미리 집계해 둔다.
+ * 원본은 orders + toss_payments 이며 SalesRollupService 가 날짜 단위로 다시 계산한다.
+ */
+@Entity
+@Table(name = "daily_sales_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_sales_rollups_dims",
+                columnNames = {"sales_date", "payment_method", "order_status", "product_source"}))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 주문 생성일 (Asia/Seoul 기준 LocalDateTime 의 날짜)
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    // 결제 수단 (결제 전 주문은 NONE)
+    @Column(name = "payment_method", nullable = false, length = 32)
+    private String paymentMethod;
+
+    @Column(name = "order_status", nullable = false, length = 16)
+    private String orderStatus;
+
+    // MONGTORY / NAVER (상품이 삭제된 주문은 UNKNOWN)
+    @Column(name = "product_source", nullable = false, length = 16)
+    private String productSource;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "total_quantity", nullable = false)
+    private long totalQuantity;
+
+    @Column(name = "total_amount", nullable = false)
+    private long totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
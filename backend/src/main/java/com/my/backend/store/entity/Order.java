@@ -16,7 +16,11 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_created_at", columnList = "created_at"),
+        // 정산 내보내기: 결제 하나로 PAID 된 주문 전체 조회
+        @Index(name = "idx_orders_toss_payment_id", columnList = "toss_payment_id")
+})
 public class Order {
 
     @Id
@@ -43,6 +47,15 @@ public class Order {
     // 결제 완료 시각
     private LocalDateTime paidAt;
 
+    // 결제 수단 (한 번의 결제로 함께 PAID 된 주문들도 같은 값을 기록)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private TossPaymentMethod paymentMethod;
+
+    // 이 주문을 결제한 결제 행 ID (toss_payments.order_id 는 대표 주문 하나만 가리키므로 함께 PAID 된 주문도 여기에 기록)
+    @Column(name = "toss_payment_id")
+    private Long tossPaymentId;
+
     // 주문자 정보 (Account)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false)
@@ -3,5 +3,17 @@ package com.my.backend.store.entity;
 public enum OrderStatus {
     CREATED,   // 주문 생성됨
     PAID,      // 결제 완료
-    CANCELED   // 주문 취소
+    CANCELED;  // 주문 취소
+
+    /**
+     * 주문 상태 전이 허용 여부
+     * CREATED -> PAID / CANCELED, PAID -> CANCELED 만 허용
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        return switch (this) {
+            case CREATED -> next == PAID || next == CANCELED;
+            case PAID -> next == CANCELED;
+            case CANCELED -> false;
+        };
+    }
 }
@@ -0,0 +1,64 @@
+package com.my.backend.store.event;
+
+import com.my.backend.global.outbox.entity.OutboxEvent;
+import com.my.backend.global.outbox.service.OutboxEventHandler;
+import com.my.backend.global.outbox.service.OutboxService;
+import com.my.backend.store.repository.CartRepository;
+import com.my.backend.store.service.CartCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문된 상품을 장바구니에서 정리
+ * 배치 안의 이벤트를 사용자별로 모아 사용자당 최대 두 번의 벌크 삭제로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCreatedCartCleanupHandler implements OutboxEventHandler {
+
+    private final CartRepository cartRepository;
+    private final OutboxService outboxService;
+    private final CartCache cartCache;
+
+    @Override
+    public String eventType() {
+        return OrderCreatedEvent.TYPE;
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        Map<Long, Set<Long>> productIdsByAccount = new LinkedHashMap<>();
+        Map<Long, Set<Long>> naverProductIdsByAccount = new LinkedHashMap<>();
+
+        for (OutboxEvent event : events) {
+            OrderCreatedEvent payload = outboxService.readPayload(event, OrderCreatedEvent.class);
+            if (payload.accountId() == null) {
+                continue;
+            }
+            productIdsByAccount.computeIfAbsent(payload.accountId(), k -> new LinkedHashSet<>()).addAll(payload.productIds());
+            naverProductIdsByAccount.computeIfAbsent(payload.accountId(), k -> new LinkedHashSet<>()).addAll(payload.naverProductIds());
+        }
+
+        int deleted = 0;
+        for (Map.Entry<Long, Set<Long>> entry : productIdsByAccount.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                deleted += cartRepository.deleteByAccountIdAndProductIds(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<Long, Set<Long>> entry : naverProductIdsByAccount.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                deleted += cartRepository.deleteByAccountIdAndNaverProductIds(entry.getKey(), entry.getValue());
+            }
+        }
+        productIdsByAccount.keySet().forEach(cartCache::evict);
+        log.info("주문 상품 장바구니 정리: events={}, accounts={}, 삭제={}건", events.size(), productIdsByAccount.size(), deleted);
+    }
+}
@@ -0,0 +1,36 @@
+package com.my.backend.store.event;
+
+import com.my.backend.store.entity.Order;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 주문 생성 이벤트 (한 요청에서 생성된 주문들을 묶어서 기록)
+ * 주문된 상품을 장바구니에서 정리하는 데 사용한다.
+ */
+public record OrderCreatedEvent(
+        Long accountId,
+        List<Long> orderIds,
+        List<Long> productIds,
+        List<Long> naverProductIds
+) {
+    public static final String TYPE = "ORDER_CREATED";
+
+    public static OrderCreatedEvent of(Long accountId, List<Order> orders) {
+        return new OrderCreatedEvent(
+                accountId,
+                orders.stream().map(Order::getId).toList(),
+                orders.stream()
+                        .map(order -> order.getProduct() != null ? order.getProduct().getId() : null)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList(),
+                orders.stream()
+                        .map(order -> order.getNaverProduct() != null ? order.getNaverProduct().getId() : null)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList()
+        );
+    }
+}
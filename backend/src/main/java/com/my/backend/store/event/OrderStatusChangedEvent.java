@@ -0,0 +1,20 @@
+package com.my.backend.store.event;
+
+import com.my.backend.store.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 상태 전이 이벤트
+ * 상태가 실제로 바뀐 주문 ID만 담긴다. (장바구니 정리, 최근 본 상품, 통계 등 후속 처리용)
+ */
+public record OrderStatusChangedEvent(
+        Long accountId,
+        List<Long> orderIds,
+        OrderStatus fromStatus,
+        OrderStatus toStatus,
+        LocalDateTime occurredAt
+) {
+    public static final String TYPE = "ORDER_STATUS_CHANGED";
+}
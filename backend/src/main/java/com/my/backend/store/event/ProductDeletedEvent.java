@@ -0,0 +1,12 @@
+package com.my.backend.store.event;
+
+/**
+ * 상품 삭제 이벤트
+ * 삭제 트랜잭션 커밋 이후 상품 이미지(S3) 정리에 사용한다.
+ */
+public record ProductDeletedEvent(
+        Long productId,
+        String imageUrl
+) {
+    public static final String TYPE = "PRODUCT_DELETED";
+}
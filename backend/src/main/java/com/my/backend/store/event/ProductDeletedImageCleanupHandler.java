@@ -0,0 +1,41 @@
+package com.my.backend.store.event;
+
+import com.my.backend.global.outbox.entity.OutboxEvent;
+import com.my.backend.global.outbox.service.OutboxEventHandler;
+import com.my.backend.global.outbox.service.OutboxService;
+import com.my.backend.s3.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 삭제된 상품의 S3 이미지 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDeletedImageCleanupHandler implements OutboxEventHandler {
+
+    private final S3Service s3Service;
+    private final OutboxService outboxService;
+
+    @Override
+    public String eventType() {
+        return ProductDeletedEvent.TYPE;
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            ProductDeletedEvent payload = outboxService.readPayload(event, ProductDeletedEvent.class);
+            String imageUrl = payload.imageUrl();
+            // S3에 올라간 이미지만 정리 (placeholder 등은 제외)
+            if (imageUrl != null && imageUrl.startsWith("https://")) {
+                s3Service.deleteFile(imageUrl);
+                log.info("삭제된 상품 이미지 정리: productId={}, imageUrl={}", payload.productId(), imageUrl);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.my.backend.store.event;
+
+import com.my.backend.global.outbox.entity.OutboxEvent;
+import com.my.backend.global.outbox.service.OutboxEventHandler;
+import com.my.backend.global.outbox.service.OutboxService;
+import com.my.backend.store.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 상태 변경 시 일별 매출 집계 갱신 (배치 안의 주문들이 속한 날짜를 한 번에 재집계)
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupOrderStatusHandler implements OutboxEventHandler {
+
+    private final SalesRollupService salesRollupService;
+    private final OutboxService outboxService;
+
+    @Override
+    public String eventType() {
+        return OrderStatusChangedEvent.TYPE;
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        Set<Long> orderIds = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            orderIds.addAll(outboxService.readPayload(event, OrderStatusChangedEvent.class).orderIds());
+        }
+        salesRollupService.refreshForOrders(orderIds);
+    }
+}
@@ -0,0 +1,8 @@
+package com.my.backend.store.job;
+
+/**
+ * 상품 임베딩 전체 갱신 작업 (AI 서비스 호출)
+ */
+public record EmbeddingUpdateJob() {
+    public static final String TYPE = "STORE_EMBEDDING_UPDATE";
+}
@@ -0,0 +1,38 @@
+package com.my.backend.store.job;
+
+import com.my.backend.global.job.entity.BackgroundJob;
+import com.my.backend.global.job.service.JobHandler;
+import com.my.backend.store.service.EmbeddingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 임베딩 전체 갱신
+ * AI 서비스가 전체를 다시 계산하므로 노드당 하나씩만 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmbeddingUpdateJobHandler implements JobHandler {
+
+    private final EmbeddingService embeddingService;
+
+    @Override
+    public String jobType() {
+        return EmbeddingUpdateJob.TYPE;
+    }
+
+    @Override
+    public int concurrency() {
+        return 1;
+    }
+
+    @Override
+    public int maxAttempts() {
+        return 3;
+    }
+
+    @Override
+    public void handle(BackgroundJob job) {
+        embeddingService.updateEmbeddings();
+    }
+}
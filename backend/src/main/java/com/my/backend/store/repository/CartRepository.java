@@ -5,10 +5,12 @@ import com.my.backend.store.entity.Cart;
 import com.my.backend.store.entity.Product;
 import com.my.backend.store.entity.NaverProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,4 +42,15 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     void deleteByAccount_Id(@Param("accountId") Long accountId);
 
     Cart findByProductAndAccount(Product product, Account account);
+
+    // 결제 완료된 주문의 상품들을 사용자 장바구니에서 일괄 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Cart c WHERE c.account.id = :accountId AND c.product.id IN :productIds")
+    int deleteByAccountIdAndProductIds(@Param("accountId") Long accountId, @Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Cart c WHERE c.account.id = :accountId AND c.naverProduct.id IN :naverProductIds")
+    int deleteByAccountIdAndNaverProductIds(@Param("accountId") Long accountId, @Param("naverProductIds") Collection<Long> naverProductIds);
 }
\ No newline at end of file
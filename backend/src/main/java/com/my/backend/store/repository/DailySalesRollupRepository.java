@@ -0,0 +1,52 @@
+package com.my.backend.store.repository;
+
+import com.my.backend.store.entity.DailySalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DailySalesRollupRepository extends JpaRepository<DailySalesRollup, Long> {
+
+    // 대시보드 조회 (집계 테이블만 읽음)
+    List<DailySalesRollup> findBySalesDateBetweenOrderBySalesDateAsc(LocalDate from, LocalDate to);
+
+    // 여러 노드가 같은 날짜를 동시에 다시 계산하지 않도록 날짜별 트랜잭션 단위 advisory lock (다른 날짜는 막지 않음)
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtext('daily_sales_rollups:' || CAST(:salesDate AS varchar)))) AS rollup_lock",
+           nativeQuery = true)
+    long lockDate(@Param("salesDate") LocalDate salesDate);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_sales_rollups WHERE sales_date >= :fromDate AND sales_date < :toDate", nativeQuery = true)
+    int deleteRange(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    // [start, end) 구간 주문을 원본에서 다시 집계해서 삽입
+    // 결제 수단은 주문에 기록된 값을 먼저 쓴다 (한 결제로 함께 PAID 된 주문은 toss_payments 행이 없음)
+    // 결제 수단 기록 전에 결제된 주문은 같은 사용자가 ±5분 안에 만든 주문의 결제 행에서 찾는다 (PaymentService 일괄 전이 범위)
+    @Modifying
+    @Query(value = "INSERT INTO daily_sales_rollups " +
+                   "(sales_date, payment_method, order_status, product_source, order_count, total_quantity, total_amount, updated_at) " +
+                   "SELECT CAST(o.created_at AS date), COALESCE(o.payment_method, t.payment_method, g.payment_method, 'NONE'), o.status, " +
+                   "CASE WHEN o.product_id IS NOT NULL THEN 'MONGTORY' " +
+                   "     WHEN o.naver_product_id IS NOT NULL THEN 'NAVER' ELSE 'UNKNOWN' END, " +
+                   "COUNT(*), COALESCE(SUM(o.quantity), 0), COALESCE(SUM(o.amount), 0), :now " +
+                   "FROM orders o LEFT JOIN toss_payments t ON t.order_id = o.id " +
+                   "LEFT JOIN LATERAL (SELECT tp.payment_method FROM toss_payments tp JOIN orders po ON po.id = tp.order_id " +
+                   "   WHERE o.payment_method IS NULL AND t.id IS NULL AND o.paid_at IS NOT NULL " +
+                   "     AND tp.status = 'DONE' AND po.account_id = o.account_id " +
+                   "     AND po.created_at BETWEEN o.created_at - INTERVAL '5 minutes' AND o.created_at + INTERVAL '5 minutes' " +
+                   "   ORDER BY ABS(EXTRACT(EPOCH FROM po.created_at - o.created_at)) LIMIT 1) g ON TRUE " +
+                   "WHERE o.created_at >= :start AND o.created_at < :end " +
+                   "GROUP BY 1, 2, 3, 4",
+           nativeQuery = true)
+    int insertAggregates(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("now") LocalDateTime now);
+
+    // 이벤트로 전달된 주문들이 속한 날짜 (yyyy-MM-dd)
+    @Query(value = "SELECT DISTINCT CAST(CAST(o.created_at AS date) AS varchar) FROM orders o WHERE o.id IN (:orderIds)", nativeQuery = true)
+    List<String> findSalesDatesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
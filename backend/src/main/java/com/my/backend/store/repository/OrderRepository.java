@@ -2,6 +2,10 @@ package com.my.backend.store.repository;
 
 import com.my.backend.store.entity.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +28,11 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // 상품 ID로 주문 조회 (상품 삭제 시 사용)
     List<Order> findByProduct_Id(Long productId);
     
+    // 상품 삭제 시 관련 주문들의 상품 참조를 일괄 해제 (주문은 유지)
+    @Modifying
+    @Query("UPDATE Order o SET o.product = null WHERE o.product.id = :productId")
+    int detachProduct(@Param("productId") Long productId);
+    
     // 네이버 상품 ID로 주문 조회 (네이버 상품 삭제 시 사용)
     List<Order> findByNaverProduct_Id(Long naverProductId);
     
@@ -34,4 +43,40 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         LocalDateTime startTime, 
         LocalDateTime endTime
     );
+
+    // 결제 성공 시 함께 결제된 주문 ID 조회 (엔티티 로딩 없이 ID만)
+    @Query("SELECT o.id FROM Order o WHERE o.account.id = :accountId AND o.status = :status AND o.createdAt BETWEEN :startTime AND :endTime")
+    List<Long> findIdsByAccountIdAndStatusAndCreatedAtBetween(@Param("accountId") Long accountId,
+                                                              @Param("status") com.my.backend.store.entity.OrderStatus status,
+                                                              @Param("startTime") LocalDateTime startTime,
+                                                              @Param("endTime") LocalDateTime endTime);
+
+    // 상태 전이 대상 잠금: 현재 상태가 status 인 주문만 행 잠금 후 ID 반환 (커밋 전까지 다른 트랜잭션이 전이하지 못함)
+    // 호출하는 쪽 트랜잭션 안에서만 사용
+    @Query(value = "SELECT id FROM orders WHERE id IN (:ids) AND status = :status ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockIdsByStatus(@Param("ids") java.util.Collection<Long> ids,
+                               @Param("status") String status);
+
+    // 주문 상태 일괄 전이 (lockIdsByStatus 로 잠근 주문만 전달, 영속성 컨텍스트의 이전 상태 엔티티는 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query(value = "UPDATE orders SET status = :toStatus WHERE id IN (:ids) AND status = :fromStatus",
+           nativeQuery = true)
+    int transitionStatus(@Param("ids") java.util.Collection<Long> ids,
+                         @Param("fromStatus") String fromStatus,
+                         @Param("toStatus") String toStatus);
+
+    // 결제 완료 일괄 전이: CREATED 상태인 주문만 PAID로 변경하고 paid_at, 결제 수단, 결제 ID 기록 (null 이면 기존 값 유지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query(value = "UPDATE orders SET status = 'PAID', paid_at = :paidAt, " +
+                   "payment_method = COALESCE(CAST(:paymentMethod AS varchar), payment_method), " +
+                   "toss_payment_id = COALESCE(CAST(:tossPaymentId AS bigint), toss_payment_id) " +
+                   "WHERE id IN (:ids) AND status = 'CREATED'",
+           nativeQuery = true)
+    int markPaid(@Param("ids") java.util.Collection<Long> ids,
+                 @Param("paidAt") LocalDateTime paidAt,
+                 @Param("paymentMethod") String paymentMethod,
+                 @Param("tossPaymentId") Long tossPaymentId);
 }
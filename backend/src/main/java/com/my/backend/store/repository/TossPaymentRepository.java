@@ -1,16 +1,25 @@
 package com.my.backend.store.repository;
 
+import com.my.backend.store.dto.PaymentExportRow;
 import com.my.backend.store.entity.TossPayment;
 import com.my.backend.store.entity.TossPaymentStatus;
 import com.my.backend.store.entity.TossPaymentMethod;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TossPaymentRepository extends JpaRepository<TossPayment, Long> {
+
+    // 스트리밍 조회 시 한 번에 가져올 행 수 (PostgreSQL은 트랜잭션 안에서만 커서를 사용)
+    int EXPORT_FETCH_SIZE = 500;
     
     // 주문 ID로 결제 정보 조회
     Optional<TossPayment> findByOrder_Id(Long orderId);
@@ -33,16 +42,46 @@ public interface TossPaymentRepository extends JpaRepository<TossPayment, Long>
     // 결제 키와 결제 상태로 결제 정보 조회
     Optional<TossPayment> findByPaymentKeyAndStatus(String paymentKey, TossPaymentStatus status);
     
-    // 특정 기간 내 결제 정보 조회
-    @Query("SELECT t FROM TossPayment t WHERE t.createdAt BETWEEN :startDate AND :endDate")
-    List<TossPayment> findByCreatedAtBetween(@Param("startDate") java.time.LocalDateTime startDate, 
-                                            @Param("endDate") java.time.LocalDateTime endDate);
+    // 특정 기간 내 결제 정보 조회 (서버 사이드 커서로 스트리밍, 트랜잭션 안에서 소비 후 close 필요)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TossPayment t WHERE t.createdAt BETWEEN :startDate AND :endDate ORDER BY t.id")
+    Stream<TossPayment> findByCreatedAtBetween(@Param("startDate") java.time.LocalDateTime startDate, 
+                                              @Param("endDate") java.time.LocalDateTime endDate);
     
     // 결제 수단별 결제 정보 조회
     List<TossPayment> findByPaymentMethod(TossPaymentMethod paymentMethod);
     
-    // 결제 금액 범위로 결제 정보 조회
-    @Query("SELECT t FROM TossPayment t WHERE t.totalAmount BETWEEN :minAmount AND :maxAmount")
-    List<TossPayment> findByTotalAmountBetween(@Param("minAmount") Long minAmount, 
+    // 결제 금액 범위로 결제 정보 조회 (서버 사이드 커서로 스트리밍)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TossPayment t WHERE t.totalAmount BETWEEN :minAmount AND :maxAmount ORDER BY t.id")
+    Stream<TossPayment> findByTotalAmountBetween(@Param("minAmount") Long minAmount, 
+                                                @Param("maxAmount") Long maxAmount);
+
+    // 정산 내보내기: 결제 + 주문 + 상품 조인 결과를 프로젝션으로 스트리밍 (영속성 컨텍스트에 쌓이지 않음)
+    // 결제 하나로 함께 PAID 된 주문을 모두 조인해서 주문 금액 합이 결제 금액과 맞게 한다. (결제 ID 기록 전 주문은 대표 주문만)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.my.backend.store.dto.PaymentExportRow(" +
+           "t.id, t.paymentKey, t.tossOrderId, t.totalAmount, t.paymentMethod, t.status, " +
+           "t.requestedAt, t.approvedAt, t.createdAt, " +
+           "o.id, o.merchantOrderId, o.status, o.amount, o.quantity, o.createdAt, o.paidAt, o.account.id, " +
+           "p.id, p.name, np.id, np.title) " +
+           "FROM TossPayment t JOIN Order o ON (o.tossPaymentId = t.id OR (o.tossPaymentId IS NULL AND o = t.order)) " +
+           "LEFT JOIN o.product p LEFT JOIN o.naverProduct np " +
+           "WHERE t.createdAt >= :startDate AND t.createdAt < :endDate " +
+           "AND (:minAmount IS NULL OR t.totalAmount >= :minAmount) " +
+           "AND (:maxAmount IS NULL OR t.totalAmount <= :maxAmount) " +
+           "ORDER BY t.id, o.id")
+    Stream<PaymentExportRow> streamExportRows(@Param("startDate") LocalDateTime startDate,
+                                              @Param("endDate") LocalDateTime endDate,
+                                              @Param("minAmount") Long minAmount,
                                               @Param("maxAmount") Long maxAmount);
 }
@@ -0,0 +1,82 @@
+package com.my.backend.store.service;
+
+import com.my.backend.global.cache.CacheInvalidationBus;
+import com.my.backend.global.cache.LocalCache;
+import com.my.backend.store.dto.CartDto;
+import com.my.backend.store.dto.NaverProductDto;
+import com.my.backend.store.dto.ProductDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 장바구니 조회 캐시
+ * 장바구니 변경 시 해당 사용자 키를 모든 노드에서 무효화한다.
+ * 상품 정보(가격, 재고)는 다른 사용자의 주문으로도 바뀌므로 TTL 동안은 이전 값이 보일 수 있다. (주문 시 재고는 다시 검증)
+ */
+@Component
+public class CartCache {
+
+    public static final String NAME = "cart";
+
+    private final LocalCache<Long, List<CartDto>> cache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public CartCache(CacheInvalidationBus invalidationBus,
+                     MeterRegistry meterRegistry,
+                     @Value("${cache.cart.max-entries:20000}") int maxEntries,
+                     @Value("${cache.cart.ttl-seconds:300}") long ttlSeconds) {
+        this.invalidationBus = invalidationBus;
+        this.cache = new LocalCache<Long, List<CartDto>>(NAME, maxEntries, Duration.ofSeconds(ttlSeconds),
+                Long::valueOf, CartCache::estimateBytes)
+                .bindTo(meterRegistry);
+        invalidationBus.register(cache);
+    }
+
+    public List<CartDto> getOrLoad(Long accountId, Supplier<List<CartDto>> loader) {
+        return cache.getOrLoad(accountId, loader);
+    }
+
+    public void evict(Long accountId) {
+        if (accountId != null) {
+            invalidationBus.invalidate(NAME, accountId);
+        }
+    }
+
+    public void evictAll() {
+        invalidationBus.invalidateAll(NAME);
+    }
+
+    /**
+     * 장바구니 DTO 목록의 대략적인 힙 사용량 (객체 헤더 + 문자열 길이 기준 추정)
+     */
+    private static long estimateBytes(List<CartDto> carts) {
+        long bytes = 64;
+        for (CartDto cart : carts) {
+            bytes += 96;
+            ProductDto product = cart.getProduct();
+            if (product != null) {
+                bytes += 160 + chars(product.getName()) + chars(product.getDescription())
+                        + chars(product.getImageUrl()) + chars(product.getRegisteredBy());
+            }
+            NaverProductDto naverProduct = cart.getNaverProduct();
+            if (naverProduct != null) {
+                bytes += 320 + chars(naverProduct.getTitle()) + chars(naverProduct.getDescription())
+                        + chars(naverProduct.getImageUrl()) + chars(naverProduct.getProductUrl())
+                        + chars(naverProduct.getMallName()) + chars(naverProduct.getBrand())
+                        + chars(naverProduct.getMaker()) + chars(naverProduct.getProductId())
+                        + chars(naverProduct.getCategory1()) + chars(naverProduct.getCategory2())
+                        + chars(naverProduct.getCategory3()) + chars(naverProduct.getCategory4());
+            }
+        }
+        return bytes;
+    }
+
+    private static long chars(String value) {
+        return value == null ? 0 : 40L + value.length() * 2L;
+    }
+}
@@ -28,6 +28,7 @@ public class CartService {
     private final AccountRepository accountRepository;
     private final ProductService productService;
     private final NaverShoppingService naverShoppingService;
+    private final CartCache cartCache;
 
     /**
      * 사용자별 장바구니 전체 조회 (엔티티 리스트)
@@ -45,12 +46,14 @@ public class CartService {
         if (cart != null) {
             cart.setQuantity(cart.getQuantity() + 1);
             cartRepository.save(cart);
+            cartCache.evict(account.getId());
             CartDto dto = new CartDto(cart);
             return ResponseDto.success(dto);
         } else {
             Long price = product.getPrice() * 1;
             Cart cart1 = new Cart(product, account, 1, price);
             cartRepository.save(cart1);
+            cartCache.evict(account.getId());
             CartDto dto = new CartDto(cart1);
             return ResponseDto.success(dto);
         }
@@ -59,6 +62,7 @@ public class CartService {
 
 /**
  * 사용자별 장바구니 전체 조회 (DTO 리스트)
+ * 헤더 뱃지/장바구니 화면에서 매 페이지 호출되므로 사용자별 캐시를 먼저 확인
  */
 public List<CartDto> getCartDtoByAccountId(Long accountId) {
 
@@ -67,16 +71,9 @@ public List<CartDto> getCartDtoByAccountId(Long accountId) {
         throw new IllegalArgumentException("사용자 ID가 필요합니다.");
     }
 
-    List<Cart> carts = cartRepository.findByAccount_IdWithProduct(accountId);
-
-    for (Cart cart : carts) {
-    }
-
-    List<CartDto> result = carts.stream()
+    return cartCache.getOrLoad(accountId, () -> cartRepository.findByAccount_IdWithProduct(accountId).stream()
             .map(this::toDto)
-            .toList();
-
-    return result;
+            .toList());
 }
 
 /**
@@ -114,6 +111,7 @@ public Cart addToCart(Long accountId, Long productId, int quantity) {
         // 기존 항목이 있으면 수량 증가
         existingCart.setQuantity(existingCart.getQuantity() + requestedQuantity);
         Cart saved = cartRepository.save(existingCart);
+        cartCache.evict(accountId);
         return saved;
     } else {
         // 새 항목 생성
@@ -124,6 +122,7 @@ public Cart addToCart(Long accountId, Long productId, int quantity) {
                 .build();
         
         Cart saved = cartRepository.save(newCart);
+        cartCache.evict(accountId);
         return saved;
     }
 }
@@ -132,7 +131,10 @@ public Cart addToCart(Long accountId, Long productId, int quantity) {
  * 장바구니에서 항목 제거
  */
 public void removeFromCart(Long cartId) {
-    cartRepository.deleteById(cartId);
+    cartRepository.findById(cartId).ifPresent(cart -> {
+        cartRepository.delete(cart);
+        cartCache.evict(cart.getAccount().getId());
+    });
 }
 
 /**
@@ -158,6 +160,7 @@ public Cart updateCartQuantity(Long cartId, int quantity) {
     cart.setQuantity(quantity);
     
     Cart savedCart = cartRepository.save(cart);
+    cartCache.evict(cart.getAccount().getId());
     
     return savedCart;
 }
@@ -197,6 +200,7 @@ public Cart addNaverProductToCart(Long accountId, Long naverProductId, int quant
         int oldQuantity = existingCart.getQuantity();
         existingCart.setQuantity(existingCart.getQuantity() + requestedQuantity);
         Cart saved = cartRepository.save(existingCart);
+        cartCache.evict(accountId);
         return saved;
     } else {
         // 새 항목 생성
@@ -207,6 +211,7 @@ public Cart addNaverProductToCart(Long accountId, Long naverProductId, int quant
                 .build();
         
         Cart saved = cartRepository.save(newCart);
+        cartCache.evict(accountId);
         return saved;
     }
 }
@@ -1,5 +1,7 @@
 package com.my.backend.store.service;
 
+import com.my.backend.global.job.service.JobQueueService;
+import com.my.backend.store.job.EmbeddingUpdateJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -11,7 +13,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Arrays;
-import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -19,55 +20,56 @@ import java.util.concurrent.CompletableFuture;
 public class EmbeddingService {
 
     private final RestTemplate restTemplate;
+    private final JobQueueService jobQueueService;
 
     /**
-     * AI 서비스의 API를 호출하여 임베딩을 업데이트
+     * 임베딩 업데이트 작업 등록 (백그라운드 작업 큐에서 실행)
+     * @return 새로 등록했으면 true, 이미 대기 중인 작업이 있으면 false
      */
-    public CompletableFuture<String> updateEmbeddingsAsync() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.info("AI 서비스 임베딩 업데이트 요청 시작");
-                
-                String aiServiceUrl = "http://ai:9000/update-embeddings";
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-                headers.setAccept(Arrays.asList(MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON_UTF8));
-                
-                // 빈 요청 바디 (필요한 경우 파라미터 추가 가능)
-                HttpEntity<String> entity = new HttpEntity<>(headers);
-                
-                log.info("AI 서비스 호출 URL: {}", aiServiceUrl);
-                
-                ResponseEntity<String> response = restTemplate.exchange(
-                    aiServiceUrl,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-                );
-                
-                log.info("AI 서비스 응답 상태: {}", response.getStatusCode());
-                log.info("AI 서비스 응답: {}", response.getBody());
-                
-                if (response.getStatusCode().is2xxSuccessful()) {
-                    log.info("임베딩 업데이트 성공");
-                    return "임베딩 업데이트가 성공적으로 완료되었습니다.\n" + response.getBody();
-                } else {
-                    log.error("임베딩 업데이트 실패. 상태 코드: {}", response.getStatusCode());
-                    return "임베딩 업데이트에 실패했습니다. 상태 코드: " + response.getStatusCode() + "\n" + response.getBody();
-                }
-                
-            } catch (Exception e) {
-                log.error("AI 서비스 임베딩 업데이트 요청 중 오류 발생", e);
-                return "AI 서비스 임베딩 업데이트 요청 중 오류가 발생했습니다: " + e.getMessage();
-            }
-        });
+    public boolean requestEmbeddingUpdate() {
+        boolean queued = jobQueueService.enqueueIfAbsent(EmbeddingUpdateJob.TYPE, new EmbeddingUpdateJob());
+        log.info("임베딩 업데이트 작업 등록: queued={}", queued);
+        return queued;
+    }
+
+    /**
+     * AI 서비스의 API를 호출하여 임베딩을 업데이트 (작업 워커에서 호출)
+     * 실패하면 예외를 던져 작업 큐의 재시도에 맡긴다.
+     */
+    public String updateEmbeddings() {
+        log.info("AI 서비스 임베딩 업데이트 요청 시작");
+
+        String aiServiceUrl = "http://ai:9000/update-embeddings";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(Arrays.asList(MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON_UTF8));
+
+        // 빈 요청 바디 (필요한 경우 파라미터 추가 가능)
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        log.info("AI 서비스 호출 URL: {}", aiServiceUrl);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+            aiServiceUrl,
+            HttpMethod.POST,
+            entity,
+            String.class
+        );
+
+        log.info("AI 서비스 응답 상태: {}", response.getStatusCode());
+        log.info("AI 서비스 응답: {}", response.getBody());
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new IllegalStateException("임베딩 업데이트 실패. 상태 코드: " + response.getStatusCode());
+        }
+        log.info("임베딩 업데이트 성공");
+        return response.getBody();
     }
     
     /**
-     * 임베딩 업데이트 상태 확인
+     * 임베딩 업데이트 상태 확인 (대기 중이거나 실행 중인 작업이 있는지)
      */
     public boolean isEmbeddingUpdateInProgress() {
-        // 간단한 구현: 실제로는 더 정교한 상태 관리가 필요할 수 있음
-        return false;
+        return jobQueueService.hasActive(EmbeddingUpdateJob.TYPE);
     }
 }
@@ -42,6 +42,7 @@ public class NaverShoppingService {
     private final NaverProductRepository naverProductRepository;
     private final ProductRepository productRepository;
     private final EmbeddingService embeddingService;
+    private final CartCache cartCache;
 
     @Value("${naver.api.shopping-url}")
     private String naverShoppingUrl;
@@ -496,12 +497,9 @@ public class NaverShoppingService {
         log.info("삭제할 네이버 상품: {}", naverProduct.getTitle());
         
         try {
-            // 관련된 장바구니 항목들 먼저 삭제
-            // CartService에서 네이버 상품 관련 장바구니 삭제 로직이 있다면 여기서 호출
-            // 또는 직접 CartRepository를 주입받아서 처리
-            
-            // 네이버 상품 삭제
+            // 장바구니 항목은 cascade 로 함께 삭제되고, 여러 사용자에 걸쳐 있으므로 장바구니 캐시 전체 무효화
             naverProductRepository.delete(naverProduct);
+            cartCache.evictAll();
             log.info("네이버 상품 삭제 완료: {}", id);
             
         } catch (Exception e) {
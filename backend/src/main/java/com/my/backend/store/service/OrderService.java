@@ -2,6 +2,7 @@ package com.my.backend.store.service;
 
 import com.my.backend.account.entity.Account;
 import com.my.backend.account.repository.AccountRepository;
+import com.my.backend.global.outbox.service.OutboxService;
 import com.my.backend.store.dto.OrderRequestDto;
 import com.my.backend.store.dto.OrderResponseDto;
 import com.my.backend.store.dto.BulkAllOrderRequestDto;
@@ -9,7 +10,8 @@ import com.my.backend.store.entity.Order;
 import com.my.backend.store.entity.OrderStatus;
 import com.my.backend.store.entity.Product;
 import com.my.backend.store.entity.NaverProduct;
-import com.my.backend.store.repository.CartRepository;
+import com.my.backend.store.event.OrderCreatedEvent;
+import com.my.backend.store.event.OrderStatusChangedEvent;
 import com.my.backend.store.repository.OrderRepository;
 import com.my.backend.store.repository.ProductRepository;
 import com.my.backend.store.repository.NaverProductRepository;
@@ -29,13 +31,12 @@ import java.util.ArrayList;
 @Service
 @RequiredArgsConstructor
 public class OrderService {
-    private final CartRepository cartRepository; // 추가
-
     private final OrderRepository orderRepository;
     private final AccountRepository accountRepository;
     private final ProductRepository productRepository;
     private final NaverProductRepository naverProductRepository;
     private final CartService cartService;
+    private final OutboxService outboxService;
 
     // 단일 주문 생성
     @Transactional
@@ -89,27 +90,8 @@ public class OrderService {
 
         Order saved = orderRepository.save(order);
         
-        // 장바구니에서 해당 상품 삭제
-        try {
-            List<Cart> cartItems = cartRepository.findByAccount_Id(requestDto.getAccountId());
-            
-            List<Cart> itemsToDelete = cartItems.stream()
-                .filter(cart -> {
-                    boolean shouldDelete = cart.getProduct() != null && cart.getProduct().getId().equals(requestDto.getProductId());
-                    return shouldDelete;
-                })
-                .collect(Collectors.toList());
-            
-            if (!itemsToDelete.isEmpty()) {
-                // 개별 삭제로 변경하여 더 안정적으로 처리
-                for (Cart cartItem : itemsToDelete) {
-                    cartRepository.delete(cartItem);
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            // 장바구니 삭제 실패는 주문 생성에 영향을 주지 않도록 함
-        }
+        // 장바구니에서 해당 상품 삭제는 커밋 이후 아웃박스 핸들러에서 처리
+        publishOrderCreated(account.getId(), List.of(saved));
         
         return mapToResponseDto(saved);
     }
@@ -230,8 +212,8 @@ public class OrderService {
             orders.add(orderRepository.save(order));
         }
 
-        // 주문 생성 후 장바구니 비우기
-        cartItems.forEach(cart -> cartService.removeFromCart(cart.getId()));
+        // 주문 생성 후 장바구니 비우기 (커밋 이후 아웃박스 핸들러에서 일괄 처리)
+        publishOrderCreated(accountId, orders);
 
         return orders.stream().map(this::mapToResponseDto).collect(Collectors.toList());
     }
@@ -313,26 +295,8 @@ public class OrderService {
             }
         }
 
-        // 주문 생성 후 장바구니에서 해당 상품들 삭제
-        for (BulkAllOrderRequestDto.OrderItemDto item : requestDto.getItems()) {
-            if ("regular".equals(item.getType())) {
-                // 일반 상품 장바구니에서 삭제
-                List<Cart> cartItems = cartService.getCartByAccountId(account.getId());
-                cartItems.stream()
-                    .filter(cart -> cart.getProduct() != null && cart.getProduct().getId().equals(item.getProductId()))
-                    .forEach(cart -> {
-                        cartService.removeFromCart(cart.getId());
-                    });
-            } else if ("naver".equals(item.getType())) {
-                // 네이버 상품 장바구니에서 삭제
-                List<Cart> cartItems = cartService.getCartByAccountId(account.getId());
-                cartItems.stream()
-                    .filter(cart -> cart.getNaverProduct() != null && cart.getNaverProduct().getId().equals(item.getNaverProductId()))
-                    .forEach(cart -> {
-                        cartService.removeFromCart(cart.getId());
-                    });
-            }
-        }
+        // 주문 생성 후 장바구니에서 해당 상품들 삭제 (커밋 이후 아웃박스 핸들러에서 일괄 처리)
+        publishOrderCreated(account.getId(), orders);
         return orders.stream().map(this::mapToResponseDto).collect(Collectors.toList());
     }
 
@@ -399,6 +363,14 @@ public class OrderService {
         }
     }
 
+    // 주문 생성 이벤트 기록 (장바구니 정리 등 후속 처리는 아웃박스 핸들러가 수행)
+    private void publishOrderCreated(Long accountId, List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        outboxService.append(OrderCreatedEvent.TYPE, orders.get(0).getId(), OrderCreatedEvent.of(accountId, orders));
+    }
+
     // HTML 태그 제거 메서드
     private String removeHtmlTags(String text) {
         if (text == null) {
@@ -424,6 +396,7 @@ public class OrderService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found id=" + orderId));
 
+        OrderStatus oldStatus = order.getStatus();
         order.setStatus(newStatus);
 
         // 예: 결제 완료 시 paidAt 업데이트
@@ -432,6 +405,13 @@ public class OrderService {
         }
 
         Order updated = orderRepository.save(order);
+
+        // 매출 집계 등 후속 처리를 위해 상태 변경 이벤트 기록
+        if (oldStatus != newStatus) {
+            Long accountId = updated.getAccount() != null ? updated.getAccount().getId() : null;
+            outboxService.append(OrderStatusChangedEvent.TYPE, accountId,
+                    new OrderStatusChangedEvent(accountId, List.of(updated.getId()), oldStatus, newStatus, LocalDateTime.now()));
+        }
         return mapToResponseDto(updated);
     }
 
@@ -482,27 +462,8 @@ public class OrderService {
 
             Order saved = orderRepository.save(order);
             
-            // 장바구니에서 해당 네이버 상품 삭제
-            try {
-                List<Cart> cartItems = cartRepository.findByAccount_Id(accountId);
-                
-                List<Cart> itemsToDelete = cartItems.stream()
-                    .filter(cart -> {
-                        boolean shouldDelete = cart.getNaverProduct() != null && cart.getNaverProduct().getId().equals(naverProductId);
-                        return shouldDelete;
-                    })
-                    .collect(Collectors.toList());
-                
-                if (!itemsToDelete.isEmpty()) {
-                    // 개별 삭제로 변경하여 더 안정적으로 처리
-                    for (Cart cartItem : itemsToDelete) {
-                        cartRepository.delete(cartItem);
-                    }
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-                // 장바구니 삭제 실패는 주문 생성에 영향을 주지 않도록 함
-            }
+            // 장바구니에서 해당 네이버 상품 삭제는 커밋 이후 아웃박스 핸들러에서 처리
+            publishOrderCreated(accountId, List.of(saved));
             
             return mapToResponseDto(saved);
         } catch (Exception e) {
@@ -0,0 +1,88 @@
+package com.my.backend.store.service;
+
+import com.my.backend.global.outbox.service.OutboxService;
+import com.my.backend.store.entity.OrderStatus;
+import com.my.backend.store.entity.TossPayment;
+import com.my.backend.store.event.OrderStatusChangedEvent;
+import com.my.backend.store.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 주문 상태 전이 서비스
+ * from 상태인 주문을 SELECT ... FOR UPDATE 로 잠가 전이할 ID 를 정한 뒤 한 번의 UPDATE ... WHERE id IN (...) 으로 전이하고,
+ * 실제로 전이된 주문 ID만 아웃박스 이벤트로 기록한다. 후속 처리는 아웃박스 핸들러에서 비동기로 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStateMachine {
+
+    private final OrderRepository orderRepository;
+    private final OutboxService outboxService;
+
+    /**
+     * CREATED -> PAID 일괄 전이 (paid_at 기록)
+     */
+    @Transactional
+    public List<Long> markPaid(Long accountId, Collection<Long> orderIds) {
+        return markPaid(accountId, orderIds, null);
+    }
+
+    /**
+     * CREATED -> PAID 일괄 전이 (paid_at + 결제 수단 + 결제 ID 기록)
+     * 결제 행(toss_payments)은 대표 주문 하나에만 붙으므로 함께 전이되는 주문에도 결제를 남겨 매출 집계와 정산에 쓴다.
+     */
+    @Transactional
+    public List<Long> markPaid(Long accountId, Collection<Long> orderIds, TossPayment payment) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> updatedIds = orderRepository.lockIdsByStatus(orderIds, OrderStatus.CREATED.name());
+        if (!updatedIds.isEmpty()) {
+            orderRepository.markPaid(updatedIds, now,
+                    payment != null && payment.getPaymentMethod() != null ? payment.getPaymentMethod().name() : null,
+                    payment != null ? payment.getId() : null);
+        }
+        publish(accountId, updatedIds, OrderStatus.CREATED, OrderStatus.PAID, now);
+        return updatedIds;
+    }
+
+    /**
+     * 일반 상태 전이 (from 상태인 주문만 변경)
+     */
+    @Transactional
+    public List<Long> transition(Long accountId, Collection<Long> orderIds, OrderStatus from, OrderStatus to) {
+        if (!from.canTransitionTo(to)) {
+            throw new IllegalStateException("허용되지 않는 주문 상태 전이입니다: " + from + " -> " + to);
+        }
+        if (orderIds == null || orderIds.isEmpty()) {
+            return List.of();
+        }
+        if (to == OrderStatus.PAID) {
+            return markPaid(accountId, orderIds);
+        }
+        List<Long> updatedIds = orderRepository.lockIdsByStatus(orderIds, from.name());
+        if (!updatedIds.isEmpty()) {
+            orderRepository.transitionStatus(updatedIds, from.name(), to.name());
+        }
+        publish(accountId, updatedIds, from, to, LocalDateTime.now());
+        return updatedIds;
+    }
+
+    private void publish(Long accountId, List<Long> updatedIds, OrderStatus from, OrderStatus to, LocalDateTime occurredAt) {
+        log.info("주문 상태 일괄 전이: {} -> {}, 변경 {}건, orderIds={}", from, to, updatedIds.size(), updatedIds);
+        if (updatedIds.isEmpty()) {
+            return;
+        }
+        outboxService.append(OrderStatusChangedEvent.TYPE, accountId,
+                new OrderStatusChangedEvent(accountId, List.copyOf(updatedIds), from, to, occurredAt));
+    }
+}
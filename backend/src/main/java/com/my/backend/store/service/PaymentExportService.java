@@ -0,0 +1,189 @@
+package com.my.backend.store.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.store.dto.PaymentExportRow;
+import com.my.backend.store.repository.TossPaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 정산용 결제/주문 내보내기
+ * 서버 사이드 커서로 읽은 행을 바로 응답 스트림에 쓰므로 기간이 길어도 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentExportService {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private static final String[] CSV_HEADER = {
+            "payment_id", "payment_key", "toss_order_id", "total_amount", "payment_method", "payment_status",
+            "requested_at", "approved_at", "payment_created_at",
+            "order_id", "merchant_order_id", "order_status", "order_amount", "quantity", "order_created_at", "paid_at",
+            "account_id", "product_source", "product_id", "product_name"
+    };
+
+    private final TossPaymentRepository tossPaymentRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format from(String value) {
+            if (value == null) {
+                return CSV;
+            }
+            return switch (value.toLowerCase()) {
+                case "csv" -> CSV;
+                case "ndjson", "jsonl" -> NDJSON;
+                default -> throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            };
+        }
+    }
+
+    /**
+     * [startDate, endDate) 구간의 결제를 주문과 조인해서 out 으로 기록하고 기록한 행 수를 반환
+     * 결제 하나에 주문이 여러 개면 주문마다 한 행씩 나온다. (주문 금액 합 = 결제 금액)
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDateTime startDate, LocalDateTime endDate, Long minAmount, Long maxAmount,
+                       Format format, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+
+        try (Stream<PaymentExportRow> rows = tossPaymentRepository.streamExportRows(startDate, endDate, minAmount, maxAmount)) {
+            if (format == Format.CSV) {
+                writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+                writeCsvLine(writer, CSV_HEADER);
+            }
+
+            Iterator<PaymentExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                PaymentExportRow row = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvLine(writer, toColumns(row));
+                } else {
+                    writeJsonLine(writer, row);
+                }
+                if (++count % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("정산 내보내기 완료: {} ~ {}, format={}, rows={}", startDate, endDate, format, count);
+        return count;
+    }
+
+    private String[] toColumns(PaymentExportRow row) {
+        return new String[]{
+                str(row.paymentId()), row.paymentKey(), row.tossOrderId(), str(row.totalAmount()),
+                str(row.paymentMethod()), str(row.paymentStatus()),
+                time(row.requestedAt()), time(row.approvedAt()), time(row.paymentCreatedAt()),
+                str(row.orderId()), row.merchantOrderId(), str(row.orderStatus()), str(row.orderAmount()),
+                String.valueOf(row.quantity()), time(row.orderCreatedAt()), time(row.paidAt()),
+                str(row.accountId()), productSource(row), str(productId(row)), productName(row)
+        };
+    }
+
+    private void writeJsonLine(Writer writer, PaymentExportRow row) throws IOException {
+        // 행마다 생성기를 만들되 writer 는 닫지 않도록 설정
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartObject();
+        generator.writeObjectField("paymentId", row.paymentId());
+        generator.writeStringField("paymentKey", row.paymentKey());
+        generator.writeStringField("tossOrderId", row.tossOrderId());
+        generator.writeObjectField("totalAmount", row.totalAmount());
+        generator.writeStringField("paymentMethod", str(row.paymentMethod()));
+        generator.writeStringField("paymentStatus", str(row.paymentStatus()));
+        generator.writeStringField("requestedAt", time(row.requestedAt()));
+        generator.writeStringField("approvedAt", time(row.approvedAt()));
+        generator.writeStringField("paymentCreatedAt", time(row.paymentCreatedAt()));
+        generator.writeObjectField("orderId", row.orderId());
+        generator.writeStringField("merchantOrderId", row.merchantOrderId());
+        generator.writeStringField("orderStatus", str(row.orderStatus()));
+        generator.writeObjectField("orderAmount", row.orderAmount());
+        generator.writeNumberField("quantity", row.quantity());
+        generator.writeStringField("orderCreatedAt", time(row.orderCreatedAt()));
+        generator.writeStringField("paidAt", time(row.paidAt()));
+        generator.writeObjectField("accountId", row.accountId());
+        generator.writeStringField("productSource", productSource(row));
+        generator.writeObjectField("productId", productId(row));
+        generator.writeStringField("productName", productName(row));
+        generator.writeEndObject();
+        generator.close();
+        writer.write('\n');
+    }
+
+    private void writeCsvLine(Writer writer, String[] columns) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, columns[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private String productSource(PaymentExportRow row) {
+        if (row.productId() != null) {
+            return "MONGTORY";
+        }
+        if (row.naverProductId() != null) {
+            return "NAVER";
+        }
+        return null;
+    }
+
+    private Long productId(PaymentExportRow row) {
+        return row.productId() != null ? row.productId() : row.naverProductId();
+    }
+
+    private String productName(PaymentExportRow row) {
+        if (row.productName() != null) {
+            return row.productName();
+        }
+        return row.naverProductTitle() != null ? row.naverProductTitle().replaceAll("<[^>]*>", "") : null;
+    }
+
+    private String str(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private String time(LocalDateTime value) {
+        return value != null ? value.format(DATE_TIME) : null;
+    }
+}
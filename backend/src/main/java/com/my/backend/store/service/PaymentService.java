@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -29,6 +30,7 @@ public class PaymentService {
     private final TossPaymentRepository tossPaymentRepository;
     private final OrderRepository orderRepository;
     private final OrderService orderService;
+    private final OrderStateMachine orderStateMachine;
     private final ObjectMapper objectMapper;
 
     /**
@@ -119,30 +121,20 @@ public class PaymentService {
         
         // 결제 성공 시 주문 상태 업데이트
         if (status == TossPaymentStatus.DONE) {
-            // 현재 주문을 PAID로 업데이트
-            order.setStatus(OrderStatus.PAID);
-            order.setPaidAt(LocalDateTime.now());
-            orderRepository.save(order);
-            log.info("주문 상태 업데이트 완료: orderId={}, status=PAID", request.orderId());
-            
-            // 같은 사용자의 다른 CREATED 상태 주문들도 함께 PAID로 업데이트
-            List<Order> relatedOrders = orderRepository.findByAccountAndStatusAndCreatedAtBetween(
-                account, 
-                OrderStatus.CREATED, 
+            // 같은 사용자가 5분 이내 생성한 CREATED 주문들을 현재 주문과 함께 한 번에 PAID로 전이
+            List<Long> orderIds = new ArrayList<>(orderRepository.findIdsByAccountIdAndStatusAndCreatedAtBetween(
+                account.getId(),
+                OrderStatus.CREATED,
                 order.getCreatedAt().minusMinutes(5), // 5분 이내 생성된 주문들
                 order.getCreatedAt().plusMinutes(5)
-            );
-            
-            for (Order relatedOrder : relatedOrders) {
-                if (!relatedOrder.getId().equals(order.getId())) {
-                    relatedOrder.setStatus(OrderStatus.PAID);
-                    relatedOrder.setPaidAt(LocalDateTime.now());
-                    orderRepository.save(relatedOrder);
-                    log.info("관련 주문 상태 업데이트 완료: orderId={}, status=PAID", relatedOrder.getMerchantOrderId());
-                }
+            ));
+            if (!orderIds.contains(order.getId())) {
+                orderIds.add(order.getId());
             }
-            
-            log.info("총 {}개의 주문이 PAID 상태로 업데이트되었습니다.", relatedOrders.size() + 1);
+
+            List<Long> paidOrderIds = orderStateMachine.markPaid(account.getId(), orderIds, savedPayment);
+
+            log.info("총 {}개의 주문이 PAID 상태로 업데이트되었습니다. orderIds={}", paidOrderIds.size(), paidOrderIds);
         }
         
         return savedPayment;
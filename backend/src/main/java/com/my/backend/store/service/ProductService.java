@@ -1,15 +1,16 @@
 package com.my.backend.store.service;
 
 import com.my.backend.global.dto.ResponseDto;
+import com.my.backend.global.outbox.service.OutboxService;
 import com.my.backend.store.entity.Product;
 import com.my.backend.store.entity.Category;
-import com.my.backend.store.entity.Order;
 import com.my.backend.store.repository.OrderItemRepository;
 import com.my.backend.store.repository.OrderRepository;
 import com.my.backend.store.repository.ProductRepository;
 import com.my.backend.store.repository.CartRepository;
 import com.my.backend.recent.repository.RecentProductRepository;
 import com.my.backend.store.dto.ProductDto;
+import com.my.backend.store.event.ProductDeletedEvent;
 import com.my.backend.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,7 +19,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +31,8 @@ public class ProductService {
     private final OrderRepository orderRepository;
     private final RecentProductRepository recentProductRepository;
     private final S3Service s3Service;
+    private final OutboxService outboxService;
+    private final CartCache cartCache;
     // private final EmbeddingService embeddingService; // 임베딩 기능 제거
 
     public List<Product> getAllProducts() {
@@ -121,7 +123,10 @@ public class ProductService {
             log.info("상품명이 변경됨: '{}' -> '{}'", oldName, updatedProduct.getName());
         }
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        // 장바구니에 담긴 상품 정보(가격, 재고, 이미지)가 바뀌므로 장바구니 캐시 전체 무효화
+        cartCache.evictAll();
+        return saved;
     }
 
     @Transactional(rollbackFor = Exception.class)
@@ -131,30 +136,25 @@ public class ProductService {
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다: " + id));
         
         try {
-            // 1. 관련된 최근 본 상품들 먼저 삭제 (모든 계정에서)
-            // 직접 쿼리로 삭제
-            recentProductRepository.deleteAll(
-                recentProductRepository.findAll().stream()
-                    .filter(rp -> rp.getStoreProduct() != null && rp.getStoreProduct().getId().equals(id))
-                    .collect(Collectors.toList())
-            );
+            // 상품을 참조하는 행들은 FK 때문에 같은 트랜잭션에서 정리해야 하므로 벌크 쿼리로 처리
+            // 1. 관련된 최근 본 상품들 삭제 (모든 계정에서)
+            recentProductRepository.deleteByStoreProductId(id);
             
-            // 2. 관련된 장바구니 항목들 삭제
+            // 2. 관련된 장바구니 항목들 삭제 (여러 사용자에 걸쳐 있으므로 장바구니 캐시 전체 무효화)
             cartRepository.deleteByProduct_Id(id);
+            cartCache.evictAll();
             
             // 3. 관련된 주문들의 product 참조를 null로 설정 (주문은 유지)
-            List<Order> relatedOrders = orderRepository.findByProduct_Id(id);
-            
-            for (Order order : relatedOrders) {
-                order.setProduct(null);
-                orderRepository.save(order);
-            }
+            orderRepository.detachProduct(id);
             
             // 4. 관련된 주문 항목들 삭제 (OrderItem)
             orderItemRepository.deleteByProduct_Id(id);
             
             // 5. 상품 삭제
             productRepository.delete(product);
+
+            // 6. 상품 이미지 정리는 커밋 이후 아웃박스 핸들러에서 처리
+            outboxService.append(ProductDeletedEvent.TYPE, id, new ProductDeletedEvent(id, product.getImageUrl()));
             
             return ResponseDto.success("삭제 완료");
             
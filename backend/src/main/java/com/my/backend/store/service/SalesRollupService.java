@@ -0,0 +1,135 @@
+package com.my.backend.store.service;
+
+import com.my.backend.store.dto.SalesDashboardDto;
+import com.my.backend.store.entity.DailySalesRollup;
+import com.my.backend.store.entity.OrderStatus;
+import com.my.backend.store.repository.DailySalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 일별 매출 집계 유지
+ * - 주문/결제 이벤트(아웃박스)가 오면 해당 주문들이 속한 날짜만 원본에서 다시 집계한다. (날짜당 쿼리 2개)
+ * - 날짜마다 advisory lock 을 잡으므로 다른 날짜를 갱신하는 노드끼리는 서로 기다리지 않는다.
+ *   교착을 피하려고 항상 날짜 오름차순으로 잡는다.
+ * - 매일 새벽 최근 N일을 다시 집계해 누락(주문 삭제 등)을 보정한다.
+ * - 대시보드는 집계 테이블만 읽으므로 조회 비용이 주문 수가 아닌 일 수에 비례한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    private final DailySalesRollupRepository dailySalesRollupRepository;
+
+    @Value("${sales.rollup.reconcile-days:7}")
+    private int reconcileDays;
+
+    /**
+     * 주문들이 속한 날짜의 집계를 다시 계산
+     */
+    @Transactional
+    public void refreshForOrders(Collection<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return;
+        }
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        dailySalesRollupRepository.findSalesDatesByOrderIds(orderIds)
+                .forEach(date -> dates.add(LocalDate.parse(date)));
+        refreshDates(dates);
+    }
+
+    @Transactional
+    public void refreshDates(Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (LocalDate date : new TreeSet<>(dates)) {
+            dailySalesRollupRepository.lockDate(date);
+            rebuildRangeLocked(date, date.plusDays(1), now);
+        }
+        log.debug("일별 매출 집계 갱신: dates={}", dates);
+    }
+
+    /**
+     * [from, toExclusive) 구간 전체를 다시 집계 (백필/보정용)
+     */
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate toExclusive) {
+        for (LocalDate date = from; date.isBefore(toExclusive); date = date.plusDays(1)) {
+            dailySalesRollupRepository.lockDate(date);
+        }
+        int inserted = rebuildRangeLocked(from, toExclusive, LocalDateTime.now());
+        log.info("일별 매출 집계 재계산: {} ~ {} (미포함), rows={}", from, toExclusive, inserted);
+        return inserted;
+    }
+
+    /**
+     * 야간 보정: 최근 N일 재집계 (매일 새벽 3시 30분)
+     */
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    @Transactional
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        rebuild(today.minusDays(reconcileDays), today.plusDays(1));
+    }
+
+    @Transactional(readOnly = true)
+    public SalesDashboardDto getDashboard(LocalDate from, LocalDate to) {
+        List<DailySalesRollup> rollups = dailySalesRollupRepository.findBySalesDateBetweenOrderBySalesDateAsc(from, to);
+
+        Map<LocalDate, SalesDashboardDto.DaySummary> days = new TreeMap<>();
+        long paidOrderCount = 0;
+        long paidAmount = 0;
+        long canceledOrderCount = 0;
+        long canceledAmount = 0;
+
+        for (DailySalesRollup rollup : rollups) {
+            SalesDashboardDto.DaySummary day = days.computeIfAbsent(rollup.getSalesDate(),
+                    date -> SalesDashboardDto.DaySummary.builder().date(date).build());
+
+            if (OrderStatus.PAID.name().equals(rollup.getOrderStatus())) {
+                day.setPaidOrderCount(day.getPaidOrderCount() + rollup.getOrderCount());
+                day.setPaidAmount(day.getPaidAmount() + rollup.getTotalAmount());
+                paidOrderCount += rollup.getOrderCount();
+                paidAmount += rollup.getTotalAmount();
+            } else if (OrderStatus.CANCELED.name().equals(rollup.getOrderStatus())) {
+                day.setCanceledOrderCount(day.getCanceledOrderCount() + rollup.getOrderCount());
+                day.setCanceledAmount(day.getCanceledAmount() + rollup.getTotalAmount());
+                canceledOrderCount += rollup.getOrderCount();
+                canceledAmount += rollup.getTotalAmount();
+            } else {
+                day.setCreatedOrderCount(day.getCreatedOrderCount() + rollup.getOrderCount());
+            }
+        }
+
+        return SalesDashboardDto.builder()
+                .from(from)
+                .to(to)
+                .paidOrderCount(paidOrderCount)
+                .paidAmount(paidAmount)
+                .canceledOrderCount(canceledOrderCount)
+                .canceledAmount(canceledAmount)
+                .days(List.copyOf(days.values()))
+                .rows(rollups.stream().map(SalesDashboardDto.Row::from).toList())
+                .build();
+    }
+
+    private int rebuildRangeLocked(LocalDate from, LocalDate toExclusive, LocalDateTime now) {
+        dailySalesRollupRepository.deleteRange(from, toExclusive);
+        return dailySalesRollupRepository.insertAggregates(from.atStartOfDay(), toExclusive.atStartOfDay(), now);
+    }
+}
@@ -13,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -55,51 +56,73 @@ class AutoCommentServiceTest {
     }
 
     @Test
-    void createAutoComment_성공적으로_AI_댓글_생성() {
+    void generateComment_AI_댓글_내용_생성() {
         // Given
         when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(commentRepository.existsByPostIdAndOwnerEmail(1L, "meongtory@meongtory.com")).thenReturn(false);
         when(openAiService.generateComment(anyString(), anyString()))
                 .thenReturn("좋은 산책이었네요! 🐾");
-        when(commentRepository.save(any(CommunityComment.class))).thenReturn(testComment);
-        when(postRepository.save(any(CommunityPost.class))).thenReturn(testPost);
 
         // When
-        autoCommentService.createAutoComment(1L);
+        Optional<String> content = autoCommentService.generateComment(1L);
 
         // Then
-        verify(postRepository).findById(1L);
+        assertEquals(Optional.of("좋은 산책이었네요! 🐾"), content);
         verify(openAiService).generateComment(testPost.getContent(), testPost.getCategory());
-        verify(commentRepository).save(any(CommunityComment.class));
-        verify(postRepository).save(any(CommunityPost.class));
+        verify(commentRepository, never()).save(any(CommunityComment.class));
     }
 
     @Test
-    void createAutoComment_게시글_없음_예외_처리() {
+    void generateComment_게시글_없거나_이미_자동_댓글이_있으면_생략() {
         // Given
         when(postRepository.findById(1L)).thenReturn(Optional.empty());
+        when(postRepository.findById(2L)).thenReturn(Optional.of(testPost));
+        when(commentRepository.existsByPostIdAndOwnerEmail(2L, "meongtory@meongtory.com")).thenReturn(true);
+
+        // When & Then
+        assertTrue(autoCommentService.generateComment(1L).isEmpty());
+        assertTrue(autoCommentService.generateComment(2L).isEmpty());
+        verify(openAiService, never()).generateComment(anyString(), anyString());
+    }
+
+    @Test
+    void generateComment_AI_서비스_실패는_예외로_전달() {
+        // Given (작업 워커가 재시도하도록 예외를 삼키지 않는다)
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(openAiService.generateComment(anyString(), anyString()))
+                .thenThrow(new RuntimeException("AI 서비스 오류"));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> autoCommentService.generateComment(1L));
+    }
+
+    @Test
+    void saveAutoComment_댓글_저장_후_댓글_수_증가() {
+        // Given
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(commentRepository.existsByPostIdAndOwnerEmail(1L, "meongtory@meongtory.com")).thenReturn(false);
+        when(commentRepository.save(any(CommunityComment.class))).thenReturn(testComment);
 
         // When
-        autoCommentService.createAutoComment(1L);
+        autoCommentService.saveAutoComment(1L, "좋은 산책이었네요! 🐾");
 
         // Then
-        verify(postRepository).findById(1L);
-        verify(openAiService, never()).generateComment(anyString(), anyString());
-        verify(commentRepository, never()).save(any(CommunityComment.class));
+        verify(commentRepository).save(argThat(comment ->
+                "Meongtory".equals(comment.getAuthor()) && "좋은 산책이었네요! 🐾".equals(comment.getContent())));
+        verify(postRepository).addComments(1L, 1);
     }
 
     @Test
-    void createAutoComment_AI_서비스_실패_시_예외_처리() {
+    void saveAutoComment_재실행되어도_한_번만_저장() {
         // Given
         when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
-        when(openAiService.generateComment(anyString(), anyString()))
-                .thenThrow(new RuntimeException("AI 서비스 오류"));
+        when(commentRepository.existsByPostIdAndOwnerEmail(1L, "meongtory@meongtory.com")).thenReturn(true);
 
         // When
-        autoCommentService.createAutoComment(1L);
+        autoCommentService.saveAutoComment(1L, "좋은 산책이었네요! 🐾");
 
         // Then
-        verify(postRepository).findById(1L);
-        verify(openAiService).generateComment(testPost.getContent(), testPost.getCategory());
         verify(commentRepository, never()).save(any(CommunityComment.class));
+        verify(postRepository, never()).addComments(anyLong(), anyInt());
     }
 }
@@ -0,0 +1,104 @@
+package com.my.backend.community.service;
+
+import com.my.backend.community.dto.CommunityCommentPageDto;
+import com.my.backend.community.entity.CommunityComment;
+import com.my.backend.community.entity.CommunityPost;
+import com.my.backend.community.repository.CommunityCommentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommunityCommentServiceTest {
+
+    private static final Long POST_ID = 10L;
+    private static final LocalDateTime T = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+
+    @Mock
+    private CommunityCommentRepository commentRepository;
+
+    @InjectMocks
+    private CommunityCommentService commentService;
+
+    private final CommunityPost post = CommunityPost.builder().id(POST_ID).build();
+
+    @Test
+    void getCommentPage_첫_페이지는_size_개와_다음_커서() {
+        when(commentRepository.findFirstPage(POST_ID, PageRequest.of(0, 3)))
+                .thenReturn(List.of(comment(1L, T), comment(2L, T.plusSeconds(1)), comment(3L, T.plusSeconds(2))));
+
+        CommunityCommentPageDto page = commentService.getCommentPage(POST_ID, null, 2);
+
+        assertEquals(List.of(1L, 2L), page.getItems().stream().map(item -> item.getId()).toList());
+        assertEquals(T.plusSeconds(1) + "_2", page.getNextCursor());
+    }
+
+    @Test
+    void getCommentPage_작성_시각이_같으면_ID_로_이어서_조회() {
+        // 같은 시각에 작성된 댓글 1, 2, 3 중 첫 페이지가 2 에서 끝난 경우
+        when(commentRepository.findFirstPage(POST_ID, PageRequest.of(0, 3)))
+                .thenReturn(List.of(comment(1L, T), comment(2L, T), comment(3L, T)));
+        String cursor = commentService.getCommentPage(POST_ID, null, 2).getNextCursor();
+        assertEquals(T + "_2", cursor);
+
+        when(commentRepository.findPageAfter(POST_ID, T, 2L, 3)).thenReturn(List.of(comment(3L, T)));
+
+        CommunityCommentPageDto next = commentService.getCommentPage(POST_ID, cursor, 2);
+
+        assertEquals(List.of(3L), next.getItems().stream().map(item -> item.getId()).toList());
+        verify(commentRepository).findPageAfter(POST_ID, T, 2L, 3);
+    }
+
+    @Test
+    void getCommentPage_마지막_페이지면_다음_커서_없음() {
+        when(commentRepository.findPageAfter(POST_ID, T, 5L, 3)).thenReturn(List.of(comment(6L, T.plusSeconds(3))));
+
+        CommunityCommentPageDto page = commentService.getCommentPage(POST_ID, T + "_5", 2);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getCommentPage_잘못된_커서는_조회하지_않고_예외() {
+        for (String cursor : List.of("abc", "_5", "2024-05-01T12:30_x", "2024-13-01T00:00_5")) {
+            assertThrows(IllegalArgumentException.class, () -> commentService.getCommentPage(POST_ID, cursor, 2), cursor);
+        }
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void getPreviews_게시글별로_묶고_댓글_없는_글도_포함() {
+        CommunityPost other = CommunityPost.builder().id(20L).build();
+        when(commentRepository.findPreviews(List.of(POST_ID, 20L, 30L), 2)).thenReturn(List.of(
+                comment(1L, T), comment(2L, T.plusSeconds(1)),
+                CommunityComment.builder().id(7L).post(other).createdAt(T).build()));
+
+        Map<Long, CommunityCommentPageDto> previews = commentService.getPreviews(List.of(POST_ID, 20L, 30L), 1);
+
+        assertEquals(List.of(POST_ID, 20L, 30L), List.copyOf(previews.keySet()));
+        assertEquals(T + "_1", previews.get(POST_ID).getNextCursor());
+        assertNull(previews.get(20L).getNextCursor());
+        assertTrue(previews.get(30L).getItems().isEmpty());
+    }
+
+    private CommunityComment comment(Long id, LocalDateTime createdAt) {
+        return CommunityComment.builder()
+                .id(id)
+                .post(post)
+                .author("작성자" + id)
+                .content("댓글 " + id)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.my.backend.community.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PostViewCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PostViewCounter counter;
+    private final AtomicLong flushedViews = new AtomicLong();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE community_posts"), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(row -> flushedViews.addAndGet((Long) row[0]));
+            return new int[batch.size()];
+        });
+        counter = new PostViewCounter(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(), 60, 200_000, 0, 100);
+    }
+
+    @Test
+    void record_같은_사용자의_반복_조회는_한번만_반영() {
+        assertTrue(counter.record(1L, "a@test.com", "1.1.1.1"));
+        assertFalse(counter.record(1L, "a@test.com", "2.2.2.2"));
+        assertTrue(counter.record(2L, "a@test.com", "1.1.1.1"));
+
+        assertEquals(1, counter.pendingViews(1L));
+        counter.flush();
+        assertEquals(2, flushedViews.get());
+        assertEquals(0, counter.pendingViews(1L));
+    }
+
+    @Test
+    void flush_반영이_실패하면_다음_주기에_다시_반영() {
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO post_view_hourly"), anyList()))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(new int[1]);
+        counter.record(1L, null, "1.1.1.1");
+
+        counter.flush();
+        assertEquals(1, counter.pendingViews(1L));
+
+        flushedViews.set(0);
+        counter.flush();
+        assertEquals(1, flushedViews.get());
+        assertEquals(0, counter.pendingViews(1L));
+    }
+
+    @Test
+    void flush_조회와_동시에_실행되어도_조회수를_잃지_않음() throws Exception {
+        int threads = 4;
+        int viewsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        try {
+            Future<?> flusher = executor.submit(() -> {
+                while (recording.get()) {
+                    counter.flush();
+                }
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        // 게시글 몇 개에 서로 다른 IP 로 조회 (중복 제거에 걸리지 않게)
+                        counter.record((long) (i % 3), null, thread + "." + i);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            recording.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        counter.flush();
+
+        assertEquals((long) threads * viewsPerThread, flushedViews.get());
+    }
+}
@@ -0,0 +1,99 @@
+package com.my.backend.community.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecayingScoreBoardTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private final AtomicLong now = new AtomicLong(0);
+    private DecayingScoreBoard board;
+
+    @BeforeEach
+    void setUp() {
+        now.set(1_000_000L);
+        board = new DecayingScoreBoard(HOUR, now::get);
+    }
+
+    @Test
+    void score_반감기마다_절반() {
+        board.add(1L, 8);
+        assertEquals(8, board.score(1L), 1e-9);
+
+        now.addAndGet(HOUR);
+        assertEquals(4, board.score(1L), 1e-9);
+
+        now.addAndGet(2 * HOUR);
+        assertEquals(1, board.score(1L), 1e-9);
+    }
+
+    @Test
+    void score_최근_이벤트가_오래된_이벤트보다_높다() {
+        board.add(1L, 10);
+        now.addAndGet(3 * HOUR);
+        board.add(2L, 2);
+
+        assertTrue(board.score(2L) > board.score(1L));
+    }
+
+    @Test
+    void snapshot_최소점수_미만은_제거() {
+        board.add(1L, 1);
+        board.add(2L, 100);
+        now.addAndGet(10 * HOUR);
+
+        Map<Long, Double> snapshot = board.snapshot(0.05);
+
+        assertEquals(Map.of(2L, 100 / 1024.0).keySet(), snapshot.keySet());
+        assertEquals(1, board.size());
+    }
+
+    @Test
+    void snapshot_기준시각_이동_후에도_점수_유지() {
+        board.add(1L, 1);
+        now.addAndGet(45 * HOUR);
+        board.add(2L, 1);
+
+        Map<Long, Double> snapshot = board.snapshot(0);
+
+        assertEquals(1, snapshot.get(2L), 1e-9);
+        assertEquals(Math.pow(2, -45), snapshot.get(1L), 1e-20);
+        board.add(2L, 1);
+        assertEquals(2, board.score(2L), 1e-9);
+    }
+
+    @Test
+    void topK_점수_내림차순_k개() {
+        List<DecayingScoreBoard.Ranked> candidates = List.of(
+                new DecayingScoreBoard.Ranked(1L, 3),
+                new DecayingScoreBoard.Ranked(2L, 9),
+                new DecayingScoreBoard.Ranked(3L, 1),
+                new DecayingScoreBoard.Ranked(4L, 5));
+
+        List<DecayingScoreBoard.Ranked> top = DecayingScoreBoard.topK(candidates, 2);
+
+        assertEquals(List.of(2L, 4L), top.stream().map(DecayingScoreBoard.Ranked::postId).toList());
+        assertTrue(DecayingScoreBoard.topK(candidates, 0).isEmpty());
+    }
+
+    @Test
+    void drain_현재_기준_점수를_꺼내고_비움() {
+        board.add(1L, 8);
+        board.add(2L, -2);
+        now.addAndGet(HOUR);
+
+        Map<Long, Double> drained = board.drain();
+
+        assertEquals(4, drained.get(1L), 1e-9);
+        assertEquals(-1, drained.get(2L), 1e-9);
+        assertEquals(0, board.size());
+        assertTrue(board.drain().isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.my.backend.community.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfanityMatcherTest {
+
+    private final ProfanityMatcher matcher = ProfanityMatcher.of(
+            List.of("개새끼", "개같", "ㅅㅂ", "씨발", "병신", "미친", "좆", "fuck", "shit"));
+
+    @Test
+    void matches_공백_숫자_기호_삽입_변형() {
+        assertTrue(matcher.matches("개 새 끼"));
+        assertTrue(matcher.matches("개123새끼"));
+        assertTrue(matcher.matches("씨@발"));
+        assertTrue(matcher.matches("ㅅ ㅂ"));
+    }
+
+    @Test
+    void matches_자모_입력과_leetspeak() {
+        assertTrue(matcher.matches("씨바ㄹ"));
+        assertTrue(matcher.matches("sh1t"));
+        assertTrue(matcher.matches("$hit"));
+        assertTrue(matcher.matches("F U C K"));
+    }
+
+    @Test
+    void matches_음절_경계가_다르면_매칭하지_않음() {
+        // 미치니 의 ㄴ 은 초성, 미친 의 ㄴ 은 종성
+        assertFalse(matcher.matches("미치니?"));
+        // 갓바위 의 ㅅ 은 종성 (직접 입력한 ㅅㅂ 만 매칭)
+        assertFalse(matcher.matches("갓바위"));
+        assertFalse(matcher.matches("조지다"));
+        assertFalse(matcher.matches("hello 123"));
+    }
+
+    @Test
+    void matches_어절에_걸친_정상_문장은_매칭하지_않음() {
+        assertFalse(matcher.matches("이미 친구가 왔다"));
+        assertFalse(matcher.matches("this hit"));
+        assertFalse(matcher.matches("개 같이 가자"));
+        assertFalse(matcher.matches("미 친구"));
+        // 한 어절 안에 있거나 어절 경계에 맞으면 매칭
+        assertTrue(matcher.matches("너 미친놈이야"));
+        assertTrue(matcher.matches("sh it"));
+    }
+
+    @Test
+    void mask_원문_위치_기준으로_마스킹() {
+        assertEquals("안녕 * * * 야", matcher.mask("안녕 개 새 끼 야"));
+        assertEquals("****!", matcher.mask("sh1t!"));
+        assertEquals("****", matcher.mask("씨발씨발"));
+        assertEquals("좋은 하루", matcher.mask("좋은 하루"));
+        assertEquals("이미 친구", matcher.mask("이미 친구"));
+    }
+
+    @Test
+    void findWords_등록된_표기로_중복_없이_반환() {
+        assertEquals(Set.of("병신", "fuck"), matcher.findWords("병신 fuck 병신"));
+        assertTrue(matcher.findWords("반갑습니다").isEmpty());
+    }
+}
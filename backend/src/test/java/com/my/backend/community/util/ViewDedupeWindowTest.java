@@ -0,0 +1,70 @@
+package com.my.backend.community.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewDedupeWindowTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private ViewDedupeWindow window;
+
+    @BeforeEach
+    void setUp() {
+        now.set(60_000);
+        window = new ViewDedupeWindow(60_000, 100, now::get);
+    }
+
+    @Test
+    void firstSeen_같은_버킷_재조회는_중복() {
+        assertTrue(window.firstSeen("1|u:a@test.com"));
+        assertFalse(window.firstSeen("1|u:a@test.com"));
+        assertTrue(window.firstSeen("2|u:a@test.com"));
+        assertTrue(window.firstSeen("1|ip:127.0.0.1"));
+    }
+
+    @Test
+    void firstSeen_다음_버킷까지는_중복_그다음은_인정() {
+        assertTrue(window.firstSeen("1|u:a@test.com"));
+
+        now.addAndGet(60_000);
+        assertFalse(window.firstSeen("1|u:a@test.com"));
+
+        now.addAndGet(60_000);
+        assertTrue(window.firstSeen("1|u:a@test.com"));
+    }
+
+    @Test
+    void firstSeen_오래_비어있으면_이전_버킷_폐기() {
+        assertTrue(window.firstSeen("1|u:a@test.com"));
+
+        now.addAndGet(10 * 60_000);
+        assertTrue(window.firstSeen("1|u:a@test.com"));
+        assertEquals(1, window.size());
+    }
+
+    @Test
+    void firstSeen_상한_초과시_기록없이_인정() {
+        ViewDedupeWindow small = new ViewDedupeWindow(60_000, 2, now::get);
+        assertTrue(small.firstSeen("a"));
+        assertTrue(small.firstSeen("b"));
+        assertTrue(small.firstSeen("c"));
+        assertTrue(small.firstSeen("c"));
+        assertFalse(small.firstSeen("a"));
+        assertEquals(2, small.size());
+    }
+
+    @Test
+    void forget_지운_키는_다시_처음_본_키() {
+        assertTrue(window.firstSeen("1|u:a@test.com"));
+        now.addAndGet(60_000);
+
+        window.forget("1|u:a@test.com");
+
+        assertTrue(window.firstSeen("1|u:a@test.com"));
+        assertFalse(window.firstSeen("1|u:a@test.com"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.my.backend.diary.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiaryKeywordClassifierTest {
+
+    private static final String DICTIONARY = """
+            # 테스트 사전
+            [건강]
+            병원=2
+            예방접종=2
+            주사=1.5
+
+            [산책]
+            산책=2
+            공원
+
+            [간식]
+            간식=2
+            공원=0.5
+            """;
+
+    private DiaryKeywordClassifier classifier() throws IOException {
+        return DiaryKeywordClassifier.of(DiaryKeywordClassifier.parse(new StringReader(DICTIONARY)));
+    }
+
+    @Test
+    void parse_카테고리와_가중치() throws IOException {
+        List<DiaryKeywordClassifier.Keyword> keywords = DiaryKeywordClassifier.parse(new StringReader(DICTIONARY));
+
+        assertEquals(7, keywords.size());
+        assertEquals(new DiaryKeywordClassifier.Keyword("건강", "병원", 2.0), keywords.get(0));
+        assertEquals(new DiaryKeywordClassifier.Keyword("산책", "공원", 1.0), keywords.get(4));
+    }
+
+    @Test
+    void parse_잘못된_형식은_예외() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DiaryKeywordClassifier.parse(new StringReader("병원=2")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DiaryKeywordClassifier.parse(new StringReader("[건강]\n병원=두배")));
+    }
+
+    @Test
+    void score_한_번_순회로_카테고리별_합산() throws IOException {
+        Map<String, Double> scores = classifier().score("병원 가서 예방접종 맞고 공원 산책, 공원에서 간식");
+
+        assertEquals(4.0, scores.get("건강"));
+        assertEquals(4.0, scores.get("산책"));
+        // 같은 키워드가 여러 카테고리에 있으면 모두에 더한다
+        assertEquals(3.0, scores.get("간식"));
+    }
+
+    @Test
+    void score_공백_기호_변형도_매칭() throws IOException {
+        assertEquals(2.0, classifier().score("산 책 다녀옴").get("산책"));
+        assertEquals(2.0, classifier().score("병.원").get("건강"));
+    }
+
+    @Test
+    void score_어절에_걸친_정상_문장은_매칭하지_않음() throws IOException {
+        Map<String, Double> scores = classifier().score("새로 산 책상, 시간 식사 후");
+
+        assertNull(scores.get("산책"));
+        assertNull(scores.get("간식"));
+    }
+
+    @Test
+    void classify_기준_점수와_최대_개수() throws IOException {
+        DiaryKeywordClassifier classifier = classifier();
+
+        assertEquals(List.of("건강", "산책"), classifier.classify("병원 예방접종 후 산책", 1.5, 3));
+        assertEquals(List.of("건강"), classifier.classify("병원 예방접종 후 산책", 1.5, 1));
+        // 공원(1.0) 하나로는 기준 점수에 못 미친다
+        assertEquals(List.of(), classifier.classify("공원 벤치", 1.5, 3));
+        assertEquals(List.of(), classifier.classify("", 1.5, 3));
+    }
+}
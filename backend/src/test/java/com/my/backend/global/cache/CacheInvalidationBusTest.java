@@ -0,0 +1,96 @@
+package com.my.backend.global.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheInvalidationBusTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CacheInvalidationBus bus;
+    private LocalCache<Long, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        bus = new CacheInvalidationBus(jdbcTemplate);
+        cache = new LocalCache<>("posts", 10, Duration.ofMinutes(1), Long::parseLong, value -> 1L);
+        bus.register(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void invalidate_로컬_캐시를_비우고_다른_노드에_알림() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+
+        bus.invalidate("posts", 1L);
+
+        assertNull(cache.get(1L));
+        assertEquals("b", cache.get(2L));
+        verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                eq("cache_invalidation"), eq("posts|1"));
+    }
+
+    @Test
+    void invalidate_트랜잭션_중이면_커밋_직후_한번_더_비움() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(1L, "a");
+
+        bus.invalidate("posts", 1L);
+        // 커밋 전에 다른 요청이 이전 값을 다시 채운 경우
+        cache.put(1L, "stale");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void 다른_노드의_알림으로_키_또는_전체를_무효화() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+
+        ReflectionTestUtils.invokeMethod(bus, "handleNotification", "posts|1");
+        assertNull(cache.get(1L));
+        assertEquals("b", cache.get(2L));
+
+        ReflectionTestUtils.invokeMethod(bus, "handleNotification", "posts|*");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 등록되지_않은_캐시나_잘못된_알림은_무시() {
+        cache.put(1L, "a");
+
+        ReflectionTestUtils.invokeMethod(bus, "handleNotification", "other|1");
+        ReflectionTestUtils.invokeMethod(bus, "handleNotification", "no-separator");
+
+        assertEquals("a", cache.get(1L));
+    }
+
+    @Test
+    void 알림_전송이_실패해도_로컬_무효화는_유지() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(Object[].class)))
+                .thenThrow(new RuntimeException("connection closed"));
+        cache.put(1L, "a");
+
+        assertDoesNotThrow(() -> bus.invalidateAll("posts"));
+        assertEquals(0, cache.size());
+    }
+}
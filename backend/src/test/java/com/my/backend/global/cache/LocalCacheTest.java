@@ -0,0 +1,139 @@
+package com.my.backend.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalCacheTest {
+
+    private LocalCache<Long, String> cache(int maxEntries, Duration ttl) {
+        return new LocalCache<>("test", maxEntries, ttl, Long::parseLong, value -> 10L);
+    }
+
+    @Test
+    void getOrLoad_두번째_조회는_로더를_호출하지_않음() {
+        LocalCache<Long, String> cache = cache(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.getOrLoad(1L, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.getOrLoad(1L, () -> "v" + loads.incrementAndGet()));
+
+        assertEquals(1, loads.get());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    void 최대_개수를_넘으면_가장_오래_안_쓴_항목부터_제거() {
+        LocalCache<Long, String> cache = cache(2, Duration.ofMinutes(1));
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+        cache.put(3L, "c");
+
+        assertEquals("a", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals(2, cache.size());
+        assertEquals(20, cache.estimatedBytes());
+    }
+
+    @Test
+    void TTL_이_지나면_다시_로딩() throws InterruptedException {
+        LocalCache<Long, String> cache = cache(10, Duration.ofMillis(1));
+        cache.put(1L, "old");
+        Thread.sleep(5);
+
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.estimatedBytes());
+    }
+
+    @Test
+    void 로딩_중_무효화되면_결과를_캐시하지_않음() throws Exception {
+        LocalCache<Long, String> cache = cache(10, Duration.ofMinutes(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(() -> cache.getOrLoad(1L, () -> {
+                loading.countDown();
+                try {
+                    invalidated.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "stale";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            cache.invalidate(1L);
+            invalidated.countDown();
+
+            // 호출한 쪽에는 돌려주지만 무효화 이전에 읽은 값이므로 캐시에는 남기지 않는다
+            assertEquals("stale", result.get(5, TimeUnit.SECONDS));
+            assertNull(cache.get(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidateAll_후에는_모든_키를_다시_로딩() {
+        LocalCache<Long, String> cache = cache(10, Duration.ofMinutes(1));
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.estimatedBytes());
+        assertEquals("new", cache.getOrLoad(1L, () -> "new"));
+    }
+
+    @Test
+    void 동시에_읽고_쓰고_무효화해도_크기와_추정_바이트가_일관() throws Exception {
+        int maxEntries = 50;
+        LocalCache<Long, String> cache = cache(maxEntries, Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 5_000; i++) {
+                        long key = random.nextLong(100);
+                        switch (random.nextInt(10)) {
+                            case 0 -> cache.invalidate(key);
+                            case 1 -> cache.put(key, "p" + key);
+                            default -> assertEquals("p" + key, cache.getOrLoad(key, () -> "p" + key));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(cache.size() <= maxEntries);
+        assertEquals(cache.size() * 10L, cache.estimatedBytes());
+    }
+
+    @Test
+    void parseKey_전달받은_문자열을_키_타입으로_변환() {
+        LocalCache<Long, String> cache = cache(10, Duration.ofMinutes(1));
+
+        assertEquals(42L, cache.parseKey("42"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.my.backend.global.job.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.global.job.entity.BackgroundJob;
+import com.my.backend.global.job.entity.JobStatus;
+import com.my.backend.global.job.repository.BackgroundJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JobQueueServiceTest {
+
+    private BackgroundJobRepository jobRepository;
+    private JobQueueService jobQueueService;
+
+    record Payload(Long postId) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(BackgroundJobRepository.class);
+        jobQueueService = new JobQueueService(jobRepository, new ObjectMapper());
+    }
+
+    @Test
+    void enqueue_대기_상태로_JSON_본문과_함께_저장() {
+        when(jobRepository.save(any(BackgroundJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BackgroundJob job = jobQueueService.enqueue("AUTO_COMMENT", new Payload(7L));
+
+        assertEquals("AUTO_COMMENT", job.getJobType());
+        assertEquals(JobStatus.PENDING, job.getStatus());
+        assertEquals(0, job.getAttempts());
+        assertNull(job.getDedupeKey());
+        assertEquals(new Payload(7L), jobQueueService.readPayload(job, Payload.class));
+    }
+
+    @Test
+    void enqueueIfAbsent_INSERT_ON_CONFLICT_결과로_등록_여부_판단() {
+        when(jobRepository.insertIfAbsent(eq("EMBEDDING_UPDATE"), eq("{\"postId\":1}"), eq("EMBEDDING_UPDATE"), any()))
+                .thenReturn(1, 0);
+
+        assertTrue(jobQueueService.enqueueIfAbsent("EMBEDDING_UPDATE", new Payload(1L)));
+        // 이미 대기 중인 작업이 있으면 DO NOTHING 으로 0 건
+        assertFalse(jobQueueService.enqueueIfAbsent("EMBEDDING_UPDATE", new Payload(1L)));
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void readPayload_형식이_잘못되면_예외() {
+        BackgroundJob job = BackgroundJob.builder().id(1L).payload("not-json").build();
+
+        assertThrows(IllegalArgumentException.class, () -> jobQueueService.readPayload(job, Payload.class));
+    }
+}
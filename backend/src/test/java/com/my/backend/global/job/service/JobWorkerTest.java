@@ -0,0 +1,138 @@
+package com.my.backend.global.job.service;
+
+import com.my.backend.global.job.entity.BackgroundJob;
+import com.my.backend.global.job.entity.JobStatus;
+import com.my.backend.global.job.repository.BackgroundJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JobWorkerTest {
+
+    private static final String TYPE = "TEST_JOB";
+
+    private BackgroundJobRepository jobRepository;
+    private TestHandler handler;
+    private JobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(BackgroundJobRepository.class);
+        handler = new TestHandler();
+        worker = new JobWorker(jobRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                List.of(handler), new MockEnvironment(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(worker, "leaseSeconds", 300L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.release.countDown();
+        worker.shutdown();
+    }
+
+    @Test
+    void poll_점유한_시도_횟수로_완료_기록() {
+        handler.release.countDown();
+        givenClaimable(job(1L, 0));
+        when(jobRepository.markDone(eq(1L), eq(1), eq(JobStatus.DONE), any())).thenReturn(1);
+
+        worker.poll();
+
+        // 점유하면서 시도 횟수가 1 증가했으므로 attempts=1 인 실행만 완료로 기록한다
+        verify(jobRepository, timeout(2000)).markDone(eq(1L), eq(1), eq(JobStatus.DONE), any());
+        verify(jobRepository).markClaimed(eq(List.of(1L)), eq(JobStatus.RUNNING), any());
+    }
+
+    @Test
+    void poll_실패하면_백오프_후_재시도_최대_횟수를_넘으면_DEAD() {
+        handler.failure = new IllegalStateException("외부 API 오류");
+        handler.release.countDown();
+        givenClaimable(job(1L, 0), job(2L, 4));
+        when(jobRepository.markFailed(anyLong(), anyInt(), anyString(), any(), any(), anyString())).thenReturn(1);
+
+        worker.poll();
+
+        verify(jobRepository, timeout(2000)).markFailed(eq(1L), eq(1), eq("PENDING"), any(), any(), contains("외부 API 오류"));
+        verify(jobRepository, timeout(2000)).markFailed(eq(2L), eq(5), eq("DEAD"), any(), any(), contains("외부 API 오류"));
+    }
+
+    @Test
+    void renewLeases_실행_중인_작업만_lease_연장() throws InterruptedException {
+        givenClaimable(job(1L, 2));
+        when(jobRepository.extendLease(eq(1L), eq(3), any())).thenReturn(1);
+
+        worker.poll();
+        assertTrue(handler.started.await(2, TimeUnit.SECONDS));
+        LocalDateTime before = LocalDateTime.now();
+        worker.renewLeases();
+
+        verify(jobRepository).extendLease(eq(1L), eq(3), argThat(leaseUntil -> leaseUntil.isAfter(before.plusSeconds(299))));
+
+        handler.release.countDown();
+        verify(jobRepository, timeout(2000)).markDone(eq(1L), eq(3), eq(JobStatus.DONE), any());
+        clearInvocations(jobRepository);
+        worker.renewLeases();
+        verify(jobRepository, never()).extendLease(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void lease_를_잃은_실행의_완료_기록은_무시() {
+        handler.release.countDown();
+        givenClaimable(job(1L, 0));
+        // 다른 노드가 다시 점유해서 시도 횟수가 바뀐 경우
+        when(jobRepository.markDone(eq(1L), eq(1), eq(JobStatus.DONE), any())).thenReturn(0);
+
+        worker.poll();
+
+        verify(jobRepository, timeout(2000)).markDone(eq(1L), eq(1), eq(JobStatus.DONE), any());
+        verify(jobRepository, never()).markFailed(anyLong(), anyInt(), anyString(), any(), any(), any());
+    }
+
+    private void givenClaimable(BackgroundJob... jobs) {
+        when(jobRepository.lockAvailable(eq(TYPE), any(), anyInt())).thenReturn(List.of(jobs), List.of());
+        when(jobRepository.markClaimed(any(), eq(JobStatus.RUNNING), any())).thenReturn(jobs.length);
+    }
+
+    private static BackgroundJob job(Long id, int attempts) {
+        return BackgroundJob.builder()
+                .id(id)
+                .jobType(TYPE)
+                .payload("{}")
+                .status(JobStatus.PENDING)
+                .attempts(attempts)
+                .build();
+    }
+
+    private static class TestHandler implements JobHandler {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile RuntimeException failure;
+
+        @Override
+        public String jobType() {
+            return TYPE;
+        }
+
+        @Override
+        public void handle(BackgroundJob job) throws Exception {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.my.backend.s3;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3DiskCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private FakeBucket bucket;
+    private S3DiskCache cache;
+
+    @BeforeEach
+    void setUp() {
+        bucket = new FakeBucket();
+        cache = new S3DiskCache(dir, 800, Duration.ofSeconds(60), now::get);
+    }
+
+    @Test
+    void get_두번째_조회는_S3_호출_없이_디스크에서() throws IOException {
+        bucket.put("a.jpg", bytes(50, 1));
+
+        byte[] first = cache.get("a.jpg", bucket);
+        byte[] second = cache.get("a.jpg", bucket);
+
+        assertArrayEquals(bytes(50, 1), first);
+        assertArrayEquals(first, second);
+        assertEquals(1, bucket.fetches.get());
+        assertEquals(50, cache.bytesSaved());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    void get_확인_주기가_지나면_조건부_조회_304면_본문_없이_재사용() throws IOException {
+        bucket.put("a.jpg", bytes(50, 1));
+        cache.get("a.jpg", bucket);
+
+        now.addAndGet(61_000);
+        byte[] data = cache.get("a.jpg", bucket);
+
+        assertArrayEquals(bytes(50, 1), data);
+        assertEquals(2, bucket.fetches.get());
+        assertEquals(1, bucket.notModified.get());
+    }
+
+    @Test
+    void get_객체가_바뀌었으면_새_내용으로_교체() throws IOException {
+        bucket.put("a.jpg", bytes(50, 1));
+        cache.get("a.jpg", bucket);
+
+        bucket.put("a.jpg", bytes(60, 2));
+        now.addAndGet(61_000);
+        byte[] data = cache.get("a.jpg", bucket);
+
+        assertArrayEquals(bytes(60, 2), data);
+        assertEquals(60, cache.totalBytes());
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    void 전체_크기를_넘으면_가장_오래_안_쓴_항목부터_제거() throws IOException {
+        for (int i = 0; i < 9; i++) {
+            bucket.put("k" + i, bytes(100, i));
+        }
+        for (int i = 0; i < 8; i++) {
+            cache.get("k" + i, bucket);
+        }
+        // k0 을 다시 써서 가장 최근으로 만든 뒤 한도를 넘긴다
+        cache.get("k0", bucket);
+        cache.get("k8", bucket);
+
+        assertEquals(800, cache.totalBytes());
+        int before = bucket.fetches.get();
+        cache.get("k0", bucket);
+        assertEquals(before, bucket.fetches.get());
+        cache.get("k1", bucket);
+        assertEquals(before + 1, bucket.fetches.get());
+    }
+
+    @Test
+    void 최대_크기의_8분의1보다_큰_객체는_캐시하지_않음() throws IOException {
+        bucket.put("big", bytes(101, 3));
+
+        assertArrayEquals(bytes(101, 3), cache.get("big", bucket));
+        cache.get("big", bucket);
+
+        assertEquals(2, bucket.fetches.get());
+        assertEquals(0, cache.size());
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void invalidate_하면_다음_조회는_S3에서() throws IOException {
+        bucket.put("a.jpg", bytes(50, 1));
+        cache.get("a.jpg", bucket);
+
+        cache.invalidate("a.jpg");
+        cache.get("a.jpg", bucket);
+
+        assertEquals(2, bucket.fetches.get());
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    void 다운로드_중_다른_키를_무효화해도_캐시에_저장() throws IOException {
+        bucket.put("a.jpg", bytes(50, 1));
+        S3DiskCache.Fetcher invalidatingOther = (key, ifNoneMatch) -> {
+            cache.invalidate("other.jpg");
+            return bucket.fetch(key, ifNoneMatch);
+        };
+
+        cache.get("a.jpg", invalidatingOther);
+        cache.get("a.jpg", bucket);
+
+        assertEquals(1, bucket.fetches.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void 다운로드_중_같은_키를_무효화하면_결과를_캐시하지_않음() throws IOException {
+        bucket.put("a.jpg", bytes(50, 1));
+        S3DiskCache.Fetcher invalidatingSelf = (key, ifNoneMatch) -> {
+            S3DiskCache.Fetched fetched = bucket.fetch(key, ifNoneMatch);
+            cache.invalidate(key);
+            return fetched;
+        };
+
+        assertArrayEquals(bytes(50, 1), cache.get("a.jpg", invalidatingSelf));
+
+        assertEquals(0, cache.size());
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void 시작할_때_남은_캐시_파일과_임시_파일을_정리() throws IOException {
+        Files.write(dir.resolve("left.bin"), bytes(10, 1));
+        Files.write(dir.resolve("download-123.tmp"), bytes(10, 1));
+
+        new S3DiskCache(dir, 800, Duration.ofSeconds(60), now::get);
+
+        try (var files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void 동시에_같은_키를_요청하면_S3_호출은_한번() throws Exception {
+        bucket.put("a.jpg", bytes(50, 1));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        S3DiskCache.Fetcher slow = (key, ifNoneMatch) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return bucket.fetch(key, ifNoneMatch);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<byte[]> first = executor.submit(() -> cache.get("a.jpg", slow));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<byte[]> second = executor.submit(() -> cache.get("a.jpg", slow));
+            Future<byte[]> third = executor.submit(() -> cache.get("a.jpg", slow));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertArrayEquals(bytes(50, 1), first.get(5, TimeUnit.SECONDS));
+            assertArrayEquals(bytes(50, 1), second.get(5, TimeUnit.SECONDS));
+            assertArrayEquals(bytes(50, 1), third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, bucket.fetches.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void bindTo_적중률과_절약_바이트_지표_등록() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry, "s3Download");
+        bucket.put("a.jpg", bytes(50, 1));
+
+        cache.get("a.jpg", bucket);
+        cache.get("a.jpg", bucket);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(50.0, registry.get("cache.bytes.saved").functionCounter().count());
+        assertEquals(0.5, registry.get("cache.hit.ratio").gauge().value());
+    }
+
+    private long countFiles() throws IOException {
+        try (var files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(".bin")).count();
+        }
+    }
+
+    private static byte[] bytes(int length, int seed) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 7 + seed);
+        }
+        return data;
+    }
+
+    /**
+     * 테스트용 버킷 (ETag 는 저장할 때마다 바뀐다, If-None-Match 가 맞으면 304 → null)
+     */
+    private static class FakeBucket implements S3DiskCache.Fetcher {
+        final Map<String, byte[]> objects = new HashMap<>();
+        final Map<String, String> eTags = new HashMap<>();
+        final AtomicInteger fetches = new AtomicInteger();
+        final AtomicInteger notModified = new AtomicInteger();
+        private int version;
+
+        synchronized void put(String key, byte[] data) {
+            objects.put(key, data);
+            eTags.put(key, "\"v" + (++version) + "\"");
+        }
+
+        @Override
+        public synchronized S3DiskCache.Fetched fetch(String key, String ifNoneMatch) throws IOException {
+            fetches.incrementAndGet();
+            String eTag = eTags.get(key);
+            if (eTag == null) {
+                throw new IOException("NoSuchKey: " + key);
+            }
+            if (eTag.equals(ifNoneMatch)) {
+                notModified.incrementAndGet();
+                return null;
+            }
+            return new S3DiskCache.Fetched(eTag, new ByteArrayInputStream(objects.get(key)));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.my.backend.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3StreamingUploaderTest {
+
+    private static final int PART_SIZE = 16;
+
+    private InMemoryS3 s3;
+    private S3StreamingUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new InMemoryS3();
+        uploader = new S3StreamingUploader(s3, PART_SIZE, 2, 100);
+    }
+
+    @Test
+    void upload_파트보다_작으면_PutObject_한번() throws IOException {
+        byte[] data = bytes(10);
+
+        long size = uploader.upload("bucket", "a.jpg", "image/jpeg", new ByteArrayInputStream(data));
+
+        assertEquals(10, size);
+        assertArrayEquals(data, s3.objects.get("a.jpg"));
+        assertEquals(0, s3.multipartCreated);
+    }
+
+    @Test
+    void upload_큰_파일은_멀티파트로_나눠서_전송() throws IOException {
+        byte[] data = bytes(50);
+
+        long size = uploader.upload("bucket", "big.jpg", "image/jpeg", new ByteArrayInputStream(data));
+
+        assertEquals(50, size);
+        assertArrayEquals(data, s3.objects.get("big.jpg"));
+        assertEquals(List.of(16, 16, 16, 2), s3.partSizes);
+    }
+
+    @Test
+    void upload_파트_크기의_배수면_빈_파트를_보내지_않음() throws IOException {
+        byte[] data = bytes(32);
+
+        uploader.upload("bucket", "even.jpg", "image/jpeg", new ByteArrayInputStream(data));
+
+        assertArrayEquals(data, s3.objects.get("even.jpg"));
+        assertEquals(List.of(16, 16), s3.partSizes);
+    }
+
+    @Test
+    void upload_중간에_실패하면_멀티파트_취소() {
+        byte[] data = bytes(40);
+        InputStream failing = new InputStream() {
+            private final InputStream delegate = new ByteArrayInputStream(data);
+            private int read;
+
+            @Override
+            public int read() throws IOException {
+                if (++read > 20) {
+                    throw new IOException("연결 끊김");
+                }
+                return delegate.read();
+            }
+        };
+
+        assertThrows(IOException.class, () -> uploader.upload("bucket", "fail.jpg", "image/jpeg", failing));
+        assertEquals(1, s3.aborted);
+        assertFalse(s3.objects.containsKey("fail.jpg"));
+    }
+
+    @Test
+    void upload_버퍼는_재사용() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            uploader.upload("bucket", "k" + i, "image/jpeg", new ByteArrayInputStream(bytes(40)));
+        }
+        assertEquals(1, uploader.allocatedBuffers());
+    }
+
+    @Test
+    void upload_크기를_아는_작은_파일은_버퍼_없이_PutObject() throws IOException {
+        byte[] data = bytes(10);
+
+        long size = uploader.upload("bucket", "small.jpg", "image/jpeg", data.length, () -> new ByteArrayInputStream(data));
+
+        assertEquals(10, size);
+        assertArrayEquals(data, s3.objects.get("small.jpg"));
+        assertEquals(0, s3.multipartCreated);
+        assertEquals(0, uploader.allocatedBuffers());
+    }
+
+    @Test
+    void upload_크기를_아는_큰_파일은_버퍼로_멀티파트() throws IOException {
+        byte[] data = bytes(40);
+
+        uploader.upload("bucket", "large.jpg", "image/jpeg", data.length, () -> new ByteArrayInputStream(data));
+
+        assertArrayEquals(data, s3.objects.get("large.jpg"));
+        assertEquals(List.of(16, 16, 8), s3.partSizes);
+        assertEquals(1, uploader.allocatedBuffers());
+    }
+
+    @Test
+    void uploadBase64_디코딩하면서_업로드() throws IOException {
+        byte[] data = bytes(45);
+        String dataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(data);
+
+        long size = uploader.uploadBase64("bucket", "b64.jpg", "image/jpeg", dataUrl);
+
+        assertEquals(45, size);
+        assertArrayEquals(data, s3.objects.get("b64.jpg"));
+    }
+
+    @Test
+    void uploadBase64_형식이_잘못되면_예외() {
+        assertThrows(IllegalArgumentException.class, () -> uploader.uploadBase64("bucket", "x", "image/jpeg", "no-comma"));
+        assertThrows(IllegalArgumentException.class, () -> uploader.uploadBase64("bucket", "x", "image/jpeg", "a,b,c"));
+        assertThrows(IllegalArgumentException.class, () -> uploader.uploadBase64("bucket", "x", "image/jpeg", "data:image/png;base64,"));
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 7 + 3);
+        }
+        return data;
+    }
+
+    private static byte[] read(RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 테스트용 S3 대체 구현 (PutObject + 멀티파트 업로드만 메모리에서 처리)
+     */
+    private static class InMemoryS3 implements S3Client {
+        final Map<String, byte[]> objects = new HashMap<>();
+        final Map<String, TreeMap<Integer, byte[]>> uploads = new HashMap<>();
+        final List<Integer> partSizes = new ArrayList<>();
+        int multipartCreated;
+        int aborted;
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            objects.put(request.key(), read(body));
+            return PutObjectResponse.builder().eTag("etag").build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            multipartCreated++;
+            String uploadId = "upload-" + multipartCreated;
+            uploads.put(uploadId, new TreeMap<>());
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).key(request.key()).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+            byte[] part = read(body);
+            partSizes.add(part.length);
+            uploads.get(request.uploadId()).put(request.partNumber(), part);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            TreeMap<Integer, byte[]> parts = uploads.remove(request.uploadId());
+            ByteArrayOutputStream assembled = new ByteArrayOutputStream();
+            for (CompletedPart part : request.multipartUpload().parts()) {
+                assembled.writeBytes(parts.get(part.partNumber()));
+            }
+            objects.put(request.key(), assembled.toByteArray());
+            return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            aborted++;
+            uploads.remove(request.uploadId());
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
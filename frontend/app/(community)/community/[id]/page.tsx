@@ -39,6 +39,8 @@ interface Comment {
   updatedAt: string;
 }
 
+const COMMENT_PAGE_SIZE = 20;
+
 export default function CommunityDetailPage({
   post: initialPost,
   onUpdatePost,
@@ -68,6 +70,8 @@ export default function CommunityDetailPage({
   const [currentUserEmail, setCurrentUserEmail] = useState<string | null>(null);
   const [currentUserRole, setCurrentUserRole] = useState<string | null>(null);
   const [comments, setComments] = useState<Comment[]>([]);
+  const [nextCommentCursor, setNextCommentCursor] = useState<string | null>(null);
+  const [isCommentLoading, setIsCommentLoading] = useState(false);
   const [newComment, setNewComment] = useState("");
   const [editingId, setEditingId] = useState<number | null>(null);
   const [editContent, setEditContent] = useState("");
@@ -231,15 +235,33 @@ export default function CommunityDetailPage({
     }
   }, [initialPost, postId, getBackendUrl()]);
 
+  // 댓글은 커서 페이지로 나눠서 불러온다 (댓글이 많은 글도 응답이 커지지 않게)
+  const fetchCommentPage = async (cursor: string | null) => {
+    if (!postId) return;
+    setIsCommentLoading(true);
+    try {
+      const response = await axios.get(`${getBackendUrl()}/api/community/comments/${postId}/page`, {
+        headers: getAuthHeaders(),
+        params: { size: COMMENT_PAGE_SIZE, ...(cursor ? { cursor } : {}) },
+      });
+      const { items, nextCursor } = response.data as { items: Comment[]; nextCursor: string | null };
+      setComments((prev) => {
+        if (!cursor) return items;
+        // 방금 작성한 댓글이 다음 페이지에 다시 나오면 중복 제거
+        const seen = new Set(prev.map((c) => c.id));
+        return [...prev, ...items.filter((c) => !seen.has(c.id))];
+      });
+      setNextCommentCursor(nextCursor);
+    } catch (err) {
+      console.error("댓글 불러오기 실패:", err);
+    } finally {
+      setIsCommentLoading(false);
+    }
+  };
+
   useEffect(() => {
     if (postId && !isEditing) {
-      axios.get(`${getBackendUrl()}/api/community/comments/${postId}`, {
-        headers: getAuthHeaders(),
-      })
-        .then((response) => {
-          setComments(response.data);
-        })
-        .catch((err) => console.error("댓글 불러오기 실패:", err));
+      fetchCommentPage(null);
     }
   }, [postId, getBackendUrl(), isEditing]);
 
@@ -858,6 +880,16 @@ export default function CommunityDetailPage({
                   </div>
                 );
               })}
+              {nextCommentCursor && (
+                <Button
+                  variant="outline"
+                  className="w-full"
+                  disabled={isCommentLoading}
+                  onClick={() => fetchCommentPage(nextCommentCursor)}
+                >
+                  {isCommentLoading ? "불러오는 중..." : "댓글 더보기"}
+                </Button>
+              )}
             </div>
           </div>
         )}
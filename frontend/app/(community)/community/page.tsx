@@ -29,6 +29,12 @@ interface CommunityPost {
   sharedFromDiaryId?: number;
 }
 
+interface CommentPreview {
+  id: number;
+  author: string;
+  content: string;
+}
+
 interface CommunityPageProps {
   isLoggedIn?: boolean;
   onShowLogin?: () => void;
@@ -44,6 +50,7 @@ export default function CommunityPage({
   const [keyword, setKeyword] = useState("");
   const [category, setCategory] = useState("");
   const [posts, setPosts] = useState<CommunityPost[]>([]);
+  const [commentPreviews, setCommentPreviews] = useState<Record<number, CommentPreview[]>>({});
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [isLoggedIn, setIsLoggedIn] = useState<boolean>(false);
@@ -138,6 +145,7 @@ export default function CommunityPage({
         if (typeof onUpdatePosts === "function") {
           onUpdatePosts(mappedPosts);
         }
+        fetchCommentPreviews(mappedPosts.map((post: CommunityPost) => post.id), headers);
       } catch (err: any) {
         setError(err.message || "Failed to fetch posts");
       } finally {
@@ -145,6 +153,31 @@ export default function CommunityPage({
       }
     };
 
+    // 현재 페이지 게시글들의 앞쪽 댓글을 요청 한 번으로 불러온다 (실패해도 목록은 그대로 표시)
+    const fetchCommentPreviews = async (postIds: number[], headers: HeadersInit) => {
+      if (postIds.length === 0) {
+        setCommentPreviews({});
+        return;
+      }
+      try {
+        const params = new URLSearchParams({ postIds: postIds.join(","), perPost: "2" });
+        const response = await fetch(`${getBackendUrl()}/api/community/comments/previews?${params}`, {
+          method: "GET",
+          headers,
+        });
+        if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`);
+        const data = (await response.json()) as Record<string, { items: CommentPreview[] }>;
+        const previews: Record<number, CommentPreview[]> = {};
+        Object.entries(data).forEach(([postId, page]) => {
+          previews[Number(postId)] = page.items || [];
+        });
+        setCommentPreviews(previews);
+      } catch (err) {
+        console.error("댓글 미리보기 불러오기 실패:", err);
+        setCommentPreviews({});
+      }
+    };
+
     fetchPosts();
   }, [keyword, category, currentPage]); // keyword, category, currentPage가 변경될 때마다 다시 fetch
 
@@ -177,15 +210,17 @@ export default function CommunityPage({
       const headers: HeadersInit = { "Content-Type": "application/json" };
       if (token) headers["Authorization"] = `Bearer ${token}`;
 
-      const response = await fetch(`${getBackendUrl()}/api/community/posts/${postId}/like`, {
-        method: "PUT",
+      // 목록에서는 현재 좋아요 상태를 모르므로 토글 API 로 누르고/취소한다
+      const response = await fetch(`${getBackendUrl()}/api/community/posts/${postId}/like/toggle`, {
+        method: "POST",
         headers,
       });
 
       if (response.ok) {
-        // 해당 게시글의 likes 값만 업데이트하고 배열 순서는 절대 변경하지 않음
+        // 서버가 돌려준 likes 값을 그대로 반영 (배열 순서는 절대 변경하지 않음)
+        const { likes } = (await response.json()) as { liked: boolean; likes: number };
         const updatedPosts = posts.map((post) =>
-          post.id === postId ? { ...post, likes: post.likes + 1 } : post
+          post.id === postId ? { ...post, likes } : post
         );
         setPosts(updatedPosts);
         if (typeof onUpdatePosts === "function") {
@@ -391,6 +426,16 @@ export default function CommunityPage({
                               </>
                             )} */}
                           </div>
+                          {(commentPreviews[post.id] || []).length > 0 && (
+                            <div className="mt-3 space-y-1 border-t pt-3">
+                              {commentPreviews[post.id].map((comment) => (
+                                <p key={comment.id} className="text-sm text-gray-600 line-clamp-1">
+                                  <span className="font-medium text-gray-800 mr-2">{comment.author || "익명"}</span>
+                                  {comment.content}
+                                </p>
+                              ))}
+                            </div>
+                          )}
                         </div>
                         {post.images && post.images.length > 0 && (
                           <div className="ml-4 flex-shrink-0">
@@ -266,12 +266,58 @@ export async function deleteDiary(diaryId: number): Promise<void> {
   }
 }
 
+// 직접 업로드가 허용하는 이미지 형식 (백엔드 S3UploadPurpose 와 같게 유지)
+const DIRECT_UPLOAD_IMAGE_TYPES = ["image/jpeg", "image/png", "image/gif", "image/webp"];
+
+// 미리 서명된 URL 로 S3 에 직접 업로드 (파일이 백엔드를 거치지 않음)
+// 아래 경우에는 null 을 반환해서 기존 업로드 방식으로 대체한다
+// - 허용 목록에 없는 형식 (빈 file.type, image/heic 등)
+// - S3 가 설정되지 않은 환경(503), 발급 조건 검사 실패(400)
+async function uploadDirectToS3(file: File, purpose: string, accessToken: string): Promise<string | null> {
+  if (!DIRECT_UPLOAD_IMAGE_TYPES.includes(file.type)) {
+    return null;
+  }
+
+  let presigned;
+  try {
+    const response = await axios.post(`${getBackendUrl()}/api/s3/presign`, {
+      purpose,
+      contentType: file.type,
+      contentLength: file.size,
+    }, {
+      headers: {
+        "Access_Token": accessToken,
+      },
+    });
+    presigned = response.data;
+  } catch (error: any) {
+    if (error.response?.status === 503 || error.response?.status === 400) {
+      return null;
+    }
+    throw error;
+  }
+
+  await axios.put(presigned.uploadUrl, file, { headers: presigned.headers });
+
+  const completed = await axios.post(`${getBackendUrl()}/api/s3/complete`, { key: presigned.key }, {
+    headers: {
+      "Access_Token": accessToken,
+    },
+  });
+  return completed.data.fileUrl;
+}
+
 export async function uploadImageToS3(file: File): Promise<string> {
   const accessToken = getAccessTokenOrRedirect();
-  const formData = new FormData();
-  formData.append('file', file);
 
   try {
+    const directUrl = await uploadDirectToS3(file, "DIARY_IMAGE", accessToken);
+    if (directUrl) {
+      return directUrl;
+    }
+
+    const formData = new FormData();
+    formData.append('file', file);
     const response = await axios.post(`${getBackendUrl()}/api/s3/upload/diary`, formData, {
       headers: {
         "Access_Token": accessToken,
@@ -290,7 +336,6 @@ export async function uploadImageToS3(file: File): Promise<string> {
     throw new Error(`Failed to upload image: ${error.response?.status || error.message}`);
   }
 }
-
 export async function uploadAudioToS3(file: File): Promise<string> {
   const accessToken = getAccessTokenOrRedirect();
   const formData = new FormData();